@@ -0,0 +1,57 @@
+package ru.katacademy.bank_app.accountservice.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Позиция в списке аккаунтов, упорядоченном по {@code (createdAt, id)}.
+ * Следующая страница начинается с аккаунтов, идущих строго после этой позиции.
+ * <p>
+ * Клиенту позиция передаётся непрозрачной строкой ({@link #encode()}), чтобы формат можно было менять.
+ * </p>
+ *
+ * @param createdAt время создания последнего аккаунта страницы
+ * @param id        идентификатор последнего аккаунта страницы
+ */
+public record AccountCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final char SEPARATOR = '|';
+
+    public AccountCursor {
+        Objects.requireNonNull(createdAt, "Время создания не может быть null");
+        Objects.requireNonNull(id, "Идентификатор не может быть null");
+    }
+
+    /**
+     * @return позиция в виде строки для передачи клиенту
+     */
+    public String encode() {
+        final String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Восстанавливает позицию из строки, полученной от {@link #encode()}.
+     *
+     * @param value строка позиции
+     * @return позиция
+     * @throws IllegalArgumentException если строка повреждена
+     */
+    public static AccountCursor decode(String value) {
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            final int separator = raw.lastIndexOf(SEPARATOR);
+            return new AccountCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Некорректная позиция списка аккаунтов: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package ru.katacademy.bank_app.accountservice.application.dto;
+
+import ru.katacademy.bank_app.accountservice.domain.enumtype.AccountStatus;
+
+/**
+ * Фильтр списка аккаунтов.
+ * <p>
+ * Поля:
+ * - userId: id пользователя-владельца (null — любой пользователь)
+ * - status: статус аккаунта (null — любой статус)
+ * <p>
+ */
+public record AccountFilter(
+        Long userId,
+        AccountStatus status
+) {
+}
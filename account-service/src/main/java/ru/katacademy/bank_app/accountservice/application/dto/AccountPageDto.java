@@ -0,0 +1,17 @@
+package ru.katacademy.bank_app.accountservice.application.dto;
+
+import java.util.List;
+
+/**
+ * Страница списка аккаунтов.
+ * <p>
+ * Поля:
+ * - items: аккаунты страницы в порядке создания
+ * - nextCursor: позиция для запроса следующей страницы или null, если страница последняя
+ * <p>
+ */
+public record AccountPageDto(
+        List<AccountDto> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,20 @@
+package ru.katacademy.bank_app.accountservice.application.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO-класс для входа пользователя по email и паролю.
+ *
+ * @param email    email пользователя
+ * @param password пароль пользователя
+ */
+public record LoginUserCommand(
+        @NotBlank(message = "Email не может быть пустым")
+        @Email(message = "Некорректный email адрес")
+        String email,
+
+        @NotBlank(message = "Пароль не может быть пустым")
+        String password
+) {
+}
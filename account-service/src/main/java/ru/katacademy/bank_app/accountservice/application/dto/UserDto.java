@@ -1,6 +1,7 @@
 package ru.katacademy.bank_app.accountservice.application.dto;
 
 import ru.katacademy.bank_app.accountservice.domain.enumtype.UserRole;
+import ru.katacademy.bank_shared.enums.KycStatus;
 
 /**
  * DTO для передачи данных о пользователе между слоями приложения.
@@ -11,6 +12,7 @@ import ru.katacademy.bank_app.accountservice.domain.enumtype.UserRole;
  * - fullName: полное имя
  * - email: строковое представление email
  * - role: роль пользователя
+ * - kycStatus: статус KYC-верификации
  * <p>
  * Автор: Бачагов В.О.
  * Дата: 2025-04-15
@@ -19,6 +21,7 @@ public record UserDto(
         Long id,
         String fullName,
         String email,
-        UserRole role
+        UserRole role,
+        KycStatus kycStatus
 ) {
 }
\ No newline at end of file
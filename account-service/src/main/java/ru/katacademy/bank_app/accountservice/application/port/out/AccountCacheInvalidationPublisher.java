@@ -0,0 +1,15 @@
+package ru.katacademy.bank_app.accountservice.application.port.out;
+
+/**
+ * Порт выхода для рассылки инвалидации кэша аккаунтов другим узлам сервиса.
+ */
+public interface AccountCacheInvalidationPublisher {
+
+    /**
+     * Сообщает другим узлам, что данные аккаунта изменились.
+     *
+     * @param id            идентификатор аккаунта (может быть null, если известен только номер)
+     * @param accountNumber номер счёта (может быть null, если известен только идентификатор)
+     */
+    void publish(Long id, String accountNumber);
+}
@@ -1,8 +1,14 @@
 package ru.katacademy.bank_app.accountservice.application.port.out;
 
+import ru.katacademy.bank_app.accountservice.application.dto.AccountCursor;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountDto;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountFilter;
 import ru.katacademy.bank_app.accountservice.domain.entity.Account;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Порт выхода для работы с сущностями аккаунтов.
@@ -12,12 +18,59 @@ public interface AccountRepository {
 
     /**
      * Ищет аккаунт по идентификатору.
+     * Пользователь аккаунта загружается тем же запросом.
      *
      * @param id уникальный идентификатор аккаунта
      * @return Optional с найденным аккаунтом или пустой Optional, если не найден
      */
     Optional<Account> findById(Long id);
 
+    /**
+     * Ищет аккаунт по номеру счёта.
+     * Пользователь аккаунта загружается тем же запросом.
+     *
+     * @param accountNumber номер счёта
+     * @return Optional с найденным аккаунтом или пустой Optional, если не найден
+     */
+    Optional<Account> findByAccountNumber(AccountNumber accountNumber);
+
+    /**
+     * Читает DTO аккаунта по идентификатору одним запросом, без загрузки пользователя.
+     *
+     * @param id уникальный идентификатор аккаунта
+     * @return Optional с DTO аккаунта или пустой Optional, если не найден
+     */
+    Optional<AccountDto> findDtoById(Long id);
+
+    /**
+     * Читает DTO аккаунта по номеру счёта одним запросом, без загрузки пользователя.
+     *
+     * @param accountNumber номер счёта
+     * @return Optional с DTO аккаунта или пустой Optional, если не найден
+     */
+    Optional<AccountDto> findDtoByAccountNumber(AccountNumber accountNumber);
+
+    /**
+     * Возвращает страницу аккаунтов, упорядоченных по {@code (createdAt, id)}, начиная строго после позиции.
+     * Страница выбирается условием по индексу (keyset), без {@code OFFSET}.
+     *
+     * @param filter фильтр аккаунтов
+     * @param after  позиция последнего аккаунта предыдущей страницы или null для первой страницы
+     * @param limit  максимальное количество аккаунтов
+     * @return аккаунты страницы
+     */
+    List<Account> findPage(AccountFilter filter, AccountCursor after, int limit);
+
+    /**
+     * Возвращает DTO всех аккаунтов, подходящих под фильтр, в порядке {@code (createdAt, id)} потоком.
+     * Строки читаются из БД порциями проекцией без загрузки сущностей, поэтому расход памяти
+     * не зависит от количества аккаунтов. Поток нужно закрыть; читать его можно только внутри транзакции.
+     *
+     * @param filter фильтр аккаунтов
+     * @return поток DTO аккаунтов
+     */
+    Stream<AccountDto> streamAll(AccountFilter filter);
+
     /**
      * Сохраняет новый аккаунт или обновляет существующий.
      *
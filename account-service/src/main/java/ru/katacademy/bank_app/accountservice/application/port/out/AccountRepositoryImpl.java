@@ -1,29 +1,109 @@
 package ru.katacademy.bank_app.accountservice.application.port.out;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountCursor;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountDto;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountFilter;
 import ru.katacademy.bank_app.accountservice.domain.entity.Account;
 import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.AccountEntity;
 import ru.katacademy.bank_app.accountservice.infrastructure.persistence.mapper.AccountMapper;
+import ru.katacademy.bank_app.accountservice.infrastructure.persistence.projection.AccountView;
 import ru.katacademy.bank_app.accountservice.infrastructure.repository.AccountJpaRepository;
+import ru.katacademy.bank_shared.persistence.EmbeddedMoney;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Реализация порта {@link AccountRepository}.
  * Делегирует операции JPA‑репозиторию и маппит сущности ↔ домен.
+ * Списки аккаунтов строятся Criteria API по индексу {@code (created_at, id)}.
+ * Чтение одного аккаунта для ответа API выполняется проекцией, а доменная модель
+ * загружается вместе с пользователем графом {@link AccountEntity#WITH_USER}.
  */
 @Repository
 public class AccountRepositoryImpl implements AccountRepository {
 
     private final AccountJpaRepository  accountJpaRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** Количество строк, получаемых из БД за одно обращение при потоковом чтении */
+    @Value("${account.listing.fetch-size:500}")
+    private int fetchSize = 500;
+
     public AccountRepositoryImpl(AccountJpaRepository accountJpaRepository) {
         this.accountJpaRepository = accountJpaRepository;
     }
 
     @Override
     public Optional<Account> findById(Long id) {
-        return accountJpaRepository.findById(id).map(AccountMapper::toDomain);
+        return accountJpaRepository.findWithUserById(id).map(AccountMapper::toDomain);
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(AccountNumber accountNumber) {
+        return accountJpaRepository.findWithUserByAccountNumber(accountNumber).map(AccountMapper::toDomain);
+    }
+
+    @Override
+    public Optional<AccountDto> findDtoById(Long id) {
+        return accountJpaRepository.findViewById(id).map(AccountView::toDto);
+    }
+
+    @Override
+    public Optional<AccountDto> findDtoByAccountNumber(AccountNumber accountNumber) {
+        return accountJpaRepository.findViewByAccountNumber(accountNumber).map(AccountView::toDto);
+    }
+
+    @Override
+    public List<Account> findPage(AccountFilter filter, AccountCursor after, int limit) {
+        return listQuery(filter, after)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(AccountMapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Строки читаются проекцией {@link AccountView}: ни аккаунты, ни прокси пользователей
+     * не попадают в контекст персистентности, поэтому он не растёт за время выгрузки.
+     * </p>
+     */
+    @Override
+    public Stream<AccountDto> streamAll(AccountFilter filter) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<AccountView> query = cb.createQuery(AccountView.class);
+        final Root<AccountEntity> account = query.from(AccountEntity.class);
+        final Path<EmbeddedMoney> balance = account.get("balance");
+        query.select(cb.construct(AccountView.class,
+                account.get("id"),
+                account.get("accountNumber"),
+                account.get("user").get("id"),
+                balance.get("amount"),
+                balance.get("currency"),
+                account.get("status")));
+        return listQuery(query, account, filter, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()
+                .map(AccountView::toDto);
     }
 
     @Override
@@ -33,4 +113,35 @@ public class AccountRepositoryImpl implements AccountRepository {
         return AccountMapper.toDomain(savedAccountEntity);
 
     }
+
+    private TypedQuery<AccountEntity> listQuery(AccountFilter filter, AccountCursor after) {
+        final CriteriaQuery<AccountEntity> query = entityManager.getCriteriaBuilder().createQuery(AccountEntity.class);
+        final Root<AccountEntity> account = query.from(AccountEntity.class);
+        query.select(account);
+        return listQuery(query, account, filter, after);
+    }
+
+    private <T> TypedQuery<T> listQuery(CriteriaQuery<T> query, Root<AccountEntity> account,
+                                        AccountFilter filter, AccountCursor after) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final Path<LocalDateTime> createdAt = account.get("createdAt");
+        final Path<Long> id = account.get("id");
+
+        final List<Predicate> predicates = new ArrayList<>();
+        if (filter.userId() != null) {
+            predicates.add(cb.equal(account.get("user").get("id"), filter.userId()));
+        }
+        if (filter.status() != null) {
+            predicates.add(cb.equal(account.get("status"), filter.status()));
+        }
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(createdAt, after.createdAt()),
+                    cb.and(cb.equal(createdAt, after.createdAt()), cb.greaterThan(id, after.id()))));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(createdAt), cb.asc(id));
+        return entityManager.createQuery(query);
+    }
 }
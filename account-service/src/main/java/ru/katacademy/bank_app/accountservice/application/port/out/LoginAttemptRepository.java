@@ -1,6 +1,7 @@
 package ru.katacademy.bank_app.accountservice.application.port.out;
 
 import ru.katacademy.bank_app.accountservice.domain.entity.LoginAttemptEntry;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,4 +25,12 @@ public interface LoginAttemptRepository {
      * @return сохранённая сущность с заполненным полем {@code id}
      */
     LoginAttemptEntry save(LoginAttemptEntry attempt);
+
+    /**
+     * Сохраняет пакет новых записей попыток входа одним пакетным запросом.
+     * Идентификаторы сохранённых записей не возвращаются.
+     *
+     * @param attempts записи для сохранения
+     */
+    void saveAll(List<LoginAttemptEntry> attempts);
 }
@@ -0,0 +1,17 @@
+package ru.katacademy.bank_app.accountservice.application.port.out;
+
+import java.time.Instant;
+
+/**
+ * Порт выхода для отзыва JWT-токенов пользователя в security-service.
+ */
+public interface TokenRevocationPublisher {
+
+    /**
+     * Отзывает все токены пользователя, выпущенные раньше указанного момента.
+     *
+     * @param userId        идентификатор пользователя
+     * @param revokedBefore момент, раньше которого выпущенные токены недействительны
+     */
+    void revokeUserTokens(Long userId, Instant revokedBefore);
+}
@@ -1,6 +1,7 @@
 package ru.katacademy.bank_app.accountservice.application.port.out;
 
 import ru.katacademy.bank_app.accountservice.domain.entity.User;
+import ru.katacademy.bank_shared.enums.KycStatus;
 import ru.katacademy.bank_shared.valueobject.Email;
 import java.util.Optional;
 
@@ -33,4 +34,13 @@ public interface UserRepository {
      * @return сохранённый пользователь с заполненным полем {@code id}
      */
     User save(User user);
+
+    /**
+     * Обновляет KYC-статус пользователя без загрузки и сохранения остальных полей.
+     *
+     * @param id     идентификатор пользователя
+     * @param status новый статус
+     * @return true, если пользователь найден и статус обновлён
+     */
+    boolean updateKycStatus(Long id, KycStatus status);
 }
@@ -2,59 +2,129 @@ package ru.katacademy.bank_app.accountservice.application.service;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountCursor;
 import ru.katacademy.bank_app.accountservice.application.dto.AccountDto;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountFilter;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountPageDto;
 import ru.katacademy.bank_app.accountservice.application.port.out.AccountRepository;
 import ru.katacademy.bank_app.accountservice.domain.entity.Account;
 import ru.katacademy.bank_app.accountservice.domain.enumtype.AccountStatus;
 import ru.katacademy.bank_app.accountservice.domain.mapper.AccountMapper;
 import ru.katacademy.bank_app.accountservice.domain.service.AccountService;
 
+import ru.katacademy.bank_app.accountservice.infrastructure.cache.AccountReadCache;
 import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.AccountEntity;
 import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.UserEntity;
 import ru.katacademy.bank_app.accountservice.infrastructure.repository.AccountJpaRepository;
+import ru.katacademy.bank_app.accountservice.infrastructure.repository.UserJpaRepository;
+import ru.katacademy.bank_shared.enums.KycStatus;
 import ru.katacademy.bank_shared.exception.AccountNotFoundExceptionResolver;
+import ru.katacademy.bank_shared.exception.KycException;
 import ru.katacademy.bank_shared.exception.MaxAccountsExceededException;
 import ru.katacademy.bank_shared.valueobject.AccountNumber;
 import ru.katacademy.bank_shared.valueobject.Money;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Реализация сервиса банковских аккаунтов.
  * Обрабатывает создание, блокировку и получение аккаунта через репозиторий.
+ * Чтение аккаунтов обслуживается {@link AccountReadCache}; создание и блокировка
+ * вытесняют аккаунт из кэша после фиксации транзакции.
  */
 @Service
 public class AccountServiceImpl implements AccountService {
 
+    /** Максимальное количество аккаунтов одного пользователя */
+    static final int MAX_ACCOUNTS_PER_USER = 5;
+
+    /** Максимальный размер страницы списка аккаунтов */
+    static final int MAX_PAGE_SIZE = 1000;
+
     private final AccountJpaRepository accountJpaRepository;
+    private final UserJpaRepository userJpaRepository;
     private final AccountRepository accountRepository;
     private final AccountMapper accountMapper;
+    private final AccountReadCache accountReadCache;
 
-    public AccountServiceImpl(AccountJpaRepository accountJpaRepository, AccountRepository accountRepository, AccountMapper accountMapper) {
+    public AccountServiceImpl(AccountJpaRepository accountJpaRepository, UserJpaRepository userJpaRepository,
+                              AccountRepository accountRepository, AccountMapper accountMapper,
+                              AccountReadCache accountReadCache) {
         this.accountJpaRepository = accountJpaRepository;
+        this.userJpaRepository = userJpaRepository;
         this.accountRepository = accountRepository;
         this.accountMapper = accountMapper;
+        this.accountReadCache = accountReadCache;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Возвращается DTO, а не сущность, чтобы ответ не сериализовал пользователя и его аккаунты.
+     * </p>
+     * <p>
+     * Счёт с начальным балансом открывается только пользователю, прошедшему KYC-верификацию:
+     * статус читается из БД, а не из переданной сущности, потому что его меняют только события kyc-service.
+     * </p>
+     * <p>
+     * Лимит аккаунтов проверяется условным увеличением счётчика в строке пользователя
+     * ({@link UserJpaRepository#incrementAccountCount}) в той же транзакции, что и вставка аккаунта:
+     * параллельные запросы одного пользователя не могут превысить лимит, а при ошибке вставки
+     * счётчик откатывается вместе с транзакцией.
+     * </p>
+     *
+     * @throws KycException                 если KYC-статус пользователя не {@link KycStatus#APPROVED}
+     * @throws MaxAccountsExceededException если у пользователя уже {@value #MAX_ACCOUNTS_PER_USER} аккаунтов
+     * @throws IllegalArgumentException     если пользователь не найден
+     */
     @Transactional
     @Override
-    public AccountEntity createAccount(UserEntity user, AccountNumber accountNumber, Money initialBalance) {
-        final long count = accountJpaRepository.countByUserId(user.getId());
-        if (count >= 5) {
-            throw new MaxAccountsExceededException("User " + user + " уже имеет " + count + " аккаунтов");
+    public AccountDto createAccount(UserEntity user, AccountNumber accountNumber, Money initialBalance) {
+        final KycStatus kycStatus = userJpaRepository.findKycStatusById(user.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Пользователь с id " + user.getId() + " не найден"));
+        if (!kycStatus.isApproved()) {
+            throw new KycException("Пользователь " + user.getId() + " не прошёл KYC-верификацию: "
+                    + kycStatus.getDescription());
+        }
+        if (userJpaRepository.incrementAccountCount(user.getId(), MAX_ACCOUNTS_PER_USER) == 0) {
+            throw new MaxAccountsExceededException(
+                    "User " + user.getId() + " уже имеет " + MAX_ACCOUNTS_PER_USER + " аккаунтов");
         }
 
         final AccountEntity account = new AccountEntity(accountNumber, user, initialBalance, AccountStatus.ACTIVE, LocalDateTime.now());
-        return accountJpaRepository.save(account);
+        final AccountEntity saved = accountJpaRepository.save(account);
+        accountReadCache.evictAfterCommit(saved.getId(), accountNumber.value());
+        return new AccountDto(saved.getId(), accountNumber.value(), user.getId(), saved.getBalance(), saved.getStatus());
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Транзакция открывается только при промахе кэша, внутри вызова репозитория;
+     * аккаунт читается проекцией одним запросом, без загрузки пользователя.
+     * </p>
+     */
     @Override
     public AccountDto getById(Long id) {
-        final Account account = accountRepository.findById(id)
-                .orElseThrow(() -> new AccountNotFoundExceptionResolver("Аккаунт с id " + id + " не найден"));
+        return accountReadCache.getById(id, this::loadById);
+    }
 
-        return accountMapper.toDto(account);
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Транзакция открывается только при промахе кэша, внутри вызова репозитория;
+     * аккаунт читается проекцией одним запросом, без загрузки пользователя.
+     * </p>
+     */
+    @Override
+    public AccountDto getByAccountNumber(AccountNumber accountNumber) {
+        return accountReadCache.getByAccountNumber(accountNumber.value(), () -> accountRepository
+                .findDtoByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundExceptionResolver(
+                        "Аккаунт с номером " + accountNumber.value() + " не найден")));
     }
 
     @Transactional
@@ -64,5 +134,48 @@ public class AccountServiceImpl implements AccountService {
                 .orElseThrow(() -> new AccountNotFoundExceptionResolver("Аккаунт с id " + id + " не найден"));
         account.setStatus(AccountStatus.BLOCKED);
         accountJpaRepository.save(account);
+        accountReadCache.evictAfterCommit(id, account.getAccountNumber().value());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Запрашивается на один аккаунт больше размера страницы, чтобы узнать, есть ли следующая страница.
+     * </p>
+     *
+     * @throws IllegalArgumentException если размер страницы вне диапазона {@code 1..1000} или позиция повреждена
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public AccountPageDto findAccounts(AccountFilter filter, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Размер страницы должен быть от 1 до " + MAX_PAGE_SIZE);
+        }
+        AccountCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = AccountCursor.decode(cursor);
+        }
+
+        final List<Account> accounts = accountRepository.findPage(filter, after, limit + 1);
+        final List<Account> page = accounts.subList(0, Math.min(limit, accounts.size()));
+        String nextCursor = null;
+        if (accounts.size() > limit) {
+            final Account last = page.get(page.size() - 1);
+            nextCursor = new AccountCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new AccountPageDto(page.stream().map(accountMapper::toDto).toList(), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void exportAccounts(AccountFilter filter, Consumer<AccountDto> sink) {
+        try (Stream<AccountDto> accounts = accountRepository.streamAll(filter)) {
+            accounts.forEach(sink);
+        }
+    }
+
+    private AccountDto loadById(Long id) {
+        return accountRepository.findDtoById(id)
+                .orElseThrow(() -> new AccountNotFoundExceptionResolver("Аккаунт с id " + id + " не найден"));
     }
 }
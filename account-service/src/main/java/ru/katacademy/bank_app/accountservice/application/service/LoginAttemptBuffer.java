@@ -0,0 +1,119 @@
+package ru.katacademy.bank_app.accountservice.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.katacademy.bank_app.accountservice.domain.entity.LoginAttemptEntry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ограниченный буфер попыток входа между потоками обработки запросов и фоновой записью.
+ * <p>
+ * Записи хранятся в кольцевом массиве фиксированной ёмкости ({@code login.attempts.buffer.capacity}).
+ * Поведение при заполненном буфере задаётся {@code login.attempts.buffer.overflow-policy}:
+ * {@link OverflowPolicy#DROP_OLDEST} вытесняет самую старую запись, {@link OverflowPolicy#BLOCK}
+ * ждёт свободного места не дольше {@code login.attempts.buffer.block-timeout} и отбрасывает новую запись.
+ * Отброшенные записи считаются в метрике {@code login.attempts.dropped} с тегом {@code reason=overflow},
+ * заполненность буфера публикуется в метрике {@code login.attempts.buffer.size}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class LoginAttemptBuffer {
+
+    /**
+     * Поведение буфера при отсутствии свободного места.
+     */
+    public enum OverflowPolicy {
+        /** Вытеснить самую старую запись */
+        DROP_OLDEST,
+        /** Ждать освобождения места ограниченное время */
+        BLOCK
+    }
+
+    private final BlockingQueue<LoginAttemptEntry> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final Counter droppedCounter;
+
+    public LoginAttemptBuffer(@Value("${login.attempts.buffer.capacity:8192}") int capacity,
+                              @Value("${login.attempts.buffer.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                              @Value("${login.attempts.buffer.block-timeout:PT0.05S}") Duration blockTimeout,
+                              MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        this.droppedCounter = Counter.builder("login.attempts.dropped")
+                .description("Попытки входа, не попавшие в журнал")
+                .tag("reason", "overflow")
+                .register(meterRegistry);
+        Gauge.builder("login.attempts.buffer.size", queue, BlockingQueue::size)
+                .description("Попытки входа, ожидающие записи")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Помещает попытку входа в буфер согласно политике переполнения.
+     *
+     * @param entry попытка входа
+     * @return {@code true}, если запись принята; {@code false}, если она отброшена
+     */
+    public boolean offer(LoginAttemptEntry entry) {
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            return offerBlocking(entry);
+        }
+        while (!queue.offer(entry)) {
+            if (queue.poll() != null) {
+                droppedCounter.increment();
+            }
+        }
+        return true;
+    }
+
+    private boolean offerBlocking(LoginAttemptEntry entry) {
+        try {
+            if (queue.offer(entry, blockTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedCounter.increment();
+        log.debug("Буфер попыток входа заполнен, попытка пользователя {} отброшена", entry.getUserId());
+        return false;
+    }
+
+    /**
+     * Извлекает пакет записей: ждёт первую запись не дольше {@code timeout},
+     * после чего забирает без ожидания все уже накопленные записи в пределах {@code maxSize}.
+     *
+     * @param target  коллекция, в которую добавляются записи
+     * @param maxSize максимальный размер пакета
+     * @param timeout время ожидания первой записи
+     * @return количество извлечённых записей
+     * @throws InterruptedException если поток прерван во время ожидания
+     */
+    public int drainTo(Collection<LoginAttemptEntry> target, int maxSize, Duration timeout) throws InterruptedException {
+        final LoginAttemptEntry first = queue.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return 0;
+        }
+        target.add(first);
+        return 1 + queue.drainTo(target, maxSize - 1);
+    }
+
+    /**
+     * @return {@code true}, если в буфере нет записей
+     */
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+package ru.katacademy.bank_app.accountservice.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ограничение неудачных попыток входа.
+ * <p>
+ * Неудачные попытки считаются отдельно по email и по IP-адресу в окне {@code login.throttle.window},
+ * отсчитываемом от первой неудачи. Когда счётчик email достигает {@code login.throttle.max-failures-per-email}
+ * или счётчик IP — {@code login.throttle.max-failures-per-ip}, вход блокируется до конца окна
+ * без проверки пароля, поэтому перебор паролей не занимает пул BCrypt. Успешный вход сбрасывает счётчик email.
+ * </p>
+ * <p>
+ * Счётчики хранятся в памяти узла и ограничены {@code login.throttle.max-size} записями.
+ * </p>
+ */
+@Component
+public class LoginThrottle {
+
+    private final Cache<String, AtomicInteger> failuresByEmail;
+    private final Cache<String, AtomicInteger> failuresByIp;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerIp;
+
+    public LoginThrottle(@Value("${login.throttle.window:PT15M}") Duration window,
+                         @Value("${login.throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+                         @Value("${login.throttle.max-failures-per-ip:50}") int maxFailuresPerIp,
+                         @Value("${login.throttle.max-size:100000}") long maxSize) {
+        this.failuresByEmail = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(window).build();
+        this.failuresByIp = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(window).build();
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+    }
+
+    /**
+     * @param email email из запроса входа
+     * @param ip    IP-адрес клиента
+     * @return {@code true}, если попытки входа для email или IP-адреса исчерпаны
+     */
+    public boolean isBlocked(String email, String ip) {
+        return failures(failuresByEmail, normalize(email)) >= maxFailuresPerEmail
+                || failures(failuresByIp, ip) >= maxFailuresPerIp;
+    }
+
+    /**
+     * Учитывает неудачную попытку входа.
+     *
+     * @param email email из запроса входа
+     * @param ip    IP-адрес клиента
+     */
+    public void recordFailure(String email, String ip) {
+        increment(failuresByEmail, normalize(email));
+        increment(failuresByIp, ip);
+    }
+
+    /**
+     * Сбрасывает счётчик неудачных попыток email после успешного входа.
+     *
+     * @param email email пользователя
+     */
+    public void recordSuccess(String email) {
+        final String key = normalize(email);
+        if (key != null) {
+            failuresByEmail.invalidate(key);
+        }
+    }
+
+    private static int failures(Cache<String, AtomicInteger> counters, String key) {
+        if (key == null) {
+            return 0;
+        }
+        final AtomicInteger counter = counters.getIfPresent(key);
+        if (counter == null) {
+            return 0;
+        }
+        return counter.get();
+    }
+
+    /**
+     * Увеличивает счётчик на месте: запись не перезаписывается, поэтому окно отсчитывается от первой неудачи.
+     */
+    private static void increment(Cache<String, AtomicInteger> counters, String key) {
+        if (key != null) {
+            counters.get(key, ignored -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    private static String normalize(String email) {
+        if (email == null) {
+            return null;
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,121 @@
+package ru.katacademy.bank_app.accountservice.application.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import ru.katacademy.bank_app.accountservice.config.PasswordHashingConfig;
+import ru.katacademy.bank_shared.exception.ServiceOverloadedException;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Сервис хеширования и проверки паролей.
+ * <p>
+ * Операции BCrypt выполняются в ограниченном пуле {@link PasswordHashingConfig#PASSWORD_HASHING_EXECUTOR},
+ * поэтому одновременно хешируется не больше паролей, чем потоков в пуле, и всплеск смен паролей
+ * не занимает процессор у потоков обработки запросов. Вызывающий поток ждёт результата
+ * не дольше {@code password.hashing.timeout}.
+ * </p>
+ * <p>
+ * Стоимость хеширования задаётся {@link PasswordEncoder}; хеши с меньшей стоимостью
+ * определяются {@link #needsRehash(String)} и пересчитываются при успешном входе.
+ * </p>
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Executor executor;
+    private final Duration timeout;
+
+    /** Хеш случайного пароля с текущей стоимостью для проверки при входе с неизвестным email */
+    private final String dummyHash;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier(PasswordHashingConfig.PASSWORD_HASHING_EXECUTOR) Executor executor,
+                                  @Value("${password.hashing.timeout:PT5S}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Хеширует пароль с текущей стоимостью.
+     *
+     * @param rawPassword пароль
+     * @return хеш пароля
+     * @throws ServiceOverloadedException если пул хеширования перегружен
+     */
+    public String hash(String rawPassword) {
+        return call(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Проверяет пароль по хешу.
+     *
+     * @param rawPassword  пароль
+     * @param passwordHash хеш пароля
+     * @return true, если пароль соответствует хешу
+     * @throws ServiceOverloadedException если пул хеширования перегружен
+     */
+    public boolean matches(String rawPassword, String passwordHash) {
+        return call(() -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    /**
+     * Проверяет пароль по хешу случайного пароля с текущей стоимостью; результат не используется.
+     * Вызывается при входе с неизвестным email, чтобы ответ занимал столько же времени, сколько
+     * проверка пароля существующего пользователя, и по времени нельзя было узнать, зарегистрирован ли email.
+     *
+     * @param rawPassword пароль из запроса
+     * @throws ServiceOverloadedException если пул хеширования перегружен
+     */
+    public void matchDummy(String rawPassword) {
+        matches(rawPassword, dummyHash);
+    }
+
+    /**
+     * Проверяет, нужно ли пересчитать хеш с текущей стоимостью.
+     * Не выполняет хеширование, поэтому вызывается в текущем потоке.
+     *
+     * @param passwordHash хеш пароля
+     * @return true, если хеш вычислен с меньшей стоимостью, чем текущая
+     */
+    public boolean needsRehash(String passwordHash) {
+        return passwordEncoder.upgradeEncoding(passwordHash);
+    }
+
+    private <T> T call(Supplier<T> task) {
+        final CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceOverloadedException("Сервис перегружен, повторите запрос позже");
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceOverloadedException("Сервис перегружен, повторите запрос позже");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceOverloadedException("Операция с паролем прервана");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
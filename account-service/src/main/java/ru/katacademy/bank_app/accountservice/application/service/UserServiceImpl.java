@@ -1,24 +1,29 @@
 package ru.katacademy.bank_app.accountservice.application.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.katacademy.bank_app.accountservice.application.command.ChangePasswordCommand;
 import ru.katacademy.bank_app.accountservice.application.dto.PasswordChangedEvent;
 import ru.katacademy.bank_app.accountservice.application.dto.RegisterUserCommand;
 import ru.katacademy.bank_app.accountservice.application.dto.UserDto;
+import ru.katacademy.bank_app.accountservice.application.port.out.TokenRevocationPublisher;
 import ru.katacademy.bank_app.accountservice.application.port.out.UserRepository;
 import ru.katacademy.bank_app.accountservice.domain.entity.User;
 import ru.katacademy.bank_app.accountservice.domain.factory.UserFactory;
 import ru.katacademy.bank_app.accountservice.domain.mapper.UserMapper;
 import ru.katacademy.bank_app.accountservice.domain.service.UserService;
-import ru.katacademy.bank_app.accountservice.infrastructure.client.KycClient;
 import ru.katacademy.bank_app.accountservice.infrastructure.messaging.PasswordChangeEventPublisher;
 import ru.katacademy.bank_app.audit.annotation.Auditable;
+import ru.katacademy.bank_shared.enums.KycStatus;
 import ru.katacademy.bank_shared.exception.*;
+import ru.katacademy.bank_shared.validation.StringValidators;
 import ru.katacademy.bank_shared.valueobject.Email;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -32,6 +37,7 @@ import java.util.Optional;
  * Методы:
  * - register(): регистрирует нового пользователя
  * - getById(): получает пользователя по ID
+ * - updateKycStatus(): применяет KYC-статус, полученный из kyc-service
  * <p>
  * Автор: Бачагов В.О.
  * Дата: 2025-04-18
@@ -42,18 +48,22 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordChangeEventPublisher passwordChangeEventPublisher;
-    private final KycClient kycClient;
+    private final PasswordHashingService passwordHashingService;
+    private final TokenRevocationPublisher tokenRevocationPublisher;
 
     @Autowired
     public UserServiceImpl(
             UserRepository userRepository,
             UserMapper userMapper,
-            PasswordChangeEventPublisher passwordChangeEventPublisher, KycClient kycClient
+            PasswordChangeEventPublisher passwordChangeEventPublisher,
+            PasswordHashingService passwordHashingService,
+            TokenRevocationPublisher tokenRevocationPublisher
     ) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.passwordChangeEventPublisher = passwordChangeEventPublisher;
-        this.kycClient = kycClient;
+        this.passwordHashingService = passwordHashingService;
+        this.tokenRevocationPublisher = tokenRevocationPublisher;
     }
 
     /**
@@ -61,6 +71,9 @@ public class UserServiceImpl implements UserService {
      * <p>
      * Выполняет проверку уникальности email, создание нового пользователя через
      * фабрику и сохранение в базе данных.
+     * <p>
+     * KYC-верификация не ожидается: пользователь сохраняется со статусом {@link KycStatus#PENDING},
+     * а решение kyc-service приходит позже событием из топика {@code kyc-events} (см. {@link #updateKycStatus}).
      *
      * @param cmd команда с данными для регистрации
      * @return DTO пользователя после успешной регистрации
@@ -86,13 +99,8 @@ public class UserServiceImpl implements UserService {
             );
         }
 
-        final User newUser = UserFactory.create(cmd);
+        final User newUser = UserFactory.create(cmd, passwordHashingService.hash(cmd.password()));
         final User savedUser = userRepository.save(newUser);
-
-        final var kyc = kycClient.getKyc(savedUser.getId());
-        if (kyc == null || !kyc.status().isApproved()) {
-            throw new KycException("User is not KYC-verified");
-        }
         return userMapper.toDto(savedUser);
     }
 
@@ -115,6 +123,23 @@ public class UserServiceImpl implements UserService {
         return userMapper.toDto(user);
     }
 
+    /**
+     * Применяет решение kyc-service о верификации пользователя.
+     * Статус обновляется одним запросом, не затрагивая остальные поля пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @param status новый KYC-статус
+     * @throws UserNotFoundException если пользователь с таким ID не найден
+     */
+    @Transactional
+    @Override
+    public void updateKycStatus(Long userId, KycStatus status) {
+        Objects.requireNonNull(status, "KYC-статус не может быть null");
+        if (!userRepository.updateKycStatus(userId, status)) {
+            throw new UserNotFoundException("Пользователь с id " + userId + " не найден");
+        }
+    }
+
     /**
      * Меняет пароль пользователя.
      *
@@ -127,28 +152,35 @@ public class UserServiceImpl implements UserService {
      *     <li>Установка нового пароля и его хеширование.</li>
      *     <li>Сохранение изменённого пользователя в репозитории.</li>
      *     <li>Публикация события о смене пароля.</li>
+     *     <li>Отзыв JWT-токенов пользователя, выпущенных до смены пароля.</li>
      * </ol>
+     * <p>
+     * Хеширование выполняется в {@link PasswordHashingService} вне транзакции: пользователь читается
+     * и сохраняется отдельными короткими транзакциями репозитория, поэтому соединение с БД
+     * не удерживается на время BCrypt. Отличие нового пароля от старого проверяется сравнением
+     * с уже проверенным текущим паролем, без повторной проверки по хешу.
+     * </p>
      *
      * @param command Команда, содержащая идентификатор пользователя и пароли.
      * @throws UserNotFoundException    Если пользователь с указанным идентификатором не найден.
      * @throws InvalidPasswordException Если текущий пароль не совпадает с хешем. Если новый пароль совпадает с текущим.
      *                                  Если новый пароль не соответствует критериям (менее 8 символов,
      *                                  Если не содержит латинские буквы и цифры от 0 до 9).
+     * @throws ServiceOverloadedException Если пул хеширования паролей перегружен.
      */
     @Auditable(action = "Смена пароля")
-    @Transactional
     public void changePassword(ChangePasswordCommand command) {
         final User user = userRepository
                 .findById(command.getUserId())
                 .orElseThrow(() -> new UserNotFoundException("Пользователь не найден"));
 
         // Проверяем текущий пароль
-        if (!BCrypt.checkpw(command.getOldPassword(), user.getPasswordHash())) {
+        if (!passwordHashingService.matches(command.getOldPassword(), user.getPasswordHash())) {
             throw new InvalidPasswordException("Текущий пароль некорректный");
         }
 
-        // Проверяем, что новый пароль отличается от старого
-        if (BCrypt.checkpw(command.getNewPassword(), user.getPasswordHash())) {
+        // Проверяем, что новый пароль отличается от старого (текущий пароль уже проверен по хешу)
+        if (samePassword(command.getNewPassword(), command.getOldPassword())) {
             throw new InvalidPasswordException("Новый пароль должен отличаться от старого");
         }
 
@@ -162,7 +194,7 @@ public class UserServiceImpl implements UserService {
         final String oldPasswordHash = user.getPasswordHash();
 
         // Устанавливаем и сохраняем новый пароль
-        final String newEnteredPasswordHash = BCrypt.hashpw(command.getNewPassword(), BCrypt.gensalt());
+        final String newEnteredPasswordHash = passwordHashingService.hash(command.getNewPassword());
         user.setPasswordHash(newEnteredPasswordHash);
         userRepository.save(user);
 
@@ -173,6 +205,51 @@ public class UserServiceImpl implements UserService {
                 user.getPasswordHash()  // передаем обновленное значение
         );
         passwordChangeEventPublisher.publish(event);
+
+        // Отзываем токены, выпущенные до смены пароля
+        tokenRevocationPublisher.revokeUserTokens(user.getId(), Instant.now());
+    }
+
+    /**
+     * Проверяет email и пароль пользователя при входе.
+     * <p>
+     * Если хеш пароля вычислен с меньшей стоимостью, чем настроенная ({@code password.hashing.cost}),
+     * после успешной проверки он пересчитывается и сохраняется: пароль в открытом виде
+     * доступен только в этот момент.
+     * </p>
+     *
+     * @param email    email пользователя
+     * @param password пароль
+     * @return DTO пользователя
+     * @throws InvalidPasswordException   если пользователь не найден или пароль неверный
+     * @throws ServiceOverloadedException если пул хеширования паролей перегружен
+     */
+    @Override
+    public UserDto authenticate(String email, String password) {
+        final User user = userRepository.findByEmail(new Email(email)).orElse(null);
+        if (user == null) {
+            // BCrypt выполняется и для неизвестного email: время ответа не выдаёт зарегистрированные адреса
+            passwordHashingService.matchDummy(password);
+            throw new InvalidPasswordException("Неверный email или пароль");
+        }
+        if (!passwordHashingService.matches(password, user.getPasswordHash())) {
+            throw new InvalidPasswordException("Неверный email или пароль");
+        }
+        if (passwordHashingService.needsRehash(user.getPasswordHash())) {
+            user.setPasswordHash(passwordHashingService.hash(password));
+            userRepository.save(user);
+        }
+        return userMapper.toDto(user);
+    }
+
+    /**
+     * Сравнивает пароли за время, не зависящее от позиции первого отличающегося символа.
+     */
+    private static boolean samePassword(String first, String second) {
+        if (first == null || second == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(first.getBytes(StandardCharsets.UTF_8), second.getBytes(StandardCharsets.UTF_8));
     }
 
 
@@ -197,8 +274,6 @@ public class UserServiceImpl implements UserService {
         if (input == null) {
             throw new IllegalArgumentException("Пароль не может быть Null");
         }
-
-        final String regex = "^(?=.*[0-9])(?=.*[a-zA-Z])[a-zA-Z0-9]{8,}$";
-        return input.matches(regex);
+        return StringValidators.isStrongPassword(input);
     }
 }
\ No newline at end of file
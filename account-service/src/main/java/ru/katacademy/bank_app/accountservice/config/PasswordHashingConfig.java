@@ -0,0 +1,59 @@
+package ru.katacademy.bank_app.accountservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Конфигурация пула потоков для хеширования паролей.
+ * <p>
+ * BCrypt нагружает процессор, поэтому хеширование выполняется в отдельном пуле размером
+ * с число процессоров ({@code password.hashing.threads}) и с ограниченной очередью
+ * ({@code password.hashing.queue-capacity}), а не в потоках обработки запросов.
+ * При заполненной очереди задача отклоняется сразу, а не ждёт неограниченно.
+ * </p>
+ * <p>
+ * Состояние пула публикуется в метриках {@code executor.*} с тегом {@code name=password-hashing},
+ * число отклонённых задач — в метрике {@code password.hashing.rejected}.
+ * </p>
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    /** Имя бина пула хеширования паролей */
+    public static final String PASSWORD_HASHING_EXECUTOR = "passwordHashingExecutor";
+
+    @Bean(name = PASSWORD_HASHING_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor(
+            @Value("${password.hashing.threads:0}") int threads,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        int poolSize = threads;
+        if (poolSize <= 0) {
+            poolSize = Runtime.getRuntime().availableProcessors();
+        }
+        final Counter rejected = Counter.builder("password.hashing.rejected")
+                .description("Задачи хеширования паролей, отклонённые из-за заполненной очереди")
+                .register(meterRegistry);
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, (task, pool) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException("Очередь хеширования паролей заполнена");
+                });
+        new ExecutorServiceMetrics(executor, "password-hashing", Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+}
@@ -47,6 +47,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers(POST, "/api/users/register").permitAll()
+                        .requestMatchers(POST, "/api/users/login").permitAll()
                         .requestMatchers(
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
@@ -81,8 +82,12 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * Кодировщик паролей BCrypt со стоимостью {@code password.hashing.cost}.
+     * Хеши с меньшей стоимостью пересчитываются при успешном входе пользователя.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.hashing.cost:10}") int cost) {
+        return new BCryptPasswordEncoder(cost);
     }
 }
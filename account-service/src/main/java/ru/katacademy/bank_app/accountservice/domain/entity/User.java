@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import ru.katacademy.bank_app.accountservice.domain.enumtype.UserRole;
+import ru.katacademy.bank_shared.enums.KycStatus;
 import ru.katacademy.bank_shared.valueobject.Email;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -30,6 +31,9 @@ public class User {
 
     private final LocalDateTime createdAt;
 
+    /** Статус KYC-верификации; до получения решения kyc-service — {@link KycStatus#PENDING}. */
+    private KycStatus kycStatus = KycStatus.PENDING;
+
     public User(UserRole role,
                 String fullName,
                 Email email,
@@ -1,6 +1,5 @@
 package ru.katacademy.bank_app.accountservice.domain.factory;
 
-import org.springframework.security.crypto.bcrypt.BCrypt;
 import ru.katacademy.bank_shared.valueobject.Email;
 import ru.katacademy.bank_app.accountservice.application.dto.RegisterUserCommand;
 import ru.katacademy.bank_app.accountservice.domain.entity.User;
@@ -18,15 +17,14 @@ import java.time.LocalDateTime;
  */
 public class UserFactory {
     /**
-     * Создает нового пользователя из команды регистрации.
+     * Создает нового пользователя из команды регистрации и заранее вычисленного хеша пароля.
+     * Пароль хешируется в {@code PasswordHashingService} с настроенной стоимостью BCrypt.
      *
-     * @param cmd команда с данными для регистрации
+     * @param cmd          команда с данными для регистрации
+     * @param passwordHash хеш пароля из команды
      * @return новый пользователь
      */
-    public static User create(RegisterUserCommand cmd) {
-
-        final String passwordHash = BCrypt.hashpw(cmd.password(), BCrypt.gensalt());
-
+    public static User create(RegisterUserCommand cmd, String passwordHash) {
         return new User(
                 UserRole.USER, // Роль по умолчанию
                 cmd.fullName(),
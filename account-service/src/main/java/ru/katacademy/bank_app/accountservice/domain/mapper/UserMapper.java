@@ -25,7 +25,8 @@ public class UserMapper {
                 user.getId(),
                 user.getFullName(),
                 user.getEmail().value(),
-                user.getRole()
+                user.getRole(),
+                user.getKycStatus()
         );
     }
 }
\ No newline at end of file
@@ -1,17 +1,39 @@
 package ru.katacademy.bank_app.accountservice.domain.service;
 
 import ru.katacademy.bank_app.accountservice.application.dto.AccountDto;
-import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountFilter;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountPageDto;
 import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.UserEntity;
 import ru.katacademy.bank_shared.valueobject.AccountNumber;
 import ru.katacademy.bank_shared.valueobject.Money;
 
+import java.util.function.Consumer;
+
 /**
  * Сервис для работы с аккаунтами.
  * Содержит бизнес-логику создания и получения аккаунтов.
  */
 public interface AccountService {
-    AccountEntity createAccount(UserEntity user, AccountNumber accountNumber, Money initialBalance);
+    AccountDto createAccount(UserEntity user, AccountNumber accountNumber, Money initialBalance);
     AccountDto getById(Long id);
+    AccountDto getByAccountNumber(AccountNumber accountNumber);
     void blockAccountById(Long id);
+
+    /**
+     * Возвращает страницу аккаунтов в порядке создания.
+     *
+     * @param filter фильтр аккаунтов
+     * @param cursor позиция из {@link AccountPageDto#nextCursor()} предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы
+     * @return страница аккаунтов
+     */
+    AccountPageDto findAccounts(AccountFilter filter, String cursor, int limit);
+
+    /**
+     * Передаёт все аккаунты, подходящие под фильтр, в порядке создания по одному.
+     *
+     * @param filter фильтр аккаунтов
+     * @param sink   получатель аккаунтов
+     */
+    void exportAccounts(AccountFilter filter, Consumer<AccountDto> sink);
 }
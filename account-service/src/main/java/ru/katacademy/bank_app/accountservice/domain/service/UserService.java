@@ -4,6 +4,7 @@ package ru.katacademy.bank_app.accountservice.domain.service;
 import ru.katacademy.bank_app.accountservice.application.command.ChangePasswordCommand;
 import ru.katacademy.bank_app.accountservice.application.dto.RegisterUserCommand;
 import ru.katacademy.bank_app.accountservice.application.dto.UserDto;
+import ru.katacademy.bank_shared.enums.KycStatus;
 
 /**
  * Сервис для работы с пользователями.
@@ -38,4 +39,22 @@ public interface UserService {
 
     void changePassword(ChangePasswordCommand command);
 
+    /**
+     * Проверяет email и пароль пользователя при входе.
+     * Если хеш пароля вычислен с устаревшей стоимостью, он пересчитывается.
+     *
+     * @param email    email пользователя
+     * @param password пароль
+     * @return DTO пользователя
+     */
+    UserDto authenticate(String email, String password);
+
+    /**
+     * Применяет решение kyc-service о верификации пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @param status новый KYC-статус
+     */
+    void updateKycStatus(Long userId, KycStatus status);
+
 }
@@ -0,0 +1,51 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountDto;
+
+import java.time.Duration;
+
+/**
+ * Конфигурация кэшей чтения аккаунтов.
+ * <p>
+ * Кэши ограничены по числу записей ({@code account.cache.max-size}) и по времени жизни записи
+ * ({@code account.cache.ttl}). Время жизни ограничивает устаревание данных, если сообщение
+ * об инвалидации от другого узла или сервиса переводов не дошло.
+ * Статистика публикуется в метриках {@code cache.gets}, {@code cache.puts}, {@code cache.evictions}
+ * и {@code cache.size} с тегами {@code cache=account-by-id} и {@code cache=account-id-by-number}
+ * (Actuator: {@code /actuator/metrics/cache.gets?tag=cache:account-by-id}).
+ * </p>
+ */
+@Configuration
+public class AccountCacheConfig {
+
+    @Bean
+    public Cache<Long, AccountDto> accountByIdCache(
+            @Value("${account.cache.max-size:10000}") long maxSize,
+            @Value("${account.cache.ttl:PT30S}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        final Cache<Long, AccountDto> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "account-by-id");
+    }
+
+    @Bean
+    public Cache<String, Long> accountIdByNumberCache(
+            @Value("${account.cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        final Cache<String, Long> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "account-id-by-number");
+    }
+}
@@ -0,0 +1,125 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountDto;
+import ru.katacademy.bank_app.accountservice.application.port.out.AccountCacheInvalidationPublisher;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Локальный (near) кэш чтения аккаунтов.
+ * <p>
+ * DTO аккаунтов хранятся по идентификатору, а номер счёта отображается на идентификатор,
+ * поэтому аккаунт, прочитанный любым способом, доступен по обоим ключам и вытесняется одной операцией.
+ * Отсутствующие аккаунты не кэшируются.
+ * </p>
+ * <p>
+ * Изменения, сделанные этим узлом, вытесняют записи после фиксации транзакции и, если включена
+ * рассылка через Kafka ({@code account.cache.invalidation.kafka.enabled}), на всех остальных узлах.
+ * Чтение, начатое до фиксации, может вернуть в кэш прежнее значение; такая запись живёт
+ * не дольше {@code account.cache.ttl}.
+ * </p>
+ */
+@Component
+public class AccountReadCache {
+
+    private final Cache<Long, AccountDto> byId;
+    private final Cache<String, Long> idByNumber;
+    private final Optional<AccountCacheInvalidationPublisher> invalidationPublisher;
+
+    public AccountReadCache(Cache<Long, AccountDto> accountByIdCache,
+                            Cache<String, Long> accountIdByNumberCache,
+                            Optional<AccountCacheInvalidationPublisher> invalidationPublisher) {
+        this.byId = accountByIdCache;
+        this.idByNumber = accountIdByNumberCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    /**
+     * Возвращает аккаунт по идентификатору из кэша или загружает его.
+     *
+     * @param id     идентификатор аккаунта
+     * @param loader загрузка аккаунта при промахе; исключение загрузки передаётся вызывающему
+     * @return DTO аккаунта
+     */
+    public AccountDto getById(Long id, Function<Long, AccountDto> loader) {
+        final AccountDto cached = byId.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        return put(loader.apply(id));
+    }
+
+    /**
+     * Возвращает аккаунт по номеру счёта из кэша или загружает его.
+     *
+     * @param accountNumber номер счёта
+     * @param loader        загрузка аккаунта при промахе; исключение загрузки передаётся вызывающему
+     * @return DTO аккаунта
+     */
+    public AccountDto getByAccountNumber(String accountNumber, Supplier<AccountDto> loader) {
+        final Long id = idByNumber.getIfPresent(accountNumber);
+        if (id != null) {
+            final AccountDto cached = byId.getIfPresent(id);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return put(loader.get());
+    }
+
+    /**
+     * Вытесняет аккаунт на этом и остальных узлах после фиксации текущей транзакции
+     * (или сразу, если транзакции нет).
+     *
+     * @param id            идентификатор аккаунта (может быть null)
+     * @param accountNumber номер счёта (может быть null)
+     */
+    public void evictAfterCommit(Long id, String accountNumber) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictEverywhere(id, accountNumber);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictEverywhere(id, accountNumber);
+            }
+        });
+    }
+
+    /**
+     * Вытесняет аккаунт только на этом узле. Используется при получении инвалидации от других узлов.
+     *
+     * @param id            идентификатор аккаунта (может быть null)
+     * @param accountNumber номер счёта (может быть null)
+     */
+    public void evictLocally(Long id, String accountNumber) {
+        if (accountNumber != null) {
+            final Long mappedId = idByNumber.getIfPresent(accountNumber);
+            idByNumber.invalidate(accountNumber);
+            if (mappedId != null) {
+                byId.invalidate(mappedId);
+            }
+        }
+        if (id != null) {
+            byId.invalidate(id);
+        }
+    }
+
+    private void evictEverywhere(Long id, String accountNumber) {
+        evictLocally(id, accountNumber);
+        invalidationPublisher.ifPresent(publisher -> publisher.publish(id, accountNumber));
+    }
+
+    private AccountDto put(AccountDto account) {
+        byId.put(account.id(), account);
+        idByNumber.put(account.accountNumber(), account.id());
+        return account;
+    }
+}
@@ -0,0 +1,58 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import ru.katacademy.bank_app.accountservice.infrastructure.cache.AccountReadCache;
+import ru.katacademy.bank_shared.event.TransferCompletedEvent;
+
+/**
+ * Приём инвалидаций кэша аккаунтов из Kafka.
+ * <p>
+ * Каждый узел читает топики в своей группе потребителей (со случайным суффиксом),
+ * поэтому сообщение получают все узлы, а не один из них. Помимо сообщений от других узлов
+ * сервиса учитываются события о переводах: балансы обоих счетов перевода вытесняются из кэша.
+ * Сообщения, которые не удаётся разобрать, пропускаются.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.cache.invalidation.kafka.enabled", havingValue = "true")
+public class AccountCacheInvalidationListener {
+
+    private final AccountReadCache accountReadCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${account.cache.invalidation.kafka.topic:account-cache-invalidation}",
+            groupId = "account-cache-${random.uuid}")
+    public void onInvalidation(String message) {
+        try {
+            final AccountCacheInvalidationMessage invalidation =
+                    objectMapper.readValue(message, AccountCacheInvalidationMessage.class);
+            accountReadCache.evictLocally(invalidation.id(), invalidation.accountNumber());
+        } catch (JsonProcessingException e) {
+            log.debug("Пропущено сообщение об инвалидации кэша аккаунтов: {}", message, e);
+        }
+    }
+
+    @KafkaListener(topics = "${account.cache.invalidation.kafka.transfer-topic:transfer-completed-events}",
+            groupId = "account-cache-transfers-${random.uuid}")
+    public void onTransferCompleted(String message) {
+        try {
+            final TransferCompletedEvent event = objectMapper.readValue(message, TransferCompletedEvent.class);
+            if (event.accountNumberFrom() != null) {
+                accountReadCache.evictLocally(null, event.accountNumberFrom().value());
+            }
+            if (event.accountNumberTo() != null) {
+                accountReadCache.evictLocally(null, event.accountNumberTo().value());
+            }
+        } catch (JsonProcessingException e) {
+            log.debug("Пропущено событие перевода в неизвестном формате: {}", message, e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.messaging;
+
+/**
+ * Сообщение об инвалидации кэша аккаунтов, рассылаемое между узлами сервиса.
+ *
+ * @param id            идентификатор аккаунта (может быть null)
+ * @param accountNumber номер счёта (может быть null)
+ */
+public record AccountCacheInvalidationMessage(Long id, String accountNumber) {
+}
@@ -0,0 +1,46 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.katacademy.bank_app.accountservice.application.port.out.AccountCacheInvalidationPublisher;
+import ru.katacademy.bank_shared.kafka.KafkaProducer;
+
+/**
+ * Рассылка инвалидации кэша аккаунтов через Kafka.
+ * <p>
+ * Включается свойством {@code account.cache.invalidation.kafka.enabled=true}. Сообщения читает
+ * {@link AccountCacheInvalidationListener} на каждом узле. Ошибка отправки не влияет на уже
+ * зафиксированное изменение: запись на других узлах устареет не более чем на {@code account.cache.ttl}.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "account.cache.invalidation.kafka.enabled", havingValue = "true")
+public class KafkaAccountCacheInvalidationPublisher implements AccountCacheInvalidationPublisher {
+
+    private final KafkaProducer producer;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+
+    public KafkaAccountCacheInvalidationPublisher(
+            KafkaProducer producer,
+            ObjectMapper objectMapper,
+            @Value("${account.cache.invalidation.kafka.topic:account-cache-invalidation}") String topic) {
+        this.producer = producer;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+    }
+
+    @Override
+    public void publish(Long id, String accountNumber) {
+        try {
+            producer.send(topic, objectMapper.writeValueAsString(new AccountCacheInvalidationMessage(id, accountNumber)));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Не удалось разослать инвалидацию кэша аккаунта id={}, номер={}", id, accountNumber, e);
+        }
+    }
+}
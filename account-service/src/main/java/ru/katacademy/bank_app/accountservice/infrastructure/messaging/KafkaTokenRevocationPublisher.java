@@ -0,0 +1,47 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.katacademy.bank_app.accountservice.application.port.out.TokenRevocationPublisher;
+import ru.katacademy.bank_shared.event.TokenRevokedEvent;
+import ru.katacademy.bank_shared.kafka.KafkaProducer;
+
+import java.time.Instant;
+
+/**
+ * Отзыв JWT-токенов пользователя через Kafka.
+ * <p>
+ * Событие {@link TokenRevokedEvent} читают все узлы security-service и с этого момента отклоняют
+ * токены пользователя, выпущенные раньше. Ошибка отправки не отменяет уже сохранённое изменение:
+ * старые токены в этом случае действуют до истечения срока ({@code jwt.expiration-ms}).
+ * </p>
+ */
+@Slf4j
+@Component
+public class KafkaTokenRevocationPublisher implements TokenRevocationPublisher {
+
+    private final KafkaProducer producer;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+
+    public KafkaTokenRevocationPublisher(
+            KafkaProducer producer,
+            ObjectMapper objectMapper,
+            @Value("${jwt.revocation.kafka.topic:token-revocations}") String topic) {
+        this.producer = producer;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+    }
+
+    @Override
+    public void revokeUserTokens(Long userId, Instant revokedBefore) {
+        try {
+            producer.send(topic, objectMapper.writeValueAsString(TokenRevokedEvent.forUser(userId, revokedBefore)));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Не удалось отозвать токены пользователя id={}", userId, e);
+        }
+    }
+}
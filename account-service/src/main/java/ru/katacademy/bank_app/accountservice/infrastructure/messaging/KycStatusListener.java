@@ -0,0 +1,68 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import ru.katacademy.bank_app.accountservice.domain.service.UserService;
+import ru.katacademy.bank_shared.enums.KycStatus;
+import ru.katacademy.bank_shared.event.kyc.KycStatusChangedEvent;
+import ru.katacademy.bank_shared.exception.UserNotFoundException;
+
+/**
+ * Приём решений kyc-service о верификации пользователей.
+ * <p>
+ * Читает топик {@code kyc-events} в общей группе потребителей сервиса, поэтому каждое событие
+ * применяется одним узлом. Ключ сообщения — идентификатор пользователя, поэтому события
+ * одного пользователя приходят по порядку.
+ * </p>
+ * <p>
+ * Поддерживаются оба формата, которые публикует kyc-service: JSON {@link KycStatusChangedEvent}
+ * и строка {@code STATUS_<статус>} с идентификатором пользователя в ключе.
+ * Сообщения, которые не удаётся разобрать, и события неизвестных пользователей пропускаются.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kyc.events.kafka.enabled", havingValue = "true")
+public class KycStatusListener {
+
+    /** Префикс строкового формата события */
+    static final String STATUS_PREFIX = "STATUS_";
+
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${kyc.events.kafka.topic:kyc-events}",
+            groupId = "${kyc.events.kafka.group-id:account-service-kyc}")
+    public void onKycEvent(ConsumerRecord<String, String> record) {
+        if (record.value() == null) {
+            return;
+        }
+        try {
+            final KycStatusChangedEvent event = parse(record.key(), record.value());
+            userService.updateKycStatus(Long.valueOf(event.userId()), event.status());
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("Пропущено KYC-событие в неизвестном формате: key={}, value={}", record.key(), record.value(), e);
+        } catch (UserNotFoundException e) {
+            log.warn("Пропущено KYC-событие для неизвестного пользователя: key={}", record.key());
+        }
+    }
+
+    private KycStatusChangedEvent parse(String key, String value) throws JsonProcessingException {
+        if (value.startsWith(STATUS_PREFIX)) {
+            final KycStatus status = KycStatus.fromString(value.substring(STATUS_PREFIX.length()));
+            return new KycStatusChangedEvent(key, status, null, null);
+        }
+        final KycStatusChangedEvent event = objectMapper.readValue(value, KycStatusChangedEvent.class);
+        if (event.status() == null) {
+            throw new IllegalArgumentException("В KYC-событии не задан статус");
+        }
+        return event;
+    }
+}
@@ -0,0 +1,154 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import ru.katacademy.bank_app.accountservice.application.port.out.LoginAttemptRepository;
+import ru.katacademy.bank_app.accountservice.application.service.LoginAttemptBuffer;
+import ru.katacademy.bank_app.accountservice.domain.entity.LoginAttemptEntry;
+import ru.katacademy.bank_app.accountservice.domain.events.LoginAttemptedEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Фоновая запись попыток входа из {@link LoginAttemptBuffer}.
+ * <p>
+ * Один поток {@code login-attempt-writer} забирает из буфера пакеты до {@code login.attempts.writer.batch-size}
+ * записей, сохраняет каждый пакет одним пакетным {@code INSERT} через {@link LoginAttemptRepository#saveAll(List)}
+ * и отправляет события {@link LoginAttemptedEvent} пакета в Kafka-топик {@code login.attempts.kafka.topic},
+ * не дожидаясь подтверждения брокера. Запись в БД и отправка в Kafka независимы:
+ * ошибка одной не отменяет другую.
+ * </p>
+ * <p>
+ * Пакет, который не удалось сохранить, не повторяется: его записи считаются в метрике
+ * {@code login.attempts.dropped} с тегом {@code reason=write-failure}, неотправленные события —
+ * в метрике {@code login.attempts.publish.failures}. При остановке приложения поток дописывает
+ * накопленные записи, но не дольше {@code login.attempts.writer.shutdown-timeout}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class LoginAttemptWriter implements SmartLifecycle {
+
+    private final LoginAttemptBuffer buffer;
+    private final LoginAttemptRepository loginAttemptRepository;
+    private final KafkaTemplate<String, LoginAttemptedEvent> kafkaTemplate;
+    private final String topic;
+    private final int batchSize;
+    private final Duration pollTimeout;
+    private final Duration shutdownTimeout;
+    private final Counter writtenCounter;
+    private final Counter writeFailedCounter;
+    private final Counter publishFailedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public LoginAttemptWriter(LoginAttemptBuffer buffer,
+                              LoginAttemptRepository loginAttemptRepository,
+                              KafkaTemplate<String, LoginAttemptedEvent> kafkaTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${login.attempts.kafka.topic:login-attempts-topic}") String topic,
+                              @Value("${login.attempts.writer.batch-size:500}") int batchSize,
+                              @Value("${login.attempts.writer.poll-timeout:PT0.2S}") Duration pollTimeout,
+                              @Value("${login.attempts.writer.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.buffer = buffer;
+        this.loginAttemptRepository = loginAttemptRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.pollTimeout = pollTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.writtenCounter = meterRegistry.counter("login.attempts.written");
+        this.writeFailedCounter = meterRegistry.counter("login.attempts.dropped", "reason", "write-failure");
+        this.publishFailedCounter = meterRegistry.counter("login.attempts.publish.failures");
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("login-attempt-writer").daemon().start(this::drainLoop);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        final List<LoginAttemptEntry> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                if (buffer.drainTo(batch, batchSize, pollTimeout) > 0) {
+                    writeBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Сохраняет пакет попыток входа и отправляет события о них.
+     *
+     * @param batch пакет попыток входа
+     */
+    void writeBatch(List<LoginAttemptEntry> batch) {
+        try {
+            loginAttemptRepository.saveAll(batch);
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            writeFailedCounter.increment(batch.size());
+            log.warn("Не удалось сохранить пакет из {} попыток входа: {}", batch.size(), e.getMessage());
+        }
+        for (LoginAttemptEntry entry : batch) {
+            publish(entry);
+        }
+    }
+
+    private void publish(LoginAttemptEntry entry) {
+        final LoginAttemptedEvent event = new LoginAttemptedEvent(
+                entry.getUserId(),
+                entry.getIp(),
+                entry.getUserAgent(),
+                entry.getTimestamp(),
+                entry.isSuccess()
+        );
+        try {
+            kafkaTemplate.send(topic, event).whenComplete((result, e) -> {
+                if (e != null) {
+                    publishFailedCounter.increment();
+                }
+            });
+        } catch (RuntimeException e) {
+            publishFailedCounter.increment();
+            log.warn("Не удалось отправить событие о попытке входа пользователя {}: {}", entry.getUserId(), e.getMessage());
+        }
+    }
+}
@@ -4,10 +4,11 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import ru.katacademy.bank_app.accountservice.domain.entity.Account;
 import ru.katacademy.bank_app.accountservice.domain.enumtype.AccountStatus;
 import ru.katacademy.bank_shared.conventor.AccountNumberConverter;
-import ru.katacademy.bank_shared.conventor.MoneyConverter;
+import ru.katacademy.bank_shared.persistence.EmbeddedMoney;
 import ru.katacademy.bank_shared.valueobject.AccountNumber;
 import ru.katacademy.bank_shared.valueobject.Money;
 
@@ -16,14 +17,24 @@ import java.time.LocalDateTime;
 /**
  * JPA‑сущность для таблицы «accounts».
  * Соответствует доменному объекту {@link Account}.
+ * <p>
+ * Пользователь загружается лениво; там, где он нужен, используется граф {@link #WITH_USER}.
+ * </p>
  */
 @Entity
 @Getter
 @Setter
 @ToString
-@Table(name = "accounts")
+@NamedEntityGraph(name = AccountEntity.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
+@Table(name = "accounts", indexes = {
+        @Index(name = "idx_accounts_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_accounts_user_created_at_id", columnList = "user_id, created_at, id")
+})
 public class AccountEntity {
 
+    /** Граф загрузки аккаунта вместе с пользователем одним запросом. */
+    public static final String WITH_USER = "AccountEntity.withUser";
+
     /** Идентификатор записи в БД. */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -34,15 +45,18 @@ public class AccountEntity {
     @Column(name = "account_number", nullable = false, unique = true)
     private AccountNumber accountNumber;
 
-    /** Пользователь, которому принадлежит аккаунт. */
+    /**
+     * Пользователь, которому принадлежит аккаунт.
+     * Исключён из {@code toString}, чтобы вывод аккаунта не загружал ленивого пользователя.
+     */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
     private UserEntity user;
 
-    /** Баланс аккаунта. */
-    @Convert(converter = MoneyConverter.class)
-    @Column(name = "balance", nullable = false)
-    private Money balance;
+    /** Баланс аккаунта: колонки {@code amount} и {@code currency}. */
+    @Embedded
+    private EmbeddedMoney balance;
 
     /** Статус аккаунта. */
     @Column(name = "status", nullable = false)
@@ -52,14 +66,41 @@ public class AccountEntity {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Версия строки для оптимистической блокировки.
+     * Значение по умолчанию заполняет колонку для уже существующих строк.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public AccountEntity() {
     }
 
     public AccountEntity(AccountNumber accountNumber, UserEntity user, Money balance, AccountStatus status, LocalDateTime createdAt) {
         this.accountNumber = accountNumber;
         this.user = user;
-        this.balance = balance;
+        this.balance = EmbeddedMoney.of(balance);
         this.status = status;
         this.createdAt = createdAt;
     }
+
+    /**
+     * Возвращает баланс аккаунта.
+     *
+     * @return баланс аккаунта
+     */
+    public Money getBalance() {
+        return balance.toMoney();
+    }
+
+    /**
+     * Устанавливает баланс аккаунта.
+     *
+     * @param balance новый баланс аккаунта
+     */
+    public void setBalance(Money balance) {
+        this.balance = EmbeddedMoney.of(balance);
+    }
 }
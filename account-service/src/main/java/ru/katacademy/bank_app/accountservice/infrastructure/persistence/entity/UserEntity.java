@@ -2,10 +2,13 @@ package ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import ru.katacademy.bank_app.accountservice.domain.entity.User;
 import ru.katacademy.bank_app.accountservice.domain.enumtype.UserRole;
+import ru.katacademy.bank_shared.enums.KycStatus;
 import ru.katacademy.bank_shared.conventor.EmailAttributeConverter;
 import ru.katacademy.bank_shared.valueobject.Email;
 
@@ -50,9 +53,33 @@ public class UserEntity {
     @Column(name = "created_at", nullable = false, updatable = false)
     private final LocalDateTime createdAt;
 
-    /** Банковские аккаунты пользователя. */
+    /**
+     * Количество аккаунтов пользователя.
+     * Изменяется только условным {@code UPDATE} при открытии счёта
+     * (см. {@code UserJpaRepository.incrementAccountCount}), поэтому не записывается при сохранении сущности.
+     * {@code null} — счётчик ещё не заполнен (новый пользователь или строка, созданная до появления колонки):
+     * при первом открытии счёта он вычисляется по таблице accounts.
+     */
+    @Column(name = "account_count", insertable = false, updatable = false)
+    private Integer accountCount;
+
+    /**
+     * Статус KYC-верификации пользователя.
+     * Новый пользователь получает {@code PENDING} значением колонки по умолчанию, а дальше статус изменяется
+     * только по событиям kyc-service (см. {@code UserJpaRepository.updateKycStatus}), поэтому не записывается при сохранении сущности.
+     */
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'PENDING'")
+    @Column(name = "kyc_status", nullable = false, length = 16, insertable = false, updatable = false)
+    private KycStatus kycStatus;
+
+    /**
+     * Банковские аккаунты пользователя.
+     * Исключены из {@code toString}, {@code equals} и {@code hashCode}, чтобы они не загружали ленивую коллекцию.
+     */
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<AccountEntity> accounts = new ArrayList<>();
 
     public UserEntity(Long id, UserRole role, String fullName, Email email, String passwordHash, LocalDateTime createdAt) {
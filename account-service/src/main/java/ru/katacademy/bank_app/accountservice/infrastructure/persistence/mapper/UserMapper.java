@@ -32,7 +32,7 @@ public class UserMapper {
      * @return доменный пользователь
      */
     public static User toDomain(UserEntity e) {
-        return new User(
+        final User user = new User(
                 e.getId(),
                 e.getRole(),
                 e.getFullName(),
@@ -40,5 +40,10 @@ public class UserMapper {
                 e.getPasswordHash(),
                 e.getCreatedAt()
         );
+        // только что вставленная сущность не содержит значения колонки по умолчанию
+        if (e.getKycStatus() != null) {
+            user.setKycStatus(e.getKycStatus());
+        }
+        return user;
     }
 }
@@ -0,0 +1,42 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.persistence.projection;
+
+import ru.katacademy.bank_app.accountservice.application.dto.AccountDto;
+import ru.katacademy.bank_app.accountservice.domain.enumtype.AccountStatus;
+import ru.katacademy.bank_shared.persistence.EmbeddedMoney;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+
+import java.math.BigDecimal;
+
+/**
+ * Проекция строки таблицы «accounts» для чтения аккаунта без загрузки сущности.
+ * <p>
+ * Заполняется конструкторным выражением JPQL: выбираются только колонки самой таблицы,
+ * идентификатор пользователя берётся из внешнего ключа {@code user_id}, поэтому пользователь не загружается,
+ * а сущность не попадает в контекст персистентности.
+ * </p>
+ *
+ * @param id            идентификатор аккаунта
+ * @param accountNumber номер аккаунта
+ * @param userId        идентификатор пользователя
+ * @param amount        сумма баланса
+ * @param currency      код валюты баланса
+ * @param status        статус аккаунта
+ */
+public record AccountView(
+        Long id,
+        AccountNumber accountNumber,
+        Long userId,
+        BigDecimal amount,
+        String currency,
+        AccountStatus status
+) {
+
+    /**
+     * Преобразует проекцию в DTO.
+     *
+     * @return DTO аккаунта
+     */
+    public AccountDto toDto() {
+        return new AccountDto(id, accountNumber.value(), userId, EmbeddedMoney.toMoney(amount, currency), status);
+    }
+}
@@ -1,7 +1,12 @@
 package ru.katacademy.bank_app.accountservice.infrastructure.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_app.accountservice.infrastructure.persistence.projection.AccountView;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
 
 import java.util.Optional;
 
@@ -9,6 +14,48 @@ import java.util.Optional;
  * JPA‑репозиторий для {@link AccountEntity}.
  */
 public interface AccountJpaRepository extends JpaRepository<AccountEntity, Long> {
-    long countByUserId(Long userId);
     Optional<AccountEntity> findById(Long id);
+    Optional<AccountEntity> findByAccountNumber(AccountNumber accountNumber);
+
+    /**
+     * Ищет аккаунт вместе с пользователем одним запросом.
+     *
+     * @param id идентификатор аккаунта
+     * @return аккаунт с загруженным пользователем
+     */
+    @EntityGraph(AccountEntity.WITH_USER)
+    @Query("select a from AccountEntity a where a.id = :id")
+    Optional<AccountEntity> findWithUserById(@Param("id") Long id);
+
+    /**
+     * Ищет аккаунт вместе с пользователем одним запросом.
+     *
+     * @param accountNumber номер аккаунта
+     * @return аккаунт с загруженным пользователем
+     */
+    @EntityGraph(AccountEntity.WITH_USER)
+    @Query("select a from AccountEntity a where a.accountNumber = :accountNumber")
+    Optional<AccountEntity> findWithUserByAccountNumber(@Param("accountNumber") AccountNumber accountNumber);
+
+    /**
+     * Читает колонки аккаунта без загрузки сущности и пользователя.
+     *
+     * @param id идентификатор аккаунта
+     * @return проекция аккаунта
+     */
+    @Query("select new ru.katacademy.bank_app.accountservice.infrastructure.persistence.projection.AccountView("
+            + "a.id, a.accountNumber, a.user.id, a.balance.amount, a.balance.currency, a.status) "
+            + "from AccountEntity a where a.id = :id")
+    Optional<AccountView> findViewById(@Param("id") Long id);
+
+    /**
+     * Читает колонки аккаунта без загрузки сущности и пользователя.
+     *
+     * @param accountNumber номер аккаунта
+     * @return проекция аккаунта
+     */
+    @Query("select new ru.katacademy.bank_app.accountservice.infrastructure.persistence.projection.AccountView("
+            + "a.id, a.accountNumber, a.user.id, a.balance.amount, a.balance.currency, a.status) "
+            + "from AccountEntity a where a.accountNumber = :accountNumber")
+    Optional<AccountView> findViewByAccountNumber(@Param("accountNumber") AccountNumber accountNumber);
 }
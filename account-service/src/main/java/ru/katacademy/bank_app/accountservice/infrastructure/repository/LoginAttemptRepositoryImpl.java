@@ -1,10 +1,13 @@
 package ru.katacademy.bank_app.accountservice.infrastructure.repository;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import ru.katacademy.bank_app.accountservice.application.port.out.LoginAttemptRepository;
 import ru.katacademy.bank_app.accountservice.domain.entity.LoginAttemptEntry;
 import ru.katacademy.bank_app.accountservice.infrastructure.persistence.mapper.LoginAttemptEntryMapper;
 
+import java.sql.Timestamp;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,13 +17,19 @@ import java.util.Optional;
 @Component
 public class LoginAttemptRepositoryImpl implements LoginAttemptRepository {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO login_attempts (user_id, email, ip, user_agent, timestamp, success) VALUES (?, ?, ?, ?, ?, ?)";
+
     private final LoginAttemptEntryJpaRepository jpa;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
-     * @param jpa JPA‑репозиторий для entity LoginAttemptEntryEntity
+     * @param jpa          JPA‑репозиторий для entity LoginAttemptEntryEntity
+     * @param jdbcTemplate шаблон JDBC для пакетной вставки
      */
-    public LoginAttemptRepositoryImpl(LoginAttemptEntryJpaRepository jpa) {
+    public LoginAttemptRepositoryImpl(LoginAttemptEntryJpaRepository jpa, JdbcTemplate jdbcTemplate) {
         this.jpa = jpa;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -34,4 +43,17 @@ public class LoginAttemptRepositoryImpl implements LoginAttemptRepository {
         final var saved = jpa.save(entity);
         return LoginAttemptEntryMapper.toDomain(saved);
     }
+
+    /**
+     * Вставляет записи через {@link JdbcTemplate#batchUpdate(String, List)}: при генерации идентификаторов
+     * через {@code IDENTITY} Hibernate вставляет строки по одной, поэтому пакет пишется напрямую в JDBC.
+     */
+    @Override
+    public void saveAll(List<LoginAttemptEntry> attempts) {
+        final List<Object[]> args = attempts.stream()
+                .map(a -> new Object[]{a.getUserId(), a.getEmail(), a.getIp(), a.getUserAgent(),
+                        Timestamp.valueOf(a.getTimestamp()), a.isSuccess()})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
 }
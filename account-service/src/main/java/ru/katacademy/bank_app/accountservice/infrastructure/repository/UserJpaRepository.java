@@ -2,15 +2,63 @@ package ru.katacademy.bank_app.accountservice.infrastructure.repository;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.UserEntity;
+import ru.katacademy.bank_shared.enums.KycStatus;
 import ru.katacademy.bank_shared.valueobject.Email;
 
 import java.util.Optional;
 
 /**
  * JPA‑репозиторий для {@link UserEntity}.
- * Поддерживает поиск по email.
+ * Поддерживает поиск по email, учёт количества аккаунтов и обновление KYC-статуса пользователя.
  */
 public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByEmail(Email email);
+
+    /**
+     * Увеличивает счётчик аккаунтов пользователя, если он меньше лимита.
+     * <p>
+     * Выполняется одним {@code UPDATE} по первичному ключу. Строка пользователя остаётся
+     * заблокированной до конца транзакции, поэтому параллельные открытия счетов одним
+     * пользователем проверяют лимит по очереди.
+     * </p>
+     * <p>
+     * Незаполненный счётчик ({@code NULL}) в том же {@code UPDATE} заменяется числом аккаунтов пользователя
+     * в таблице accounts, поэтому лимит действует и для пользователей, созданных до появления счётчика.
+     * </p>
+     *
+     * @param userId идентификатор пользователя
+     * @param limit  максимальное количество аккаунтов
+     * @return 1, если счётчик увеличен; 0, если лимит достигнут или пользователь не найден
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET account_count = COALESCE(account_count, "
+            + "(SELECT count(*) FROM accounts a WHERE a.user_id = :userId)) + 1 "
+            + "WHERE id = :userId AND COALESCE(account_count, "
+            + "(SELECT count(*) FROM accounts a WHERE a.user_id = :userId)) < :limit",
+            nativeQuery = true)
+    int incrementAccountCount(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * Возвращает KYC-статус пользователя без загрузки сущности.
+     *
+     * @param userId идентификатор пользователя
+     * @return статус или пустой результат, если пользователь не найден
+     */
+    @Query("SELECT u.kycStatus FROM UserEntity u WHERE u.id = :userId")
+    Optional<KycStatus> findKycStatusById(@Param("userId") Long userId);
+
+    /**
+     * Устанавливает KYC-статус пользователя одним {@code UPDATE} без загрузки сущности.
+     *
+     * @param userId идентификатор пользователя
+     * @param status имя нового статуса {@link KycStatus}
+     * @return 1, если статус обновлён; 0, если пользователь не найден
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET kyc_status = :status WHERE id = :userId", nativeQuery = true)
+    int updateKycStatus(@Param("userId") Long userId, @Param("status") String status);
 }
@@ -5,6 +5,7 @@ import ru.katacademy.bank_app.accountservice.application.port.out.UserRepository
 import ru.katacademy.bank_app.accountservice.domain.entity.User;
 import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.UserEntity;
 import ru.katacademy.bank_app.accountservice.infrastructure.persistence.mapper.UserMapper;
+import ru.katacademy.bank_shared.enums.KycStatus;
 import ru.katacademy.bank_shared.valueobject.Email;
 
 import java.util.Optional;
@@ -42,4 +43,9 @@ public class UserRepositoryImpl implements UserRepository {
         final UserEntity saved = jpaRepository.save(entity);
         return toDomain(saved);
     }
+
+    @Override
+    public boolean updateKycStatus(Long id, KycStatus status) {
+        return jpaRepository.updateKycStatus(id, status.name()) > 0;
+    }
 }
@@ -1,5 +1,6 @@
 package ru.katacademy.bank_app.accountservice.presentation.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -7,24 +8,36 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.katacademy.bank_app.accountservice.adapters.web.response.AccountDtoRequest;
 import ru.katacademy.bank_app.accountservice.application.dto.AccountDto;
-
+import ru.katacademy.bank_app.accountservice.application.dto.AccountFilter;
+import ru.katacademy.bank_app.accountservice.domain.enumtype.AccountStatus;
 import ru.katacademy.bank_app.accountservice.domain.service.AccountService;
-import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_shared.exception.KycException;
 import ru.katacademy.bank_shared.exception.MaxAccountsExceededException;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @RestController
 @RequestMapping("/api/accounts")
 @Tag(name = "Account controller", description = "API для управления банковскими счетами")
 public class AccountController {
 
+    /** Тип содержимого выгрузки: один JSON-объект на строку */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final AccountService accountService;
+    private final ObjectMapper objectMapper;
 
-    public AccountController(AccountService accountService) {
+    public AccountController(AccountService accountService, ObjectMapper objectMapper) {
         this.accountService = accountService;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(
@@ -35,7 +48,11 @@ public class AccountController {
             @ApiResponse(
                     responseCode = "201",
                     description = "Счет успешно создан",
-                    content = @Content(schema = @Schema(implementation = AccountEntity.class))
+                    content = @Content(schema = @Schema(implementation = AccountDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Пользователь не прошёл KYC-верификацию"
             ),
             @ApiResponse(
                     responseCode = "500",
@@ -45,17 +62,61 @@ public class AccountController {
     @PostMapping
     public ResponseEntity<?> create(@RequestBody AccountDtoRequest req) {
         try {
-            final AccountEntity accountEntity = accountService.createAccount(req.getUser(), req.getNumber(), req.getInitialBalance());
-            return ResponseEntity.status(HttpStatus.CREATED).body(accountEntity);
+            final AccountDto accountDto = accountService.createAccount(req.getUser(), req.getNumber(), req.getInitialBalance());
+            return ResponseEntity.status(HttpStatus.CREATED).body(accountDto);
         } catch (IllegalArgumentException ex) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
         } catch (MaxAccountsExceededException ex) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        } catch (KycException ex) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(ex.getMessage());
         } catch (Exception ex) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ex.getMessage());
         }
     }
 
+    @Operation(
+            summary = "Список счетов",
+            description = "Возвращает страницу счетов в порядке создания. Для следующей страницы передайте nextCursor из ответа"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Страница счетов"),
+            @ApiResponse(responseCode = "400", description = "Некорректный размер страницы или позиция")
+    })
+    @GetMapping
+    public ResponseEntity<?> list(@RequestParam(required = false) Long userId,
+                                  @RequestParam(required = false) AccountStatus status,
+                                  @RequestParam(required = false) String cursor,
+                                  @RequestParam(defaultValue = "100") int limit) {
+        try {
+            return ResponseEntity.ok(accountService.findAccounts(new AccountFilter(userId, status), cursor, limit));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+        }
+    }
+
+    @Operation(
+            summary = "Выгрузка счетов",
+            description = "Потоково выгружает все счета, подходящие под фильтр, в формате NDJSON"
+    )
+    @ApiResponse(responseCode = "200", description = "Выгрузка счетов")
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false) Long userId,
+                                                        @RequestParam(required = false) AccountStatus status) {
+        final AccountFilter filter = new AccountFilter(userId, status);
+        final StreamingResponseBody body = out -> accountService.exportAccounts(filter, accountDto -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(accountDto));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
     @Operation(summary = "Получить счет по ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Счет найден"),
@@ -68,6 +129,18 @@ public class AccountController {
         return ResponseEntity.ok(accountDto);
     }
 
+    @Operation(summary = "Получить счет по номеру")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Счет найден"),
+            @ApiResponse(responseCode = "404", description = "Счет не найден")
+    })
+    @GetMapping("/by-number/{accountNumber}")
+    public ResponseEntity<AccountDto> getByAccountNumber(@PathVariable String accountNumber) {
+
+        final AccountDto accountDto = accountService.getByAccountNumber(new AccountNumber(accountNumber));
+        return ResponseEntity.ok(accountDto);
+    }
+
     @Operation(summary = "Заблокировать счет")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "Счет заблокирован"),
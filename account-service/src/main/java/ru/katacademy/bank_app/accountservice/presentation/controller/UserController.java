@@ -5,17 +5,23 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import ru.katacademy.bank_app.accountservice.application.dto.LoginUserCommand;
 import ru.katacademy.bank_app.accountservice.application.dto.RegisterUserCommand;
 import ru.katacademy.bank_app.accountservice.application.dto.UserDto;
+import ru.katacademy.bank_app.accountservice.application.service.LoginThrottle;
+import ru.katacademy.bank_app.accountservice.domain.service.LoginAttemptService;
 import ru.katacademy.bank_app.accountservice.domain.service.UserService;
 import ru.katacademy.bank_shared.exception.EmailAlreadyTakenException;
 import ru.katacademy.bank_shared.exception.InvalidEmailException;
+import ru.katacademy.bank_shared.exception.InvalidPasswordException;
 import ru.katacademy.bank_shared.exception.UserNotFoundException;
 
 /**
@@ -24,6 +30,7 @@ import ru.katacademy.bank_shared.exception.UserNotFoundException;
  * <p>Методы:</p>
  * <ul>
  *     <li><b>POST /api/users/register</b> — регистрация нового пользователя</li>
+ *     <li><b>POST /api/users/login</b> — проверка email и пароля при входе</li>
  *     <li><b>GET /api/users/{id}</b> — получение пользователя по ID</li>
  * </ul>
  *
@@ -35,10 +42,14 @@ import ru.katacademy.bank_shared.exception.UserNotFoundException;
 public class UserController {
 
     private final UserService userService;
+    private final LoginAttemptService loginAttemptService;
+    private final LoginThrottle loginThrottle;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, LoginAttemptService loginAttemptService, LoginThrottle loginThrottle) {
         this.userService = userService;
+        this.loginAttemptService = loginAttemptService;
+        this.loginThrottle = loginThrottle;
     }
 
     /**
@@ -64,6 +75,49 @@ public class UserController {
         return new ResponseEntity<>(userDto, HttpStatus.CREATED);
     }
 
+    /**
+     * Проверяет email и пароль пользователя.
+     * <p>
+     * Устаревший хеш пароля пересчитывается при успешном входе (см. {@link UserService#authenticate}).
+     * Каждая попытка входа записывается в журнал попыток входа. После серии неудач для email
+     * или IP-адреса вход отклоняется с 429 без проверки пароля (см. {@link LoginThrottle}).
+     * </p>
+     *
+     * @param cmd     email и пароль
+     * @param request HTTP-запрос: IP-адрес и User-Agent для журнала попыток входа
+     * @return DTO пользователя, 401, если email или пароль неверные, или 429, если попытки входа исчерпаны
+     */
+    @Operation(summary = "Вход пользователя", description = "Проверяет email и пароль пользователя.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Email и пароль верные",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = UserDto.class))),
+            @ApiResponse(responseCode = "400", description = "Ошибка валидации входных данных",
+                    content = @Content),
+            @ApiResponse(responseCode = "401", description = "Неверный email или пароль",
+                    content = @Content),
+            @ApiResponse(responseCode = "429", description = "Слишком много неудачных попыток входа",
+                    content = @Content)
+    })
+    @PostMapping("/login")
+    public ResponseEntity<UserDto> login(@Valid @RequestBody LoginUserCommand cmd, HttpServletRequest request) {
+        final String ip = request.getRemoteAddr();
+        final String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        if (loginThrottle.isBlocked(cmd.email(), ip)) {
+            loginAttemptService.recordLoginAttempt(null, cmd.email(), ip, userAgent, false);
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        try {
+            final UserDto userDto = userService.authenticate(cmd.email(), cmd.password());
+            loginThrottle.recordSuccess(cmd.email());
+            loginAttemptService.recordLoginAttempt(userDto.id(), cmd.email(), ip, userAgent, true);
+            return ResponseEntity.ok(userDto);
+        } catch (InvalidPasswordException e) {
+            loginThrottle.recordFailure(cmd.email(), ip);
+            loginAttemptService.recordLoginAttempt(null, cmd.email(), ip, userAgent, false);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
     /**
      * Получает пользователя по ID.
      *
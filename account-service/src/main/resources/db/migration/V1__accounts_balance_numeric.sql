@@ -0,0 +1,34 @@
+-- Перенос баланса счетов из строкового формата MoneyConverter ("1500.00|RUB:Российский рубль:2")
+-- в колонки amount NUMERIC(19, 4) и currency CHAR(3) (см. bank_shared.persistence.EmbeddedMoney).
+-- Выполняется Flyway при запуске account-service. На пустой базе таблицы accounts ещё нет: её создаёт
+-- Hibernate уже в новом формате, поэтому скрипт ничего не делает. Скрипт можно выполнять повторно.
+
+DO $$
+BEGIN
+    IF to_regclass('accounts') IS NULL THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE accounts ADD COLUMN IF NOT EXISTS amount NUMERIC(19, 4);
+    ALTER TABLE accounts ADD COLUMN IF NOT EXISTS currency CHAR(3);
+
+    IF EXISTS (SELECT 1
+               FROM information_schema.columns
+               WHERE table_name = 'accounts' AND column_name = 'balance') THEN
+        UPDATE accounts
+        SET amount   = CAST(split_part(balance, '|', 1) AS NUMERIC(19, 4)),
+            currency = upper(split_part(split_part(balance, '|', 2), ':', 1))
+        WHERE amount IS NULL;
+
+        ALTER TABLE accounts DROP COLUMN balance;
+    END IF;
+
+    ALTER TABLE accounts ALTER COLUMN amount SET NOT NULL;
+    ALTER TABLE accounts ALTER COLUMN currency SET NOT NULL;
+
+    ALTER TABLE accounts DROP CONSTRAINT IF EXISTS accounts_amount_non_negative;
+    ALTER TABLE accounts ADD CONSTRAINT accounts_amount_non_negative CHECK (amount >= 0);
+
+    -- Колонка версии для оптимистической блокировки (AccountEntity.version)
+    ALTER TABLE accounts ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+END $$;
@@ -0,0 +1,23 @@
+-- Счётчик аккаунтов пользователя (UserEntity.accountCount) для проверки лимита аккаунтов
+-- одним условным UPDATE вместо подсчёта строк accounts при каждом открытии счёта.
+-- NULL означает «ещё не посчитан»: UserJpaRepository.incrementAccountCount заполняет такой счётчик
+-- по таблице accounts при первом открытии счёта. Счётчик пересчитывается для всех пользователей:
+-- колонку могла раньше добавить Hibernate (ddl-auto: update) со значением 0 у существующих пользователей.
+-- На пустой базе скрипт ничего не делает. Скрипт можно выполнять повторно.
+
+DO $$
+BEGIN
+    IF to_regclass('users') IS NULL OR to_regclass('accounts') IS NULL THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE users ADD COLUMN IF NOT EXISTS account_count INTEGER;
+    ALTER TABLE users ALTER COLUMN account_count DROP NOT NULL;
+    ALTER TABLE users ALTER COLUMN account_count DROP DEFAULT;
+
+    UPDATE users u
+    SET account_count = (SELECT count(*) FROM accounts a WHERE a.user_id = u.id);
+
+    ALTER TABLE users DROP CONSTRAINT IF EXISTS users_account_count_non_negative;
+    ALTER TABLE users ADD CONSTRAINT users_account_count_non_negative CHECK (account_count >= 0);
+END $$;
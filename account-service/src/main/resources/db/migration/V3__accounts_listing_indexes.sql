@@ -0,0 +1,14 @@
+-- Индексы для постраничного (keyset) списка аккаунтов в порядке (created_at, id),
+-- в том числе с фильтром по пользователю (см. AccountRepositoryImpl.findPage).
+-- На пустой базе индексы создаёт Hibernate вместе с таблицей (AccountEntity), и скрипт ничего не делает.
+-- Скрипт можно выполнять повторно.
+
+DO $$
+BEGIN
+    IF to_regclass('accounts') IS NULL THEN
+        RETURN;
+    END IF;
+
+    CREATE INDEX IF NOT EXISTS idx_accounts_created_at_id ON accounts (created_at, id);
+    CREATE INDEX IF NOT EXISTS idx_accounts_user_created_at_id ON accounts (user_id, created_at, id);
+END $$;
@@ -0,0 +1,18 @@
+-- KYC-статус пользователя (UserEntity.kycStatus). Регистрация больше не ждёт ответа kyc-service:
+-- новый пользователь получает PENDING, а решение приходит событием из топика kyc-events.
+-- Уже зарегистрированные пользователи прошли синхронную проверку, поэтому считаются одобренными.
+-- На пустой базе скрипт ничего не делает. Скрипт можно выполнять повторно.
+
+DO $$
+BEGIN
+    IF to_regclass('users') IS NULL THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE users ADD COLUMN IF NOT EXISTS kyc_status VARCHAR(16);
+
+    UPDATE users SET kyc_status = 'APPROVED' WHERE kyc_status IS NULL;
+
+    ALTER TABLE users ALTER COLUMN kyc_status SET DEFAULT 'PENDING';
+    ALTER TABLE users ALTER COLUMN kyc_status SET NOT NULL;
+END $$;
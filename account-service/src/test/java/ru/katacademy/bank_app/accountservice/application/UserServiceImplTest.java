@@ -2,23 +2,25 @@ package ru.katacademy.bank_app.accountservice.application;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import ru.katacademy.bank_app.accountservice.application.command.ChangePasswordCommand;
-import ru.katacademy.bank_app.accountservice.application.dto.KycRequestDTO;
 import ru.katacademy.bank_app.accountservice.application.dto.PasswordChangedEvent;
 import ru.katacademy.bank_app.accountservice.application.dto.RegisterUserCommand;
 import ru.katacademy.bank_app.accountservice.application.dto.UserDto;
+import ru.katacademy.bank_app.accountservice.application.port.out.TokenRevocationPublisher;
 import ru.katacademy.bank_app.accountservice.application.port.out.UserRepository;
+import ru.katacademy.bank_app.accountservice.application.service.PasswordHashingService;
 import ru.katacademy.bank_app.accountservice.application.service.UserServiceImpl;
 import ru.katacademy.bank_app.accountservice.domain.entity.User;
 import ru.katacademy.bank_shared.enums.KycStatus;
 import ru.katacademy.bank_app.accountservice.domain.enumtype.UserRole;
 import ru.katacademy.bank_app.accountservice.domain.mapper.UserMapper;
-import ru.katacademy.bank_shared.exception.KycServiceUnavailableException;
-import ru.katacademy.bank_app.accountservice.infrastructure.client.KycClient;
 import ru.katacademy.bank_app.accountservice.infrastructure.messaging.PasswordChangeEventPublisher;
 import ru.katacademy.bank_shared.exception.DomainException;
 import ru.katacademy.bank_shared.exception.EmailAlreadyTakenException;
@@ -26,6 +28,8 @@ import ru.katacademy.bank_shared.exception.InvalidPasswordException;
 import ru.katacademy.bank_shared.exception.UserNotFoundException;
 import ru.katacademy.bank_shared.valueobject.Email;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -41,6 +45,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class UserServiceImplTest {
 
+    private static final int HASHING_COST = 5;
+
     @Mock
     private UserRepository userRepository;
 
@@ -51,7 +57,11 @@ class UserServiceImplTest {
     private PasswordChangeEventPublisher eventPublisher;
 
     @Mock
-    private KycClient kycClient;
+    private TokenRevocationPublisher tokenRevocationPublisher;
+
+    @Spy
+    private PasswordHashingService passwordHashingService =
+            new PasswordHashingService(new BCryptPasswordEncoder(HASHING_COST), Runnable::run, Duration.ofSeconds(5));
 
     @InjectMocks
     private UserServiceImpl userService;
@@ -72,15 +82,11 @@ class UserServiceImplTest {
                 newUser.getEmail(), newUser.getPasswordHash(),
                 newUser.getCreatedAt());
 
-        final UserDto expectedDto = new UserDto(1L, fullName, email, UserRole.USER);
-
-        final KycRequestDTO kycRequestDTO = new KycRequestDTO(1L, KycStatus.APPROVED);
+        final UserDto expectedDto = new UserDto(1L, fullName, email, UserRole.USER, KycStatus.PENDING);
 
         when(userRepository.findByEmail(any(Email.class))).thenReturn(Optional.empty());
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
         when(userMapper.toDto(savedUser)).thenReturn(expectedDto);
-        when(kycClient.getKyc(anyLong())).thenReturn(kycRequestDTO);
-
 
         final UserDto result = userService.register(cmd);
 
@@ -128,7 +134,8 @@ class UserServiceImplTest {
                 userId,
                 testFullName,
                 testEmail,  // Должно совпадать с user.getEmail().value()
-                testRole
+                testRole,
+                KycStatus.APPROVED
         );
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
@@ -177,6 +184,7 @@ class UserServiceImplTest {
         verify(userRepository).save(user);
         assertThat(BCrypt.checkpw(newPassword, user.getPasswordHash())).isTrue();
         verify(eventPublisher).publish(any(PasswordChangedEvent.class));
+        verify(tokenRevocationPublisher).revokeUserTokens(eq(userId), any(Instant.class));
     }
 
     // Тест проверяет, что метод changePassword() выбрасывает исключение InvalidPasswordException,
@@ -233,69 +241,101 @@ class UserServiceImplTest {
                 .hasMessageContaining("Пароль должен состоять не менее чем из 8 символов");
     }
 
+    // Регистрация не ждёт KYC-верификации: пользователь сохраняется со статусом PENDING
     @Test
-    void register_success_whenKycApproved() throws DomainException {
+    void register_ShouldSaveUserWithPendingKyc() throws DomainException {
+        final var command = new RegisterUserCommand("Test Testov", "pending@test.com", "Password123");
 
-        final var command = new RegisterUserCommand("Test Testov", "approved@test.com", "Password123");
-
-        // Мокаем поиск пользователя по email
         when(userRepository.findByEmail(any())).thenReturn(Optional.empty());
+        when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArguments()[0]);
 
-        // Мокаем сохранение пользователя, присваивая ID
-        final User savedUser = new User(
-                1L,
-                UserRole.USER,
-                command.fullName(),
-                new Email(command.email()),
-                "hashedPassword",
-                LocalDateTime.now()
-        );
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
+        userService.register(command);
 
-        // Мокаем KYC
-        when(kycClient.getKyc(1L)).thenReturn(new KycRequestDTO(1L, KycStatus.APPROVED));
+        final ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        assertEquals(KycStatus.PENDING, saved.getValue().getKycStatus());
+    }
 
-        // Мокаем маппинг User -> UserDto
-        final UserDto userDtoMock = new UserDto(
-                1L,
-                command.fullName(),
-                command.email(),
-                UserRole.USER
-        );
-        when(userMapper.toDto(savedUser)).thenReturn(userDtoMock);
+    // Проверяем применение KYC-статуса, полученного из kyc-service
+    @Test
+    void updateKycStatus_ShouldUpdateStatus_WhenUserExists() {
+        when(userRepository.updateKycStatus(1L, KycStatus.APPROVED)).thenReturn(true);
 
-        // Вызов сервиса
-        final var userDto = userService.register(command);
+        userService.updateKycStatus(1L, KycStatus.APPROVED);
 
-        // Проверки
-        assertNotNull(userDto);
-        assertEquals(1L, userDto.id());
-        assertEquals("approved@test.com", userDto.email());
-        assertEquals(UserRole.USER, userDto.role());
+        verify(userRepository).updateKycStatus(1L, KycStatus.APPROVED);
     }
 
+    // KYC-статус неизвестного пользователя не применяется
     @Test
-    void register_fails_whenKycRejected() {
-        when(userRepository.findByEmail(any())).thenReturn(Optional.empty());
-        when(userRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
-        when(kycClient.getKyc(null)).thenReturn(new KycRequestDTO(1L, KycStatus.REJECTED));
+    void updateKycStatus_ShouldThrowUserNotFoundException_WhenUserNotExists() {
+        when(userRepository.updateKycStatus(999L, KycStatus.REJECTED)).thenReturn(false);
+
+        assertThatThrownBy(() -> userService.updateKycStatus(999L, KycStatus.REJECTED))
+                .isInstanceOf(UserNotFoundException.class)
+                .hasMessageContaining("Пользователь с id 999 не найден");
+    }
+
+    // Отличие нового пароля от старого проверяется без повторной проверки BCrypt
+    @Test
+    void changePassword_ShouldVerifyPasswordHashOnce() {
+        final User user = new User(1L, UserRole.USER, fullName,
+                new Email(email), BCrypt.hashpw(password, BCrypt.gensalt(HASHING_COST)), LocalDateTime.now());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
-        final var command = new RegisterUserCommand("Test Testov", "rejected@test.com", "Password123");
+        userService.changePassword(new ChangePasswordCommand(1L, password, "newValid123"));
 
-        final DomainException ex = assertThrows(DomainException.class, () -> userService.register(command));
-        assert ex.getMessage().equals("User is not KYC-verified");
+        verify(passwordHashingService, times(1)).matches(anyString(), anyString());
+        verify(passwordHashingService, times(1)).hash("newValid123");
     }
 
+    // Хеш с устаревшей стоимостью пересчитывается при успешном входе
     @Test
-    void register_fails_whenKycServiceUnavailable() {
-        when(userRepository.findByEmail(any())).thenReturn(Optional.empty());
-        when(userRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
-        when(kycClient.getKyc(null)).thenThrow(new KycServiceUnavailableException("Verification service temporarily unavailable"));
+    void authenticate_ShouldRehashPassword_WhenCostIsOutdated() {
+        final String weakHash = BCrypt.hashpw(password, BCrypt.gensalt(HASHING_COST - 1));
+        final User user = new User(1L, UserRole.USER, fullName, new Email(email), weakHash, LocalDateTime.now());
+        when(userRepository.findByEmail(new Email(email))).thenReturn(Optional.of(user));
+
+        userService.authenticate(email, password);
+
+        verify(userRepository).save(user);
+        assertThat(user.getPasswordHash()).isNotEqualTo(weakHash).startsWith("$2a$0" + HASHING_COST + "$");
+        assertThat(BCrypt.checkpw(password, user.getPasswordHash())).isTrue();
+    }
 
-        final var command = new RegisterUserCommand("Test Testov", "fail@test.com", "Password123");
+    // Хеш с текущей стоимостью не пересчитывается
+    @Test
+    void authenticate_ShouldNotRehashPassword_WhenCostIsCurrent() {
+        final User user = new User(1L, UserRole.USER, fullName,
+                new Email(email), BCrypt.hashpw(password, BCrypt.gensalt(HASHING_COST)), LocalDateTime.now());
+        when(userRepository.findByEmail(new Email(email))).thenReturn(Optional.of(user));
+
+        userService.authenticate(email, password);
+
+        verify(userRepository, never()).save(any());
+        verify(passwordHashingService, never()).hash(anyString());
+    }
+
+    // Неверный пароль отклоняется, хеш не пересчитывается
+    @Test
+    void authenticate_ShouldThrowInvalidPasswordException_WhenPasswordIsWrong() {
+        final User user = new User(1L, UserRole.USER, fullName,
+                new Email(email), BCrypt.hashpw(password, BCrypt.gensalt(HASHING_COST - 1)), LocalDateTime.now());
+        when(userRepository.findByEmail(new Email(email))).thenReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> userService.authenticate(email, "wrongPass123"))
+                .isInstanceOf(InvalidPasswordException.class);
+        verify(userRepository, never()).save(any());
+    }
+
+    // Для неизвестного email пароль тоже проверяется BCrypt, чтобы время ответа не выдавало зарегистрированные адреса
+    @Test
+    void authenticate_ShouldCheckDummyHash_WhenEmailIsUnknown() {
+        when(userRepository.findByEmail(new Email(email))).thenReturn(Optional.empty());
 
-        final KycServiceUnavailableException ex = assertThrows(KycServiceUnavailableException.class,
-                () -> userService.register(command));
-        assert ex.getMessage().equals("Verification service temporarily unavailable");
+        assertThatThrownBy(() -> userService.authenticate(email, password))
+                .isInstanceOf(InvalidPasswordException.class);
+        verify(passwordHashingService).matchDummy(password);
+        verify(passwordHashingService).matches(eq(password), anyString());
     }
-}
\ No newline at end of file
+}
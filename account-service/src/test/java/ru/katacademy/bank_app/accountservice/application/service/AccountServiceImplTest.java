@@ -0,0 +1,156 @@
+package ru.katacademy.bank_app.accountservice.application.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountCursor;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountDto;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountFilter;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountPageDto;
+import ru.katacademy.bank_app.accountservice.application.port.out.AccountRepository;
+import ru.katacademy.bank_app.accountservice.domain.entity.Account;
+import ru.katacademy.bank_app.accountservice.domain.enumtype.AccountStatus;
+import ru.katacademy.bank_app.accountservice.domain.enumtype.UserRole;
+import ru.katacademy.bank_app.accountservice.domain.mapper.AccountMapper;
+import ru.katacademy.bank_app.accountservice.infrastructure.cache.AccountReadCache;
+import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.UserEntity;
+import ru.katacademy.bank_app.accountservice.infrastructure.repository.AccountJpaRepository;
+import ru.katacademy.bank_app.accountservice.infrastructure.repository.UserJpaRepository;
+import ru.katacademy.bank_shared.enums.KycStatus;
+import ru.katacademy.bank_shared.exception.KycException;
+import ru.katacademy.bank_shared.exception.MaxAccountsExceededException;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Email;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тестовый класс для {@link AccountServiceImpl}.
+ * Проверяет, что счёт открывается только пользователю с одобренным KYC,
+ * лимит аккаунтов пользователя проверяется условным увеличением счётчика,
+ * а аккаунт сохраняется только при успешном увеличении,
+ * и что список аккаунтов разбивается на страницы по позиции последнего аккаунта.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountServiceImplTest {
+
+    @Mock
+    private AccountJpaRepository accountJpaRepository;
+
+    @Mock
+    private UserJpaRepository userJpaRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountMapper accountMapper;
+
+    @Mock
+    private AccountReadCache accountReadCache;
+
+    @InjectMocks
+    private AccountServiceImpl accountService;
+
+    private final UserEntity user = new UserEntity(1L, UserRole.USER, "Иван Иванов",
+            new Email("ivan@mail.ru"), "hash", LocalDateTime.now());
+    private final AccountNumber accountNumber = new AccountNumber("00000000000000000018");
+    private final Money balance = new Money(BigDecimal.ZERO, Currency.ofCode("RUB"));
+
+    @Test
+    void createAccount_ShouldSaveAccountWhenCounterIncremented() {
+        when(userJpaRepository.findKycStatusById(1L)).thenReturn(Optional.of(KycStatus.APPROVED));
+        when(userJpaRepository.incrementAccountCount(1L, AccountServiceImpl.MAX_ACCOUNTS_PER_USER)).thenReturn(1);
+        when(accountJpaRepository.save(any(AccountEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final AccountDto created = accountService.createAccount(user, accountNumber, balance);
+
+        assertEquals(user.getId(), created.userId());
+        assertEquals(accountNumber.value(), created.accountNumber());
+        verify(accountJpaRepository).save(any(AccountEntity.class));
+    }
+
+    @Test
+    void createAccount_ShouldRejectWhenLimitReached() {
+        when(userJpaRepository.findKycStatusById(1L)).thenReturn(Optional.of(KycStatus.APPROVED));
+        when(userJpaRepository.incrementAccountCount(1L, AccountServiceImpl.MAX_ACCOUNTS_PER_USER)).thenReturn(0);
+
+        assertThrows(MaxAccountsExceededException.class, () -> accountService.createAccount(user, accountNumber, balance));
+        verify(accountJpaRepository, never()).save(any());
+    }
+
+    @Test
+    void createAccount_ShouldRejectUnknownUser() {
+        when(userJpaRepository.findKycStatusById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> accountService.createAccount(user, accountNumber, balance));
+        verify(userJpaRepository, never()).incrementAccountCount(any(), anyInt());
+        verify(accountJpaRepository, never()).save(any());
+    }
+
+    @Test
+    void createAccount_ShouldRejectUserWithoutApprovedKyc() {
+        when(userJpaRepository.findKycStatusById(1L)).thenReturn(Optional.of(KycStatus.PENDING));
+
+        assertThrows(KycException.class, () -> accountService.createAccount(user, accountNumber, balance));
+        verify(userJpaRepository, never()).incrementAccountCount(any(), anyInt());
+        verify(accountJpaRepository, never()).save(any());
+    }
+
+    @Test
+    void findAccounts_ShouldReturnNextCursorWhenMoreAccountsExist() {
+        final AccountFilter filter = new AccountFilter(1L, AccountStatus.ACTIVE);
+        final LocalDateTime createdAt = LocalDateTime.of(2025, 6, 1, 12, 0);
+        when(accountRepository.findPage(filter, null, 3)).thenReturn(List.of(
+                account(10L, createdAt), account(11L, createdAt), account(12L, createdAt.plusSeconds(1))));
+
+        final AccountPageDto page = accountService.findAccounts(filter, null, 2);
+
+        assertEquals(2, page.items().size());
+        assertEquals(new AccountCursor(createdAt, 11L), AccountCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void findAccounts_ShouldContinueAfterCursorAndStopOnLastPage() {
+        final AccountFilter filter = new AccountFilter(null, null);
+        final AccountCursor after = new AccountCursor(LocalDateTime.of(2025, 6, 1, 12, 0), 11L);
+        when(accountRepository.findPage(filter, after, 3))
+                .thenReturn(List.of(account(12L, after.createdAt().plusSeconds(1))));
+
+        final AccountPageDto page = accountService.findAccounts(filter, after.encode(), 2);
+
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void findAccounts_ShouldRejectCorruptCursorAndInvalidLimit() {
+        final AccountFilter filter = new AccountFilter(null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> accountService.findAccounts(filter, "not-a-cursor", 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> accountService.findAccounts(filter, null, AccountServiceImpl.MAX_PAGE_SIZE + 1));
+        verify(accountRepository, never()).findPage(any(), any(), anyInt());
+    }
+
+    private Account account(Long id, LocalDateTime createdAt) {
+        return new Account(id, user, accountNumber, balance, AccountStatus.ACTIVE, createdAt);
+    }
+}
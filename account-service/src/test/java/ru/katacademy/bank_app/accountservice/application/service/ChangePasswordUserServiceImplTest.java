@@ -6,16 +6,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import ru.katacademy.bank_app.accountservice.application.command.ChangePasswordCommand;
 import ru.katacademy.bank_app.accountservice.application.dto.PasswordChangedEvent;
 import ru.katacademy.bank_app.accountservice.domain.entity.User;
 import ru.katacademy.bank_app.accountservice.domain.enumtype.UserRole;
 import ru.katacademy.bank_app.accountservice.domain.mapper.UserMapper;
+import ru.katacademy.bank_app.accountservice.application.port.out.TokenRevocationPublisher;
 import ru.katacademy.bank_app.accountservice.application.port.out.UserRepository;
 import ru.katacademy.bank_app.accountservice.infrastructure.messaging.PasswordChangeEventPublisher;
 import ru.katacademy.bank_shared.valueobject.Email;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -45,6 +50,13 @@ public class ChangePasswordUserServiceImplTest {
     @Mock
     private PasswordChangeEventPublisher passwordChangeEventPublisher;
 
+    @Mock
+    private TokenRevocationPublisher tokenRevocationPublisher;
+
+    @Spy
+    private PasswordHashingService passwordHashingService =
+            new PasswordHashingService(new BCryptPasswordEncoder(), Runnable::run, Duration.ofSeconds(5));
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -106,5 +118,8 @@ public class ChangePasswordUserServiceImplTest {
         // Старый хеш НЕ соответствует новому паролю
         assertFalse(BCrypt.checkpw(newPassword, event.getOldPassword()),
                 "Старый хеш не должен совпадать с новым паролем");
+
+        // Токены, выпущенные до смены пароля, отозваны
+        verify(tokenRevocationPublisher).revokeUserTokens(eq(userId), any(Instant.class));
     }
 }
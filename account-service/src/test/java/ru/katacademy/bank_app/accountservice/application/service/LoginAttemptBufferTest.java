@@ -0,0 +1,75 @@
+package ru.katacademy.bank_app.accountservice.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ru.katacademy.bank_app.accountservice.domain.entity.LoginAttemptEntry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тестовый класс для {@link LoginAttemptBuffer}.
+ * Проверяет обе политики переполнения, счётчик отброшенных записей и извлечение пакетов.
+ */
+class LoginAttemptBufferTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void offer_ShouldEvictOldest_WhenDropOldestAndFull() throws InterruptedException {
+        final LoginAttemptBuffer buffer = buffer(LoginAttemptBuffer.OverflowPolicy.DROP_OLDEST);
+
+        assertThat(buffer.offer(attempt(1L))).isTrue();
+        assertThat(buffer.offer(attempt(2L))).isTrue();
+        assertThat(buffer.offer(attempt(3L))).isTrue();
+
+        final List<LoginAttemptEntry> batch = new ArrayList<>();
+        assertThat(buffer.drainTo(batch, 10, Duration.ZERO)).isEqualTo(2);
+        assertThat(batch).extracting(LoginAttemptEntry::getUserId).containsExactly(2L, 3L);
+        assertThat(dropped()).isEqualTo(1.0);
+    }
+
+    @Test
+    void offer_ShouldRejectNewest_WhenBlockTimesOut() throws InterruptedException {
+        final LoginAttemptBuffer buffer = buffer(LoginAttemptBuffer.OverflowPolicy.BLOCK);
+
+        assertThat(buffer.offer(attempt(1L))).isTrue();
+        assertThat(buffer.offer(attempt(2L))).isTrue();
+        assertThat(buffer.offer(attempt(3L))).isFalse();
+
+        final List<LoginAttemptEntry> batch = new ArrayList<>();
+        buffer.drainTo(batch, 10, Duration.ZERO);
+        assertThat(batch).extracting(LoginAttemptEntry::getUserId).containsExactly(1L, 2L);
+        assertThat(dropped()).isEqualTo(1.0);
+    }
+
+    @Test
+    void drainTo_ShouldLimitBatchSize() throws InterruptedException {
+        final LoginAttemptBuffer buffer = buffer(LoginAttemptBuffer.OverflowPolicy.DROP_OLDEST);
+        buffer.offer(attempt(1L));
+        buffer.offer(attempt(2L));
+
+        final List<LoginAttemptEntry> batch = new ArrayList<>();
+        assertThat(buffer.drainTo(batch, 1, Duration.ZERO)).isEqualTo(1);
+        assertThat(buffer.isEmpty()).isFalse();
+        assertThat(buffer.drainTo(batch, 1, Duration.ZERO)).isEqualTo(1);
+        assertThat(buffer.drainTo(batch, 1, Duration.ofMillis(10))).isZero();
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    private LoginAttemptBuffer buffer(LoginAttemptBuffer.OverflowPolicy policy) {
+        return new LoginAttemptBuffer(2, policy, Duration.ofMillis(10), meterRegistry);
+    }
+
+    private double dropped() {
+        return meterRegistry.get("login.attempts.dropped").tag("reason", "overflow").counter().count();
+    }
+
+    private LoginAttemptEntry attempt(Long userId) {
+        return new LoginAttemptEntry(userId, "user@mail.com", "10.0.0.1", "Chrome", LocalDateTime.now(), true);
+    }
+}
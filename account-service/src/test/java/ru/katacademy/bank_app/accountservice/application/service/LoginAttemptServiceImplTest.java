@@ -2,34 +2,27 @@ package ru.katacademy.bank_app.accountservice.application.service;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
 import ru.katacademy.bank_app.accountservice.domain.entity.LoginAttemptEntry;
-import ru.katacademy.bank_app.accountservice.domain.events.LoginAttemptedEvent;
-import ru.katacademy.bank_app.accountservice.application.port.out.LoginAttemptRepository;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 
 /**
  * Тестовый класс для {@link LoginAttemptServiceImpl} - сервиса записи попыток входа.
  * Проверяет корректность работы метода записи попыток аутентификации.
  * Проверяет что:
- * 1. Сервис корректно вызывает метод save репозитория
- * 2. Создает запись о попытке входа с правильными параметрами
- * 3. Отправляет событие о попытке входа в Kafka-топик
+ * 1. Сервис создает запись о попытке входа с правильными параметрами
+ * 2. Передает запись в буфер фоновой записи, а не в репозиторий
  */
 @ExtendWith(MockitoExtension.class)
 class LoginAttemptServiceImplTest {
 
     @Mock
-    private LoginAttemptRepository loginAttemptRepository;
-
-    @Mock
-    private KafkaTemplate<String, LoginAttemptedEvent> kafkaTemplate;
+    private LoginAttemptBuffer loginAttemptBuffer;
 
     @InjectMocks
     private LoginAttemptServiceImpl loginAttemptService;
@@ -37,9 +30,8 @@ class LoginAttemptServiceImplTest {
     /**
      * Тест записи попытки входа.
      * Проверяет что:
-     * 1. Сервис корректно вызывает метод save репозитория
-     * 2. Передает объект попытки входа в репозиторий
-     * 3. Отправляет событие в Kafka
+     * 1. Сервис помещает попытку входа в буфер
+     * 2. Запись содержит переданные параметры и временную метку
      */
     @Test
     void recordLoginAttempt_ShouldRegisterLoginAttempt() {
@@ -51,7 +43,15 @@ class LoginAttemptServiceImplTest {
         final boolean success = true;
 
         loginAttemptService.recordLoginAttempt(userId, email, ip, userAgent, success);
-        verify(loginAttemptRepository).save(any(LoginAttemptEntry.class));
-        verify(kafkaTemplate).send(eq("login-attempts-topic"), any(LoginAttemptedEvent.class));
+
+        final ArgumentCaptor<LoginAttemptEntry> captor = ArgumentCaptor.forClass(LoginAttemptEntry.class);
+        verify(loginAttemptBuffer).offer(captor.capture());
+        final LoginAttemptEntry entry = captor.getValue();
+        assertThat(entry.getUserId()).isEqualTo(userId);
+        assertThat(entry.getEmail()).isEqualTo(email);
+        assertThat(entry.getIp()).isEqualTo(ip);
+        assertThat(entry.getUserAgent()).isEqualTo(userAgent);
+        assertThat(entry.isSuccess()).isTrue();
+        assertThat(entry.getTimestamp()).isNotNull();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package ru.katacademy.bank_app.accountservice.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тестовый класс для {@link LoginThrottle}.
+ * Проверяет блокировку по email и по IP-адресу и сброс счётчика email после успешного входа.
+ */
+class LoginThrottleTest {
+
+    private final LoginThrottle throttle = new LoginThrottle(Duration.ofMinutes(15), 3, 5, 1000);
+
+    @Test
+    void isBlocked_ShouldBlockEmail_WhenFailuresReachLimit() {
+        throttle.recordFailure("user@mail.ru", "10.0.0.1");
+        throttle.recordFailure("user@mail.ru", "10.0.0.2");
+        assertThat(throttle.isBlocked("user@mail.ru", "10.0.0.3")).isFalse();
+
+        throttle.recordFailure("User@Mail.ru ", "10.0.0.3");
+
+        assertThat(throttle.isBlocked("user@mail.ru", "10.0.0.4")).isTrue();
+        assertThat(throttle.isBlocked("other@mail.ru", "10.0.0.4")).isFalse();
+    }
+
+    @Test
+    void isBlocked_ShouldBlockIp_WhenFailuresForDifferentEmailsReachLimit() {
+        for (int i = 0; i < 5; i++) {
+            throttle.recordFailure("user" + i + "@mail.ru", "10.0.0.1");
+        }
+
+        assertThat(throttle.isBlocked("new@mail.ru", "10.0.0.1")).isTrue();
+        assertThat(throttle.isBlocked("new@mail.ru", "10.0.0.2")).isFalse();
+    }
+
+    @Test
+    void recordSuccess_ShouldResetEmailFailures() {
+        throttle.recordFailure("user@mail.ru", "10.0.0.1");
+        throttle.recordFailure("user@mail.ru", "10.0.0.1");
+
+        throttle.recordSuccess("user@mail.ru");
+        throttle.recordFailure("user@mail.ru", "10.0.0.1");
+
+        assertThat(throttle.isBlocked("user@mail.ru", "10.0.0.2")).isFalse();
+    }
+}
@@ -0,0 +1,59 @@
+package ru.katacademy.bank_app.accountservice.application.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import ru.katacademy.bank_shared.exception.ServiceOverloadedException;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Тестовый класс для {@link PasswordHashingService}.
+ * Проверяет хеширование и проверку паролей, определение устаревшей стоимости хеша
+ * и отказ при перегрузке пула хеширования.
+ */
+class PasswordHashingServiceTest {
+
+    private static final int COST = 5;
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(COST);
+
+    @Test
+    void hashAndMatches_ShouldRunOnExecutor() {
+        final PasswordHashingService service = new PasswordHashingService(encoder, Runnable::run, Duration.ofSeconds(5));
+
+        final String hash = service.hash("password123");
+
+        assertThat(service.matches("password123", hash)).isTrue();
+        assertThat(service.matches("password124", hash)).isFalse();
+    }
+
+    @Test
+    void needsRehash_ShouldDetectOutdatedCost() {
+        final PasswordHashingService service = new PasswordHashingService(encoder, Runnable::run, Duration.ofSeconds(5));
+
+        assertThat(service.needsRehash(BCrypt.hashpw("password123", BCrypt.gensalt(COST - 1)))).isTrue();
+        assertThat(service.needsRehash(BCrypt.hashpw("password123", BCrypt.gensalt(COST)))).isFalse();
+    }
+
+    @Test
+    void hash_ShouldThrowServiceOverloaded_WhenTaskRejected() {
+        final PasswordHashingService service = new PasswordHashingService(encoder, task -> {
+            throw new RejectedExecutionException("Очередь заполнена");
+        }, Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> service.hash("password123")).isInstanceOf(ServiceOverloadedException.class);
+    }
+
+    @Test
+    void matches_ShouldThrowServiceOverloaded_WhenTaskWaitsTooLong() {
+        final PasswordHashingService service = new PasswordHashingService(encoder, task -> {
+        }, Duration.ofMillis(10));
+
+        assertThatThrownBy(() -> service.matches("password123", "hash")).isInstanceOf(ServiceOverloadedException.class);
+    }
+}
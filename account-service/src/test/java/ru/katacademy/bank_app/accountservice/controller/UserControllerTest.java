@@ -10,15 +10,25 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.katacademy.bank_app.accountservice.application.dto.LoginUserCommand;
 import ru.katacademy.bank_app.accountservice.application.dto.RegisterUserCommand;
 import ru.katacademy.bank_app.accountservice.application.dto.UserDto;
+import ru.katacademy.bank_app.accountservice.application.service.LoginThrottle;
 import ru.katacademy.bank_app.accountservice.domain.enumtype.UserRole;
+import ru.katacademy.bank_app.accountservice.domain.service.LoginAttemptService;
 import ru.katacademy.bank_app.accountservice.domain.service.UserService;
+import ru.katacademy.bank_shared.enums.KycStatus;
 import ru.katacademy.bank_shared.exception.EmailAlreadyTakenException;
 import ru.katacademy.bank_shared.exception.GlobalExceptionHandler;
+import ru.katacademy.bank_shared.exception.InvalidPasswordException;
 import ru.katacademy.bank_shared.exception.UserNotFoundException;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -38,6 +48,12 @@ public class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private LoginAttemptService loginAttemptService;
+
+    @MockBean
+    private LoginThrottle loginThrottle;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -46,7 +62,7 @@ public class UserControllerTest {
     @Test
     void registerUser_shouldReturn201() throws Exception {
         final RegisterUserCommand command = new RegisterUserCommand("John", "user@example.com", "123");
-        final UserDto userDto = new UserDto(1L, "John", "user@example.com", UserRole.USER);
+        final UserDto userDto = new UserDto(1L, "John", "user@example.com", UserRole.USER, KycStatus.PENDING);
 
         given(userService.register(command)).willReturn(userDto);
 
@@ -92,6 +108,65 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$.status").value(409));
     }
 
+    /**
+     * POST /api/users/login — верные email и пароль → 200 OK и успешная попытка входа в журнале
+     */
+    @Test
+    void login_shouldReturn200AndRecordSuccessfulAttempt() throws Exception {
+        final LoginUserCommand command = new LoginUserCommand("user@example.com", "Password123");
+        final UserDto userDto = new UserDto(1L, "John", "user@example.com", UserRole.USER, KycStatus.APPROVED);
+
+        given(userService.authenticate("user@example.com", "Password123")).willReturn(userDto);
+
+        mockMvc.perform(post("/api/users/login")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(command)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+
+        verify(loginAttemptService).recordLoginAttempt(eq(1L), eq("user@example.com"), any(), any(), eq(true));
+    }
+
+    /**
+     * POST /api/users/login — неверный пароль → 401 Unauthorized и неуспешная попытка входа в журнале
+     */
+    @Test
+    void login_shouldReturn401AndRecordFailedAttemptWhenPasswordIsWrong() throws Exception {
+        final LoginUserCommand command = new LoginUserCommand("user@example.com", "Wrong1234");
+
+        given(userService.authenticate("user@example.com", "Wrong1234"))
+                .willThrow(new InvalidPasswordException("Неверный email или пароль"));
+
+        mockMvc.perform(post("/api/users/login")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(command)))
+                .andExpect(status().isUnauthorized());
+
+        verify(loginAttemptService).recordLoginAttempt(isNull(), eq("user@example.com"), any(), any(), eq(false));
+        verify(loginThrottle).recordFailure(eq("user@example.com"), any());
+    }
+
+    /**
+     * POST /api/users/login — попытки входа исчерпаны → 429 Too Many Requests без проверки пароля
+     */
+    @Test
+    void login_shouldReturn429WithoutCheckingPasswordWhenThrottled() throws Exception {
+        final LoginUserCommand command = new LoginUserCommand("user@example.com", "Password123");
+
+        given(loginThrottle.isBlocked(eq("user@example.com"), any())).willReturn(true);
+
+        mockMvc.perform(post("/api/users/login")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(command)))
+                .andExpect(status().isTooManyRequests());
+
+        verify(userService, never()).authenticate(any(), any());
+        verify(loginAttemptService).recordLoginAttempt(isNull(), eq("user@example.com"), any(), any(), eq(false));
+    }
+
     /**
      * GET /api/users/{id} — пользователь найден (владелец) → 200 OK
      */
@@ -99,7 +174,7 @@ public class UserControllerTest {
     @WithMockUser(username = "1", authorities = {"ROLE_USER"})
     void getById_shouldReturn200WhenUserExistsAndOwner() throws Exception {
         final long userId = 1L;
-        final UserDto userDto = new UserDto(userId, "John", "john@example.com", UserRole.USER);
+        final UserDto userDto = new UserDto(userId, "John", "john@example.com", UserRole.USER, KycStatus.PENDING);
         given(userService.getById(userId)).willReturn(userDto);
 
         mockMvc.perform(get("/api/users/{id}", userId))
@@ -143,7 +218,7 @@ public class UserControllerTest {
     @WithMockUser(username = "1", authorities = {"ROLE_ADMIN"})
     void getById_shouldReturn200WhenAdminAccess() throws Exception {
         final long userId = 2L;
-        final UserDto userDto = new UserDto(userId, "Jane", "jane@example.com", UserRole.USER);
+        final UserDto userDto = new UserDto(userId, "Jane", "jane@example.com", UserRole.USER, KycStatus.PENDING);
         given(userService.getById(userId)).willReturn(userDto);
 
         mockMvc.perform(get("/api/users/{id}", userId))
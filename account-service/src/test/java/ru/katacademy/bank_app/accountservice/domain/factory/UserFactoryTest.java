@@ -1,7 +1,6 @@
 package ru.katacademy.bank_app.accountservice.domain.factory;
 
 import org.junit.jupiter.api.Test;
-import org.springframework.security.crypto.bcrypt.BCrypt;
 import ru.katacademy.bank_app.accountservice.application.dto.RegisterUserCommand;
 import ru.katacademy.bank_app.accountservice.domain.entity.User;
 import ru.katacademy.bank_app.accountservice.domain.enumtype.UserRole;
@@ -22,15 +21,16 @@ public class UserFactoryTest {
         final String fullName = "Иван Иванов";
         final String rawEmail = "ivan@gmail.com";
         final String password = "Ivan123";
+        final String passwordHash = "$2a$12$hash";
         final RegisterUserCommand command = new RegisterUserCommand(fullName, rawEmail, password);
 
         // when
-        final User user = UserFactory.create(command);
+        final User user = UserFactory.create(command, passwordHash);
 
         // then
         assertThat(user.getFullName()).isEqualTo(fullName);
         assertThat(user.getEmail()).isEqualTo(new Email(rawEmail));
-        assertThat(BCrypt.checkpw(password, user.getPasswordHash())).isTrue(); // Хеширование пока отсутствует на этапе создания
+        assertThat(user.getPasswordHash()).isEqualTo(passwordHash); // хеш вычисляет PasswordHashingService
         assertThat(user.getRole()).isEqualTo(UserRole.USER);
         assertThat(user.getCreatedAt()).isBeforeOrEqualTo(LocalDateTime.now());
         assertThat(user.getId()).isNull();
@@ -0,0 +1,88 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountDto;
+import ru.katacademy.bank_app.accountservice.application.port.out.AccountCacheInvalidationPublisher;
+import ru.katacademy.bank_app.accountservice.domain.enumtype.AccountStatus;
+import ru.katacademy.bank_shared.exception.AccountNotFoundExceptionResolver;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Тестовый класс для {@link AccountReadCache}.
+ * Проверяет, что аккаунт загружается один раз, доступен по идентификатору и номеру счёта,
+ * а инвалидация вытесняет его по обоим ключам и рассылается другим узлам.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountReadCacheTest {
+
+    private static final String NUMBER = "00100000000050000017";
+
+    private final AccountDto account = new AccountDto(1L, NUMBER, 10L,
+            new Money(new BigDecimal("100.00"), Currency.ofCode("RUB")), AccountStatus.ACTIVE);
+
+    @Mock
+    private AccountCacheInvalidationPublisher publisher;
+
+    private AccountReadCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AccountReadCache(Caffeine.newBuilder().build(), Caffeine.newBuilder().build(), Optional.of(publisher));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getById_ShouldLoadOnceAndServeAccountNumberLookup() {
+        assertSame(account, cache.getById(1L, this::load));
+        assertSame(account, cache.getById(1L, this::load));
+        assertSame(account, cache.getByAccountNumber(NUMBER, () -> load(1L)));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evictAfterCommit_ShouldEvictBothKeysAndNotifyOtherNodes() {
+        cache.getByAccountNumber(NUMBER, () -> load(1L));
+
+        cache.evictAfterCommit(null, NUMBER);
+        cache.getById(1L, this::load);
+
+        assertEquals(2, loads.get());
+        verify(publisher).publish(null, NUMBER);
+    }
+
+    /**
+     * Отсутствующий аккаунт не кэшируется: ошибка загрузки повторяется при каждом обращении.
+     */
+    @Test
+    void getById_ShouldNotCacheMissingAccount() {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(AccountNotFoundExceptionResolver.class, () -> cache.getById(2L, id -> {
+                loads.incrementAndGet();
+                throw new AccountNotFoundExceptionResolver("Аккаунт с id " + id + " не найден");
+            }));
+        }
+        assertEquals(2, loads.get());
+    }
+
+    private AccountDto load(Long id) {
+        loads.incrementAndGet();
+        return account;
+    }
+}
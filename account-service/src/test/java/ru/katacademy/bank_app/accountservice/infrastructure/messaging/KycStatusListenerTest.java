@@ -0,0 +1,68 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import ru.katacademy.bank_app.accountservice.domain.service.UserService;
+import ru.katacademy.bank_shared.enums.KycStatus;
+import ru.katacademy.bank_shared.event.kyc.KycStatusChangedEvent;
+import ru.katacademy.bank_shared.exception.UserNotFoundException;
+
+import java.time.Instant;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Тест проверяет, что KycStatusListener применяет KYC-статус из событий обоих форматов kyc-service
+ * и пропускает сообщения, которые не удаётся применить.
+ */
+class KycStatusListenerTest {
+
+    private final UserService userService = mock(UserService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final KycStatusListener listener = new KycStatusListener(userService, objectMapper);
+
+    @Test
+    void onKycEvent_ShouldApplyJsonEvent() throws Exception {
+        final String json = objectMapper.writeValueAsString(
+                new KycStatusChangedEvent("42", KycStatus.APPROVED, Instant.now(), "kyc-service"));
+
+        listener.onKycEvent(record("42", json));
+
+        verify(userService).updateKycStatus(42L, KycStatus.APPROVED);
+    }
+
+    @Test
+    void onKycEvent_ShouldApplyStatusStringWithUserIdInKey() {
+        listener.onKycEvent(record("7", "STATUS_REJECTED"));
+
+        verify(userService).updateKycStatus(7L, KycStatus.REJECTED);
+    }
+
+    @Test
+    void onKycEvent_ShouldSkipUnknownFormat() {
+        listener.onKycEvent(record("7", "KYC_STARTED"));
+        listener.onKycEvent(record(null, "STATUS_APPROVED"));
+        listener.onKycEvent(record("7", "STATUS_UNKNOWN"));
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void onKycEvent_ShouldSkipUnknownUser() {
+        doThrow(new UserNotFoundException("Пользователь с id 7 не найден"))
+                .when(userService).updateKycStatus(7L, KycStatus.APPROVED);
+
+        listener.onKycEvent(record("7", "STATUS_APPROVED"));
+
+        verify(userService).updateKycStatus(7L, KycStatus.APPROVED);
+    }
+
+    private ConsumerRecord<String, String> record(String key, String value) {
+        return new ConsumerRecord<>("kyc-events", 0, 0L, key, value);
+    }
+}
@@ -0,0 +1,78 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.kafka.core.KafkaTemplate;
+import ru.katacademy.bank_app.accountservice.application.port.out.LoginAttemptRepository;
+import ru.katacademy.bank_app.accountservice.application.service.LoginAttemptBuffer;
+import ru.katacademy.bank_app.accountservice.domain.entity.LoginAttemptEntry;
+import ru.katacademy.bank_app.accountservice.domain.events.LoginAttemptedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тест проверяет, что LoginAttemptWriter сохраняет попытки входа пакетами, отправляет события о них в Kafka
+ * и дописывает накопленные записи при остановке.
+ */
+class LoginAttemptWriterTest {
+
+    private static final String TOPIC = "login-attempts-topic";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginAttemptBuffer buffer =
+            new LoginAttemptBuffer(16, LoginAttemptBuffer.OverflowPolicy.DROP_OLDEST, Duration.ZERO, meterRegistry);
+    private final LoginAttemptRepository repository = mock(LoginAttemptRepository.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, LoginAttemptedEvent> kafkaTemplate = mock(KafkaTemplate.class);
+    private final LoginAttemptWriter writer = new LoginAttemptWriter(buffer, repository, kafkaTemplate, meterRegistry,
+            TOPIC, 10, Duration.ofMillis(10), Duration.ofSeconds(5));
+
+    @Test
+    void stop_ShouldWriteBufferedAttemptsInOneBatch() {
+        when(kafkaTemplate.send(eq(TOPIC), any(LoginAttemptedEvent.class))).thenReturn(new CompletableFuture<>());
+        buffer.offer(attempt(1L));
+        buffer.offer(attempt(2L));
+        buffer.offer(attempt(3L));
+
+        writer.start();
+        writer.stop();
+
+        verify(repository).saveAll(anyList());
+        verify(kafkaTemplate, times(3)).send(eq(TOPIC), any(LoginAttemptedEvent.class));
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(meterRegistry.get("login.attempts.written").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void writeBatch_ShouldPublishAndCountDropped_WhenSaveFails() {
+        doThrow(new DataAccessResourceFailureException("БД недоступна")).when(repository).saveAll(anyList());
+        when(kafkaTemplate.send(eq(TOPIC), any(LoginAttemptedEvent.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Брокер недоступен")));
+
+        writer.writeBatch(List.of(attempt(1L), attempt(2L)));
+
+        verify(kafkaTemplate, times(2)).send(eq(TOPIC), any(LoginAttemptedEvent.class));
+        assertThat(meterRegistry.get("login.attempts.dropped").tag("reason", "write-failure").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("login.attempts.publish.failures").counter().count()).isEqualTo(2.0);
+    }
+
+    private LoginAttemptEntry attempt(Long userId) {
+        return new LoginAttemptEntry(userId, "user@mail.com", "10.0.0.1", "Chrome", LocalDateTime.now(), false);
+    }
+}
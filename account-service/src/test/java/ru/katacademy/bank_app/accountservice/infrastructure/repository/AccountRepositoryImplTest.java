@@ -0,0 +1,107 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.repository;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountCursor;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountDto;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountFilter;
+import ru.katacademy.bank_app.accountservice.application.port.out.AccountRepository;
+import ru.katacademy.bank_app.accountservice.application.port.out.AccountRepositoryImpl;
+import ru.katacademy.bank_app.accountservice.domain.entity.Account;
+import ru.katacademy.bank_app.accountservice.domain.enumtype.AccountStatus;
+import ru.katacademy.bank_app.accountservice.domain.enumtype.UserRole;
+import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.UserEntity;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Email;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Проверка постраничного (keyset) и потокового чтения аккаунтов на уровне БД.
+ * Часть аккаунтов создана в один и тот же момент: порядок между ними задаёт {@code id}.
+ */
+@DataJpaTest
+@Import(AccountRepositoryImpl.class)
+class AccountRepositoryImplTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 6, 1, 12, 0);
+    private static final AccountFilter ALL = new AccountFilter(null, null);
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    /** Идентификаторы аккаунтов в ожидаемом порядке {@code (createdAt, id)}. */
+    private final List<Long> expectedOrder = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        final UserEntity user = entityManager.persist(new UserEntity(null, UserRole.USER, "Иван Иванов",
+                new Email("ivan@mail.ru"), "hash", LocalDateTime.now()));
+        // аккаунт более позднего момента сохраняется первым, чтобы порядок по id не совпадал с порядком по времени
+        final Long later = persistAccount(user, 0, CREATED_AT.plusSeconds(1));
+        expectedOrder.add(persistAccount(user, 1, CREATED_AT.minusSeconds(1)));
+        for (int i = 2; i < 5; i++) {
+            expectedOrder.add(persistAccount(user, i, CREATED_AT));
+        }
+        expectedOrder.add(later);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findPage_ShouldContinueAfterCursorWithinSameCreatedAt() {
+        final Long tieCursorId = expectedOrder.get(2);
+
+        final List<Account> page = accountRepository.findPage(ALL, new AccountCursor(CREATED_AT, tieCursorId), 10);
+
+        assertThat(page).extracting(Account::getId).containsExactlyElementsOf(expectedOrder.subList(3, expectedOrder.size()));
+    }
+
+    @Test
+    void findPage_ShouldVisitEveryAccountOnce_WhenPagesSplitTies() {
+        final List<Long> visited = new ArrayList<>();
+        AccountCursor cursor = null;
+        List<Account> page = accountRepository.findPage(ALL, cursor, 2);
+        while (!page.isEmpty()) {
+            page.forEach(account -> visited.add(account.getId()));
+            final Account last = page.get(page.size() - 1);
+            cursor = new AccountCursor(last.getCreatedAt(), last.getId());
+            page = accountRepository.findPage(ALL, cursor, 2);
+        }
+
+        assertThat(visited).containsExactlyElementsOf(expectedOrder);
+    }
+
+    @Test
+    void streamAll_ShouldReturnAccountsInOrderWithoutFillingPersistenceContext() {
+        final List<Long> streamed;
+        try (Stream<AccountDto> accounts = accountRepository.streamAll(ALL)) {
+            streamed = accounts.map(AccountDto::id).toList();
+        }
+
+        assertThat(streamed).containsExactlyElementsOf(expectedOrder);
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    private Long persistAccount(UserEntity user, int number, LocalDateTime createdAt) {
+        return entityManager.persist(new AccountEntity(new AccountNumber(String.format("%020d", number)), user,
+                new Money(BigDecimal.TEN, Currency.ofCode("RUB")), AccountStatus.ACTIVE, createdAt)).getId();
+    }
+}
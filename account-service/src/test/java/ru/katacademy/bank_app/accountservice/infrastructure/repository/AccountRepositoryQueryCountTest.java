@@ -0,0 +1,124 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountDto;
+import ru.katacademy.bank_app.accountservice.application.dto.AccountFilter;
+import ru.katacademy.bank_app.accountservice.application.port.out.AccountRepository;
+import ru.katacademy.bank_app.accountservice.application.port.out.AccountRepositoryImpl;
+import ru.katacademy.bank_app.accountservice.domain.entity.Account;
+import ru.katacademy.bank_app.accountservice.domain.enumtype.AccountStatus;
+import ru.katacademy.bank_app.accountservice.domain.enumtype.UserRole;
+import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.UserEntity;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Email;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Регрессионный тест количества SQL-запросов при чтении аккаунтов.
+ * Считает подготовленные запросы статистикой Hibernate: каждое чтение аккаунта для API
+ * должно выполняться одним запросом и не загружать пользователя отдельными запросами.
+ */
+@DataJpaTest
+@Import(AccountRepositoryImpl.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AccountRepositoryQueryCountTest {
+
+    private static final int ACCOUNTS = 3;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private AccountEntity first;
+
+    @BeforeEach
+    void setUp() {
+        final UserEntity user = entityManager.persist(new UserEntity(null, UserRole.USER, "Иван Иванов",
+                new Email("ivan@mail.ru"), "hash", LocalDateTime.now()));
+        final LocalDateTime createdAt = LocalDateTime.of(2025, 6, 1, 12, 0);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            final AccountEntity account = entityManager.persist(new AccountEntity(
+                    new AccountNumber(String.format("%020d", i)), user,
+                    new Money(new BigDecimal("10.50"), Currency.ofCode("RUB")), AccountStatus.ACTIVE, createdAt.plusMinutes(i)));
+            if (first == null) {
+                first = account;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findDtoById_ShouldUseSingleQueryWithoutLoadingEntities() {
+        final AccountDto dto = accountRepository.findDtoById(first.getId()).orElseThrow();
+
+        assertThat(dto.accountNumber()).isEqualTo(first.getAccountNumber().value());
+        assertThat(dto.balance()).isEqualTo(new Money(new BigDecimal("10.50"), Currency.ofCode("RUB")));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findDtoByAccountNumber_ShouldUseSingleQueryWithoutLoadingEntities() {
+        final AccountDto dto = accountRepository.findDtoByAccountNumber(first.getAccountNumber()).orElseThrow();
+
+        assertThat(dto.id()).isEqualTo(first.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findById_ShouldLoadUserInSameQuery() {
+        final Account account = accountRepository.findById(first.getId()).orElseThrow();
+
+        assertThat(Hibernate.isInitialized(account.getUser())).isTrue();
+        assertThat(account.getUser().getFullName()).isEqualTo("Иван Иванов");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findPage_ShouldNotLoadUsers() {
+        final List<Account> page = accountRepository.findPage(new AccountFilter(null, AccountStatus.ACTIVE), null, ACCOUNTS);
+
+        assertThat(page).hasSize(ACCOUNTS);
+        assertThat(page).extracting(account -> account.getUser().getId()).containsOnly(first.getUser().getId());
+        assertThat(page).allMatch(account -> !Hibernate.isInitialized(account.getUser()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void entityToString_ShouldNotLoadUser() {
+        final AccountEntity account = entityManager.find(AccountEntity.class, first.getId());
+
+        assertThat(account.toString()).contains(first.getAccountNumber().value());
+        assertThat(Hibernate.isInitialized(account.getUser())).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
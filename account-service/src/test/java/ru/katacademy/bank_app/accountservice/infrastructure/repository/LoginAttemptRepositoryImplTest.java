@@ -3,11 +3,13 @@ package ru.katacademy.bank_app.accountservice.infrastructure.repository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import ru.katacademy.bank_app.accountservice.application.port.out.LoginAttemptRepository;
 import ru.katacademy.bank_app.accountservice.domain.entity.LoginAttemptEntry;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -18,9 +20,12 @@ class LoginAttemptRepositoryImplTest {
     @Autowired
     private LoginAttemptEntryJpaRepository jpaRepo;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void saveAndFindById() {
-        final LoginAttemptRepository repo = new LoginAttemptRepositoryImpl(jpaRepo);
+        final LoginAttemptRepository repo = new LoginAttemptRepositoryImpl(jpaRepo, jdbcTemplate);
 
         final LoginAttemptEntry attempt = new LoginAttemptEntry(
                 null,
@@ -38,4 +43,24 @@ class LoginAttemptRepositoryImplTest {
                 .get()
                 .isEqualTo(saved);
     }
+
+    @Test
+    void saveAllInsertsBatch() {
+        final LoginAttemptRepository repo = new LoginAttemptRepositoryImpl(jpaRepo, jdbcTemplate);
+        final LocalDateTime timestamp = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+        repo.saveAll(List.of(
+                new LoginAttemptEntry(1L, "a@mail.ru", "10.0.2.3", "userA", timestamp, true),
+                new LoginAttemptEntry(2L, "b@mail.ru", "10.0.2.4", "userB", timestamp, false)
+        ));
+
+        assertThat(jpaRepo.findBySuccess(false))
+                .singleElement()
+                .satisfies(entity -> {
+                    assertThat(entity.getUserId()).isEqualTo(2L);
+                    assertThat(entity.getEmail()).isEqualTo("b@mail.ru");
+                    assertThat(entity.getTimestamp()).isEqualTo(timestamp);
+                });
+        assertThat(jpaRepo.findByUserId(1L)).hasSize(1);
+    }
 }
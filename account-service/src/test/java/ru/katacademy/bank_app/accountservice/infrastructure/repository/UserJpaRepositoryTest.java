@@ -0,0 +1,100 @@
+package ru.katacademy.bank_app.accountservice.infrastructure.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import ru.katacademy.bank_app.accountservice.domain.enumtype.AccountStatus;
+import ru.katacademy.bank_app.accountservice.domain.enumtype.UserRole;
+import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_app.accountservice.infrastructure.persistence.entity.UserEntity;
+import ru.katacademy.bank_shared.enums.KycStatus;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Email;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Проверка лимита аккаунтов счётчиком {@code users.account_count} и чтения KYC-статуса на уровне БД.
+ * Аккаунты в тестах сохраняются напрямую, минуя счётчик, как у пользователей, созданных до его появления.
+ */
+@DataJpaTest
+class UserJpaRepositoryTest {
+
+    private static final int LIMIT = 5;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private int accountSequence;
+
+    @Test
+    void incrementAccountCount_ShouldRejectPreExistingUserAtLimit() {
+        final UserEntity user = persistUserWithAccounts("full@mail.ru", LIMIT);
+
+        assertThat(userJpaRepository.incrementAccountCount(user.getId(), LIMIT)).isZero();
+        assertThat(accountCount(user)).isNull();
+    }
+
+    @Test
+    void incrementAccountCount_ShouldBackfillCounterOfPreExistingUser() {
+        final UserEntity user = persistUserWithAccounts("partial@mail.ru", LIMIT - 2);
+
+        assertThat(userJpaRepository.incrementAccountCount(user.getId(), LIMIT)).isEqualTo(1);
+        assertThat(accountCount(user)).isEqualTo(LIMIT - 1);
+        assertThat(userJpaRepository.incrementAccountCount(user.getId(), LIMIT)).isEqualTo(1);
+        assertThat(userJpaRepository.incrementAccountCount(user.getId(), LIMIT)).isZero();
+        assertThat(accountCount(user)).isEqualTo(LIMIT);
+    }
+
+    @Test
+    void incrementAccountCount_ShouldCountNewUserUpToLimit() {
+        final UserEntity user = persistUserWithAccounts("new@mail.ru", 0);
+
+        for (int i = 0; i < LIMIT; i++) {
+            assertThat(userJpaRepository.incrementAccountCount(user.getId(), LIMIT)).isEqualTo(1);
+        }
+        assertThat(userJpaRepository.incrementAccountCount(user.getId(), LIMIT)).isZero();
+        assertThat(accountCount(user)).isEqualTo(LIMIT);
+    }
+
+    @Test
+    void incrementAccountCount_ShouldReturnZero_WhenUserNotFound() {
+        assertThat(userJpaRepository.incrementAccountCount(-1L, LIMIT)).isZero();
+    }
+
+    @Test
+    void findKycStatusById_ShouldReturnPendingForNewUserAndAppliedStatusAfterUpdate() {
+        final UserEntity user = persistUserWithAccounts("kyc@mail.ru", 0);
+
+        assertThat(userJpaRepository.findKycStatusById(user.getId())).contains(KycStatus.PENDING);
+        userJpaRepository.updateKycStatus(user.getId(), KycStatus.APPROVED.name());
+        assertThat(userJpaRepository.findKycStatusById(user.getId())).contains(KycStatus.APPROVED);
+        assertThat(userJpaRepository.findKycStatusById(-1L)).isEmpty();
+    }
+
+    private UserEntity persistUserWithAccounts(String email, int accounts) {
+        final UserEntity user = entityManager.persist(new UserEntity(null, UserRole.USER, "Иван Иванов",
+                new Email(email), "hash", LocalDateTime.now()));
+        for (int i = 0; i < accounts; i++) {
+            entityManager.persist(new AccountEntity(new AccountNumber(String.format("%020d", accountSequence++)), user,
+                    new Money(BigDecimal.TEN, Currency.ofCode("RUB")), AccountStatus.ACTIVE, LocalDateTime.now()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return user;
+    }
+
+    private Integer accountCount(UserEntity user) {
+        entityManager.clear();
+        return entityManager.find(UserEntity.class, user.getId()).getAccountCount();
+    }
+}
@@ -1,13 +1,19 @@
 package ru.katacademy.bank_shared.aspect;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Аспект обработки ошибок и автоматических ретраев.
  * Перехватывает методы, помеченные @RetryableOperation, логирует ошибки и
@@ -23,10 +29,20 @@ import org.springframework.stereotype.Component;
  * </pre>
  * </p>
  *
+ * <p>Аспект имеет наивысший приоритет и оборачивает остальные advice, в том числе
+ * {@code @Transactional}: каждая попытка выполняется в новой транзакции, поэтому
+ * ретраи по {@link org.springframework.dao.OptimisticLockingFailureException},
+ * возникающей при фиксации, работают для транзакционных методов.</p>
+ *
+ * <p>Если в контексте есть {@link MeterRegistry}, публикуются счётчики
+ * {@code retry.operation.retries} и {@code retry.operation.exhausted}
+ * с тегами {@code class}, {@code method} и {@code exception}.</p>
+ *
  * @author Глеб Ткачёв
  */
 @Aspect
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class ErrorHandlingAspect {
     private static final Logger log = LoggerFactory.getLogger(ErrorHandlingAspect.class);
 
@@ -36,6 +52,9 @@ public class ErrorHandlingAspect {
     @Value("${retry.backoff-delay-ms:500}")
     private long defaultBackoffMs;
 
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
     /**
      * Основной advice, оборачивающий выполнение целевого метода.
      * Выполняет повторные попытки при указанных исключениях.
@@ -60,13 +79,8 @@ public class ErrorHandlingAspect {
                 return pjp.proceed();
             } catch (Throwable ex) {
                 attempt++;
-                log.error(
-                        "[{}.{}] attempt {}/{} args={} -> {}",
-                        pjp.getTarget().getClass().getSimpleName(),
-                        sig.getMethod().getName(),
-                        attempt, maxAttempts,
-                        pjp.getArgs(), ex.toString(), ex
-                );
+                final String className = pjp.getTarget().getClass().getSimpleName();
+                final String methodName = sig.getMethod().getName();
 
                 boolean shouldRetry = false;
                 for (var cls : retryOn) {
@@ -76,10 +90,53 @@ public class ErrorHandlingAspect {
                     }
                 }
                 if (!shouldRetry || attempt >= maxAttempts) {
+                    log.error(
+                            "[{}.{}] attempt {}/{} args={} -> {}",
+                            className, methodName,
+                            attempt, maxAttempts,
+                            pjp.getArgs(), ex.toString(), ex
+                    );
+                    if (shouldRetry) {
+                        count("retry.operation.exhausted", className, methodName, ex);
+                    }
                     throw ex;
                 }
-                Thread.sleep(delay);
+                log.warn(
+                        "[{}.{}] attempt {}/{} args={} -> {}",
+                        className, methodName,
+                        attempt, maxAttempts,
+                        pjp.getArgs(), ex.toString()
+                );
+                count("retry.operation.retries", className, methodName, ex);
+                Thread.sleep(jitteredDelay(delay, anno.jitter()));
             }
         }
     }
+
+    /**
+     * Вычисляет задержку перед очередной попыткой со случайным разбросом
+     * в пределах {@code ±delay * jitter}.
+     *
+     * @param delay  базовая задержка в миллисекундах
+     * @param jitter доля разброса от 0 до 1
+     * @return задержка в миллисекундах, не меньше нуля
+     */
+    static long jitteredDelay(long delay, double jitter) {
+        final long spread = (long) (delay * Math.min(Math.max(jitter, 0.0), 1.0));
+        if (spread <= 0) {
+            return Math.max(delay, 0);
+        }
+        return delay - spread + ThreadLocalRandom.current().nextLong(2 * spread + 1);
+    }
+
+    private void count(String name, String className, String methodName, Throwable ex) {
+        if (meterRegistry == null) {
+            return;
+        }
+        meterRegistry.counter(name,
+                "class", className,
+                "method", methodName,
+                "exception", ex.getClass().getSimpleName()
+        ).increment();
+    }
 }
\ No newline at end of file
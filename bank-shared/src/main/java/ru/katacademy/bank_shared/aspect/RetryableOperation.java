@@ -13,6 +13,8 @@ import java.lang.annotation.Target;
  * <ul>
  *   <li><b>maxAttempts</b> — максимальное число попыток (если -1, берётся из конфигурации);</li>
  *   <li><b>backoffDelayMs</b> — задержка между попытками в миллисекундах (если -1, берётся из конфигурации);</li>
+ *   <li><b>jitter</b> — доля случайного разброса задержки от 0 до 1 (0 — фиксированная задержка),
+ *   не позволяет конкурирующим вызовам повторяться синхронно;</li>
  *   <li><b>retryOn</b> — массив типов исключений, при которых выполняется повторный вызов.</li>
  * </ul>
  * </p>
@@ -28,6 +30,7 @@ import java.lang.annotation.Target;
 public @interface RetryableOperation {
     int maxAttempts() default -1;
     long backoffDelayMs() default -1;
+    double jitter() default 0.0;
     Class<? extends Throwable>[] retryOn() default {
             java.io.IOException.class,
             java.net.SocketTimeoutException.class
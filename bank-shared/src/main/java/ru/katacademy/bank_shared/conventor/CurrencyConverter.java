@@ -3,6 +3,7 @@ package ru.katacademy.bank_shared.conventor;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.CurrencyRegistry;
 
 /**
  * JPA-конвертер для value object'а {@link Currency}.
@@ -30,6 +31,10 @@ public class CurrencyConverter implements AttributeConverter<Currency, String> {
     /**
      * Преобразует строку из БД обратно в объект {@link Currency}.
      * Ожидаемый формат: "код:название:число".
+     * <p>
+     * Для кодов из {@link CurrencyRegistry} возвращается канонический экземпляр без разбора
+     * названия и количества знаков, поэтому загрузка строки не создаёт новый объект валюты.
+     * </p>
      *
      * @param dbData строковое представление объекта
      * @return объект Currency
@@ -40,14 +45,21 @@ public class CurrencyConverter implements AttributeConverter<Currency, String> {
         if (dbData == null || dbData.isBlank()) {
             return null;
         }
-        final String[] parts = dbData.split(":");
-        if (parts.length != 3) {
+        final int codeEnd = dbData.indexOf(':');
+        final int nameEnd = dbData.lastIndexOf(':');
+        if (codeEnd < 0 || codeEnd == nameEnd || dbData.indexOf(':', codeEnd + 1) != nameEnd) {
             throw new IllegalArgumentException("Невалидный формат валюты в базе данных.");
         }
+        final String code = dbData.substring(0, codeEnd);
+        final Currency registered = CurrencyRegistry.find(code).orElse(null);
+        if (registered != null) {
+            return registered;
+        }
+        final String scale = dbData.substring(nameEnd + 1);
         try {
-            return new Currency(parts[0], parts[1], Integer.parseInt(parts[2]));
+            return new Currency(code, dbData.substring(codeEnd + 1, nameEnd), Integer.parseInt(scale));
         } catch (NumberFormatException ex) {
-            throw new IllegalArgumentException("Невалидное значение валюты:" + parts[2], ex);
+            throw new IllegalArgumentException("Невалидное значение валюты:" + scale, ex);
         }
     }
 }
@@ -44,12 +44,15 @@ public class MoneyConverter implements AttributeConverter<Money, String> {
      */
     @Override
     public Money convertToEntityAttribute(String dbData) {
-        if (dbData == null || !dbData.contains("|")) {
+        if (dbData == null) {
             return null;
         }
-        final String[] parts = dbData.split("\\|", 2);
-        final BigDecimal amount = new BigDecimal(parts[0]);
-        final Currency currency = currencyConverter.convertToEntityAttribute(parts[1]);
+        final int separator = dbData.indexOf('|');
+        if (separator < 0) {
+            return null;
+        }
+        final BigDecimal amount = new BigDecimal(dbData.substring(0, separator));
+        final Currency currency = currencyConverter.convertToEntityAttribute(dbData.substring(separator + 1));
         return new Money(amount, currency);
     }
 }
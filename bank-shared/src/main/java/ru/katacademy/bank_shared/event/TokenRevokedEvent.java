@@ -0,0 +1,33 @@
+package ru.katacademy.bank_shared.event;
+
+import java.time.Instant;
+
+/**
+ * Событие об отзыве JWT-токенов до истечения их срока действия.
+ * <p>
+ * Отзывает либо один токен по идентификатору ({@code jti}), либо все токены пользователя,
+ * выпущенные раньше {@code revokedBefore} (например, после смены пароля).
+ * Рассылается через Kafka, каждый узел security-service хранит отозванные токены в памяти.
+ * </p>
+ *
+ * @param userId        идентификатор пользователя, чьи токены отзываются, или {@code null}
+ * @param tokenId       идентификатор отзываемого токена (claim {@code jti}) или {@code null}
+ * @param revokedBefore токены пользователя, выпущенные раньше этого момента, недействительны
+ * @param expiresAt     момент истечения отзываемого токена; после него запись об отзыве не нужна
+ */
+public record TokenRevokedEvent(Long userId, String tokenId, Instant revokedBefore, Instant expiresAt) {
+
+    /**
+     * Отзыв всех токенов пользователя, выпущенных раньше указанного момента.
+     */
+    public static TokenRevokedEvent forUser(Long userId, Instant revokedBefore) {
+        return new TokenRevokedEvent(userId, null, revokedBefore, null);
+    }
+
+    /**
+     * Отзыв одного токена по его идентификатору.
+     */
+    public static TokenRevokedEvent forToken(String tokenId, Instant expiresAt) {
+        return new TokenRevokedEvent(null, tokenId, null, expiresAt);
+    }
+}
@@ -21,4 +21,8 @@ public enum BusinessErrorCode {
      * Недопустимая сумма.
      */
     INVALID_AMOUNT,
+    /**
+     * Валюта отсутствует в справочнике ISO 4217.
+     */
+    UNKNOWN_CURRENCY,
 }
\ No newline at end of file
@@ -106,6 +106,40 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
     }
 
+    /**
+     * Обрабатывает нарушение бизнес-правила (неактивный счёт, несовпадение валют,
+     * недостаточно средств, некорректная сумма).
+     * Возвращает HTTP 422 Unprocessable Entity и код ошибки в поле {@code code}.
+     */
+    @ExceptionHandler(BusinessRuleViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleBusinessRuleViolation(BusinessRuleViolationException e,
+                                                                           HttpServletRequest request) {
+        final ResponseEntity<Map<String, Object>> response =
+                buildResponse(e.getDetailedMessage(), HttpStatus.UNPROCESSABLE_ENTITY, request);
+        response.getBody().put("code", e.getErrorCode().name());
+        return response;
+    }
+
+    /**
+     * Обрабатывает исключение AccountNotFoundException - счёт не найден
+     * Возвращает HTTP 404 Not Found
+     */
+    @ExceptionHandler(AccountNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleAccountNotFound(AccountNotFoundException e, HttpServletRequest request) {
+        return buildResponse(e.getMessage(), HttpStatus.NOT_FOUND, request);
+    }
+
+    /**
+     * Обрабатывает исключение IdempotencyKeyReusedException - ключ идемпотентности
+     * уже использован для операции с другими параметрами
+     * Возвращает HTTP 409 Conflict
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyKeyReused(IdempotencyKeyReusedException e,
+                                                                          HttpServletRequest request) {
+        return buildResponse(e.getMessage(), HttpStatus.CONFLICT, request);
+    }
+
     /**
      * «Поймать» всё, что осталось — чтобы Spring не превращал это в 403.
      */
@@ -142,12 +176,12 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Обрабатывает исключение KycServiceUnavailableException - сервис KYC недоступен
+     * Обрабатывает исключение ServiceOverloadedException - сервис перегружен
      * Возвращает HTTP 503 Service Unavailable
      */
-    @ExceptionHandler(KycServiceUnavailableException.class)
-    public ResponseEntity<Map<String, Object>> handleKycServiceUnavailable(
-            KycServiceUnavailableException e, HttpServletRequest request) {
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceOverloaded(
+            ServiceOverloadedException e, HttpServletRequest request) {
         return buildResponse(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, request);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package ru.katacademy.bank_shared.exception;
+
+/**
+ * Исключение, выбрасываемое при повторном использовании ключа идемпотентности
+ * с параметрами операции, отличными от параметров исходного запроса.
+ */
+public class IdempotencyKeyReusedException extends DomainException {
+    public IdempotencyKeyReusedException(String idempotencyKey) {
+        super("Ключ идемпотентности уже использован для другой операции: " + idempotencyKey);
+    }
+}
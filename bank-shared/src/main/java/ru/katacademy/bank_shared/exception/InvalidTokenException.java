@@ -0,0 +1,15 @@
+package ru.katacademy.bank_shared.exception;
+
+/**
+ * Исключение, выбрасываемое, если JWT-токен не прошёл проверку: повреждён, подписан неизвестным ключом,
+ * неподдерживаемым алгоритмом или просрочен.
+ */
+public class InvalidTokenException extends RuntimeException {
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+
+    public InvalidTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
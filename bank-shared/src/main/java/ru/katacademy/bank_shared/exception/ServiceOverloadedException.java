@@ -0,0 +1,12 @@
+package ru.katacademy.bank_shared.exception;
+
+/**
+ * Исключение, выбрасываемое, когда сервис не может принять операцию из-за перегрузки:
+ * очередь ограниченного пула потоков заполнена или операция не дождалась выполнения.
+ * Запрос можно повторить позже.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
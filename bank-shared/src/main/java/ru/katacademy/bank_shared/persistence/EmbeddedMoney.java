@@ -0,0 +1,84 @@
+package ru.katacademy.bank_shared.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Встраиваемое JPA-представление {@link Money} в виде двух колонок:
+ * {@code amount NUMERIC(19, 4)} и {@code currency CHAR(3)}.
+ * <p>
+ * В отличие от {@link ru.katacademy.bank_shared.conventor.MoneyConverter}, сумма хранится числом,
+ * поэтому по ней можно строить индексы, а баланс можно менять одним SQL-выражением вида
+ * {@code UPDATE accounts SET amount = amount - ? WHERE ... AND amount >= ?} без загрузки сущности.
+ * </p>
+ * <p>
+ * Название и количество знаков после запятой валюты не хранятся, а восстанавливаются по коду
+ * через {@link Currency#ofCode(String)}.
+ * </p>
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmbeddedMoney {
+
+    /** Денежная сумма */
+    @Column(name = "amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal amount;
+
+    /** ISO 4217 код валюты */
+    @Column(name = "currency", nullable = false, length = 3, columnDefinition = "char(3)")
+    private String currency;
+
+    private EmbeddedMoney(BigDecimal amount, String currency) {
+        this.amount = amount;
+        this.currency = currency;
+    }
+
+    /**
+     * Создаёт встраиваемое представление из объекта {@link Money}.
+     *
+     * @param money объект Money (не null)
+     * @return встраиваемое представление суммы
+     */
+    public static EmbeddedMoney of(Money money) {
+        Objects.requireNonNull(money, "Money не может быть null");
+        return new EmbeddedMoney(money.amount(), money.currency().code());
+    }
+
+    /**
+     * Восстанавливает объект {@link Money}.
+     * <p>
+     * Лишние нули, добавленные колонкой {@code NUMERIC(19, 4)}, отбрасываются
+     * до количества знаков валюты.
+     * </p>
+     *
+     * @return объект Money
+     */
+    public Money toMoney() {
+        return toMoney(amount, currency);
+    }
+
+    /**
+     * Восстанавливает объект {@link Money} из значений колонок {@code amount} и {@code currency},
+     * например выбранных проекцией без загрузки сущности.
+     *
+     * @param amount   значение колонки {@code amount}
+     * @param currency значение колонки {@code currency}
+     * @return объект Money
+     */
+    public static Money toMoney(BigDecimal amount, String currency) {
+        final Currency resolved = Currency.ofCode(currency);
+        final BigDecimal stripped = amount.stripTrailingZeros();
+        return new Money(stripped.setScale(Math.max(stripped.scale(), resolved.scale())), resolved);
+    }
+}
@@ -0,0 +1,132 @@
+package ru.katacademy.bank_shared.security;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Преобразование открытых ключей подписи JWT в формат JWK (RFC 7517) и обратно.
+ * <p>
+ * Поддерживаются ключи RSA (для RS256) и EC на кривой P-256 (для ES256).
+ * </p>
+ */
+public final class JwkCodec {
+
+    /** Название кривой P-256 в JWK */
+    public static final String CURVE_P256 = "P-256";
+
+    private static final String EC_CURVE_NAME = "secp256r1";
+    private static final int P256_COORDINATE_LENGTH = 32;
+
+    private JwkCodec() {
+    }
+
+    /**
+     * Описывает открытый ключ в формате JWK.
+     *
+     * @param kid       идентификатор ключа
+     * @param algorithm алгоритм подписи ({@code RS256} или {@code ES256})
+     * @param publicKey открытый ключ RSA или EC P-256
+     * @return JWK с полями {@code kty}, {@code kid}, {@code use}, {@code alg} и параметрами ключа
+     * @throws IllegalArgumentException если тип ключа не поддерживается
+     */
+    public static Map<String, Object> toJwk(String kid, String algorithm, PublicKey publicKey) {
+        final Map<String, Object> jwk = new LinkedHashMap<>();
+        if (publicKey instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", algorithm);
+            jwk.put("n", encode(unsigned(rsa.getModulus())));
+            jwk.put("e", encode(unsigned(rsa.getPublicExponent())));
+            return jwk;
+        }
+        if (publicKey instanceof ECPublicKey ec) {
+            jwk.put("kty", "EC");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", algorithm);
+            jwk.put("crv", CURVE_P256);
+            jwk.put("x", encode(fixedLength(ec.getW().getAffineX())));
+            jwk.put("y", encode(fixedLength(ec.getW().getAffineY())));
+            return jwk;
+        }
+        throw new IllegalArgumentException("Неподдерживаемый тип ключа: " + publicKey.getAlgorithm());
+    }
+
+    /**
+     * Восстанавливает открытый ключ из JWK.
+     *
+     * @param jwk JWK с {@code kty} {@code RSA} или {@code EC} (кривая P-256)
+     * @return открытый ключ
+     * @throws IllegalArgumentException если JWK некорректен или тип ключа не поддерживается
+     */
+    public static PublicKey toPublicKey(Map<String, ?> jwk) {
+        try {
+            final Object kty = jwk.get("kty");
+            if ("RSA".equals(kty)) {
+                return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                        new BigInteger(1, decode(jwk, "n")), new BigInteger(1, decode(jwk, "e"))));
+            }
+            if ("EC".equals(kty) && CURVE_P256.equals(jwk.get("crv"))) {
+                final ECPoint point = new ECPoint(new BigInteger(1, decode(jwk, "x")), new BigInteger(1, decode(jwk, "y")));
+                return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, p256()));
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Некорректный JWK " + jwk.get("kid"), e);
+        }
+        throw new IllegalArgumentException("Неподдерживаемый тип ключа JWK: " + jwk.get("kty"));
+    }
+
+    private static ECParameterSpec p256() throws GeneralSecurityException {
+        final AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec(EC_CURVE_NAME));
+        return parameters.getParameterSpec(ECParameterSpec.class);
+    }
+
+    private static byte[] decode(Map<String, ?> jwk, String name) {
+        final Object value = jwk.get(name);
+        if (!(value instanceof String text)) {
+            throw new IllegalArgumentException("В JWK нет параметра " + name);
+        }
+        return Base64.getUrlDecoder().decode(text);
+    }
+
+    private static String encode(byte[] value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+
+    /**
+     * Беззнаковое big-endian представление числа без ведущего нулевого байта знака.
+     */
+    private static byte[] unsigned(BigInteger value) {
+        final byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            return Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return bytes;
+    }
+
+    /**
+     * Координата точки P-256, дополненная ведущими нулями до 32 байт.
+     */
+    private static byte[] fixedLength(BigInteger value) {
+        final byte[] bytes = unsigned(value);
+        final byte[] result = new byte[P256_COORDINATE_LENGTH];
+        System.arraycopy(bytes, 0, result, P256_COORDINATE_LENGTH - bytes.length, bytes.length);
+        return result;
+    }
+}
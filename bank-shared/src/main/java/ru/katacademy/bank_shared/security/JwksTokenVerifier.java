@@ -0,0 +1,297 @@
+package ru.katacademy.bank_shared.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.katacademy.bank_shared.exception.InvalidTokenException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Локальная проверка JWT-токенов security-service по открытым ключам из JWKS.
+ * <p>
+ * Сервисы проверяют подпись токена сами, без запроса {@code POST /api/security/verify}:
+ * набор ключей загружается с {@code /.well-known/jwks.json} и хранится в памяти {@code cacheTtl}.
+ * Устаревший набор обновляет один поток, остальные продолжают проверку по текущему набору.
+ * Токен с неизвестным {@code kid} (ключ после ротации) вызывает внеочередную загрузку.
+ * Загрузки выполняются не чаще одного раза в {@code minRefreshInterval}; если загрузка не удалась,
+ * используется последний загруженный набор. Потоки не ждут чужой загрузки: пока она идёт
+ * или пока интервал не истёк, токен с неизвестным {@code kid} сразу отклоняется.
+ * </p>
+ * <p>
+ * Исключение — первая загрузка: пока набор ни разу не загружен, проверять токены не по чему,
+ * поэтому потоки ждут загрузки, начатой другим потоком, а неудачная загрузка повторяется
+ * следующим запросом без ожидания {@code minRefreshInterval}.
+ * </p>
+ * <p>
+ * Поддерживаются подписи RS256 и ES256; токены с другим алгоритмом, в том числе {@code none}
+ * и HMAC, отклоняются. Срок действия ({@code exp}) обязателен.
+ * </p>
+ * <p><b>Пример использования:</b></p>
+ * <pre>{@code
+ * JwksTokenVerifier verifier = JwksTokenVerifier.forUri(
+ *     URI.create("http://security-service:8080/.well-known/jwks.json"), Duration.ofMinutes(5));
+ * JwtPrincipal principal = verifier.verify(token);
+ * }</pre>
+ */
+public class JwksTokenVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksTokenVerifier.class);
+
+    /** Минимальный интервал внеочередной загрузки JWKS по умолчанию */
+    public static final Duration DEFAULT_MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    private static final Map<String, String> SIGNATURE_ALGORITHMS = Map.of(
+            "RS256", "SHA256withRSA",
+            "ES256", "SHA256withECDSAinP1363Format");
+
+    private static final Map<String, String> KEY_ALGORITHMS = Map.of(
+            "RS256", "RSA",
+            "ES256", "EC");
+
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+
+    private final Supplier<String> jwksLoader;
+    private final ObjectMapper objectMapper;
+    private final Duration cacheTtl;
+    private final Duration minRefreshInterval;
+    private final Clock clock;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile Instant loadedAt = Instant.MIN;
+    private volatile Instant lastAttemptAt = Instant.MIN;
+
+    public JwksTokenVerifier(Supplier<String> jwksLoader, ObjectMapper objectMapper, Duration cacheTtl,
+                             Duration minRefreshInterval, Clock clock) {
+        this.jwksLoader = jwksLoader;
+        this.objectMapper = objectMapper;
+        this.cacheTtl = cacheTtl;
+        this.minRefreshInterval = minRefreshInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * Создаёт проверку токенов, загружающую JWKS по HTTP.
+     *
+     * @param jwksUri  адрес JWKS security-service
+     * @param cacheTtl время хранения загруженного набора ключей
+     * @return проверка токенов
+     */
+    public static JwksTokenVerifier forUri(URI jwksUri, Duration cacheTtl) {
+        final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        final HttpRequest request = HttpRequest.newBuilder(jwksUri).timeout(Duration.ofSeconds(2)).GET().build();
+        return new JwksTokenVerifier(() -> fetch(httpClient, request), new ObjectMapper(), cacheTtl,
+                DEFAULT_MIN_REFRESH_INTERVAL, Clock.systemUTC());
+    }
+
+    /**
+     * Проверяет подпись и срок действия токена и возвращает данные пользователя.
+     *
+     * @param token строка JWT-токена (compact JWS)
+     * @return данные пользователя из токена
+     * @throws InvalidTokenException если токен повреждён, подписан неизвестным ключом
+     *                               или неподдерживаемым алгоритмом, либо просрочен
+     */
+    public JwtPrincipal verify(String token) {
+        if (token == null) {
+            throw new InvalidTokenException("Токен не задан");
+        }
+        final String[] parts = token.split("\\.", -1);
+        if (parts.length != 3) {
+            throw new InvalidTokenException("Некорректный формат токена");
+        }
+        final Map<String, Object> header = readJson(parts[0]);
+        final Object algorithm = header.get("alg");
+        if (!(algorithm instanceof String alg) || !SIGNATURE_ALGORITHMS.containsKey(alg)) {
+            throw new InvalidTokenException("Неподдерживаемый алгоритм подписи токена: " + algorithm);
+        }
+        final PublicKey key = findKey(header.get("kid"));
+        if (!KEY_ALGORITHMS.get(alg).equals(key.getAlgorithm())) {
+            throw new InvalidTokenException("Алгоритм " + alg + " не соответствует ключу " + header.get("kid"));
+        }
+        verifySignature(SIGNATURE_ALGORITHMS.get(alg), key, parts);
+        return toPrincipal(readJson(parts[1]));
+    }
+
+    private PublicKey findKey(Object kid) {
+        if (!(kid instanceof String keyId)) {
+            throw new InvalidTokenException("В заголовке токена не задан kid");
+        }
+        final Instant now = clock.instant();
+        if (loadedAt == Instant.MIN) {
+            loadFirst(now);
+        } else if (now.isAfter(loadedAt.plus(cacheTtl)) && refreshAllowed(now) && refreshLock.tryLock()) {
+            try {
+                if (refreshAllowed(now)) {
+                    refresh(now);
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        PublicKey key = keys.get(keyId);
+        if (key == null && refreshAllowed(now) && refreshLock.tryLock()) {
+            try {
+                key = keys.get(keyId);
+                if (key == null && refreshAllowed(now)) {
+                    refresh(now);
+                    key = keys.get(keyId);
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        if (key == null) {
+            throw new InvalidTokenException("Токен подписан неизвестным ключом " + keyId);
+        }
+        return key;
+    }
+
+    /**
+     * Первая загрузка набора ключей. Поток ждёт загрузки, которую уже выполняет другой поток, и не начинает
+     * свою, если за время ожидания попытка была сделана: при недоступном JWKS ожидающие потоки
+     * разделяют одну неудачную попытку, а не выполняют её по очереди.
+     */
+    private void loadFirst(Instant now) {
+        final Instant attemptBeforeWait = lastAttemptAt;
+        refreshLock.lock();
+        try {
+            if (loadedAt == Instant.MIN && lastAttemptAt.equals(attemptBeforeWait)) {
+                refresh(now);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean refreshAllowed(Instant now) {
+        return !now.isBefore(lastAttemptAt.plus(minRefreshInterval));
+    }
+
+    /**
+     * Загружает набор ключей. Ключи неподдерживаемых типов пропускаются,
+     * при ошибке загрузки остаётся прежний набор.
+     */
+    private void refresh(Instant now) {
+        lastAttemptAt = now;
+        try {
+            final Map<String, Object> jwks = objectMapper.readValue(jwksLoader.get(), JSON_OBJECT);
+            final Map<String, PublicKey> loaded = new HashMap<>();
+            if (jwks.get("keys") instanceof Collection<?> entries) {
+                for (Object entry : entries) {
+                    addKey(loaded, entry);
+                }
+            }
+            keys = Map.copyOf(loaded);
+            loadedAt = now;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Не удалось загрузить JWKS, используется прежний набор из {} ключей: {}", keys.size(), e.getMessage());
+        }
+    }
+
+    private void addKey(Map<String, PublicKey> target, Object entry) {
+        if (!(entry instanceof Map<?, ?> jwk) || !(jwk.get("kid") instanceof String kid)) {
+            return;
+        }
+        final Map<String, Object> parameters = new HashMap<>();
+        jwk.forEach((name, value) -> parameters.put(String.valueOf(name), value));
+        try {
+            target.put(kid, JwkCodec.toPublicKey(parameters));
+        } catch (IllegalArgumentException e) {
+            log.debug("Пропущен ключ JWKS {}: {}", kid, e.getMessage());
+        }
+    }
+
+    private void verifySignature(String signatureAlgorithm, PublicKey key, String[] parts) {
+        try {
+            final Signature signature = Signature.getInstance(signatureAlgorithm);
+            signature.initVerify(key);
+            signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+            if (!signature.verify(Base64.getUrlDecoder().decode(parts[2]))) {
+                throw new InvalidTokenException("Подпись токена недействительна");
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new InvalidTokenException("Подпись токена недействительна", e);
+        }
+    }
+
+    private JwtPrincipal toPrincipal(Map<String, Object> claims) {
+        if (!(claims.get("exp") instanceof Number exp)) {
+            throw new InvalidTokenException("В токене не задан срок действия");
+        }
+        final Instant now = clock.instant();
+        final Instant expiresAt = Instant.ofEpochSecond(exp.longValue());
+        if (!now.isBefore(expiresAt)) {
+            throw new InvalidTokenException("Срок действия токена истёк");
+        }
+        if (claims.get("nbf") instanceof Number notBefore && now.isBefore(Instant.ofEpochSecond(notBefore.longValue()))) {
+            throw new InvalidTokenException("Токен ещё не действует");
+        }
+        Long userId = null;
+        if (claims.get("userId") instanceof Number id) {
+            userId = id.longValue();
+        }
+        List<String> roles = List.of();
+        if (claims.get("roles") instanceof Collection<?> values) {
+            roles = values.stream().map(String::valueOf).toList();
+        }
+        final Object subject = claims.get("sub");
+        if (subject != null && !(subject instanceof String)) {
+            throw new InvalidTokenException("Некорректный subject токена");
+        }
+        String tokenId = null;
+        if (claims.get("jti") instanceof String jti) {
+            tokenId = jti;
+        }
+        Instant issuedAt = null;
+        if (claims.get("iat") instanceof Number iat) {
+            issuedAt = Instant.ofEpochSecond(iat.longValue());
+        }
+        return new JwtPrincipal(userId, (String) subject, roles, tokenId, issuedAt, expiresAt);
+    }
+
+    private Map<String, Object> readJson(String part) {
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(part), JSON_OBJECT);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidTokenException("Некорректный формат токена", e);
+        }
+    }
+
+    private static String fetch(HttpClient httpClient, HttpRequest request) {
+        try {
+            final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("JWKS вернул статус " + response.statusCode());
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new IllegalStateException("JWKS недоступен: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Загрузка JWKS прервана", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package ru.katacademy.bank_shared.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Неизменяемые данные пользователя из проверенного JWT-токена.
+ * <p>
+ * Создаётся одним разбором токена: в security-service — при проверке собственной подписи,
+ * в остальных сервисах — {@link JwksTokenVerifier} по открытым ключам из JWKS.
+ * </p>
+ *
+ * @param userId    идентификатор пользователя (claim {@code userId})
+ * @param subject   subject токена
+ * @param roles     роли пользователя (claim {@code roles})
+ * @param tokenId   идентификатор токена (claim {@code jti}) или {@code null}, если не задан
+ * @param issuedAt  момент выпуска токена (claim {@code iat}) или {@code null}, если не задан
+ * @param expiresAt момент истечения токена или {@code null}, если срок не задан
+ */
+public record JwtPrincipal(Long userId, String subject, List<String> roles, String tokenId, Instant issuedAt, Instant expiresAt) {
+
+    public JwtPrincipal {
+        if (roles == null) {
+            roles = List.of();
+        } else {
+            roles = List.copyOf(roles);
+        }
+    }
+}
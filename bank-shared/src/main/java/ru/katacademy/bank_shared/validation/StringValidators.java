@@ -0,0 +1,135 @@
+package ru.katacademy.bank_shared.validation;
+
+/**
+ * Проверки формата строк для value object'ов и сервисов.
+ * <p>
+ * Проверки написаны проходом по символам и не создают объектов, в отличие от {@link String#matches(String)},
+ * который компилирует регулярное выражение при каждом вызове. Для каждой проверки указано
+ * регулярное выражение, которому она эквивалентна. Буквы и цифры — только латинские (ASCII).
+ * </p>
+ */
+public final class StringValidators {
+
+    /** Минимальная длина пароля */
+    public static final int MIN_PASSWORD_LENGTH = 8;
+
+    /** Спецсимволы, допустимые в секретном ключе подписи JWT помимо латинских букв и цифр */
+    private static final String SECRET_SPECIAL_CHARS = "!@#$%^&*()_+=-";
+
+    private StringValidators() {
+    }
+
+    /**
+     * Проверяет, что строка состоит ровно из {@code length} цифр. Эквивалент {@code \d{length}}.
+     *
+     * @param value  строка или null
+     * @param length ожидаемое количество цифр
+     * @return {@code true}, если строка не null, имеет длину {@code length} и состоит только из цифр
+     */
+    public static boolean isDigits(String value, int length) {
+        if (value == null || value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Проверяет формат email-адреса. Эквивалент {@code ^[\w-.]+@[\w-]+\.[a-zA-Z]{2,}$}:
+     * непустая локальная часть из букв, цифр и символов {@code _ - .}, затем {@code @},
+     * непустое имя домена из букв, цифр и символов {@code _ -}, точка и домен верхнего уровня
+     * не короче двух букв.
+     *
+     * @param email строка или null
+     * @return {@code true}, если формат корректный
+     */
+    public static boolean isEmail(String email) {
+        if (email == null) {
+            return false;
+        }
+        final int length = email.length();
+        int i = 0;
+        while (i < length && (isWordChar(email.charAt(i)) || email.charAt(i) == '-' || email.charAt(i) == '.')) {
+            i++;
+        }
+        if (i == 0 || i == length || email.charAt(i) != '@') {
+            return false;
+        }
+        i++;
+        final int domainStart = i;
+        while (i < length && (isWordChar(email.charAt(i)) || email.charAt(i) == '-')) {
+            i++;
+        }
+        if (i == domainStart || i == length || email.charAt(i) != '.') {
+            return false;
+        }
+        i++;
+        final int topLevelStart = i;
+        while (i < length && isLetter(email.charAt(i))) {
+            i++;
+        }
+        return i == length && length - topLevelStart >= 2;
+    }
+
+    /**
+     * Проверяет надёжность пароля. Эквивалент {@code ^(?=.*[0-9])(?=.*[a-zA-Z])[a-zA-Z0-9]{8,}$}:
+     * не менее {@value #MIN_PASSWORD_LENGTH} символов, только латинские буквы и цифры,
+     * хотя бы одна буква и хотя бы одна цифра.
+     *
+     * @param password пароль или null
+     * @return {@code true}, если пароль соответствует критериям
+     */
+    public static boolean isStrongPassword(String password) {
+        if (password == null || password.length() < MIN_PASSWORD_LENGTH) {
+            return false;
+        }
+        boolean hasDigit = false;
+        boolean hasLetter = false;
+        for (int i = 0; i < password.length(); i++) {
+            final char c = password.charAt(i);
+            if (isDigit(c)) {
+                hasDigit = true;
+            } else if (isLetter(c)) {
+                hasLetter = true;
+            } else {
+                return false;
+            }
+        }
+        return hasDigit && hasLetter;
+    }
+
+    /**
+     * Проверяет символы секретного ключа подписи JWT. Эквивалент {@code ^[A-Za-z0-9!@#$%^&*()_+=-]+$}.
+     *
+     * @param secret секрет или null
+     * @return {@code true}, если секрет не пустой и состоит из латинских букв, цифр и символов {@code !@#$%^&*()_+=-}
+     */
+    public static boolean isSecretKeyChars(String secret) {
+        if (secret == null || secret.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < secret.length(); i++) {
+            final char c = secret.charAt(i);
+            if (!isDigit(c) && !isLetter(c) && SECRET_SPECIAL_CHARS.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isWordChar(char c) {
+        return isDigit(c) || isLetter(c) || c == '_';
+    }
+}
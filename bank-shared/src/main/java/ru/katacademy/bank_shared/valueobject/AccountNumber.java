@@ -1,9 +1,11 @@
 package ru.katacademy.bank_shared.valueobject;
 
 
+import ru.katacademy.bank_shared.validation.StringValidators;
+
 import java.io.Serializable;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 
 /**
@@ -21,15 +23,19 @@ import java.util.Random;
  */
 public record AccountNumber(String accountNumber) implements Serializable {
 
+    /** Количество цифр в номере счёта */
+    public static final int LENGTH = 20;
+
     /**
      * Проверяет, что номер счета состоит ровно из 20 цифр.
      * Если это не так, выбрасывается исключение {@link IllegalArgumentException}.
+     * Проверка выполняется {@link StringValidators#isDigits(String, int)}, без регулярного выражения.
      *
      * @param accountNumber Номер счета, который должен быть строкой длиной ровно 20 символов, содержащей только цифры.
      * @throws IllegalArgumentException Если номер счета некорректен (не 20 символов или содержит нецифровые символы).
      */
     public AccountNumber {
-        if (accountNumber == null || accountNumber.length() != 20 || !accountNumber.matches("\\d+")) {
+        if (!StringValidators.isDigits(accountNumber, LENGTH)) {
             throw new IllegalArgumentException("Account number must be exactly 20 digits long and contain only digits.");
         }
     }
@@ -38,16 +44,18 @@ public record AccountNumber(String accountNumber) implements Serializable {
      * Генерирует временный номер счета - строку состоящую из 20 числовых символов от 0 до 9
      *
      * @return новый объект AccountNumber c
+     * @deprecated случайный номер может совпасть с существующим; используйте {@link AccountNumberGenerator}
      */
+    @Deprecated
     public static AccountNumber generateAccountNumber() {
-        final Random random = new Random();
-        final StringBuilder number = new StringBuilder();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final char[] number = new char[LENGTH];
 
-        for (int i = 0; i < 20; i++) {
-            number.append(random.nextInt(10));
+        for (int i = 0; i < LENGTH; i++) {
+            number[i] = (char) ('0' + random.nextInt(10));
         }
 
-        return new AccountNumber(number.toString());
+        return new AccountNumber(new String(number));
     }
 
     /**
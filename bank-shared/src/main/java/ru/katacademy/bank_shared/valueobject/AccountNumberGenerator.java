@@ -0,0 +1,171 @@
+package ru.katacademy.bank_shared.valueobject;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Генератор уникальных номеров счетов без обращения к БД.
+ * <p>
+ * Номер из 20 цифр составляется из частей:
+ * <ul>
+ *   <li>3 цифры — номер узла приложения ({@code 0..999}), уникальный для каждого экземпляра;</li>
+ *   <li>10 цифр — секунды от {@link #EPOCH_SECOND} (хватает примерно на 300 лет);</li>
+ *   <li>6 цифр — счётчик внутри секунды (до 1 000 000 номеров в секунду на узел);</li>
+ *   <li>1 цифра — контрольная цифра по алгоритму Луна.</li>
+ * </ul>
+ * Секунды и счётчик образуют одну монотонную последовательность. Потоки резервируют в ней блоки номеров
+ * одной CAS-операцией над {@link AtomicLong} и выдают номера из своего блока без синхронизации.
+ * Если за секунду запрошено больше номеров, чем вмещает счётчик, последовательность
+ * переходит на следующие секунды, поэтому номера не повторяются и при переводе часов назад.
+ * </p>
+ * <p>
+ * Уникальность между узлами обеспечивается разными номерами узлов. Внутри процесса последовательность
+ * не убывает, даже если часы переводятся назад. Между перезапусками узла одного текущего времени недостаточно:
+ * процесс, перезапущенный в ту же секунду, с отстающими часами или после выдачи номеров «в долг»
+ * следующих секунд, повторил бы номера. Поэтому при запуске последовательность продолжается после последнего
+ * номера узла, сохранённого в БД ({@link #continueAfter(AccountNumber)}).
+ * </p>
+ */
+public final class AccountNumberGenerator {
+
+    /** Начало отсчёта времени в номере: 2024-01-01T00:00:00Z */
+    public static final long EPOCH_SECOND = 1_704_067_200L;
+
+    /** Максимальный номер узла */
+    public static final int MAX_NODE_ID = 999;
+
+    /** Количество номеров, резервируемых потоком за одно обращение к общей последовательности */
+    public static final int DEFAULT_BLOCK_SIZE = 32;
+
+    private static final long COUNTER_RANGE = 1_000_000L;
+    private static final long SEQUENCE_RANGE = 10_000_000_000L * COUNTER_RANGE;
+    private static final int PAYLOAD_LENGTH = AccountNumber.LENGTH - 1;
+    private static final int NODE_LENGTH = 3;
+
+    private final int nodeId;
+    private final int blockSize;
+    private final Clock clock;
+    private final AtomicLong sequence = new AtomicLong();
+    private final ThreadLocal<long[]> blocks = ThreadLocal.withInitial(() -> new long[2]);
+
+    /**
+     * @param nodeId номер узла приложения
+     * @throws IllegalArgumentException если номер узла вне диапазона {@code 0..999}
+     */
+    public AccountNumberGenerator(int nodeId) {
+        this(nodeId, DEFAULT_BLOCK_SIZE, Clock.systemUTC());
+    }
+
+    /**
+     * @param nodeId    номер узла приложения
+     * @param blockSize количество номеров, резервируемых потоком за раз
+     * @param clock     источник времени
+     * @throws IllegalArgumentException если номер узла вне диапазона {@code 0..999} или размер блока не положителен
+     */
+    public AccountNumberGenerator(int nodeId, int blockSize, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Номер узла должен быть в диапазоне 0.." + MAX_NODE_ID);
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Размер блока номеров должен быть положительным");
+        }
+        this.nodeId = nodeId;
+        this.blockSize = blockSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Выдаёт следующий номер счёта.
+     *
+     * @return новый номер счёта, не совпадающий с ранее выданными этим и другими узлами
+     * @throws IllegalStateException если последовательность исчерпана
+     */
+    public AccountNumber next() {
+        final long[] block = blocks.get();
+        if (block[0] == block[1]) {
+            reserveBlock(block);
+        }
+        final long value = block[0]++;
+        return format(nodeId, value);
+    }
+
+    /**
+     * @return первые цифры номеров счетов, выдаваемых этим узлом (номер узла)
+     */
+    public String nodePrefix() {
+        final char[] digits = new char[NODE_LENGTH];
+        writeDigits(digits, 0, NODE_LENGTH, nodeId);
+        return new String(digits);
+    }
+
+    /**
+     * Продолжает последовательность после номера, выданного этим узлом ранее, например до перезапуска.
+     * Номера других узлов и номера с неверной контрольной цифрой (выданные не генератором) не учитываются.
+     *
+     * @param issued ранее выданный номер счёта
+     */
+    public void continueAfter(AccountNumber issued) {
+        final String value = issued.value();
+        if (!value.startsWith(nodePrefix()) || !hasValidCheckDigit(issued)) {
+            return;
+        }
+        final long issuedValue = Long.parseLong(value, NODE_LENGTH, PAYLOAD_LENGTH, 10);
+        sequence.accumulateAndGet(issuedValue + 1, Math::max);
+    }
+
+    /**
+     * Проверяет контрольную цифру номера счёта.
+     * Номера, выданные до появления генератора, как правило, её не проходят.
+     *
+     * @param accountNumber номер счёта
+     * @return {@code true}, если последняя цифра совпадает с контрольной цифрой остальных
+     */
+    public static boolean hasValidCheckDigit(AccountNumber accountNumber) {
+        final String value = accountNumber.value();
+        return value.charAt(PAYLOAD_LENGTH) - '0' == checkDigit(value.toCharArray());
+    }
+
+    private void reserveBlock(long[] block) {
+        final long floor = (clock.millis() / 1000 - EPOCH_SECOND) * COUNTER_RANGE;
+        final long end = sequence.updateAndGet(current -> Math.max(current, floor) + blockSize);
+        if (end > SEQUENCE_RANGE) {
+            throw new IllegalStateException("Последовательность номеров счетов исчерпана");
+        }
+        block[0] = end - blockSize;
+        block[1] = end;
+    }
+
+    private static AccountNumber format(int nodeId, long value) {
+        final char[] digits = new char[AccountNumber.LENGTH];
+        writeDigits(digits, 0, NODE_LENGTH, nodeId);
+        writeDigits(digits, NODE_LENGTH, PAYLOAD_LENGTH, value);
+        digits[PAYLOAD_LENGTH] = (char) ('0' + checkDigit(digits));
+        return new AccountNumber(new String(digits));
+    }
+
+    private static void writeDigits(char[] digits, int from, int to, long value) {
+        long rest = value;
+        for (int i = to - 1; i >= from; i--) {
+            digits[i] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+    }
+
+    /**
+     * Вычисляет контрольную цифру по алгоритму Луна для первых 19 цифр.
+     */
+    private static int checkDigit(char[] digits) {
+        int sum = 0;
+        for (int i = PAYLOAD_LENGTH - 1; i >= 0; i--) {
+            int digit = digits[i] - '0';
+            if ((PAYLOAD_LENGTH - 1 - i) % 2 == 0) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+        }
+        return (10 - sum % 10) % 10;
+    }
+}
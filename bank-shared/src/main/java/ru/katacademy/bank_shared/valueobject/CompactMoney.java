@@ -0,0 +1,142 @@
+package ru.katacademy.bank_shared.valueobject;
+
+import java.math.BigDecimal;
+
+/**
+ * Денежная сумма в минимальных единицах валюты (копейках, центах).
+ * <p>
+ * Компактная альтернатива {@link Money} для горячих участков: сумма хранится в {@code long},
+ * валюта — номером в {@link CurrencyRegistry}. Арифметика и сравнение не создают {@link BigDecimal},
+ * а проверка совпадения валют сводится к сравнению чисел. Переполнение при сложении
+ * и вычитании приводит к {@link ArithmeticException}.
+ * </p>
+ * <p>
+ * Количество минимальных единиц определяется {@link Currency#scale()}:
+ * {@code 12.34 RUB} (scale = 2) хранится как {@code 1234}.
+ * Преобразование из {@link Money} и обратно выполняется без потерь.
+ * </p>
+ * <p>
+ * {@code CompactMoney} существует только в памяти процесса. Номер валюты выводится из списка валют JDK
+ * и может измениться при обновлении JDK, поэтому его нельзя сохранять в БД, передавать по сети
+ * или сериализовать: для этого сумма преобразуется в {@link Money}, где валюта задана кодом ISO 4217.
+ * </p>
+ *
+ * @param minorUnits    сумма в минимальных единицах валюты (не может быть отрицательной)
+ * @param currencyIndex номер валюты в {@link CurrencyRegistry}, действительный только в текущем процессе
+ */
+public record CompactMoney(long minorUnits, short currencyIndex) {
+
+    public CompactMoney {
+        if (minorUnits < 0) {
+            throw new IllegalArgumentException("Amount must not be negative.");
+        }
+    }
+
+    /**
+     * Преобразует {@link Money} в сумму в минимальных единицах.
+     *
+     * @param money денежная сумма
+     * @return сумма в минимальных единицах
+     * @throws ArithmeticException если сумма содержит больше знаков после запятой, чем {@link Currency#scale()},
+     *                             или не помещается в {@code long}
+     * @throws IllegalArgumentException если валюта отсутствует в {@link CurrencyRegistry}
+     */
+    public static CompactMoney of(Money money) {
+        final long minorUnits = money.amount().movePointRight(money.currency().scale()).longValueExact();
+        return new CompactMoney(minorUnits, CurrencyRegistry.indexOf(money.currency()));
+    }
+
+    /**
+     * Создаёт сумму в минимальных единицах валюты.
+     *
+     * @param minorUnits сумма в минимальных единицах
+     * @param currency   валюта
+     * @return сумма в минимальных единицах
+     * @throws IllegalArgumentException если валюта отсутствует в {@link CurrencyRegistry}
+     */
+    public static CompactMoney ofMinor(long minorUnits, Currency currency) {
+        return new CompactMoney(minorUnits, CurrencyRegistry.indexOf(currency));
+    }
+
+    /**
+     * @return валюта суммы
+     */
+    public Currency currency() {
+        return CurrencyRegistry.byIndex(currencyIndex);
+    }
+
+    /**
+     * Преобразует сумму в {@link Money}.
+     *
+     * @return денежная сумма с масштабом {@link Currency#scale()}
+     */
+    public Money toMoney() {
+        final Currency currency = currency();
+        return new Money(BigDecimal.valueOf(minorUnits, currency.scale()), currency);
+    }
+
+    /**
+     * @param other сумма для сравнения
+     * @return {@code true}, если валюты сумм совпадают
+     */
+    public boolean sameCurrency(CompactMoney other) {
+        return currencyIndex == other.currencyIndex;
+    }
+
+    /**
+     * Проверяет совпадение валют.
+     *
+     * @param other сумма для сравнения
+     * @throws IllegalArgumentException если валюты не совпадают
+     */
+    public void checkCurrencyMatch(CompactMoney other) {
+        if (currencyIndex != other.currencyIndex) {
+            throw new IllegalArgumentException("Currency does not match currency.");
+        }
+    }
+
+    /**
+     * Складывает суммы.
+     *
+     * @param other слагаемое
+     * @return сумма
+     * @throws IllegalArgumentException если валюты не совпадают
+     * @throws ArithmeticException      при переполнении
+     */
+    public CompactMoney add(CompactMoney other) {
+        checkCurrencyMatch(other);
+        return new CompactMoney(Math.addExact(minorUnits, other.minorUnits), currencyIndex);
+    }
+
+    /**
+     * Вычитает сумму.
+     *
+     * @param other вычитаемое
+     * @return разность
+     * @throws IllegalArgumentException если валюты не совпадают или результат будет отрицательным
+     */
+    public CompactMoney subtract(CompactMoney other) {
+        checkCurrencyMatch(other);
+        if (minorUnits < other.minorUnits) {
+            throw new IllegalArgumentException("Resulting amount must not be negative.");
+        }
+        return new CompactMoney(minorUnits - other.minorUnits, currencyIndex);
+    }
+
+    /**
+     * @param other сумма для сравнения в той же валюте
+     * @return {@code true}, если текущая сумма больше переданной
+     * @throws IllegalArgumentException если валюты не совпадают
+     */
+    public boolean isGreaterThan(CompactMoney other) {
+        checkCurrencyMatch(other);
+        return minorUnits > other.minorUnits;
+    }
+
+    /**
+     * @return {@code true}, если сумма больше нуля
+     */
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+}
@@ -1,5 +1,8 @@
 package ru.katacademy.bank_shared.valueobject;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.Objects;
 
 /**
@@ -7,6 +10,10 @@ import java.util.Objects;
  * <p>
  * Используется для обеспечения типобезопасности при работе с денежными значениями (например, в {@code Money}, {@code Account}).
  * </p>
+ * <p>
+ * Валюты ISO 4217 следует получать через {@link #ofCode(String)} или {@link CurrencyRegistry}:
+ * они возвращают канонические экземпляры, которые не нужно создавать заново для каждой суммы.
+ * </p>
  *
  * @param code  ISO 4217 код валюты (например, "USD", "EUR", "RUB").
  * @param name  Человекочитаемое название валюты (например, "US Dollar").
@@ -36,6 +43,47 @@ public record Currency(
         code = code.toUpperCase();
     }
 
+    /**
+     * Возвращает валюту по ISO 4217 коду.
+     * <p>
+     * Валюта берётся из {@link CurrencyRegistry}, поэтому повторные вызовы возвращают один и тот же экземпляр.
+     * Используется там, где хранится только код валюты (например, колонка {@code CHAR(3)}).
+     * </p>
+     *
+     * @param code ISO 4217 код валюты
+     * @return каноническая валюта
+     * @throws IllegalArgumentException если код пустой или не является кодом ISO 4217
+     */
+    public static Currency ofCode(String code) {
+        return CurrencyRegistry.of(code);
+    }
+
+    /**
+     * Восстанавливает валюту из JSON.
+     * <p>
+     * Для кодов из {@link CurrencyRegistry} возвращается канонический экземпляр: название из JSON
+     * не используется, а количество знаков после запятой должно совпадать со справочником. Валюта вне справочника восстанавливается
+     * как есть, чтобы можно было прочитать любое событие, но перевести её в {@link CompactMoney} нельзя:
+     * переводы с такой валютой отклоняются с кодом {@code UNKNOWN_CURRENCY}.
+     * </p>
+     *
+     * @param code  ISO 4217 код валюты
+     * @param name  название валюты
+     * @param scale количество знаков после запятой
+     * @return каноническая валюта или новая валюта, если код отсутствует в справочнике
+     * @throws IllegalArgumentException если количество знаков после запятой отличается от справочника
+     */
+    @JsonCreator
+    static Currency fromJson(@JsonProperty("code") String code,
+                             @JsonProperty("name") String name,
+                             @JsonProperty("scale") int scale) {
+        final Currency registered = CurrencyRegistry.find(code).orElse(null);
+        if (registered != null) {
+            return CurrencyRegistry.checkScale(registered, scale);
+        }
+        return new Currency(code, name, scale);
+    }
+
     /**
      * Две валюты считаются равными, если у них одинаковый код.
      *
@@ -44,6 +92,9 @@ public record Currency(
      */
     @Override
     public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
         if (!(o instanceof Currency currency)) {
             return false;
         }
@@ -0,0 +1,148 @@
+package ru.katacademy.bank_shared.valueobject;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Справочник валют ISO 4217.
+ * <p>
+ * Заполняется один раз при загрузке класса из {@link java.util.Currency#getAvailableCurrencies()}
+ * и после этого не меняется. Для каждого кода хранится единственный канонический экземпляр {@link Currency},
+ * поэтому конвертеры, {@link Money} и десериализация JSON не создают новых объектов валюты на каждую строку,
+ * а валюты, полученные через справочник, можно сравнивать по ссылке.
+ * </p>
+ * <p>
+ * Каждой валюте также присвоен номер, который используется в {@link CompactMoney}. Номера зависят от списка валют
+ * JDK и меняются при его обновлении, поэтому постоянны только в пределах одного процесса: их нельзя сохранять в БД
+ * и передавать между сервисами.
+ * </p>
+ */
+public final class CurrencyRegistry {
+
+    private static final Currency[] CURRENCIES = java.util.Currency.getAvailableCurrencies().stream()
+            .sorted(Comparator.comparing(java.util.Currency::getCurrencyCode))
+            .map(CurrencyRegistry::fromIso)
+            .toArray(Currency[]::new);
+
+    private static final Map<String, Short> INDEXES = indexByCode();
+
+    private CurrencyRegistry() {
+    }
+
+    /**
+     * Возвращает каноническую валюту по ISO 4217 коду.
+     *
+     * @param code ISO 4217 код валюты (регистр и пробелы по краям не учитываются)
+     * @return каноническая валюта
+     * @throws IllegalArgumentException если код пустой или не является кодом ISO 4217
+     */
+    public static Currency of(String code) {
+        if (code == null || code.isBlank()) {
+            throw new IllegalArgumentException("Код валюты не должен быть пустым");
+        }
+        return find(code)
+                .orElseThrow(() -> new IllegalArgumentException("Неизвестный код валюты: " + code));
+    }
+
+    /**
+     * Ищет каноническую валюту по ISO 4217 коду.
+     *
+     * @param code ISO 4217 код валюты (регистр и пробелы по краям не учитываются)
+     * @return каноническая валюта или пустой {@link Optional}, если код не найден
+     */
+    public static Optional<Currency> find(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        Short index = INDEXES.get(code);
+        if (index == null) {
+            index = INDEXES.get(code.trim().toUpperCase(Locale.ROOT));
+        }
+        if (index == null) {
+            return Optional.empty();
+        }
+        return Optional.of(CURRENCIES[index]);
+    }
+
+    /**
+     * Заменяет валюту каноническим экземпляром с тем же кодом.
+     * <p>
+     * Название валюты берётся из справочника, а количество знаков после запятой должно совпадать:
+     * иначе замена изменила бы смысл суммы.
+     * </p>
+     *
+     * @param currency валюта или null
+     * @return канонический экземпляр; сама валюта, если её код отсутствует в справочнике; null для null
+     * @throws IllegalArgumentException если количество знаков после запятой отличается от справочника
+     */
+    public static Currency canonical(Currency currency) {
+        if (currency == null) {
+            return null;
+        }
+        final Short index = INDEXES.get(currency.code());
+        if (index == null) {
+            return currency;
+        }
+        return checkScale(CURRENCIES[index], currency.scale());
+    }
+
+    /**
+     * Проверяет, что количество знаков после запятой совпадает со справочником.
+     *
+     * @param registered каноническая валюта
+     * @param scale      количество знаков после запятой, заданное вызывающим
+     * @return каноническая валюта
+     * @throws IllegalArgumentException если количество знаков после запятой отличается
+     */
+    static Currency checkScale(Currency registered, int scale) {
+        if (registered.scale() != scale) {
+            throw new IllegalArgumentException(String.format(
+                    "Количество знаков после запятой валюты %s (%d) не совпадает со справочником ISO 4217 (%d)",
+                    registered.code(), scale, registered.scale()));
+        }
+        return registered;
+    }
+
+    /**
+     * Возвращает постоянный номер валюты.
+     *
+     * @param currency валюта
+     * @return номер валюты в справочнике
+     * @throws IllegalArgumentException если валюта отсутствует в справочнике
+     */
+    static short indexOf(Currency currency) {
+        final Short index = INDEXES.get(currency.code());
+        if (index == null) {
+            throw new IllegalArgumentException("Неизвестный код валюты: " + currency.code());
+        }
+        return index;
+    }
+
+    /**
+     * Возвращает валюту по её номеру.
+     *
+     * @param index номер валюты, полученный из {@link #indexOf(Currency)}
+     * @return каноническая валюта
+     */
+    static Currency byIndex(short index) {
+        return CURRENCIES[index];
+    }
+
+    private static Currency fromIso(java.util.Currency iso) {
+        return new Currency(
+                iso.getCurrencyCode(),
+                iso.getDisplayName(Locale.forLanguageTag("ru")),
+                Math.max(iso.getDefaultFractionDigits(), 0));
+    }
+
+    private static Map<String, Short> indexByCode() {
+        final Map<String, Short> indexes = new HashMap<>(CURRENCIES.length * 2);
+        for (short i = 0; i < CURRENCIES.length; i++) {
+            indexes.put(CURRENCIES[i].code(), i);
+        }
+        return Map.copyOf(indexes);
+    }
+}
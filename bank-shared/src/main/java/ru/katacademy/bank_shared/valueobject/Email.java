@@ -1,6 +1,7 @@
 package ru.katacademy.bank_shared.valueobject;
 
 import ru.katacademy.bank_shared.exception.InvalidEmailException;
+import ru.katacademy.bank_shared.validation.StringValidators;
 
 /**
  * Value Object для Email.
@@ -10,8 +11,6 @@ import ru.katacademy.bank_shared.exception.InvalidEmailException;
  */
 public record Email(String value) {
 
-    private static final String EMAIL_REGEX = "^[\\w-.]+@[\\w-]+\\.[a-zA-Z]{2,}$";
-
     public Email {
         if (!isValid(value)) {
             throw new InvalidEmailException("Invalid email format: " + value);
@@ -20,11 +19,12 @@ public record Email(String value) {
 
     /**
      * Проверяет, валиден ли переданный email.
+     * Формат описан в {@link StringValidators#isEmail(String)}.
      *
      * @param email email-строка
      * @return true, если формат корректный
      */
     public static boolean isValid(String email) {
-        return email != null && email.matches(EMAIL_REGEX);
+        return StringValidators.isEmail(email);
     }
 }
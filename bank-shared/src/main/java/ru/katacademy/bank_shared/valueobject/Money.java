@@ -10,6 +10,8 @@ import java.math.BigDecimal;
  *   <li>Сумма не может быть null или отрицательной</li>
  *   <li>Операции сложения и вычитания возможны только между одинаковыми валютами</li>
  *   <li>Вычитание не допускает отрицательный результат</li>
+ *   <li>Валюта заменяется каноническим экземпляром из {@link CurrencyRegistry}; валюта с тем же кодом,
+ *   но другим количеством знаков после запятой отклоняется</li>
  * </ul>
  * </p>
  *
@@ -22,6 +24,7 @@ public record Money(BigDecimal amount, Currency currency) {
         if (amount == null || amount.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Amount must be greater than zero.");
         }
+        currency = CurrencyRegistry.canonical(currency);
     }
 
     /**
@@ -101,6 +101,20 @@ class ErrorHandlingAspectTest {
         verify(pjp, times(1)).proceed();
     }
 
+    /**
+     * Задержка с разбросом должна оставаться в пределах {@code delay ± delay * jitter},
+     * а при нулевом разбросе совпадать с базовой задержкой.
+     */
+    @Test
+    void jitteredDelayShouldStayWithinBounds() {
+        for (int i = 0; i < 1_000; i++) {
+            long delay = ErrorHandlingAspect.jitteredDelay(100, 0.5);
+            assertTrue(delay >= 50 && delay <= 150, "delay=" + delay);
+        }
+        assertEquals(100, ErrorHandlingAspect.jitteredDelay(100, 0.0));
+        assertEquals(0, ErrorHandlingAspect.jitteredDelay(0, 0.5));
+    }
+
     /**
      * Вспомогательный класс для тестирования аспекта.
      */
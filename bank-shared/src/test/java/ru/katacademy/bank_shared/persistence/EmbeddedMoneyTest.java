@@ -0,0 +1,42 @@
+package ru.katacademy.bank_shared.persistence;
+
+import org.junit.jupiter.api.Test;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit-тест для {@link EmbeddedMoney}.
+ * Проверяет преобразование {@link Money} в колонки amount/currency и обратно.
+ */
+class EmbeddedMoneyTest {
+
+    /**
+     * Сумма и валюта должны сохраняться без потерь, а код валюты — занимать три символа.
+     */
+    @Test
+    void shouldRoundTripMoney() {
+        Money money = new Money(new BigDecimal("1500.50"), new Currency("rub", "Российский рубль", 2));
+
+        EmbeddedMoney embedded = EmbeddedMoney.of(money);
+
+        assertEquals("RUB", embedded.getCurrency());
+        assertEquals(money, embedded.toMoney());
+    }
+
+    /**
+     * Нули, дописанные колонкой NUMERIC(19, 4), должны отбрасываться до точности валюты.
+     */
+    @Test
+    void shouldNormalizeScaleToCurrency() {
+        EmbeddedMoney embedded = EmbeddedMoney.of(new Money(new BigDecimal("100.0000"), Currency.ofCode("USD")));
+
+        Money restored = embedded.toMoney();
+
+        assertEquals(new BigDecimal("100.00"), restored.amount());
+        assertEquals(2, restored.currency().scale());
+    }
+}
@@ -0,0 +1,242 @@
+package ru.katacademy.bank_shared.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.katacademy.bank_shared.exception.InvalidTokenException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Тестовый класс для {@link JwksTokenVerifier}.
+ * Проверяет локальную проверку подписей RS256 и ES256 по JWKS, загрузку ключей после ротации
+ * и отклонение просроченных, подделанных и неподписанных токенов.
+ */
+class JwksTokenVerifierTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Map<String, Object>> publishedKeys = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private KeyPair rsaKeyPair;
+    private KeyPair ecKeyPair;
+    private JwksTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws GeneralSecurityException {
+        final KeyPairGenerator rsa = KeyPairGenerator.getInstance("RSA");
+        rsa.initialize(2048);
+        rsaKeyPair = rsa.generateKeyPair();
+        final KeyPairGenerator ec = KeyPairGenerator.getInstance("EC");
+        ec.initialize(new ECGenParameterSpec("secp256r1"));
+        ecKeyPair = ec.generateKeyPair();
+
+        publishedKeys.add(JwkCodec.toJwk("rsa-1", "RS256", rsaKeyPair.getPublic()));
+        verifier = new JwksTokenVerifier(this::loadJwks, objectMapper, Duration.ofMinutes(5), Duration.ofSeconds(30),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void verify_ShouldReturnPrincipal_WhenRs256SignatureValid() throws Exception {
+        final String token = sign("RS256", "rsa-1", rsaKeyPair.getPrivate(), claims(NOW.plusSeconds(60)));
+
+        final JwtPrincipal principal = verifier.verify(token);
+
+        assertEquals(42L, principal.userId());
+        assertEquals("user@mail.ru", principal.subject());
+        assertEquals(List.of("ROLE_USER"), principal.roles());
+        assertEquals(NOW.plusSeconds(60), principal.expiresAt());
+    }
+
+    @Test
+    void verify_ShouldLoadRotatedKeyOnce_WhenKidUnknown() throws Exception {
+        verifier.verify(sign("RS256", "rsa-1", rsaKeyPair.getPrivate(), claims(NOW.plusSeconds(60))));
+        publishedKeys.add(JwkCodec.toJwk("ec-2", "ES256", ecKeyPair.getPublic()));
+        final String token = sign("ES256", "ec-2", ecKeyPair.getPrivate(), claims(NOW.plusSeconds(60)));
+
+        // набор загружен только что, внеочередная загрузка ограничена интервалом
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(token));
+
+        final JwksTokenVerifier rotated = new JwksTokenVerifier(this::loadJwks, objectMapper, Duration.ofMinutes(5),
+                Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+        publishedKeys.remove(1);
+        rotated.verify(sign("RS256", "rsa-1", rsaKeyPair.getPrivate(), claims(NOW.plusSeconds(60))));
+        publishedKeys.add(JwkCodec.toJwk("ec-2", "ES256", ecKeyPair.getPublic()));
+
+        assertEquals(42L, rotated.verify(token).userId());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void verify_ShouldRejectUnknownKidWithoutWaiting_WhenRefreshInProgress() throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final JwksTokenVerifier slow = new JwksTokenVerifier(() -> {
+            if (calls.incrementAndGet() > 1) {
+                loading.countDown();
+                awaitQuietly(release);
+            }
+            return loadJwks();
+        }, objectMapper, Duration.ofMinutes(5), Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+        final String known = sign("RS256", "rsa-1", rsaKeyPair.getPrivate(), claims(NOW.plusSeconds(60)));
+        final String unknown = sign("ES256", "ec-2", ecKeyPair.getPrivate(), claims(NOW.plusSeconds(60)));
+        slow.verify(known);
+
+        final CompletableFuture<Void> refreshing = CompletableFuture.runAsync(
+                () -> assertThrows(InvalidTokenException.class, () -> slow.verify(unknown)));
+        try {
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                assertThrows(InvalidTokenException.class, () -> slow.verify(unknown));
+                assertEquals(42L, slow.verify(known).userId());
+            });
+        } finally {
+            release.countDown();
+        }
+
+        refreshing.get(5, TimeUnit.SECONDS);
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * Пока набор ключей ни разу не загружен, потоки ждут первой загрузки, а не отклоняют действительный токен.
+     */
+    @Test
+    void verify_ShouldWaitForFirstLoad_WhenKeysNotLoadedYet() throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final JwksTokenVerifier slow = new JwksTokenVerifier(() -> {
+            loading.countDown();
+            awaitQuietly(release);
+            return loadJwks();
+        }, objectMapper, Duration.ofMinutes(5), Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        final String known = sign("RS256", "rsa-1", rsaKeyPair.getPrivate(), claims(NOW.plusSeconds(60)));
+
+        final CompletableFuture<JwtPrincipal> first = CompletableFuture.supplyAsync(() -> slow.verify(known));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        final CompletableFuture<JwtPrincipal> waiting = CompletableFuture.supplyAsync(() -> slow.verify(known));
+        release.countDown();
+
+        assertEquals(42L, first.get(5, TimeUnit.SECONDS).userId());
+        assertEquals(42L, waiting.get(5, TimeUnit.SECONDS).userId());
+        assertEquals(1, loads.get());
+    }
+
+    /**
+     * Неудачная первая загрузка повторяется следующим запросом, не дожидаясь минимального интервала.
+     */
+    @Test
+    void verify_ShouldRetryFirstLoadImmediately_WhenItFailed() throws Exception {
+        final AtomicInteger failures = new AtomicInteger(1);
+        final JwksTokenVerifier flaky = new JwksTokenVerifier(() -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("JWKS недоступен");
+            }
+            return loadJwks();
+        }, objectMapper, Duration.ofMinutes(5), Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        final String known = sign("RS256", "rsa-1", rsaKeyPair.getPrivate(), claims(NOW.plusSeconds(60)));
+
+        assertThrows(InvalidTokenException.class, () -> flaky.verify(known));
+
+        assertEquals(42L, flaky.verify(known).userId());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void verify_ShouldReject_WhenExpired() throws Exception {
+        final String token = sign("RS256", "rsa-1", rsaKeyPair.getPrivate(), claims(NOW.minusSeconds(1)));
+
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(token));
+    }
+
+    @Test
+    void verify_ShouldReject_WhenPayloadTampered() throws Exception {
+        final String token = sign("RS256", "rsa-1", rsaKeyPair.getPrivate(), claims(NOW.plusSeconds(60)));
+        final String[] parts = token.split("\\.");
+        final String forged = parts[0] + "." + encode(objectMapper.writeValueAsBytes(
+                Map.of("sub", "admin", "userId", 1, "roles", List.of("ROLE_ADMIN"), "exp", NOW.plusSeconds(60).getEpochSecond())))
+                + "." + parts[2];
+
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(forged));
+    }
+
+    @Test
+    void verify_ShouldReject_WhenAlgorithmNotAsymmetric() throws Exception {
+        final String header = encode(objectMapper.writeValueAsBytes(Map.of("alg", "none", "kid", "rsa-1")));
+        final String payload = encode(objectMapper.writeValueAsBytes(claims(NOW.plusSeconds(60))));
+
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(header + "." + payload + "."));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify("not-a-token"));
+    }
+
+    @Test
+    void verify_ShouldReject_WhenAlgorithmDoesNotMatchKey() throws Exception {
+        final String token = sign("ES256", "rsa-1", ecKeyPair.getPrivate(), claims(NOW.plusSeconds(60)));
+
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(token));
+    }
+
+    private String loadJwks() {
+        loads.incrementAndGet();
+        try {
+            return objectMapper.writeValueAsString(Map.of("keys", publishedKeys));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<String, Object> claims(Instant expiresAt) {
+        return Map.of("sub", "user@mail.ru", "userId", 42, "roles", List.of("ROLE_USER"), "exp", expiresAt.getEpochSecond());
+    }
+
+    private String sign(String alg, String kid, PrivateKey key, Map<String, Object> claims) throws Exception {
+        final String signingInput = encode(objectMapper.writeValueAsBytes(Map.of("alg", alg, "kid", kid)))
+                + "." + encode(objectMapper.writeValueAsBytes(claims));
+        String algorithm = "SHA256withRSA";
+        if ("ES256".equals(alg)) {
+            algorithm = "SHA256withECDSAinP1363Format";
+        }
+        final Signature signature = Signature.getInstance(algorithm);
+        signature.initSign(key);
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + encode(signature.sign());
+    }
+
+    private String encode(byte[] value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+}
@@ -0,0 +1,78 @@
+package ru.katacademy.bank_shared.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Unit-тест для {@link StringValidators}.
+ * Сравнивает результаты проверок с регулярными выражениями, которые они заменяют.
+ */
+class StringValidatorsTest {
+
+    private static final Pattern DIGITS = Pattern.compile("\\d{20}");
+    private static final Pattern EMAIL = Pattern.compile("^[\\w-.]+@[\\w-]+\\.[a-zA-Z]{2,}$");
+    private static final Pattern PASSWORD = Pattern.compile("^(?=.*[0-9])(?=.*[a-zA-Z])[a-zA-Z0-9]{8,}$");
+    private static final Pattern SECRET = Pattern.compile("^[A-Za-z0-9!@#$%^&*()_+=-]+$");
+
+    /** Символы для случайных строк: все классы из регулярных выражений и несколько посторонних */
+    private static final String ALPHABET = "aZ09_-.@!#=+ \nЖ";
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "user@mail.ru", "first.last-name_1@my-domain.com", "a@b.cd", "", "@mail.ru", "user@.ru",
+            "user@mail.r", "user@mail.ru1", "user@mail.co.uk", "user@@mail.ru", "user@mail.ru\n", "юзер@mail.ru"
+    })
+    void isEmailShouldMatchRegex(String value) {
+        assertEquals(EMAIL.matcher(value).matches(), StringValidators.isEmail(value), value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"password1", "12345678", "abcdefgh", "Passw0rd", "Pass0rd", "Passw0rd!", "пароль123abc", ""})
+    void isStrongPasswordShouldMatchRegex(String value) {
+        assertEquals(PASSWORD.matcher(value).matches(), StringValidators.isStrongPassword(value), value);
+    }
+
+    /**
+     * На случайных строках проверки совпадают с регулярными выражениями.
+     */
+    @Test
+    void shouldMatchRegexOnRandomInput() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            final String value = randomString(random);
+            assertEquals(EMAIL.matcher(value).matches(), StringValidators.isEmail(value), value);
+            assertEquals(PASSWORD.matcher(value).matches(), StringValidators.isStrongPassword(value), value);
+            assertEquals(SECRET.matcher(value).matches(), StringValidators.isSecretKeyChars(value), value);
+            assertEquals(DIGITS.matcher(value).matches(), StringValidators.isDigits(value, 20), value);
+        }
+    }
+
+    @Test
+    void shouldRejectNull() {
+        assertFalse(StringValidators.isDigits(null, 20));
+        assertFalse(StringValidators.isEmail(null));
+        assertFalse(StringValidators.isStrongPassword(null));
+        assertFalse(StringValidators.isSecretKeyChars(null));
+    }
+
+    private static String randomString(Random random) {
+        final int length = random.nextInt(24);
+        final char[] chars = new char[length];
+        final boolean digitsOnly = random.nextInt(4) == 0;
+        for (int i = 0; i < length; i++) {
+            if (digitsOnly) {
+                chars[i] = (char) ('0' + random.nextInt(10));
+            } else {
+                chars[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            }
+        }
+        return new String(chars);
+    }
+}
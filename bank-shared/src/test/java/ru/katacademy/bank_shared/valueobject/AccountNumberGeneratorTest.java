@@ -0,0 +1,116 @@
+package ru.katacademy.bank_shared.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit-тест для {@link AccountNumberGenerator}.
+ * Проверяет уникальность номеров при параллельной генерации, формат номера, контрольную цифру
+ * и продолжение последовательности после перезапуска.
+ */
+class AccountNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 20_000;
+
+    private final Clock clock = Clock.fixed(
+            Instant.ofEpochSecond(AccountNumberGenerator.EPOCH_SECOND + 5), ZoneOffset.UTC);
+
+    /**
+     * Номера, выданные параллельно несколькими потоками, не повторяются.
+     */
+    @Test
+    void shouldGenerateUniqueNumbersConcurrently() throws Exception {
+        final AccountNumberGenerator generator = new AccountNumberGenerator(7, 16, clock);
+        final Set<AccountNumber> generated = ConcurrentHashMap.newKeySet();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < PER_THREAD; i++) {
+                    generated.add(generator.next());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(THREADS * PER_THREAD, generated.size());
+    }
+
+    /**
+     * Номер начинается с номера узла, за ним следуют секунды от начала отсчёта,
+     * а последняя цифра — контрольная.
+     */
+    @Test
+    void shouldEncodeNodeTimeAndCheckDigit() {
+        final AccountNumber number = new AccountNumberGenerator(42, 1, clock).next();
+
+        assertEquals("042", number.value().substring(0, 3));
+        assertEquals(5L, Long.parseLong(number.value().substring(3, 13)));
+        assertTrue(AccountNumberGenerator.hasValidCheckDigit(number));
+    }
+
+    /**
+     * Исчерпание счётчика в пределах секунды переводит последовательность на следующую секунду.
+     */
+    @Test
+    void shouldContinueIntoNextSecondWhenCounterIsExhausted() {
+        final AccountNumberGenerator generator = new AccountNumberGenerator(0, 1_000, clock);
+
+        AccountNumber last = generator.next();
+        for (int i = 1; i <= 1_000_000; i++) {
+            last = generator.next();
+        }
+
+        assertEquals(6L, Long.parseLong(last.value().substring(3, 13)));
+        assertEquals(0L, Long.parseLong(last.value().substring(13, 19)));
+    }
+
+    /**
+     * После перезапуска в ту же секунду новый генератор продолжает после последнего выданного номера узла;
+     * номера других узлов последовательность не сдвигают.
+     */
+    @Test
+    void shouldContinueAfterLastIssuedNumber() {
+        final AccountNumber issued = new AccountNumberGenerator(42, 1_000, clock).next();
+        final AccountNumberGenerator restarted = new AccountNumberGenerator(42, 1_000, clock);
+
+        restarted.continueAfter(new AccountNumberGenerator(43, 1_000, clock).next());
+        restarted.continueAfter(issued);
+        final AccountNumber next = restarted.next();
+
+        assertEquals(Long.parseLong(issued.value().substring(3, 19)) + 1, Long.parseLong(next.value().substring(3, 19)));
+        assertTrue(AccountNumberGenerator.hasValidCheckDigit(next));
+    }
+
+    @Test
+    void shouldDetectWrongCheckDigit() {
+        assertFalse(AccountNumberGenerator.hasValidCheckDigit(new AccountNumber("00000000000000000011")));
+        assertTrue(AccountNumberGenerator.hasValidCheckDigit(new AccountNumber("00000000000000000018")));
+    }
+
+    @Test
+    void shouldRejectInvalidNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new AccountNumberGenerator(1_000));
+        assertThrows(IllegalArgumentException.class, () -> new AccountNumberGenerator(-1));
+    }
+}
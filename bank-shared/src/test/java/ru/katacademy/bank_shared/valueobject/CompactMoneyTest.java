@@ -0,0 +1,78 @@
+package ru.katacademy.bank_shared.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit-тест для {@link CompactMoney}.
+ * Проверяет преобразование из {@link Money} и обратно и арифметику в минимальных единицах валюты.
+ */
+class CompactMoneyTest {
+
+    private final Currency rub = new Currency("RUB", "Российский рубль", 2);
+    private final Currency jpy = new Currency("JPY", "Японская иена", 0);
+
+    /**
+     * Сумма переводится в минимальные единицы по количеству знаков валюты и восстанавливается без потерь.
+     */
+    @Test
+    void shouldRoundTripMoney() {
+        final CompactMoney compact = CompactMoney.of(new Money(new BigDecimal("1500.5"), rub));
+
+        assertEquals(150050L, compact.minorUnits());
+        assertEquals(rub, compact.currency());
+        assertEquals(new Money(new BigDecimal("1500.50"), rub), compact.toMoney());
+        assertEquals(1500L, CompactMoney.of(new Money(new BigDecimal("1500"), jpy)).minorUnits());
+    }
+
+    /**
+     * Сумма точнее минимальной единицы валюты не может быть представлена без потерь.
+     */
+    @Test
+    void shouldRejectSubMinorAmount() {
+        assertThrows(ArithmeticException.class, () -> CompactMoney.of(new Money(new BigDecimal("0.001"), rub)));
+    }
+
+    @Test
+    void shouldAddAndSubtract() {
+        final CompactMoney balance = CompactMoney.ofMinor(10_000, rub);
+        final CompactMoney amount = CompactMoney.ofMinor(2_550, rub);
+
+        assertEquals(12_550L, balance.add(amount).minorUnits());
+        assertEquals(7_450L, balance.subtract(amount).minorUnits());
+        assertTrue(balance.isGreaterThan(amount));
+        assertFalse(amount.isGreaterThan(balance));
+    }
+
+    /**
+     * Отрицательный результат, несовпадение валют и переполнение отклоняются.
+     */
+    @Test
+    void shouldRejectInvalidArithmetic() {
+        final CompactMoney small = CompactMoney.ofMinor(100, rub);
+        final CompactMoney large = CompactMoney.ofMinor(Long.MAX_VALUE, rub);
+
+        assertThrows(IllegalArgumentException.class, () -> small.subtract(large));
+        assertThrows(IllegalArgumentException.class, () -> small.add(CompactMoney.ofMinor(1, jpy)));
+        assertThrows(ArithmeticException.class, () -> large.add(small));
+    }
+
+    /**
+     * Отрицательная сумма и валюта вне справочника ISO 4217 отклоняются.
+     */
+    @Test
+    void shouldRejectNegativeAmountAndUnknownCurrency() {
+        final IllegalArgumentException negative = assertThrows(IllegalArgumentException.class,
+                () -> CompactMoney.ofMinor(-1, rub));
+        assertEquals("Amount must not be negative.", negative.getMessage());
+
+        final Money unknown = new Money(BigDecimal.ONE, new Currency("XBT", "Биткоин", 8));
+        assertThrows(IllegalArgumentException.class, () -> CompactMoney.of(unknown));
+    }
+}
@@ -0,0 +1,77 @@
+package ru.katacademy.bank_shared.valueobject;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import ru.katacademy.bank_shared.conventor.MoneyConverter;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit-тест для {@link CurrencyRegistry}.
+ * Проверяет, что все пути получения валюты возвращают один и тот же канонический экземпляр.
+ */
+class CurrencyRegistryTest {
+
+    @Test
+    void shouldReturnCanonicalInstanceByCode() {
+        final Currency rub = CurrencyRegistry.of("RUB");
+
+        assertSame(rub, CurrencyRegistry.of(" rub "));
+        assertSame(rub, Currency.ofCode("RUB"));
+        assertEquals(2, rub.scale());
+        assertEquals(0, CurrencyRegistry.of("JPY").scale());
+    }
+
+    @Test
+    void shouldRejectUnknownCode() {
+        assertThrows(IllegalArgumentException.class, () -> CurrencyRegistry.of("XYZ1"));
+        assertThrows(IllegalArgumentException.class, () -> CurrencyRegistry.of(" "));
+        assertTrue(CurrencyRegistry.find("XYZ1").isEmpty());
+    }
+
+    /**
+     * {@link Money} заменяет валюту, созданную конструктором, каноническим экземпляром.
+     */
+    @Test
+    void moneyShouldUseCanonicalCurrency() {
+        final Money money = new Money(BigDecimal.TEN, new Currency("usd", "Доллар США", 2));
+
+        assertSame(CurrencyRegistry.of("USD"), money.currency());
+    }
+
+    /**
+     * Валюта с известным кодом, но другим количеством знаков после запятой не подменяется канонической.
+     */
+    @Test
+    void shouldRejectScaleDifferentFromRegistry() throws Exception {
+        final Currency jpyWithCents = new Currency("JPY", "Японская иена", 2);
+        final ObjectMapper objectMapper = new ObjectMapper();
+
+        assertThrows(IllegalArgumentException.class, () -> new Money(BigDecimal.TEN, jpyWithCents));
+        assertThrows(JsonMappingException.class,
+                () -> objectMapper.readValue("{\"code\": \"JPY\", \"name\": \"Иена\", \"scale\": 2}", Currency.class));
+    }
+
+    /**
+     * Конвертер БД и десериализация JSON не создают новых экземпляров валюты.
+     */
+    @Test
+    void convertersShouldResolveCanonicalCurrency() throws Exception {
+        final Currency usd = CurrencyRegistry.of("USD");
+        final MoneyConverter converter = new MoneyConverter();
+        final ObjectMapper objectMapper = new ObjectMapper();
+
+        final Money loaded = converter.convertToEntityAttribute("10.00|USD:US Dollar:2");
+        final Currency deserialized = objectMapper.readValue(objectMapper.writeValueAsString(usd), Currency.class);
+
+        assertSame(usd, loaded.currency());
+        assertEquals(new BigDecimal("10.00"), loaded.amount());
+        assertSame(usd, deserialized);
+    }
+}
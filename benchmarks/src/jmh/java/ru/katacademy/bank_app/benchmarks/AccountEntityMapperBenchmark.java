@@ -0,0 +1,49 @@
+package ru.katacademy.bank_app.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.katacademy.bank_app.account.domain.entity.Account;
+import ru.katacademy.bank_app.account.domain.enumtype.AccountStatus;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_app.account.infrastructure.persistence.mapper.AccountEntityMapper;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Преобразования {@link AccountEntityMapper} между доменной моделью счёта и JPA-сущностью.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountEntityMapperBenchmark {
+
+    private Account account;
+    private AccountEntity entity;
+
+    @Setup
+    public void setUp() {
+        account = Account.newAccount(new AccountNumber("40817810099910004312"),
+                new Money(new BigDecimal("125000.50"), new Currency("RUB", "Российский рубль", 2)),
+                AccountStatus.ACTIVE);
+        entity = AccountEntityMapper.toAccountEntity(account);
+    }
+
+    @Benchmark
+    public AccountEntity toAccountEntity() {
+        return AccountEntityMapper.toAccountEntity(account);
+    }
+
+    @Benchmark
+    public Account toAccount() {
+        return AccountEntityMapper.toAccount(entity);
+    }
+}
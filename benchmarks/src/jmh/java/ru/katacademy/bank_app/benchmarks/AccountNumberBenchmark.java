@@ -0,0 +1,50 @@
+package ru.katacademy.bank_app.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.AccountNumberGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Создание {@link AccountNumber}: проверка готового номера, генерация случайного номера
+ * и выдача номера общим для всех потоков {@link AccountNumberGenerator}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountNumberBenchmark {
+
+    private final String value = "40817810099910004312";
+
+    /**
+     * Генератор, общий для всех потоков бенчмарка.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedGenerator {
+        private final AccountNumberGenerator generator = new AccountNumberGenerator(1);
+    }
+
+    @Benchmark
+    public AccountNumber construct() {
+        return new AccountNumber(value);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public AccountNumber generate() {
+        return AccountNumber.generateAccountNumber();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public AccountNumber generatorNext(SharedGenerator shared) {
+        return shared.generator.next();
+    }
+}
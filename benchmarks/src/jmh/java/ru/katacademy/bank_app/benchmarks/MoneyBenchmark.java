@@ -0,0 +1,74 @@
+package ru.katacademy.bank_app.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.katacademy.bank_shared.valueobject.CompactMoney;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Арифметика {@link Money}: сложение, вычитание и сравнение сумм в одной валюте,
+ * и те же операции над {@link CompactMoney} в минимальных единицах валюты.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    private Money balance;
+    private Money amount;
+    private CompactMoney compactBalance;
+    private CompactMoney compactAmount;
+
+    @Setup
+    public void setUp() {
+        final Currency rub = new Currency("RUB", "Российский рубль", 2);
+        balance = new Money(new BigDecimal("125000.50"), rub);
+        amount = new Money(new BigDecimal("1999.99"), rub);
+        compactBalance = CompactMoney.of(balance);
+        compactAmount = CompactMoney.of(amount);
+    }
+
+    @Benchmark
+    public Money add() {
+        return balance.add(amount);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return balance.subtract(amount);
+    }
+
+    @Benchmark
+    public boolean isGreaterThan() {
+        return balance.isGreaterThan(amount);
+    }
+
+    @Benchmark
+    public CompactMoney compactAdd() {
+        return compactBalance.add(compactAmount);
+    }
+
+    @Benchmark
+    public CompactMoney compactSubtract() {
+        return compactBalance.subtract(compactAmount);
+    }
+
+    @Benchmark
+    public boolean compactIsGreaterThan() {
+        return compactBalance.isGreaterThan(compactAmount);
+    }
+
+    @Benchmark
+    public Money compactRoundTrip() {
+        return CompactMoney.of(balance).toMoney();
+    }
+}
@@ -0,0 +1,56 @@
+package ru.katacademy.bank_app.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.katacademy.bank_shared.conventor.MoneyConverter;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Преобразование {@link Money} в строку колонки БД и обратно через {@link MoneyConverter},
+ * а также получение валюты по коду из {@link Currency#ofCode(String)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyConverterBenchmark {
+
+    private MoneyConverter converter;
+    private Money money;
+    private String column;
+
+    @Setup
+    public void setUp() {
+        converter = new MoneyConverter();
+        money = new Money(new BigDecimal("125000.50"), new Currency("RUB", "Российский рубль", 2));
+        column = converter.convertToDatabaseColumn(money);
+    }
+
+    @Benchmark
+    public String toDatabaseColumn() {
+        return converter.convertToDatabaseColumn(money);
+    }
+
+    @Benchmark
+    public Money toEntityAttribute() {
+        return converter.convertToEntityAttribute(column);
+    }
+
+    @Benchmark
+    public Money roundTrip() {
+        return converter.convertToEntityAttribute(converter.convertToDatabaseColumn(money));
+    }
+
+    @Benchmark
+    public Currency currencyOfCode() {
+        return Currency.ofCode("RUB");
+    }
+}
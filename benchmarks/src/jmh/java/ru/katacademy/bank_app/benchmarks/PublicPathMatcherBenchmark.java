@@ -0,0 +1,85 @@
+package ru.katacademy.bank_app.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.katacademy.securityservice.config.PublicPathsProperties;
+import ru.katacademy.securityservice.security.PublicPathMatcher;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверка публичных путей в JWT-фильтре: {@link PublicPathMatcher} с шаблонами, разобранными
+ * при запуске, против прежней проверки {@code WHITELIST.stream().anyMatch(path::startsWith)}.
+ * Путь {@code /api/accounts/42} — типичный защищённый запрос, который проверяется по всем шаблонам.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicPathMatcherBenchmark {
+
+    private static final Set<String> WHITELIST = Set.of(
+            "/swagger-ui",
+            "/swagger-ui.html",
+            "/v3/api-docs",
+            "/swagger-resources",
+            "/webjars",
+            "/configuration/ui",
+            "/configuration/security",
+            "/api/users/register",
+            "/api/security/verify",
+            "/api/security/revoke",
+            "/.well-known/jwks.json",
+            "/api/accounts/test"
+    );
+
+    @Param({"/api/accounts/42", "/api/security/verify", "/swagger-ui/index.html"})
+    private String path;
+
+    private PublicPathMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        matcher = new PublicPathMatcher(List.of(
+                path(null, "/swagger-ui/**"),
+                path(null, "/swagger-ui.html"),
+                path(null, "/v3/api-docs/**"),
+                path(null, "/v3/api-docs.yaml"),
+                path(null, "/swagger-resources/**"),
+                path(null, "/webjars/**"),
+                path(null, "/configuration/ui"),
+                path(null, "/configuration/security"),
+                path(null, "/actuator/**"),
+                path(null, "/api/auth/**"),
+                path("POST", "/api/users/register"),
+                path("POST", "/api/security/verify"),
+                path("POST", "/api/security/revoke"),
+                path("GET", "/api/security/test"),
+                path("GET", "/api/accounts/test"),
+                path("GET", "/.well-known/jwks.json")));
+    }
+
+    @Benchmark
+    public boolean publicPathMatcher() {
+        return matcher.matches("POST", path);
+    }
+
+    @Benchmark
+    public boolean streamStartsWith() {
+        return WHITELIST.stream().anyMatch(path::startsWith);
+    }
+
+    private static PublicPathsProperties.PublicPath path(String method, String pattern) {
+        final PublicPathsProperties.PublicPath path = new PublicPathsProperties.PublicPath();
+        path.setMethod(method);
+        path.setPattern(pattern);
+        return path;
+    }
+}
@@ -0,0 +1,79 @@
+package ru.katacademy.bank_app.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import ru.katacademy.bank_shared.validation.StringValidators;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Сравнение {@link StringValidators} с регулярными выражениями, которые они заменяют:
+ * {@link String#matches(String)} (компиляция при каждом вызове) и заранее скомпилированный {@link Pattern}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringValidatorsBenchmark {
+
+    private static final String DIGITS_REGEX = "\\d+";
+    private static final String EMAIL_REGEX = "^[\\w-.]+@[\\w-]+\\.[a-zA-Z]{2,}$";
+    private static final String PASSWORD_REGEX = "^(?=.*[0-9])(?=.*[a-zA-Z])[a-zA-Z0-9]{8,}$";
+
+    private static final Pattern DIGITS = Pattern.compile(DIGITS_REGEX);
+    private static final Pattern EMAIL = Pattern.compile(EMAIL_REGEX);
+    private static final Pattern PASSWORD = Pattern.compile(PASSWORD_REGEX);
+
+    private final String accountNumber = "40817810099910004312";
+    private final String email = "ivan.petrov_1985@example-mail.com";
+    private final String password = "S3curePassw0rd";
+
+    @Benchmark
+    public boolean accountNumberMatches() {
+        return accountNumber.length() == 20 && accountNumber.matches(DIGITS_REGEX);
+    }
+
+    @Benchmark
+    public boolean accountNumberPattern() {
+        return accountNumber.length() == 20 && DIGITS.matcher(accountNumber).matches();
+    }
+
+    @Benchmark
+    public boolean accountNumberScan() {
+        return StringValidators.isDigits(accountNumber, 20);
+    }
+
+    @Benchmark
+    public boolean emailMatches() {
+        return email.matches(EMAIL_REGEX);
+    }
+
+    @Benchmark
+    public boolean emailPattern() {
+        return EMAIL.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean emailScan() {
+        return StringValidators.isEmail(email);
+    }
+
+    @Benchmark
+    public boolean passwordMatches() {
+        return password.matches(PASSWORD_REGEX);
+    }
+
+    @Benchmark
+    public boolean passwordPattern() {
+        return PASSWORD.matcher(password).matches();
+    }
+
+    @Benchmark
+    public boolean passwordScan() {
+        return StringValidators.isStrongPassword(password);
+    }
+}
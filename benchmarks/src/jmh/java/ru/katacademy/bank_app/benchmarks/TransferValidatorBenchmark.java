@@ -0,0 +1,50 @@
+package ru.katacademy.bank_app.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.katacademy.bank_app.account.application.service.TransferValidator;
+import ru.katacademy.bank_app.account.domain.entity.Account;
+import ru.katacademy.bank_app.account.domain.enumtype.AccountStatus;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверка перевода {@link TransferValidator#validateTransferTo(Account, Account, Money)}
+ * для допустимого перевода между активными счетами.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransferValidatorBenchmark {
+
+    private TransferValidator validator;
+    private Account from;
+    private Account to;
+    private Money amount;
+
+    @Setup
+    public void setUp() {
+        final Currency rub = new Currency("RUB", "Российский рубль", 2);
+        validator = new TransferValidator();
+        from = Account.newAccount(new AccountNumber("40817810099910004312"),
+                new Money(new BigDecimal("125000.50"), rub), AccountStatus.ACTIVE);
+        to = Account.newAccount(new AccountNumber("40817810099910004313"),
+                new Money(new BigDecimal("10.00"), rub), AccountStatus.ACTIVE);
+        amount = new Money(new BigDecimal("1999.99"), rub);
+    }
+
+    @Benchmark
+    public Money validateTransferTo() {
+        validator.validateTransferTo(from, to, amount);
+        return amount;
+    }
+}
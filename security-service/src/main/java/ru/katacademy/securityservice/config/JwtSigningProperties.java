@@ -0,0 +1,48 @@
+package ru.katacademy.securityservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Настройки подписи JWT-токенов (секция {@code jwt.signing}).
+ * <p>
+ * При {@code algorithm: HS256} токены подписываются секретом {@code jwt.secret}.
+ * При {@code RS256} или {@code ES256} токены подписываются закрытым ключом {@code active-kid},
+ * а проверяются открытыми ключами из {@code keys}: при ротации новый ключ становится активным,
+ * а предыдущий остаётся в списке без закрытой части, пока не истекут выпущенные им токены.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "jwt.signing")
+@Component
+@Data
+public class JwtSigningProperties {
+
+    /** Алгоритм подписи: HS256, RS256 или ES256 */
+    private String algorithm = "HS256";
+
+    /** Идентификатор ключа, которым подписываются новые токены; по умолчанию — первый ключ списка */
+    private String activeKid;
+
+    /** Ключи подписи: активный и предыдущие */
+    private List<Key> keys = new ArrayList<>();
+
+    /**
+     * Ключ подписи.
+     */
+    @Data
+    public static class Key {
+
+        /** Идентификатор ключа (заголовок {@code kid} токена) */
+        private String kid;
+
+        /** Закрытый ключ PKCS#8 в PEM или Base64; нужен только активному ключу */
+        private String privateKey;
+
+        /** Открытый ключ X.509 в PEM или Base64 */
+        private String publicKey;
+    }
+}
@@ -0,0 +1,36 @@
+package ru.katacademy.securityservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Пути, доступные без аутентификации (секция {@code security.public}).
+ * <p>
+ * Один и тот же список используется в {@link SecurityConfig} для правил доступа и в
+ * {@link ru.katacademy.securityservice.security.JwtAuthenticationFilter}: на этих путях фильтр
+ * не разбирает токен. Шаблоны задаются в синтаксисе {@code PathPattern}, например {@code /swagger-ui/**}.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "security.public")
+@Data
+public class PublicPathsProperties {
+
+    /** Публичные пути */
+    private List<PublicPath> paths = new ArrayList<>();
+
+    /**
+     * Публичный путь.
+     */
+    @Data
+    public static class PublicPath {
+
+        /** HTTP-метод; если не задан — любой метод */
+        private String method;
+
+        /** Шаблон пути, например {@code /api/security/verify} или {@code /v3/api-docs/**} */
+        private String pattern;
+    }
+}
@@ -2,6 +2,7 @@ package ru.katacademy.securityservice.config;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -24,24 +25,19 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import ru.katacademy.securityservice.security.JwtAuthenticationFilter;
+import ru.katacademy.securityservice.security.PublicPathMatcher;
 import ru.katacademy.securityservice.util.JwtUtil;
 
 import java.util.List;
 
-import static org.springframework.http.HttpMethod.GET;
-import static org.springframework.http.HttpMethod.POST;
-
 /**
  * Конфигурация Spring Security для stateless/JWT аутентификации.
  * <ul>
  *   <li>CSRF-режим выключен (stateless, JWT).</li>
  *   <li>SessionCreationPolicy — STATELESS.</li>
- *   <li>Публичные end­point’ы:
- *     <ul>
- *       <li>POST /api/users/register</li>
- *       <li>POST /api/security/verify</li>
- *       <li>GET  /api/accounts/test</li>
- *     </ul>
+ *   <li>Публичные end­point’ы задаются списком security.public.paths ({@link PublicPathsProperties}),
+ *     например POST /api/security/verify, GET /.well-known/jwks.json, swagger и actuator.
+ *     Тот же {@link PublicPathMatcher} использует {@link JwtAuthenticationFilter}.
  *   </li>
  *   <li>Все остальные запросы требуют JWT‑аутентификации.</li>
  *   <li>При отсутствии или некорректном токене возвращается 401 Unauthorized.</li>
@@ -49,11 +45,13 @@ import static org.springframework.http.HttpMethod.POST;
  */
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(PublicPathsProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final Environment env;
+    private final PublicPathsProperties publicPathsProperties;
 
     @Value("${cors.allowed-origins:http://localhost:3000}")
     private List<String> allowedOrigins;
@@ -65,7 +63,17 @@ public class SecurityConfig {
      */
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil);
+        return new JwtAuthenticationFilter(jwtUtil, publicPathMatcher());
+    }
+
+    /**
+     * Публичные пути, разобранные один раз при запуске.
+     *
+     * @return матчер публичных путей для правил доступа и JWT-фильтра
+     */
+    @Bean
+    public PublicPathMatcher publicPathMatcher() {
+        return new PublicPathMatcher(publicPathsProperties.getPaths());
     }
 
     /**
@@ -90,21 +98,7 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-                        .requestMatchers(
-                                "/swagger-ui/**",
-                                "/swagger-ui.html",
-                                "/v3/api-docs/**",
-                                "/v3/api-docs.yaml",
-                                "/swagger-resources/**",
-                                "/webjars/**",
-                                "/configuration/ui",
-                                "/configuration/security",
-                                "/actuator/**"
-                        ).permitAll()
-                        .requestMatchers(POST, "/api/users/register").permitAll()
-                        .requestMatchers(POST, "/api/security/verify").permitAll()
-                        .requestMatchers(GET, "/api/security/test").permitAll()
-                        .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers(publicPathMatcher()).permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(
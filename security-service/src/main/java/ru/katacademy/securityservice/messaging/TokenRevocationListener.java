@@ -0,0 +1,47 @@
+package ru.katacademy.securityservice.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import ru.katacademy.bank_shared.event.TokenRevokedEvent;
+import ru.katacademy.securityservice.security.RefreshTokenService;
+import ru.katacademy.securityservice.security.TokenRevocationList;
+
+/**
+ * Приём отзывов JWT-токенов из Kafka.
+ * <p>
+ * Каждый узел читает топик в своей группе потребителей (со случайным суффиксом),
+ * поэтому отзыв получают все узлы. Новая группа читает топик с начала: после запуска узел
+ * восстанавливает отзывы, токены которых ещё не истекли, а остальные пропускаются.
+ * Отзыв токенов пользователя завершает и его сессии refresh-токенов ({@link RefreshTokenService}).
+ * Срок хранения сообщений в топике должен быть не меньше {@code jwt.expiration-ms}.
+ * Сообщения, которые не удаётся разобрать, пропускаются.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.revocation.kafka.enabled", havingValue = "true")
+public class TokenRevocationListener {
+
+    private final TokenRevocationList revocationList;
+    private final RefreshTokenService refreshTokenService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${jwt.revocation.kafka.topic:token-revocations}",
+            groupId = "security-revocations-${random.uuid}",
+            properties = "auto.offset.reset=earliest")
+    public void onRevocation(String message) {
+        try {
+            final TokenRevokedEvent event = objectMapper.readValue(message, TokenRevokedEvent.class);
+            revocationList.apply(event);
+            refreshTokenService.apply(event);
+        } catch (JsonProcessingException e) {
+            log.debug("Пропущено сообщение об отзыве токенов: {}", message, e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package ru.katacademy.securityservice.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import ru.katacademy.bank_shared.event.TokenRevokedEvent;
+
+/**
+ * Рассылка отзывов JWT-токенов другим узлам security-service через Kafka.
+ * <p>
+ * Включается свойством {@code jwt.revocation.kafka.enabled=true}. Сообщения читает
+ * {@link TokenRevocationListener} на каждом узле. Ошибка отправки только логируется:
+ * на узле, принявшем отзыв, токен уже отозван.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.revocation.kafka.enabled", havingValue = "true")
+public class TokenRevocationPublisher {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+
+    public TokenRevocationPublisher(
+            KafkaTemplate<String, String> kafkaTemplate,
+            ObjectMapper objectMapper,
+            @Value("${jwt.revocation.kafka.topic:token-revocations}") String topic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+    }
+
+    public void publish(TokenRevokedEvent event) {
+        try {
+            kafkaTemplate.send(topic, objectMapper.writeValueAsString(event)).whenComplete((result, error) -> {
+                if (error != null) {
+                    log.warn("Не удалось разослать отзыв токена {}", event.tokenId(), error);
+                }
+            });
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Не удалось разослать отзыв токена {}", event.tokenId(), e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package ru.katacademy.securityservice.presentation.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.katacademy.securityservice.security.JwtSigningKeys;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * JwksController — публикация открытых ключей подписи JWT в формате JWKS (RFC 7517).
+ * <p>
+ * - GET /.well-known/jwks.json возвращает открытые ключи активной и предыдущих пар с их kid;
+ * - по этим ключам сервисы проверяют токены сами
+ *   ({@link ru.katacademy.bank_shared.security.JwksTokenVerifier}), без запроса к /api/security/verify;
+ * - при подписи секретом (HS256) список ключей пуст.
+ * <p>
+ * Ответ разрешено кешировать 5 минут. После ротации предыдущий ключ остаётся
+ * в списке jwt.signing.keys, пока не истекут подписанные им токены.
+ */
+@RestController
+public class JwksController {
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    private final JwtSigningKeys signingKeys;
+
+    public JwksController(JwtSigningKeys signingKeys) {
+        this.signingKeys = signingKeys;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(MAX_AGE).cachePublic())
+                .body(signingKeys.toJwks());
+    }
+}
@@ -5,11 +5,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import ru.katacademy.bank_shared.event.TokenRevokedEvent;
+import ru.katacademy.bank_shared.exception.InvalidTokenException;
+import ru.katacademy.bank_shared.security.JwtPrincipal;
+import ru.katacademy.securityservice.messaging.TokenRevocationPublisher;
+import ru.katacademy.securityservice.security.RefreshTokenService;
+import ru.katacademy.securityservice.security.TokenRevocationList;
 import ru.katacademy.securityservice.util.JwtUtil;
 
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * JwtController — REST-контроллер для проверки валидности JWT-токенов.
@@ -17,7 +25,10 @@ import java.util.Map;
  * - Принимает POST-запрос с JWT-токеном в теле;
  * - Проверяет подпись и срок действия токена через JwtUtil;
  * - Возвращает HTTP 200 с расшифрованными claim при успехе;
- * - Возвращает HTTP 401 при недействительном токене.
+ * - Возвращает HTTP 401 при недействительном или отозванном токене;
+ * - Отзывает токен до истечения срока (POST /api/security/revoke): отзыв применяется
+ *   на этом узле и рассылается остальным через Kafka, сессия refresh-токенов завершается;
+ * - Обменивает refresh-токен на новую пару токенов без проверки пароля (POST /api/security/refresh).
  * <p>
  * Пример использования:
  * POST /api/security/verify
@@ -26,7 +37,10 @@ import java.util.Map;
  * Ответ: { "sub": "user", "iat": ..., "exp": ... } или "Invalid token..."
  * <p>
  * Зависимости:
- * - JwtUtil: компонент для создания/разбора JWT-токенов.
+ * - JwtUtil: компонент для создания/разбора JWT-токенов;
+ * - TokenRevocationList: отозванные токены;
+ * - TokenRevocationPublisher: рассылка отзывов, если включена jwt.revocation.kafka.enabled;
+ * - RefreshTokenService: ротация refresh-токенов.
  * <p>
  * Автор: Быстров М.
  * Дата: 10.06.2025
@@ -36,15 +50,29 @@ import java.util.Map;
 @RequestMapping("/api/security")
 public class JwtController {
 
+    /** Заголовок с refresh-токеном сессии, завершаемой при выходе */
+    public static final String REFRESH_TOKEN_HEADER = "X-Refresh-Token";
+
     private final JwtUtil jwtUtil;
+    private final TokenRevocationList revocationList;
+    private final Optional<TokenRevocationPublisher> revocationPublisher;
+    private final RefreshTokenService refreshTokenService;
 
     /**
-     * Конструктор с внедрением зависимости JwtUtil
+     * Конструктор с внедрением зависимостей
      *
-     * @param jwtUtil компонент, содержащий логику работы с JWT
+     * @param jwtUtil             компонент, содержащий логику работы с JWT
+     * @param revocationList      отозванные токены
+     * @param revocationPublisher рассылка отзывов другим узлам, если включена
+     * @param refreshTokenService выпуск и ротация refresh-токенов
      */
-    public JwtController(JwtUtil jwtUtil) {
+    public JwtController(JwtUtil jwtUtil, TokenRevocationList revocationList,
+                         Optional<TokenRevocationPublisher> revocationPublisher,
+                         RefreshTokenService refreshTokenService) {
         this.jwtUtil = jwtUtil;
+        this.revocationList = revocationList;
+        this.revocationPublisher = revocationPublisher;
+        this.refreshTokenService = refreshTokenService;
     }
 
     /**
@@ -68,4 +96,74 @@ public class JwtController {
             return ResponseEntity.status(401).body("Invalid token");
         }
     }
+
+    /**
+     * revokeToken — отзыв JWT-токена до истечения срока действия (выход из системы).
+     * <p>
+     * HTTP-метод: POST
+     * Путь запроса: /api/security/revoke
+     * Ожидает: строку токена в теле запроса; отозвать можно только действительный токен.
+     * Refresh-токен сессии передаётся в заголовке {@value #REFRESH_TOKEN_HEADER}: сессия отзывается,
+     * и новые access-токены по ней больше не выдаются. Без заголовка, а также если refresh-токен
+     * не найден или принадлежит другому пользователю, завершаются все сессии пользователя.
+     *
+     * @param token        JWT-токен в виде строки.
+     * @param refreshToken refresh-токен сессии, необязательный
+     * @return 204 No Content — если токен отозван
+     * 400 Bad Request — если в токене нет идентификатора (выпущен до появления jti)
+     * 401 Unauthorized — если токен некорректен, просрочен или уже отозван
+     */
+    @PostMapping("/revoke")
+    public ResponseEntity<?> revokeToken(@RequestBody String token,
+                                         @RequestHeader(name = REFRESH_TOKEN_HEADER, required = false) String refreshToken) {
+        final JwtPrincipal principal;
+        try {
+            principal = jwtUtil.parsePrincipal(token);
+        } catch (JwtException e) {
+            log.warn("Token revocation rejected: {}", e.getMessage());
+            return ResponseEntity.status(401).body("Invalid token");
+        }
+        endSession(principal, refreshToken);
+        if (principal.tokenId() == null || principal.expiresAt() == null) {
+            return ResponseEntity.badRequest().body("Token has no id");
+        }
+        final TokenRevokedEvent event = TokenRevokedEvent.forToken(principal.tokenId(), principal.expiresAt());
+        revocationList.apply(event);
+        revocationPublisher.ifPresent(publisher -> publisher.publish(event));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * refreshToken — обмен refresh-токена на новую пару токенов.
+     * <p>
+     * HTTP-метод: POST
+     * Путь запроса: /api/security/refresh
+     * Ожидает: строку refresh-токена в теле запроса; пароль не проверяется.
+     * Предъявленный refresh-токен становится недействительным, повторное его предъявление отзывает сессию.
+     *
+     * @param refreshToken refresh-токен, выданный при входе или предыдущем обмене
+     * @return 200 OK и новая пара токенов (accessToken, refreshToken, expiresIn)
+     * 401 Unauthorized — если refresh-токен недействителен, истёк, уже использован или сессия отозвана
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshToken(@RequestBody String refreshToken) {
+        try {
+            return ResponseEntity.ok(refreshTokenService.refresh(refreshToken));
+        } catch (InvalidTokenException e) {
+            log.warn("Token refresh rejected: {}", e.getMessage());
+            return ResponseEntity.status(401).body("Invalid refresh token");
+        }
+    }
+
+    /**
+     * Завершает сессию refresh-токена, а если она не определена — все сессии пользователя.
+     */
+    private void endSession(JwtPrincipal principal, String refreshToken) {
+        if (refreshToken != null && refreshTokenService.revokeSession(refreshToken, principal.userId())) {
+            return;
+        }
+        if (principal.userId() != null) {
+            refreshTokenService.revokeAllSessions(principal.userId());
+        }
+    }
 }
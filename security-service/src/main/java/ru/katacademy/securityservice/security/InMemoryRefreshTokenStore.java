@@ -0,0 +1,120 @@
+package ru.katacademy.securityservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Хранилище refresh-токенов в памяти узла.
+ * <p>
+ * Токены хранятся по SHA-256 до момента истечения, использованные — тоже, чтобы распознать
+ * повторное предъявление. Число токенов ограничено {@code jwt.refresh.store.max-size}:
+ * при переполнении вытесняются давно не использованные, их владельцам потребуется повторный вход.
+ * </p>
+ * <p>
+ * Токены не переживают перезапуск и не видны другим узлам, поэтому при нескольких экземплярах
+ * security-service {@link RefreshTokenStore} нужно реализовать поверх общей таблицы.
+ * </p>
+ */
+@Component
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Cache<String, RefreshToken> tokens;
+    private final Cache<String, Boolean> revokedFamilies;
+    private final Cache<Long, Instant> userRevocations;
+
+    @Autowired
+    public InMemoryRefreshTokenStore(@Value("${jwt.refresh.store.max-size:1000000}") long maxSize,
+                                     @Value("${jwt.refresh.max-session:P30D}") Duration maxSession) {
+        this(maxSize, maxSession, Clock.systemUTC());
+    }
+
+    InMemoryRefreshTokenStore(long maxSize, Duration maxSession, Clock clock) {
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilExpiry(clock))
+                .build();
+        this.revokedFamilies = Caffeine.newBuilder().expireAfterWrite(maxSession).build();
+        this.userRevocations = Caffeine.newBuilder().expireAfterWrite(maxSession).build();
+    }
+
+    @Override
+    public void save(RefreshToken token) {
+        tokens.put(token.tokenHash(), token);
+    }
+
+    @Override
+    public Optional<RefreshToken> consume(String tokenHash) {
+        final RefreshToken[] previous = new RefreshToken[1];
+        tokens.asMap().computeIfPresent(tokenHash, (hash, token) -> {
+            previous[0] = token;
+            return token.markUsed();
+        });
+        return Optional.ofNullable(previous[0]);
+    }
+
+    @Override
+    public Optional<RefreshToken> find(String tokenHash) {
+        return Optional.ofNullable(tokens.getIfPresent(tokenHash));
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        revokedFamilies.put(familyId, Boolean.TRUE);
+    }
+
+    @Override
+    public void revokeUser(Long userId, Instant revokedBefore) {
+        userRevocations.asMap().merge(userId, revokedBefore, (current, candidate) -> {
+            if (candidate.isAfter(current)) {
+                return candidate;
+            }
+            return current;
+        });
+    }
+
+    @Override
+    public boolean isRevoked(RefreshToken token) {
+        if (revokedFamilies.getIfPresent(token.familyId()) != null) {
+            return true;
+        }
+        if (token.userId() == null) {
+            return false;
+        }
+        final Instant revokedBefore = userRevocations.getIfPresent(token.userId());
+        return revokedBefore != null && token.sessionStartedAt().isBefore(revokedBefore);
+    }
+
+    /**
+     * Срок хранения токена: до его истечения; пометка об использовании срок не меняет.
+     */
+    private record UntilExpiry(Clock clock) implements Expiry<String, RefreshToken> {
+
+        @Override
+        public long expireAfterCreate(String key, RefreshToken token, long currentTime) {
+            final Duration untilExpiry = Duration.between(clock.instant(), token.expiresAt());
+            if (untilExpiry.isNegative()) {
+                return 0;
+            }
+            return untilExpiry.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, RefreshToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, RefreshToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -13,11 +13,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import ru.katacademy.bank_shared.security.CustomUserDetails;
+import ru.katacademy.bank_shared.security.JwtPrincipal;
 import ru.katacademy.securityservice.util.JwtUtil;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.Set;
 
 /**
  * Фильтр JWT-авторизации, выполняющийся один раз для каждого запроса.
@@ -25,8 +24,10 @@ import java.util.Set;
  * Извлекает JWT из заголовка Authorization (Bearer-token),
  * проверяет его валидность и, в случае успеха,
  * устанавливает аутентификацию в контексте безопасности.
+ * Токен разбирается и проверяется один раз через {@link JwtUtil#parsePrincipal(String)}.
  * Некорректные или просроченные токены игнорируются
  * и приводят к отказу в доступе далее по цепочке.
+ * На публичных путях ({@link PublicPathMatcher}, security.public.paths) токен не разбирается.
  * </p>
  */
 @Slf4j
@@ -38,18 +39,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private final JwtUtil jwtUtil;
 
-    private static final Set<String> WHITELIST = Set.of(
-            "/swagger-ui",
-            "/swagger-ui.html",
-            "/v3/api-docs",
-            "/swagger-resources",
-            "/webjars",
-            "/configuration/ui",
-            "/configuration/security",
-            "/api/users/register",
-            "/api/security/verify",
-            "/api/accounts/test"
-    );
+    /**
+     * Публичные пути, на которых токен не разбирается.
+     */
+    private final PublicPathMatcher publicPaths;
 
     /**
      * Основной метод фильтрации: извлекает токен, проверяет и устанавливает аутентификацию.
@@ -66,17 +59,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain chain)
             throws ServletException, IOException {
 
-        log.info("JWT filter called for {}", request.getRequestURI());
-
-        final String path = request.getRequestURI();
-        final String method = request.getMethod();
-
-        if ("OPTIONS".equalsIgnoreCase(method)) {
+        if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
             chain.doFilter(request, response);
             return;
         }
 
-        if (WHITELIST.stream().anyMatch(path::startsWith)) {
+        if (publicPaths.matches(request)) {
             chain.doFilter(request, response);
             return;
         }
@@ -85,17 +73,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
             final String token = header.substring(7);
             try {
-                final Long userId = jwtUtil.getUserId(token);
-                final String subject = jwtUtil.getSubject(token);
-                final List<String> roles = jwtUtil.getRoles(token);
+                final JwtPrincipal principal = jwtUtil.parsePrincipal(token);
 
-                final var authorities = roles.stream()
+                final var authorities = principal.roles().stream()
                         .map(SimpleGrantedAuthority::new)
                         .toList();
 
                 final CustomUserDetails customUserDetails = new CustomUserDetails(
-                        userId,
-                        subject,
+                        principal.userId(),
+                        principal.subject(),
                         authorities
                 );
 
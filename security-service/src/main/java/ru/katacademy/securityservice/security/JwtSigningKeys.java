@@ -0,0 +1,177 @@
+package ru.katacademy.securityservice.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import ru.katacademy.bank_shared.security.JwkCodec;
+import ru.katacademy.securityservice.config.JwtSigningProperties;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Набор асимметричных ключей подписи JWT с идентификаторами {@code kid}.
+ * <p>
+ * Хранит закрытый ключ активной пары для выпуска токенов и открытые ключи активной и предыдущих пар
+ * для их проверки. Открытые ключи публикуются в формате JWKS на {@code /.well-known/jwks.json},
+ * по ним остальные сервисы проверяют токены сами.
+ * </p>
+ * <p>
+ * Если асимметричный алгоритм выбран, а ключи не заданы, при запуске создаётся временная пара ключей:
+ * выпущенные ею токены перестают проходить проверку после перезапуска, а экземпляры сервиса
+ * не принимают токены друг друга. Такой режим подходит только для локальной разработки.
+ * </p>
+ */
+@Slf4j
+@Component
+public class JwtSigningKeys {
+
+    private static final Set<SignatureAlgorithm> SUPPORTED_ALGORITHMS =
+            Set.of(SignatureAlgorithm.HS256, SignatureAlgorithm.RS256, SignatureAlgorithm.ES256);
+
+    private final SignatureAlgorithm algorithm;
+    private final String activeKid;
+    private final PrivateKey activePrivateKey;
+    private final Map<String, PublicKey> publicKeys;
+    private final List<Map<String, Object>> jwks;
+
+    public JwtSigningKeys(JwtSigningProperties properties) {
+        this.algorithm = SignatureAlgorithm.forName(properties.getAlgorithm());
+        if (!SUPPORTED_ALGORITHMS.contains(algorithm)) {
+            throw new IllegalStateException("Неподдерживаемый алгоритм подписи JWT: " + properties.getAlgorithm());
+        }
+        if (!isAsymmetric()) {
+            this.activeKid = null;
+            this.activePrivateKey = null;
+            this.publicKeys = Map.of();
+            this.jwks = List.of();
+            return;
+        }
+        try {
+            final Map<String, PublicKey> keys = new LinkedHashMap<>();
+            if (properties.getKeys().isEmpty()) {
+                final KeyPair keyPair = generateKeyPair();
+                this.activeKid = "ephemeral-" + UUID.randomUUID();
+                this.activePrivateKey = keyPair.getPrivate();
+                keys.put(activeKid, keyPair.getPublic());
+                log.warn("Ключи подписи JWT не заданы, создана временная пара {} ({})", activeKid, algorithm.getValue());
+            } else {
+                this.activeKid = activeKid(properties);
+                this.activePrivateKey = loadPrivateKey(properties, activeKid);
+                for (JwtSigningProperties.Key key : properties.getKeys()) {
+                    keys.put(key.getKid(), KeyFactory.getInstance(keyAlgorithm()).generatePublic(
+                            new X509EncodedKeySpec(decodePem(key.getPublicKey()))));
+                }
+            }
+            this.publicKeys = Map.copyOf(keys);
+            final List<Map<String, Object>> jwkList = new ArrayList<>();
+            keys.forEach((kid, key) -> jwkList.add(JwkCodec.toJwk(kid, algorithm.getValue(), key)));
+            this.jwks = List.copyOf(jwkList);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Некорректные ключи подписи JWT: " + e.getMessage(), e);
+        }
+        log.info("JWT signing keys initialized: algorithm={}, active kid={}, keys={}",
+                algorithm.getValue(), activeKid, publicKeys.keySet());
+    }
+
+    /**
+     * @return {@code true}, если токены подписываются асимметричным ключом (RS256 или ES256)
+     */
+    public boolean isAsymmetric() {
+        return algorithm.isRsa() || algorithm.isEllipticCurve();
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public String getActiveKid() {
+        return activeKid;
+    }
+
+    public PrivateKey getActivePrivateKey() {
+        return activePrivateKey;
+    }
+
+    /**
+     * Ищет открытый ключ проверки по идентификатору.
+     *
+     * @param kid идентификатор ключа из заголовка токена
+     * @return открытый ключ или пустой Optional, если ключ неизвестен
+     */
+    public Optional<PublicKey> findPublicKey(String kid) {
+        if (kid == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(publicKeys.get(kid));
+    }
+
+    /**
+     * @return набор открытых ключей в формате JWKS ({@code {"keys": [...]}})
+     */
+    public Map<String, Object> toJwks() {
+        return Map.of("keys", jwks);
+    }
+
+    private String activeKid(JwtSigningProperties properties) {
+        if (StringUtils.hasText(properties.getActiveKid())) {
+            return properties.getActiveKid();
+        }
+        return properties.getKeys().get(0).getKid();
+    }
+
+    private PrivateKey loadPrivateKey(JwtSigningProperties properties, String kid) throws GeneralSecurityException {
+        final JwtSigningProperties.Key active = properties.getKeys().stream()
+                .filter(key -> kid.equals(key.getKid()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Активный ключ " + kid + " отсутствует в jwt.signing.keys"));
+        if (active.getPrivateKey() == null) {
+            throw new IllegalArgumentException("Для активного ключа " + kid + " не задан закрытый ключ");
+        }
+        return KeyFactory.getInstance(keyAlgorithm()).generatePrivate(new PKCS8EncodedKeySpec(decodePem(active.getPrivateKey())));
+    }
+
+    private KeyPair generateKeyPair() throws GeneralSecurityException {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance(keyAlgorithm());
+        if (algorithm.isRsa()) {
+            generator.initialize(2048);
+        } else {
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+        }
+        return generator.generateKeyPair();
+    }
+
+    private String keyAlgorithm() {
+        if (algorithm.isRsa()) {
+            return "RSA";
+        }
+        return "EC";
+    }
+
+    /**
+     * Декодирует ключ в PEM (с заголовками {@code -----BEGIN ...-----}) или в виде строки Base64.
+     */
+    private static byte[] decodePem(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Ключ не задан");
+        }
+        final String base64 = value.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
@@ -0,0 +1,74 @@
+package ru.katacademy.securityservice.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import ru.katacademy.securityservice.config.PublicPathsProperties;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Проверка запроса на соответствие публичным путям.
+ * <p>
+ * Шаблоны разбираются один раз при создании. Проверка запроса разбирает путь один раз
+ * и сравнивает его с шаблонами по сегментам, без регулярных выражений и без создания
+ * потоков. Реализует {@link RequestMatcher}, поэтому тот же экземпляр используется
+ * в правилах доступа {@code SecurityConfig} и в {@link JwtAuthenticationFilter}.
+ * </p>
+ */
+public final class PublicPathMatcher implements RequestMatcher {
+
+    private final Rule[] rules;
+
+    public PublicPathMatcher(List<PublicPathsProperties.PublicPath> paths) {
+        final PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.rules = paths.stream()
+                .map(path -> new Rule(method(path), parser.parse(pattern(path))))
+                .toArray(Rule[]::new);
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return matches(request.getMethod(), request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    /**
+     * @param method HTTP-метод запроса
+     * @param path   путь запроса без контекста приложения
+     * @return {@code true}, если путь публичный для этого метода
+     */
+    public boolean matches(String method, String path) {
+        final PathContainer container = PathContainer.parsePath(path);
+        for (Rule rule : rules) {
+            if ((rule.method() == null || rule.method().equals(method)) && rule.pattern().matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String method(PublicPathsProperties.PublicPath path) {
+        if (!StringUtils.hasText(path.getMethod())) {
+            return null;
+        }
+        return HttpMethod.valueOf(path.getMethod().trim().toUpperCase(Locale.ROOT)).name();
+    }
+
+    private static String pattern(PublicPathsProperties.PublicPath path) {
+        if (!StringUtils.hasText(path.getPattern())) {
+            throw new IllegalStateException("Для публичного пути не задан шаблон (security.public.paths)");
+        }
+        return path.getPattern().trim();
+    }
+
+    /**
+     * Разобранный публичный путь; {@code method == null} — любой метод.
+     */
+    private record Rule(String method, PathPattern pattern) {
+    }
+}
@@ -0,0 +1,36 @@
+package ru.katacademy.securityservice.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Сохранённый refresh-токен. Сам токен не хранится — только его SHA-256.
+ *
+ * @param tokenHash        SHA-256 от токена в hex
+ * @param familyId         идентификатор сессии: общий для всех токенов, полученных ротацией от одного входа
+ * @param userId           идентификатор пользователя
+ * @param subject          subject выпускаемых access-токенов
+ * @param roles            роли пользователя на момент входа
+ * @param issuedAt         момент выпуска токена
+ * @param sessionStartedAt момент входа, с которого началась сессия
+ * @param expiresAt        момент истечения токена
+ * @param used             {@code true}, если токен уже обменян на новую пару
+ */
+public record RefreshToken(String tokenHash, String familyId, Long userId, String subject, List<String> roles,
+                           Instant issuedAt, Instant sessionStartedAt, Instant expiresAt, boolean used) {
+
+    public RefreshToken {
+        if (roles == null) {
+            roles = List.of();
+        } else {
+            roles = List.copyOf(roles);
+        }
+    }
+
+    /**
+     * @return тот же токен, помеченный использованным
+     */
+    public RefreshToken markUsed() {
+        return new RefreshToken(tokenHash, familyId, userId, subject, roles, issuedAt, sessionStartedAt, expiresAt, true);
+    }
+}
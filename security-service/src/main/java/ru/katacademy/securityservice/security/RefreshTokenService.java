@@ -0,0 +1,175 @@
+package ru.katacademy.securityservice.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.katacademy.bank_shared.event.TokenRevokedEvent;
+import ru.katacademy.bank_shared.exception.InvalidTokenException;
+import ru.katacademy.securityservice.util.JwtUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Выпуск и обновление пар access/refresh-токенов.
+ * <p>
+ * Access-токены живут недолго ({@code jwt.expiration-ms}), а refresh-токен обменивается на новую пару
+ * без проверки пароля: после входа BCrypt больше не нужен, пока жива сессия.
+ * </p>
+ * <ul>
+ *     <li>refresh-токен — 32 случайных байта; хранится только его SHA-256;</li>
+ *     <li>каждый обмен выдаёт новый refresh-токен той же сессии (ротация), срок сессии продлевается
+ *         на {@code jwt.refresh.ttl}, но не дальше {@code jwt.refresh.max-session} от входа;</li>
+ *     <li>повторное предъявление уже обменянного токена означает его утечку: отзывается вся сессия;</li>
+ *     <li>отзыв токенов пользователя (например, после смены пароля) завершает сессии, начатые раньше;</li>
+ *     <li>выход из системы завершает сессию предъявленного refresh-токена.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenStore store;
+    private final Duration ttl;
+    private final Duration maxSession;
+    private final long accessTokenSeconds;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    public RefreshTokenService(JwtUtil jwtUtil,
+                               RefreshTokenStore store,
+                               @Value("${jwt.refresh.ttl:P14D}") Duration ttl,
+                               @Value("${jwt.refresh.max-session:P30D}") Duration maxSession,
+                               @Value("${jwt.expiration-ms:3600000}") long expirationMs) {
+        this(jwtUtil, store, ttl, maxSession, expirationMs, Clock.systemUTC());
+    }
+
+    RefreshTokenService(JwtUtil jwtUtil, RefreshTokenStore store, Duration ttl, Duration maxSession,
+                        long expirationMs, Clock clock) {
+        this.jwtUtil = jwtUtil;
+        this.store = store;
+        this.ttl = ttl;
+        this.maxSession = maxSession;
+        this.accessTokenSeconds = Duration.ofMillis(expirationMs).toSeconds();
+        this.clock = clock;
+    }
+
+    /**
+     * Начинает сессию после успешной проверки пароля.
+     *
+     * @return access-токен и refresh-токен новой сессии
+     */
+    public TokenPair issue(String subject, Long userId, List<String> roles) {
+        final Instant now = clock.instant();
+        return rotate(UUID.randomUUID().toString(), subject, userId, roles, now, now);
+    }
+
+    /**
+     * Обменивает refresh-токен на новую пару без проверки пароля.
+     *
+     * @param refreshToken refresh-токен, выданный при входе или предыдущем обмене
+     * @return новая пара токенов той же сессии
+     * @throws InvalidTokenException если токен неизвестен, истёк, уже использован или сессия отозвана
+     */
+    public TokenPair refresh(String refreshToken) {
+        final Instant now = clock.instant();
+        final RefreshToken current = store.consume(hash(refreshToken))
+                .orElseThrow(() -> new InvalidTokenException("Refresh-токен недействителен"));
+        if (current.used()) {
+            store.revokeFamily(current.familyId());
+            log.warn("Повторное использование refresh-токена пользователя {}, сессия {} отозвана",
+                    current.userId(), current.familyId());
+            throw new InvalidTokenException("Refresh-токен уже использован");
+        }
+        if (!current.expiresAt().isAfter(now) || store.isRevoked(current)) {
+            throw new InvalidTokenException("Refresh-токен недействителен");
+        }
+        return rotate(current.familyId(), current.subject(), current.userId(), current.roles(),
+                current.sessionStartedAt(), now);
+    }
+
+    /**
+     * Завершает сессию refresh-токена при выходе из системы: все refresh-токены сессии,
+     * в том числе выданные после предъявленного, становятся недействительными.
+     *
+     * @param refreshToken refresh-токен сессии
+     * @param userId       пользователь, которому должна принадлежать сессия
+     * @return {@code true}, если сессия найдена и отозвана
+     */
+    public boolean revokeSession(String refreshToken, Long userId) {
+        final Optional<RefreshToken> token = store.find(hash(refreshToken));
+        if (token.isEmpty() || !Objects.equals(token.get().userId(), userId)) {
+            return false;
+        }
+        store.revokeFamily(token.get().familyId());
+        return true;
+    }
+
+    /**
+     * Завершает все сессии пользователя, начатые до текущего момента.
+     *
+     * @param userId идентификатор пользователя
+     */
+    public void revokeAllSessions(Long userId) {
+        store.revokeUser(userId, clock.instant());
+    }
+
+    /**
+     * Применяет отзыв токенов пользователя к его сессиям.
+     */
+    public void apply(TokenRevokedEvent event) {
+        if (event.userId() != null && event.revokedBefore() != null) {
+            store.revokeUser(event.userId(), event.revokedBefore());
+        }
+    }
+
+    private TokenPair rotate(String familyId, String subject, Long userId, List<String> roles,
+                             Instant sessionStartedAt, Instant now) {
+        final Instant sessionEnd = sessionStartedAt.plus(maxSession);
+        Instant expiresAt = now.plus(ttl);
+        if (expiresAt.isAfter(sessionEnd)) {
+            expiresAt = sessionEnd;
+        }
+        if (!expiresAt.isAfter(now)) {
+            throw new InvalidTokenException("Сессия истекла, требуется повторный вход");
+        }
+        final String refreshToken = newToken();
+        store.save(new RefreshToken(hash(refreshToken), familyId, userId, subject, roles, now, sessionStartedAt,
+                expiresAt, false));
+        return new TokenPair(jwtUtil.generateToken(subject, userId, roles), refreshToken, accessTokenSeconds);
+    }
+
+    private String newToken() {
+        final byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * SHA-256 от токена: у случайного токена достаточно энтропии, медленный хеш вроде BCrypt не нужен.
+     */
+    private static String hash(String token) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 недоступен", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ru.katacademy.securityservice.security;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Хранилище refresh-токенов по их SHA-256.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * Сохраняет новый токен.
+     */
+    void save(RefreshToken token);
+
+    /**
+     * Атомарно помечает токен использованным.
+     *
+     * @param tokenHash SHA-256 от токена
+     * @return токен в состоянии до вызова или пустой Optional, если токен неизвестен или истёк;
+     *         {@code used == true} означает повторное предъявление уже обменянного токена
+     */
+    Optional<RefreshToken> consume(String tokenHash);
+
+    /**
+     * Находит токен, не помечая его использованным.
+     *
+     * @param tokenHash SHA-256 от токена
+     * @return токен или пустой Optional, если токен неизвестен или истёк
+     */
+    Optional<RefreshToken> find(String tokenHash);
+
+    /**
+     * Отзывает все токены сессии.
+     */
+    void revokeFamily(String familyId);
+
+    /**
+     * Отзывает все сессии пользователя, начатые раньше указанного момента.
+     */
+    void revokeUser(Long userId, Instant revokedBefore);
+
+    /**
+     * @return {@code true}, если отозвана сессия токена или сессии пользователя
+     */
+    boolean isRevoked(RefreshToken token);
+}
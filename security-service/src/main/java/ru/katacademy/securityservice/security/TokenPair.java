@@ -0,0 +1,11 @@
+package ru.katacademy.securityservice.security;
+
+/**
+ * Пара токенов, выдаваемая при входе и при обновлении.
+ *
+ * @param accessToken  JWT access-токен
+ * @param refreshToken непрозрачный refresh-токен для получения следующей пары
+ * @param expiresIn    время жизни access-токена в секундах
+ */
+public record TokenPair(String accessToken, String refreshToken, long expiresIn) {
+}
@@ -0,0 +1,183 @@
+package ru.katacademy.securityservice.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.katacademy.bank_shared.event.TokenRevokedEvent;
+import ru.katacademy.bank_shared.security.JwtPrincipal;
+import ru.katacademy.securityservice.util.BloomFilter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Список отозванных JWT-токенов в памяти узла.
+ * <p>
+ * Хранит два вида отзыва:
+ * <ul>
+ *     <li>по пользователю — момент, раньше которого выпущенные токены пользователя недействительны
+ *         (например, после смены пароля). Запись удаляется, когда истекают все токены, выпущенные до неё;</li>
+ *     <li>по идентификатору токена ({@code jti}) — в корзинах по времени истечения токена шириной
+ *         {@code jwt.revocation.bucket-width}. В каждой корзине фильтр Блума и точное множество
+ *         идентификаторов: для неотозванного токена, а таких подавляющее большинство, проверка
+ *         заканчивается на фильтре без обращения к множеству, а ложные срабатывания фильтра
+ *         отсекаются множеством. Корзина удаляется целиком, когда истекают все токены в ней.</li>
+ * </ul>
+ * Память зависит только от числа отзывов за время жизни токена, а не от числа активных сессий.
+ * Проверка {@link #isRevoked(JwtPrincipal)} выполняется за O(1) без обращения к БД.
+ * </p>
+ * <p>
+ * Отзывы приходят из Kafka ({@code TokenRevocationListener}) и через {@code POST /api/security/revoke}.
+ * Время выпуска токена хранится с точностью до секунды, поэтому момент отзыва по пользователю
+ * округляется вверх до целой секунды и отзываются токены, выпущенные не позже неё: ни один токен,
+ * полученный до смены пароля, в том числе в ту же секунду, не остаётся действительным. Токены,
+ * полученные в пределах этой секунды после смены пароля, тоже отзываются, и потребуется повторный вход.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private final Map<Long, Instant> userRevocations = new ConcurrentHashMap<>();
+    private final Map<Long, Bucket> tokenBuckets = new ConcurrentHashMap<>();
+    private final Duration tokenLifetime;
+    private final long bucketWidthSeconds;
+    private final long expectedPerBucket;
+    private final double falsePositiveRate;
+    private final Clock clock;
+
+    @Autowired
+    public TokenRevocationList(
+            @Value("${jwt.expiration-ms:3600000}") long expirationMs,
+            @Value("${jwt.revocation.bucket-width:PT10M}") Duration bucketWidth,
+            @Value("${jwt.revocation.expected-per-bucket:100000}") long expectedPerBucket,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            MeterRegistry meterRegistry) {
+        this(Duration.ofMillis(expirationMs), bucketWidth, expectedPerBucket, falsePositiveRate, Clock.systemUTC());
+        Gauge.builder("jwt.revocation.tokens", this, TokenRevocationList::revokedTokenCount)
+                .description("Число отозванных токенов, срок которых ещё не истёк")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.users", userRevocations, Map::size)
+                .description("Число пользователей с отозванными токенами")
+                .register(meterRegistry);
+    }
+
+    TokenRevocationList(Duration tokenLifetime, Duration bucketWidth, long expectedPerBucket,
+                        double falsePositiveRate, Clock clock) {
+        if (bucketWidth.getSeconds() <= 0) {
+            throw new IllegalArgumentException("Ширина корзины отзывов должна быть не меньше секунды");
+        }
+        this.tokenLifetime = tokenLifetime;
+        this.bucketWidthSeconds = bucketWidth.getSeconds();
+        this.expectedPerBucket = expectedPerBucket;
+        this.falsePositiveRate = falsePositiveRate;
+        this.clock = clock;
+    }
+
+    /**
+     * Применяет событие об отзыве; события об уже истёкших токенах пропускаются.
+     */
+    public void apply(TokenRevokedEvent event) {
+        if (event.userId() != null && event.revokedBefore() != null) {
+            revokeUser(event.userId(), event.revokedBefore());
+        }
+        if (event.tokenId() != null && event.expiresAt() != null) {
+            revokeToken(event.tokenId(), event.expiresAt());
+        }
+    }
+
+    /**
+     * Отзывает все токены пользователя, выпущенные раньше указанного момента.
+     */
+    public void revokeUser(Long userId, Instant revokedBefore) {
+        final Instant now = clock.instant();
+        if (!revokedBefore.plus(tokenLifetime).isAfter(now)) {
+            return;
+        }
+        userRevocations.merge(userId, revokedBefore, (current, candidate) -> {
+            if (candidate.isAfter(current)) {
+                return candidate;
+            }
+            return current;
+        });
+        purgeExpired(now);
+        log.debug("Отозваны токены пользователя {}, выпущенные до {}", userId, revokedBefore);
+    }
+
+    /**
+     * Отзывает токен по идентификатору до момента его истечения.
+     */
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        final Instant now = clock.instant();
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+        final Bucket bucket = tokenBuckets.computeIfAbsent(bucketIndex(expiresAt),
+                index -> new Bucket(new BloomFilter(expectedPerBucket, falsePositiveRate), ConcurrentHashMap.newKeySet()));
+        // сначала точное множество, затем фильтр: положительный ответ фильтра всегда подтверждается множеством
+        bucket.tokenIds().add(tokenId);
+        bucket.filter().put(tokenId);
+        purgeExpired(now);
+        log.debug("Отозван токен {}", tokenId);
+    }
+
+    /**
+     * @return {@code true}, если токен отозван по идентификатору или по пользователю
+     */
+    public boolean isRevoked(JwtPrincipal principal) {
+        if (principal.userId() != null && !userRevocations.isEmpty()) {
+            final Instant revokedBefore = userRevocations.get(principal.userId());
+            if (revokedBefore != null && issuedBefore(principal, revokedBefore)) {
+                return true;
+            }
+        }
+        if (principal.tokenId() == null || principal.expiresAt() == null || tokenBuckets.isEmpty()) {
+            return false;
+        }
+        final Bucket bucket = tokenBuckets.get(bucketIndex(principal.expiresAt()));
+        return bucket != null
+                && bucket.filter().mightContain(principal.tokenId())
+                && bucket.tokenIds().contains(principal.tokenId());
+    }
+
+    /**
+     * @return {@code true}, если токен мог быть выпущен раньше момента отзыва с учётом точности {@code iat}
+     */
+    private boolean issuedBefore(JwtPrincipal principal, Instant revokedBefore) {
+        if (principal.issuedAt() == null) {
+            return true;
+        }
+        long revokedSecond = revokedBefore.getEpochSecond();
+        if (revokedBefore.getNano() > 0) {
+            revokedSecond++;
+        }
+        return principal.issuedAt().getEpochSecond() <= revokedSecond;
+    }
+
+    private long bucketIndex(Instant expiresAt) {
+        return Math.floorDiv(expiresAt.getEpochSecond(), bucketWidthSeconds);
+    }
+
+    private void purgeExpired(Instant now) {
+        final long currentIndex = bucketIndex(now);
+        tokenBuckets.keySet().removeIf(index -> index < currentIndex);
+        userRevocations.values().removeIf(revokedBefore -> !revokedBefore.plus(tokenLifetime).isAfter(now));
+    }
+
+    private double revokedTokenCount() {
+        return tokenBuckets.values().stream().mapToInt(bucket -> bucket.tokenIds().size()).sum();
+    }
+
+    /**
+     * Отозванные токены, истекающие в одном интервале времени.
+     */
+    private record Bucket(BloomFilter filter, Set<String> tokenIds) {
+    }
+}
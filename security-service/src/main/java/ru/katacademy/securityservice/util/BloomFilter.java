@@ -0,0 +1,103 @@
+package ru.katacademy.securityservice.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * BloomFilter — потокобезопасный фильтр Блума для строк.
+ *
+ *  - {@link #mightContain(String)} возвращает {@code false}, только если строка точно не добавлялась;
+ *  - {@code true} означает «возможно, добавлялась» с долей ложных срабатываний не выше заданной
+ *    при числе добавленных строк не больше ожидаемого;
+ *  - занимает около 1,2 байта на строку при доле ложных срабатываний 1%, независимо от длины строк;
+ *  - удаление строк не поддерживается.
+ *
+ * Биты хранятся в {@link AtomicLongArray}: добавление выполняется без блокировок,
+ * проверка — чтением нескольких слов массива. Позиции битов вычисляются двойным хешированием
+ * двух 64-битных хешей FNV-1a.
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long SECOND_SEED = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions ожидаемое число строк
+     * @param falsePositiveRate  допустимая доля ложных срабатываний, от 0 до 1
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Ожидаемое число элементов должно быть положительным");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Доля ложных срабатываний должна быть в интервале (0, 1)");
+        }
+        final double ln2 = Math.log(2);
+        final long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        final long wordCount = Math.max(1, (bits + Long.SIZE - 1) / Long.SIZE);
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Слишком большой фильтр Блума: " + bits + " бит");
+        }
+        this.words = new AtomicLongArray((int) wordCount);
+        this.bitCount = wordCount * Long.SIZE;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / expectedInsertions * ln2));
+    }
+
+    /**
+     * Добавляет строку в фильтр.
+     */
+    public void put(String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        final long first = fnv1a(bytes, FNV_OFFSET_BASIS);
+        final long second = fnv1a(bytes, FNV_OFFSET_BASIS ^ SECOND_SEED);
+        for (int i = 0; i < hashCount; i++) {
+            final long bit = Math.floorMod(first + i * second, bitCount);
+            final int index = (int) (bit >>> 6);
+            final long mask = 1L << bit;
+            long current = words.get(index);
+            while ((current & mask) == 0 && !words.compareAndSet(index, current, current | mask)) {
+                current = words.get(index);
+            }
+        }
+    }
+
+    /**
+     * @return {@code false}, если строка точно не добавлялась; {@code true}, если, возможно, добавлялась
+     */
+    public boolean mightContain(String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        final long first = fnv1a(bytes, FNV_OFFSET_BASIS);
+        final long second = fnv1a(bytes, FNV_OFFSET_BASIS ^ SECOND_SEED);
+        for (int i = 0; i < hashCount; i++) {
+            final long bit = Math.floorMod(first + i * second, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return размер битового массива в битах
+     */
+    public long bitSize() {
+        return bitCount;
+    }
+
+    private static long fnv1a(byte[] bytes, long seed) {
+        long hash = seed;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        // перемешивание финализатором SplitMix64 для равномерного распределения младших бит
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
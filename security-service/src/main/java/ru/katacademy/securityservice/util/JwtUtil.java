@@ -1,13 +1,27 @@
 package ru.katacademy.securityservice.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import ru.katacademy.bank_shared.security.JwtPrincipal;
+import ru.katacademy.bank_shared.validation.StringValidators;
+import ru.katacademy.securityservice.security.JwtSigningKeys;
+import ru.katacademy.securityservice.security.TokenRevocationList;
+
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -17,7 +31,21 @@ import java.util.stream.Collectors;
  *  - Создаёт подписанные JWT-токены на основе заданного subject(например имя пользователя);
  *  - Проверяет валидность (подпись, срок действия);
  *  - Извлекает из токена данные (claims);
- *  - Использует алгоритм HMAC-SHA256 и секрет, заданный в application.yml.
+ *  - Использует алгоритм HMAC-SHA256 и секрет, заданный в application.yml,
+ *    либо RS256/ES256 и ключи {@link JwtSigningKeys} (jwt.signing): токен подписывается активным ключом
+ *    с заголовком kid и проверяется открытым ключом с тем же kid, поэтому после ротации
+ *    остаются действительными токены, подписанные предыдущими ключами.
+ *
+ * Разбор токенов:
+ *  - ключ подписи, парсер и кеш создаются один раз при запуске ({@link #init()})
+ *    и переиспользуются всеми потоками; некорректный секрет останавливает запуск;
+ *  - данные токена доступны только через {@link #parsePrincipal(String)} и {@link #getClaimsCopy(String)},
+ *    оба метода проверяют отзыв;
+ *  - {@link #parsePrincipal(String)} проверяет подпись один раз и возвращает все данные пользователя;
+ *  - при jwt.cache.max-size больше 0 проверенные токены кешируются по SHA-256 от токена
+ *    до истечения срока токена, но не дольше jwt.cache.ttl;
+ *  - каждый токен получает идентификатор jti; отозванные токены ({@link TokenRevocationList})
+ *    отклоняются и при разборе, и при попадании в кеш.
  *
  * Источник секрета:
  *  - @Value("${jwt.secret}") — задаётся в конфигурации
@@ -29,6 +57,9 @@ import java.util.stream.Collectors;
  *  jwt:
  *    secret: "testsecretkeyfortestpurposesonly1234567890"
  *    expiration-ms: 3600000
+ *    cache:
+ *      max-size: 10000
+ *      ttl: PT5M
  *
  * Автор: Быстров М.
  * Дата: 10.06.2025
@@ -54,10 +85,60 @@ public class JwtUtil {
     private long expirationMs;
 
     /**
-     * Ключ, сгенерированный из секрета, используется для подписи/валидации токенов.
+     * Асимметричные ключи подписи; если не заданы или выбран HS256, используется секрет.
+     */
+    @Autowired(required = false)
+    private JwtSigningKeys signingKeys;
+
+    /**
+     * Отозванные токены; если не задан, токены не проверяются на отзыв.
+     */
+    @Autowired(required = false)
+    private TokenRevocationList revocations;
+
+    /**
+     * Максимальное число проверенных токенов в кеше; 0 — кеш выключен.
+     */
+    @Value("${jwt.cache.max-size:0}")
+    private long cacheMaxSize;
+
+    /**
+     * Максимальное время хранения проверенного токена в кеше.
+     */
+    @Value("${jwt.cache.ttl:PT5M}")
+    private Duration cacheTtl = Duration.ofMinutes(5);
+
+    /**
+     * Ключ, сгенерированный из секрета, используется для подписи/валидации токенов; null для RS256/ES256.
      */
     private Key signingKey;
 
+    /**
+     * Потокобезопасный парсер.
+     */
+    private JwtParser parser;
+
+    /**
+     * Кеш проверенных токенов по SHA-256 от токена.
+     */
+    private Optional<Cache<String, JwtPrincipal>> verifiedTokens;
+
+    /**
+     * Создаёт ключ подписи, парсер и кеш проверенных токенов после внедрения настроек.
+     *
+     * @throws IllegalArgumentException если секрет не соответствует требованиям (для HS256)
+     */
+    @PostConstruct
+    public void init() {
+        if (!isAsymmetric()) {
+            validateSecret(secret);
+            signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        }
+        parser = buildParser();
+        verifiedTokens = buildVerifiedTokens();
+        log.info("JWT signing key initialized");
+    }
+
     /**
      * Проверяет соответствие секрета критериям.
      */
@@ -72,24 +153,11 @@ public class JwtUtil {
         }
 
         // Проверка формата — только латиница, цифры и спецсимволы
-        if (!secret.matches("^[A-Za-z0-9!@#$%^&*()_+=-]+$")) {
+        if (!StringValidators.isSecretKeyChars(secret)) {
             throw new IllegalArgumentException("Секретный ключ содержит недопустимые символы");
         }
     }
 
-    /**
-     * Возвращает объект ключа для подписи на основе секрета.
-     * Используется алгоритм HMAC-SHA256.
-     */
-    private Key getSigningKey() {
-        if (signingKey == null) {
-            validateSecret(secret);
-            this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-            log.info("JWT signing key initialized");
-        }
-        return signingKey;
-    }
-
     /**
      * Генерирует новый JWT-токен для заданного пользователя (subject).
      *
@@ -97,14 +165,24 @@ public class JwtUtil {
      * @return строка токена (compact JWT)
      */
     public String generateToken(String subject, Long userId, Collection<String> roles) {
-        return Jwts.builder()
+        final JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .claim("userId", userId)
                 .claim("roles", roles)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + expirationMs))
-                .signWith(getSigningKey())
-                .compact();
+                .setExpiration(new Date(System.currentTimeMillis() + expirationMs));
+        if (isAsymmetric()) {
+            return builder
+                    .setHeaderParam(JwsHeader.KEY_ID, signingKeys.getActiveKid())
+                    .signWith(signingKeys.getActivePrivateKey(), signingKeys.getAlgorithm())
+                    .compact();
+        }
+        return builder.signWith(signingKey).compact();
+    }
+
+    private boolean isAsymmetric() {
+        return signingKeys != null && signingKeys.isAsymmetric();
     }
 
     /**
@@ -112,22 +190,42 @@ public class JwtUtil {
      *
      * @param token строка JWT-токена
      * @return Map из всех ключей и значений (например, sub, iat, exp)
-     * @throws JwtException если токен просрочен, недействителен или подделан
+     * @throws JwtException если токен просрочен, недействителен, подделан или отозван
      */
     public Map<String, Object> getClaimsCopy(String token) {
         final Claims claims = parseToken(token).getBody();
+        checkNotRevoked(toPrincipal(claims));
         return new HashMap<>(claims);
     }
 
     /**
-     * Извлекает из токена `subject` (например, имя пользователя).
+     * Разбирает токен один раз и возвращает все данные пользователя.
+     * Если включён кеш, повторная проверка подписи ещё не истёкшего токена не выполняется,
+     * но отзыв токена проверяется при каждом вызове.
      *
      * @param token строка JWT-токена
-     * @return subject, заданный при создании
-     * @throws JwtException при недействительном токене
+     * @return данные пользователя из токена
+     * @throws JwtException если токен просрочен, недействителен, подделан или отозван
      */
-    public String getSubject(String token) {
-        return parseToken(token).getBody().getSubject();
+    public JwtPrincipal parsePrincipal(String token) {
+        final JwtPrincipal principal = verifiedPrincipal(token);
+        checkNotRevoked(principal);
+        return principal;
+    }
+
+    private JwtPrincipal verifiedPrincipal(String token) {
+        final Optional<Cache<String, JwtPrincipal>> cache = verifiedTokens;
+        if (cache.isEmpty()) {
+            return toPrincipal(parseToken(token).getBody());
+        }
+        final String key = tokenHash(token);
+        final JwtPrincipal cached = cache.get().getIfPresent(key);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+        final JwtPrincipal principal = toPrincipal(parseToken(token).getBody());
+        cache.get().put(key, principal);
+        return principal;
     }
 
     /**
@@ -138,22 +236,103 @@ public class JwtUtil {
      * @throws JwtException при ошибках подписи или истечении срока действия
      */
     private Jws<Claims> parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
+        return parser.parseClaimsJws(token);
     }
 
-    public Long getUserId(String token) {
-        return parseToken(token).getBody().get("userId", Long.class);
+    private JwtParser buildParser() {
+        final JwtParserBuilder builder = Jwts.parserBuilder();
+        if (isAsymmetric()) {
+            builder.setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                @Override
+                public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                    return signingKeys.findPublicKey(header.getKeyId())
+                            .orElseThrow(() -> new JwtException("Токен подписан неизвестным ключом " + header.getKeyId()));
+                }
+            });
+        } else {
+            builder.setSigningKey(signingKey);
+        }
+        return builder.build();
     }
 
-    public List<String> getRoles(String token) {
-        final Claims claims = parseToken(token).getBody();
+    private List<String> rolesOf(Claims claims) {
         final Object roles = claims.get("roles");
         if (roles instanceof Collection<?>) {
             return ((Collection<?>) roles).stream().map(Object::toString).collect(Collectors.toList());
         }
         return List.of();
     }
+
+    private JwtPrincipal toPrincipal(Claims claims) {
+        Instant expiresAt = null;
+        if (claims.getExpiration() != null) {
+            expiresAt = claims.getExpiration().toInstant();
+        }
+        Instant issuedAt = null;
+        if (claims.getIssuedAt() != null) {
+            issuedAt = claims.getIssuedAt().toInstant();
+        }
+        return new JwtPrincipal(claims.get("userId", Long.class), claims.getSubject(), rolesOf(claims),
+                claims.getId(), issuedAt, expiresAt);
+    }
+
+    private void checkNotRevoked(JwtPrincipal principal) {
+        if (revocations != null && revocations.isRevoked(principal)) {
+            throw new JwtException("Токен отозван");
+        }
+    }
+
+    private boolean isExpired(JwtPrincipal principal) {
+        return principal.expiresAt() != null && !principal.expiresAt().isAfter(Instant.now());
+    }
+
+    private Optional<Cache<String, JwtPrincipal>> buildVerifiedTokens() {
+        if (cacheMaxSize <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry(cacheTtl))
+                .build());
+    }
+
+    /**
+     * Ключ кеша: SHA-256 от токена, чтобы не хранить сами токены в памяти.
+     */
+    private static String tokenHash(String token) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 недоступен", e);
+        }
+    }
+
+    /**
+     * Срок хранения токена в кеше: до истечения токена, но не дольше заданного ttl.
+     */
+    private record TokenExpiry(Duration ttl) implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            if (principal.expiresAt() == null) {
+                return ttl.toNanos();
+            }
+            final Duration untilExpiry = Duration.between(Instant.now(), principal.expiresAt());
+            if (untilExpiry.isNegative()) {
+                return 0;
+            }
+            return Math.min(untilExpiry.toNanos(), ttl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -10,10 +10,16 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.List;
+import ru.katacademy.bank_shared.security.JwtPrincipal;
 import ru.katacademy.securityservice.config.SecurityConfig;
 import ru.katacademy.securityservice.util.JwtUtil;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = JwtAuthenticationFilterTest.SecuredController.class)
@@ -39,11 +45,35 @@ public class JwtAuthenticationFilterTest {
 
         //вставляем токен, который вызовет исключение
         final String invalidToken = "invalid.jwt.token";
-        Mockito.when(jwtUtil.getSubject(invalidToken)).thenThrow(new JwtException("Invalid token"));
+        Mockito.when(jwtUtil.parsePrincipal(invalidToken)).thenThrow(new JwtException("Invalid token"));
 
         // проверяем, что фильтр вернет 401
         mockMvc.perform(get("/secured-endpoint")
                 .header("Authorization", "Bearer " + invalidToken))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void whenValidToken_thenParsedOnceAndAuthenticated() throws Exception {
+        final String token = "valid.jwt.token";
+        Mockito.when(jwtUtil.parsePrincipal(token))
+                .thenReturn(new JwtPrincipal(1L, "user", List.of("ROLE_USER"), "jti-1", Instant.now(), Instant.now().plusSeconds(60)));
+
+        mockMvc.perform(get("/secured-endpoint")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(content().string("ok"));
+
+        Mockito.verify(jwtUtil, times(1)).parsePrincipal(token);
+        Mockito.verifyNoMoreInteractions(jwtUtil);
+    }
+
+    @Test
+    void whenPublicPath_thenTokenNotParsed() throws Exception {
+        mockMvc.perform(get("/.well-known/jwks.json")
+                .header("Authorization", "Bearer invalid.jwt.token"))
+                .andExpect(status().isNotFound());
+
+        Mockito.verifyNoInteractions(jwtUtil);
+    }
 }
@@ -0,0 +1,68 @@
+package ru.katacademy.securityservice.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import ru.katacademy.securityservice.config.PublicPathsProperties;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Тестовый класс для {@link PublicPathMatcher}.
+ * Проверяет сопоставление путей с шаблонами, учёт HTTP-метода и контекста приложения.
+ */
+class PublicPathMatcherTest {
+
+    private final PublicPathMatcher matcher = new PublicPathMatcher(List.of(
+            path(null, "/swagger-ui/**"),
+            path(null, "/v3/api-docs/**"),
+            path("post", "/api/security/verify"),
+            path("GET", "/.well-known/jwks.json")));
+
+    @Test
+    void matches_ShouldMatchWildcardPatternsForAnyMethod() {
+        assertTrue(matcher.matches("GET", "/swagger-ui/index.html"));
+        assertTrue(matcher.matches("POST", "/v3/api-docs"));
+        assertTrue(matcher.matches("GET", "/v3/api-docs/swagger-config"));
+        assertFalse(matcher.matches("GET", "/swagger-uix"));
+    }
+
+    @Test
+    void matches_ShouldRespectMethod() {
+        assertTrue(matcher.matches("POST", "/api/security/verify"));
+        assertFalse(matcher.matches("GET", "/api/security/verify"));
+        assertTrue(matcher.matches("GET", "/.well-known/jwks.json"));
+        assertFalse(matcher.matches("DELETE", "/.well-known/jwks.json"));
+    }
+
+    @Test
+    void matches_ShouldNotTreatPatternsAsPrefixes() {
+        assertFalse(matcher.matches("POST", "/api/security/verify/extra"));
+        assertFalse(matcher.matches("POST", "/api/security/verifyAll"));
+        assertFalse(matcher.matches("GET", "/api/accounts"));
+    }
+
+    @Test
+    void matches_ShouldIgnoreContextPath() {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/security/api/security/verify");
+        request.setContextPath("/security");
+
+        assertTrue(matcher.matches(request));
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidPaths() {
+        assertThrows(IllegalStateException.class, () -> new PublicPathMatcher(List.of(path("GET", " "))));
+        assertThrows(IllegalArgumentException.class, () -> new PublicPathMatcher(List.of(path("GET", "/{unclosed"))));
+    }
+
+    private static PublicPathsProperties.PublicPath path(String method, String pattern) {
+        final PublicPathsProperties.PublicPath path = new PublicPathsProperties.PublicPath();
+        path.setMethod(method);
+        path.setPattern(pattern);
+        return path;
+    }
+}
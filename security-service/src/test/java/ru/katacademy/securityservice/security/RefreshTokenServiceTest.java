@@ -0,0 +1,169 @@
+package ru.katacademy.securityservice.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.katacademy.bank_shared.event.TokenRevokedEvent;
+import ru.katacademy.bank_shared.exception.InvalidTokenException;
+import ru.katacademy.bank_shared.security.JwtPrincipal;
+import ru.katacademy.securityservice.util.JwtUtil;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Тестовый класс для {@link RefreshTokenService}.
+ * Проверяет выдачу пары токенов, ротацию refresh-токена, обнаружение повторного использования,
+ * скользящий срок сессии с ограничением и отзыв сессий пользователя.
+ */
+class RefreshTokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+    private static final Duration TTL = Duration.ofDays(14);
+    private static final Duration MAX_SESSION = Duration.ofDays(30);
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private JwtUtil jwtUtil;
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "testsecretkeyfortestpurposesonly1234567890");
+        ReflectionTestUtils.setField(jwtUtil, "expirationMs", 900000L);
+        jwtUtil.init();
+        final RefreshTokenStore store = new InMemoryRefreshTokenStore(1000, MAX_SESSION, clock);
+        service = new RefreshTokenService(jwtUtil, store, TTL, MAX_SESSION, 900000L, clock);
+    }
+
+    @Test
+    void refresh_ShouldRotateRefreshTokenAndIssueAccessToken() {
+        final TokenPair login = service.issue("user", 7L, List.of("ROLE_USER"));
+
+        final TokenPair refreshed = service.refresh(login.refreshToken());
+
+        final JwtPrincipal principal = jwtUtil.parsePrincipal(refreshed.accessToken());
+        assertEquals(7L, principal.userId());
+        assertEquals(List.of("ROLE_USER"), principal.roles());
+        assertEquals(900, refreshed.expiresIn());
+        assertNotEquals(login.refreshToken(), refreshed.refreshToken());
+    }
+
+    @Test
+    void refresh_ShouldRevokeSession_WhenRefreshTokenReused() {
+        final TokenPair login = service.issue("user", 7L, List.of("ROLE_USER"));
+        final TokenPair refreshed = service.refresh(login.refreshToken());
+
+        assertThrows(InvalidTokenException.class, () -> service.refresh(login.refreshToken()));
+        assertThrows(InvalidTokenException.class, () -> service.refresh(refreshed.refreshToken()));
+    }
+
+    @Test
+    void refresh_ShouldReject_WhenTokenUnknownOrExpired() {
+        final TokenPair login = service.issue("user", 7L, List.of("ROLE_USER"));
+
+        assertThrows(InvalidTokenException.class, () -> service.refresh("unknown"));
+
+        clock.set(NOW.plus(TTL).plusSeconds(1));
+        assertThrows(InvalidTokenException.class, () -> service.refresh(login.refreshToken()));
+    }
+
+    @Test
+    void refresh_ShouldSlideSessionUpToMaxSession() {
+        TokenPair pair = service.issue("user", 7L, List.of("ROLE_USER"));
+        clock.set(NOW.plus(Duration.ofDays(13)));
+        pair = service.refresh(pair.refreshToken());
+        clock.set(NOW.plus(Duration.ofDays(26)));
+        pair = service.refresh(pair.refreshToken());
+
+        // сессия продлевается не дальше max-session от входа
+        clock.set(NOW.plus(MAX_SESSION).plusSeconds(1));
+        final String lastRefreshToken = pair.refreshToken();
+        assertThrows(InvalidTokenException.class, () -> service.refresh(lastRefreshToken));
+    }
+
+    @Test
+    void refresh_ShouldReject_WhenUserTokensRevokedAfterLogin() {
+        final TokenPair before = service.issue("user", 7L, List.of("ROLE_USER"));
+        clock.set(NOW.plusSeconds(60));
+        service.apply(TokenRevokedEvent.forUser(7L, clock.instant()));
+        clock.set(NOW.plusSeconds(61));
+        final TokenPair after = service.issue("user", 7L, List.of("ROLE_USER"));
+
+        assertThrows(InvalidTokenException.class, () -> service.refresh(before.refreshToken()));
+        assertEquals(7L, jwtUtil.parsePrincipal(service.refresh(after.refreshToken()).accessToken()).userId());
+    }
+
+    @Test
+    void revokeSession_ShouldEndOnlyThatSession() {
+        final TokenPair phone = service.issue("user", 7L, List.of("ROLE_USER"));
+        final TokenPair laptop = service.issue("user", 7L, List.of("ROLE_USER"));
+        final TokenPair rotated = service.refresh(phone.refreshToken());
+
+        assertTrue(service.revokeSession(phone.refreshToken(), 7L));
+
+        assertThrows(InvalidTokenException.class, () -> service.refresh(rotated.refreshToken()));
+        assertEquals(7L, jwtUtil.parsePrincipal(service.refresh(laptop.refreshToken()).accessToken()).userId());
+    }
+
+    @Test
+    void revokeSession_ShouldIgnoreTokenOfAnotherUser() {
+        final TokenPair login = service.issue("user", 7L, List.of("ROLE_USER"));
+
+        assertFalse(service.revokeSession(login.refreshToken(), 8L));
+        assertFalse(service.revokeSession("unknown", 7L));
+
+        assertEquals(7L, jwtUtil.parsePrincipal(service.refresh(login.refreshToken()).accessToken()).userId());
+    }
+
+    @Test
+    void revokeAllSessions_ShouldEndSessionsStartedBefore() {
+        final TokenPair login = service.issue("user", 7L, List.of("ROLE_USER"));
+        clock.set(NOW.plusSeconds(60));
+
+        service.revokeAllSessions(7L);
+
+        assertThrows(InvalidTokenException.class, () -> service.refresh(login.refreshToken()));
+    }
+
+    /**
+     * Часы, время которых задаётся тестом.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package ru.katacademy.securityservice.security;
+
+import org.junit.jupiter.api.Test;
+import ru.katacademy.bank_shared.event.TokenRevokedEvent;
+import ru.katacademy.bank_shared.security.JwtPrincipal;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Тестовый класс для {@link TokenRevocationList}.
+ * Проверяет отзыв по идентификатору токена и по пользователю, а также удаление записей,
+ * срок действия которых истёк.
+ */
+class TokenRevocationListTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+    private static final Duration LIFETIME = Duration.ofHours(1);
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final TokenRevocationList revocations =
+            new TokenRevocationList(LIFETIME, Duration.ofMinutes(10), 1000, 0.01, clock);
+
+    @Test
+    void isRevoked_ShouldMatchRevokedTokenIdOnly() {
+        final JwtPrincipal revoked = principal(1L, NOW.minusSeconds(60));
+        final JwtPrincipal active = principal(1L, NOW.minusSeconds(60));
+
+        revocations.apply(TokenRevokedEvent.forToken(revoked.tokenId(), revoked.expiresAt()));
+
+        assertTrue(revocations.isRevoked(revoked));
+        assertFalse(revocations.isRevoked(active));
+    }
+
+    @Test
+    void isRevoked_ShouldRejectTokensIssuedBeforeUserRevocation() {
+        final JwtPrincipal before = principal(1L, NOW.minusSeconds(60));
+        final JwtPrincipal after = principal(1L, NOW.plusSeconds(2));
+        final JwtPrincipal otherUser = principal(2L, NOW.minusSeconds(60));
+
+        revocations.apply(TokenRevokedEvent.forUser(1L, NOW.plusMillis(500)));
+
+        assertTrue(revocations.isRevoked(before));
+        assertFalse(revocations.isRevoked(after));
+        assertFalse(revocations.isRevoked(otherUser));
+    }
+
+    @Test
+    void isRevoked_ShouldRejectTokenIssuedEarlierInSameSecond() {
+        // iat токена хранится в секундах: токен, выпущенный в NOW+200ms до смены пароля, несёт iat = NOW
+        final JwtPrincipal sameSecond = principal(1L, NOW);
+        final JwtPrincipal nextSecond = principal(1L, NOW.plusSeconds(1));
+        final JwtPrincipal later = principal(1L, NOW.plusSeconds(2));
+
+        revocations.revokeUser(1L, NOW.plusMillis(500));
+
+        assertTrue(revocations.isRevoked(sameSecond));
+        assertTrue(revocations.isRevoked(nextSecond));
+        assertFalse(revocations.isRevoked(later));
+    }
+
+    @Test
+    void isRevoked_ShouldRejectTokenOfRevocationSecond_WhenRevokedOnWholeSecond() {
+        revocations.revokeUser(1L, NOW);
+
+        assertTrue(revocations.isRevoked(principal(1L, NOW)));
+        assertFalse(revocations.isRevoked(principal(1L, NOW.plusSeconds(1))));
+    }
+
+    @Test
+    void isRevoked_ShouldKeepLatestUserRevocation() {
+        revocations.revokeUser(1L, NOW);
+        revocations.revokeUser(1L, NOW.minusSeconds(600));
+
+        assertTrue(revocations.isRevoked(principal(1L, NOW.minusSeconds(60))));
+    }
+
+    @Test
+    void apply_ShouldIgnoreRevocationsOfExpiredTokens() {
+        final JwtPrincipal expired = new JwtPrincipal(1L, "user", List.of(), "jti", NOW.minus(LIFETIME), NOW.minusSeconds(1));
+
+        revocations.apply(TokenRevokedEvent.forToken(expired.tokenId(), expired.expiresAt()));
+        revocations.apply(TokenRevokedEvent.forUser(1L, NOW.minus(LIFETIME).minusSeconds(1)));
+
+        assertFalse(revocations.isRevoked(expired));
+    }
+
+    @Test
+    void revoke_ShouldDropEntriesAfterTokensExpire() {
+        final JwtPrincipal token = principal(1L, NOW.minusSeconds(60));
+        revocations.revokeToken(token.tokenId(), token.expiresAt());
+        revocations.revokeUser(2L, NOW);
+
+        clock.set(token.expiresAt().plus(Duration.ofMinutes(20)));
+        revocations.revokeToken("other", clock.instant().plusSeconds(60));
+
+        assertFalse(revocations.isRevoked(token));
+        assertFalse(revocations.isRevoked(principal(2L, NOW.minusSeconds(60))));
+    }
+
+    private JwtPrincipal principal(Long userId, Instant issuedAt) {
+        return new JwtPrincipal(userId, "user", List.of("ROLE_USER"), UUID.randomUUID().toString(), issuedAt,
+                issuedAt.plus(LIFETIME));
+    }
+
+    /**
+     * Часы, время которых задаётся тестом.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ru.katacademy.securityservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Тестовый класс для {@link BloomFilter}.
+ * Проверяет отсутствие ложноотрицательных ответов и долю ложных срабатываний.
+ */
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ShouldReturnTrueForAllAddedValues() {
+        final BloomFilter filter = new BloomFilter(10_000, 0.01);
+        final List<String> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            final String value = UUID.randomUUID().toString();
+            values.add(value);
+            filter.put(value);
+        }
+
+        assertTrue(values.stream().allMatch(filter::mightContain));
+    }
+
+    @Test
+    void mightContain_ShouldKeepFalsePositiveRateNearConfigured() {
+        final BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "Ложных срабатываний: " + falsePositives);
+        assertTrue(filter.bitSize() < 10_000 * 10 + Long.SIZE);
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+    }
+}
@@ -1,9 +1,16 @@
 package ru.katacademy.securityservice.util;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
+import ru.katacademy.bank_shared.security.JwtPrincipal;
+import ru.katacademy.securityservice.security.TokenRevocationList;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -22,39 +29,38 @@ class JwtUtilTest {
      * Инициализация перед каждым тестом:
      * 1. Создает новый экземпляр JwtUtil
      * 2. Устанавливает тестовые значения для secret и expiration
+     * 3. Инициализирует ключ подписи, как это делает Spring после внедрения настроек
      */
     @BeforeEach
     void setUp() {
         jwtUtil = new JwtUtil();
         ReflectionTestUtils.setField(jwtUtil, "secret", "testsecretkeyfortestpurposesonly1234567890");
         ReflectionTestUtils.setField(jwtUtil, "expirationMs", 3600000L);
+        jwtUtil.init();
     }
 
     @Test
-    void generateToken_ShouldThrowException_WhenSecretIsTooShort() {
+    void init_ShouldThrowException_WhenSecretIsTooShort() {
 
         ReflectionTestUtils.setField(jwtUtil, "secret", "short");
 
-        assertThrows(IllegalArgumentException.class,
-                () -> jwtUtil.generateToken("testUser", 123L, List.of("ROLE_USER")));
+        assertThrows(IllegalArgumentException.class, () -> jwtUtil.init());
     }
 
     @Test
-    void generateToken_ShouldThrowException_WhenSecretHasInvalidCharacters() {
+    void init_ShouldThrowException_WhenSecretHasInvalidCharacters() {
 
         ReflectionTestUtils.setField(jwtUtil, "secret", "секретскириллицей123456789012345");
 
-        assertThrows(IllegalArgumentException.class,
-                () -> jwtUtil.generateToken("testUser", 123L, List.of("ROLE_USER")));
+        assertThrows(IllegalArgumentException.class, () -> jwtUtil.init());
     }
 
     @Test
-    void generateToken_ShouldThrowException_WhenSecretIsNull() {
+    void init_ShouldThrowException_WhenSecretIsNull() {
 
         ReflectionTestUtils.setField(jwtUtil, "secret", null);
 
-        assertThrows(IllegalArgumentException.class,
-                () -> jwtUtil.generateToken("testUser", 123L, List.of("ROLE_USER")));
+        assertThrows(IllegalArgumentException.class, () -> jwtUtil.init());
     }
 
     @Test
@@ -64,8 +70,10 @@ class JwtUtilTest {
         ReflectionTestUtils.setField(jwtUtil, "secret", validSecret);
 
         // Не должно быть исключения
-        assertDoesNotThrow(() ->
-                jwtUtil.generateToken("testUser", 123L, List.of("ROLE_USER")));
+        assertDoesNotThrow(() -> {
+            jwtUtil.init();
+            jwtUtil.generateToken("testUser", 123L, List.of("ROLE_USER"));
+        });
     }
 
     /**
@@ -91,12 +99,12 @@ class JwtUtilTest {
      * Проверяет что извлеченное имя пользователя соответствует исходному.
      */
     @Test
-    void getSubject_ShouldReturnCorrectUsername() {
+    void parsePrincipal_ShouldReturnCorrectUsername() {
         final String token = jwtUtil.generateToken(
                 "testUser",
                 123L,
                 List.of("ROLE_USER"));
-        final String subject = jwtUtil.getSubject(token);
+        final String subject = jwtUtil.parsePrincipal(token).subject();
 
         assertEquals(testUser, subject);
     }
@@ -129,8 +137,86 @@ class JwtUtilTest {
      * Проверяет что при передаче некорректного токена выбрасывается исключение.
      */
     @Test
-    void getSubject_ShouldThrowExceptionForInvalidToken() {
+    void parsePrincipal_ShouldThrowExceptionForInvalidToken() {
         assertThrows(Exception.class,
-                () -> jwtUtil.getSubject("invalid.token.here"));
+                () -> jwtUtil.parsePrincipal("invalid.token.here"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Тест разбора токена в данные пользователя.
+     * Проверяет, что один разбор возвращает userId, subject, роли и срок действия.
+     */
+    @Test
+    void parsePrincipal_ShouldReturnAllClaims() {
+        final String token = jwtUtil.generateToken("testUser", 123L, List.of("ROLE_USER", "ROLE_ADMIN"));
+
+        final JwtPrincipal principal = jwtUtil.parsePrincipal(token);
+
+        assertEquals(123L, principal.userId());
+        assertEquals(testUser, principal.subject());
+        assertEquals(List.of("ROLE_USER", "ROLE_ADMIN"), principal.roles());
+        assertTrue(principal.expiresAt().isAfter(Instant.now()));
+        assertThrows(UnsupportedOperationException.class, () -> principal.roles().add("ROLE_ROOT"));
+    }
+
+    /**
+     * Тест кеша проверенных токенов.
+     * Проверяет, что при включённом кеше повторный разбор возвращает сохранённый результат,
+     * а при выключенном — каждый раз разбирает токен заново.
+     */
+    @Test
+    void parsePrincipal_ShouldReuseVerifiedToken_WhenCacheEnabled() {
+        final String token = jwtUtil.generateToken("testUser", 123L, List.of("ROLE_USER"));
+        assertNotSame(jwtUtil.parsePrincipal(token), jwtUtil.parsePrincipal(token));
+
+        final JwtUtil cachingJwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(cachingJwtUtil, "secret", "testsecretkeyfortestpurposesonly1234567890");
+        ReflectionTestUtils.setField(cachingJwtUtil, "cacheMaxSize", 100L);
+        cachingJwtUtil.init();
+
+        assertSame(cachingJwtUtil.parsePrincipal(token), cachingJwtUtil.parsePrincipal(token));
+    }
+
+    /**
+     * Тест разбора просроченного токена.
+     * Проверяет, что просроченный токен отклоняется и при включённом кеше.
+     */
+    @Test
+    void parsePrincipal_ShouldRejectExpiredToken() {
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(jwtUtil, "expirationMs", -1000L);
+        jwtUtil.init();
+        final String token = jwtUtil.generateToken("testUser", 123L, List.of("ROLE_USER"));
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parsePrincipal(token));
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parsePrincipal(token));
+    }
+
+    /**
+     * Тест отзыва токена.
+     * Проверяет, что отозванный токен отклоняется и после попадания в кеш проверенных токенов,
+     * а отзыв по пользователю не затрагивает других пользователей.
+     */
+    @Test
+    void parsePrincipal_ShouldRejectRevokedToken_WhenCached() {
+        final TokenRevocationList revocations = new TokenRevocationList(3600000L, Duration.ofMinutes(10), 1000, 0.01,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "revocations", revocations);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 100L);
+        jwtUtil.init();
+        final String token = jwtUtil.generateToken("testUser", 123L, List.of("ROLE_USER"));
+        final String otherToken = jwtUtil.generateToken("otherUser", 456L, List.of("ROLE_USER"));
+        final JwtPrincipal principal = jwtUtil.parsePrincipal(token);
+        assertNotNull(principal.tokenId());
+
+        revocations.revokeToken(principal.tokenId(), principal.expiresAt());
+
+        assertThrows(JwtException.class, () -> jwtUtil.parsePrincipal(token));
+        assertThrows(JwtException.class, () -> jwtUtil.getClaimsCopy(token));
+        assertEquals(456L, jwtUtil.parsePrincipal(otherToken).userId());
+
+        revocations.revokeUser(456L, Instant.now().plusSeconds(1));
+
+        assertThrows(JwtException.class, () -> jwtUtil.parsePrincipal(otherToken));
+    }
+}
@@ -0,0 +1,21 @@
+package ru.katacademy.bank_app.account.application.command;
+
+import ru.katacademy.bank_app.account.application.service.BatchFailureMode;
+
+import java.util.List;
+
+/**
+ * Команда пакетного перевода.
+ * <p>
+ * Все операции пакета выполняются в одной транзакции; поведение при ошибке
+ * отдельной операции задаётся {@link BatchFailureMode}.
+ * </p>
+ *
+ * @param legs        операции пакета в порядке выполнения
+ * @param failureMode поведение при ошибке отдельной операции
+ */
+public record BatchTransferCommand(
+        List<TransferLegCommand> legs,
+        BatchFailureMode failureMode
+) {
+}
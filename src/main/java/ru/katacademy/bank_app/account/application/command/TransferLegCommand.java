@@ -0,0 +1,39 @@
+package ru.katacademy.bank_app.account.application.command;
+
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+/**
+ * Одна операция (нога) пакетного перевода.
+ * <p>
+ * Операция, параметры которой не удалось разобрать (например, некорректный номер счёта или код валюты),
+ * создаётся {@link #invalid(String)}: она не выполняется и завершается ошибкой по правилам
+ * режима пакета, не прерывая разбор остальных операций.
+ * </p>
+ *
+ * @param from          номер счёта отправителя
+ * @param to            номер счёта получателя
+ * @param amount        сумма перевода
+ * @param invalidReason причина, по которой операцию не удалось разобрать, или {@code null}
+ */
+public record TransferLegCommand(
+        AccountNumber from,
+        AccountNumber to,
+        Money amount,
+        String invalidReason
+) {
+
+    public TransferLegCommand(AccountNumber from, AccountNumber to, Money amount) {
+        this(from, to, amount, null);
+    }
+
+    /**
+     * Создаёт операцию, параметры которой не удалось разобрать.
+     *
+     * @param reason причина ошибки разбора
+     * @return операция без счетов и суммы
+     */
+    public static TransferLegCommand invalid(String reason) {
+        return new TransferLegCommand(null, null, null, reason);
+    }
+}
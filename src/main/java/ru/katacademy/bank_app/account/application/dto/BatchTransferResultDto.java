@@ -0,0 +1,17 @@
+package ru.katacademy.bank_app.account.application.dto;
+
+import java.util.List;
+
+/**
+ * Результат пакетного перевода.
+ *
+ * @param completed количество выполненных операций
+ * @param failed    количество невыполненных операций
+ * @param legs      результаты операций в порядке следования в пакете
+ */
+public record BatchTransferResultDto(
+        int completed,
+        int failed,
+        List<TransferLegResultDto> legs
+) {
+}
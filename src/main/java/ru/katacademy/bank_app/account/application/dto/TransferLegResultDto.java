@@ -0,0 +1,29 @@
+package ru.katacademy.bank_app.account.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Результат одной операции пакетного перевода.
+ *
+ * @param index     порядковый номер операции в пакете (с нуля)
+ * @param completed {@code true}, если операция выполнена
+ * @param eventId   идентификатор события о переводе, если операция выполнена
+ * @param errorCode код ошибки, если операция не выполнена
+ * @param message   описание ошибки, если операция не выполнена
+ */
+public record TransferLegResultDto(
+        int index,
+        boolean completed,
+        UUID eventId,
+        String errorCode,
+        String message
+) {
+
+    public static TransferLegResultDto completed(int index, UUID eventId) {
+        return new TransferLegResultDto(index, true, eventId, null, null);
+    }
+
+    public static TransferLegResultDto failed(int index, String errorCode, String message) {
+        return new TransferLegResultDto(index, false, null, errorCode, message);
+    }
+}
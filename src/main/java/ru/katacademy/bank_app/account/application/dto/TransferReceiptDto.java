@@ -0,0 +1,25 @@
+package ru.katacademy.bank_app.account.application.dto;
+
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Результат выполненного перевода.
+ *
+ * @param transferId  идентификатор перевода (совпадает с идентификатором события о переводе)
+ * @param from        номер счёта отправителя
+ * @param to          номер счёта получателя
+ * @param amount      сумма перевода
+ * @param completedAt время выполнения перевода
+ */
+public record TransferReceiptDto(
+        UUID transferId,
+        AccountNumber from,
+        AccountNumber to,
+        Money amount,
+        LocalDateTime completedAt
+) {
+}
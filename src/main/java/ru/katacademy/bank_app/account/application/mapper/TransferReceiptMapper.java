@@ -0,0 +1,44 @@
+package ru.katacademy.bank_app.account.application.mapper;
+
+import ru.katacademy.bank_app.account.application.dto.TransferReceiptDto;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.TransferIdempotencyEntity;
+import ru.katacademy.bank_shared.event.TransferCompletedEvent;
+
+/**
+ * Маппер для преобразования события о переводе и записи об идемпотентном переводе
+ * в DTO {@link TransferReceiptDto}.
+ */
+public class TransferReceiptMapper {
+
+    /**
+     * Преобразует событие о завершении перевода в результат перевода.
+     *
+     * @param event событие о переводе (не должно быть null)
+     * @return новый экземпляр {@link TransferReceiptDto}
+     */
+    public static TransferReceiptDto toReceipt(TransferCompletedEvent event) {
+        return new TransferReceiptDto(
+                event.eventId(),
+                event.accountNumberFrom(),
+                event.accountNumberTo(),
+                event.money(),
+                event.localDateTime()
+        );
+    }
+
+    /**
+     * Преобразует сохранённую запись об идемпотентном переводе в результат перевода.
+     *
+     * @param entity запись о переводе (не должна быть null)
+     * @return новый экземпляр {@link TransferReceiptDto}
+     */
+    public static TransferReceiptDto toReceipt(TransferIdempotencyEntity entity) {
+        return new TransferReceiptDto(
+                entity.getEventId(),
+                entity.getAccountFrom(),
+                entity.getAccountTo(),
+                entity.getMoney(),
+                entity.getCompletedAt()
+        );
+    }
+}
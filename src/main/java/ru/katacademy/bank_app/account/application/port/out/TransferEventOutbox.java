@@ -0,0 +1,31 @@
+package ru.katacademy.bank_app.account.application.port.out;
+
+import ru.katacademy.bank_shared.event.TransferCompletedEvent;
+
+import java.util.List;
+
+/**
+ * Исходящий ящик (outbox) событий о переводах.
+ * <p>
+ * События записываются в БД в той же транзакции, что и изменения балансов,
+ * и публикуются в брокер фоновым ретранслятором только после фиксации транзакции.
+ * Поэтому задержка брокера не удерживает блокировки строк счетов,
+ * а откат перевода не оставляет опубликованных событий.
+ * </p>
+ */
+public interface TransferEventOutbox {
+
+    /**
+     * Записывает событие в outbox в текущей транзакции.
+     *
+     * @param event событие о завершённом переводе
+     */
+    void append(TransferCompletedEvent event);
+
+    /**
+     * Записывает события в outbox в текущей транзакции одним пакетом.
+     *
+     * @param events события о завершённых переводах
+     */
+    void appendAll(List<TransferCompletedEvent> events);
+}
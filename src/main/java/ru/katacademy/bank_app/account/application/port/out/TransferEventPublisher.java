@@ -2,6 +2,8 @@ package ru.katacademy.bank_app.account.application.port.out;
 
 import ru.katacademy.bank_shared.event.TransferCompletedEvent;
 
+import java.util.List;
+
 /**
  * Интерфейс для публикации событий о переводах.
  *
@@ -9,4 +11,17 @@ import ru.katacademy.bank_shared.event.TransferCompletedEvent;
  */
 public interface TransferEventPublisher {
     void publish(TransferCompletedEvent event);
+
+    /**
+     * Публикует события пакетом.
+     * <p>
+     * Реализация по умолчанию публикует события по одному; реализации для брокера
+     * отправляют их асинхронно одним пакетом и дожидаются подтверждения всего пакета.
+     * </p>
+     *
+     * @param events события о завершённых переводах
+     */
+    default void publishAll(List<TransferCompletedEvent> events) {
+        events.forEach(this::publish);
+    }
 }
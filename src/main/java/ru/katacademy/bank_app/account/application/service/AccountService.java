@@ -1,22 +1,33 @@
 package ru.katacademy.bank_app.account.application.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.katacademy.bank_app.account.application.command.CreateAccountCommand;
 import ru.katacademy.bank_app.account.application.dto.AccountDto;
+import ru.katacademy.bank_app.account.application.dto.TransferReceiptDto;
 import ru.katacademy.bank_app.account.application.mapper.AccountMapper;
-import ru.katacademy.bank_app.account.application.port.out.TransferEventPublisher;
+import ru.katacademy.bank_app.account.application.mapper.TransferReceiptMapper;
+import ru.katacademy.bank_app.account.application.port.out.TransferEventOutbox;
 import ru.katacademy.bank_app.account.domain.entity.Account;
 import ru.katacademy.bank_app.account.domain.enumtype.AccountStatus;
 import ru.katacademy.bank_app.account.domain.repository.AccountRepository;
+import ru.katacademy.bank_app.account.domain.repository.TransferIdempotencyRepository;
 import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.TransferIdempotencyEntity;
 import ru.katacademy.bank_app.account.infrastructure.persistence.mapper.AccountEntityMapper;
 import ru.katacademy.bank_app.notification.application.NotificationService;
+import ru.katacademy.bank_shared.aspect.RetryableOperation;
 import ru.katacademy.bank_shared.exception.AccountNotFoundException;
 import ru.katacademy.bank_shared.exception.BusinessRuleViolationException;
 import ru.katacademy.bank_shared.exception.CurrencyMismatchException;
 import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.AccountNumberGenerator;
+import ru.katacademy.bank_shared.valueobject.CompactMoney;
 import ru.katacademy.bank_shared.event.TransferCompletedEvent;
 import ru.katacademy.bank_shared.valueobject.Money;
 
@@ -25,6 +36,12 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -35,8 +52,16 @@ import java.util.Objects;
 public class AccountService {
     private final AccountRepository accountRepository;
     private final NotificationService notificationService;
-    private final TransferEventPublisher eventPublisher;
+    private final TransferEventOutbox eventOutbox;
     private final TransferValidator validator;
+    private final MeterRegistry meterRegistry;
+    private final TransferIdempotencyRepository idempotencyRepository;
+    private final HotAccountBalanceService hotAccountBalances;
+    private final AccountNumberGenerator accountNumberGenerator;
+
+    /** Режим согласованности переводов, см. {@link TransferMode} */
+    @Value("${account.transfer.mode:PESSIMISTIC}")
+    private TransferMode transferMode = TransferMode.PESSIMISTIC;
 
     /**
      * Переводит денежные средства от одного аккаунта к другому.
@@ -46,52 +71,133 @@ public class AccountService {
      * Метод помечен как {@code @Transactional}, чтобы, обеспечить атомарность операции:
      * если одна из операций завершится с ошибкой, изменения будут откатаны.
      * </p>
+     * <p>
+     * В режиме {@link TransferMode#PESSIMISTIC} (по умолчанию) строки обоих счетов
+     * блокируются ({@code SELECT ... FOR UPDATE}) до конца транзакции
+     * в порядке возрастания номера счёта, поэтому параллельные переводы по одному счёту
+     * выполняются последовательно и не затирают изменения друг друга, а встречные
+     * переводы A→B и B→A не приводят к взаимной блокировке.
+     * </p>
+     * <p>
+     * В режиме {@link TransferMode#OPTIMISTIC} счета читаются без блокировок, а конфликт
+     * параллельных изменений обнаруживается по версии строки при фиксации транзакции.
+     * Такой перевод повторяется в новой транзакции с задержкой со случайным разбросом
+     * (см. {@link RetryableOperation}). Каждая попытка учитывается в счётчике
+     * {@code account.transfer.attempts}, каждый конфликт — в {@code retry.operation.retries}
+     * и {@code retry.operation.exhausted}, их отношение даёт долю конфликтов.
+     * </p>
+     * <p>
+     * В режиме {@link TransferMode#ATOMIC} списание и зачисление выполняются условными
+     * {@code UPDATE} без чтения счетов, а счёт читается только для диагностики отказа.
+     * </p>
+     * <p>
+     * Переводы с участием «горячих» счетов (см. {@link HotAccountBalanceService}) всегда выполняются
+     * условными {@code UPDATE}: зачисление на такой счёт изменяет один из шардов его баланса.
+     * </p>
      *
      * @param from   аккаунт отправителя
      * @param to     аккаунт получателя
      * @param amount сумма перевода (объект {@link Money})
-     * @throws IllegalArgumentException       если {@code from} или {@code to} равны {@code null}
+     * @throws IllegalArgumentException       если {@code from} или {@code to} равны {@code null} или совпадают
      * @throws BusinessRuleViolationException если аккаунт отправителя-получателя не активен,
      *                                        валюты не совпадают или сумма депозита меньше или сумма списания больше или ровна нулю
      * @throws CurrencyMismatchException      если валюты не совпадают
      */
     @Transactional
+    @RetryableOperation(maxAttempts = 5, backoffDelayMs = 20, jitter = 0.5,
+            retryOn = ConcurrencyFailureException.class)
     public void transfer(AccountNumber from, AccountNumber to, Money amount) throws AccountNotFoundException {
+        checkTransferArguments(from, to);
+        executeTransfer(from, to, amount, UUID.randomUUID(), LocalDateTime.now());
+    }
+
+    /**
+     * Идемпотентно переводит денежные средства от одного аккаунта к другому.
+     * <p>
+     * В той же транзакции, что и перевод, в таблицу {@code transfer_idempotency} записывается
+     * ключ идемпотентности с результатом перевода. Запись выполняется до изменения балансов:
+     * параллельный запрос с тем же ключом ожидает на уникальном индексе и завершается
+     * {@link DataIntegrityViolationException}, не затрагивая строки счетов.
+     * Идентификатор события выводится из ключа, поэтому повтор публикации
+     * распознаётся потребителями как тот же перевод.
+     * </p>
+     *
+     * @param from           аккаунт отправителя
+     * @param to             аккаунт получателя
+     * @param amount         сумма перевода
+     * @param idempotencyKey ключ идемпотентности, заданный клиентом
+     * @return результат перевода
+     * @throws DataIntegrityViolationException если перевод с таким ключом уже выполнен
+     * @see IdempotentTransferService
+     */
+    @Transactional
+    @RetryableOperation(maxAttempts = 5, backoffDelayMs = 20, jitter = 0.5,
+            retryOn = ConcurrencyFailureException.class)
+    public TransferReceiptDto transfer(AccountNumber from, AccountNumber to, Money amount, String idempotencyKey) {
+        checkTransferArguments(from, to);
+        Objects.requireNonNull(amount, "Сумма перевода не может быть null");
+        Objects.requireNonNull(idempotencyKey, "Ключ идемпотентности не может быть null");
+
+        final UUID eventId = UUID.nameUUIDFromBytes(("transfer:" + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+        final LocalDateTime completedAt = LocalDateTime.now();
+        idempotencyRepository.save(new TransferIdempotencyEntity(idempotencyKey, eventId, from, to, amount, completedAt));
+
+        return TransferReceiptMapper.toReceipt(executeTransfer(from, to, amount, eventId, completedAt));
+    }
 
+    private void checkTransferArguments(AccountNumber from, AccountNumber to) {
         if (from == null) {
             throw new IllegalArgumentException("Номер счёта списания не может быть null");
         }
         if (to == null) {
             throw new IllegalArgumentException("Номер счёта зачисления не может быть null");
         }
+        if (from.equals(to)) {
+            throw new IllegalArgumentException("Номера счетов списания и зачисления совпадают");
+        }
+    }
 
-        final Account accountFrom = getAccountByAccountNumber(from);
-        final Account accountTo = getAccountByAccountNumber(to);
-
-        validator.validateTransferTo(accountFrom, accountTo, amount);
-        accountFrom.withdraw(amount);
-        accountTo.deposit(amount);
+    /**
+     * Изменяет балансы в соответствии с {@link #transferMode}, отправляет уведомление
+     * и записывает событие о завершении перевода в outbox.
+     *
+     * @param from        номер счёта отправителя
+     * @param to          номер счёта получателя
+     * @param amount      сумма перевода
+     * @param eventId     идентификатор события о переводе
+     * @param completedAt время выполнения перевода
+     * @return записанное событие
+     */
+    private TransferCompletedEvent executeTransfer(AccountNumber from, AccountNumber to, Money amount,
+                                                   UUID eventId, LocalDateTime completedAt) {
+        meterRegistry.counter("account.transfer.attempts", "mode", transferMode.name()).increment();
 
-        accountRepository.save(AccountEntityMapper.toAccountEntity(accountFrom));
-        accountRepository.save(AccountEntityMapper.toAccountEntity(accountTo));
+        if (transferMode == TransferMode.ATOMIC || hotAccountBalances.isSharded(from) || hotAccountBalances.isSharded(to)) {
+            transferAtomically(from, to, amount);
+        } else {
+            transferLoaded(from, to, amount);
+        }
 
-        notificationService.sendTransferNotification(accountFrom, accountTo, amount);
+        notificationService.sendTransferNotification(from, to, amount);
 
         // Создаем событие о завершении перевода
         final TransferCompletedEvent event = new TransferCompletedEvent(
-                UUID.randomUUID(),
+                eventId,
                 from,
                 to,
                 amount,
-                LocalDateTime.now()
+                completedAt
         );
 
-        // публикация события в Kafka
-        eventPublisher.publish(event);
+        // запись события в outbox в той же транзакции, в Kafka его публикует TransferOutboxRelay
+        eventOutbox.append(event);
+        return event;
     }
 
     /**
      * Создает новый банковский счет.
+     * Номер счёта выдаёт {@link AccountNumberGenerator}, поэтому он уникален без проверки в БД.
+     * Для счета из списка «горячих» сразу создаются шарды баланса.
      *
      * @param cmd команда создания счета (не должна быть null)
      * @return DTO созданного счета
@@ -101,18 +207,22 @@ public class AccountService {
         Objects.requireNonNull(cmd, "Команда создания счета не может быть null");
         Objects.requireNonNull(cmd.currency(), "Валюта счета не может быть null");
 
-        final AccountNumber accountNumber = AccountNumber.generateAccountNumber();
+        final AccountNumber accountNumber = accountNumberGenerator.next();
         final Money initialBalance = new Money(BigDecimal.ZERO, cmd.currency());
 
         final Account account = Account.newAccount(accountNumber, initialBalance, AccountStatus.ACTIVE);
         final AccountEntity accountEntity = AccountEntityMapper.toAccountEntity(account);
         accountRepository.save(accountEntity);
+        if (hotAccountBalances.isSharded(accountNumber)) {
+            hotAccountBalances.enableSharding(accountNumber);
+        }
 
         return AccountMapper.toAccountDto(account);
     }
 
     /**
      * Получает информацию о счете по его номеру.
+     * Для «горячего» счета возвращается сумма баланса строки счета и всех его шардов.
      *
      * @param accountNumber номер счета (не должен быть null)
      * @return DTO с информацией о счете
@@ -123,6 +233,9 @@ public class AccountService {
             throws AccountNotFoundException {
         Objects.requireNonNull(accountNumber, "Номер счета не может быть null");
 
+        if (hotAccountBalances.isSharded(accountNumber)) {
+            return AccountMapper.toAccountDto(hotAccountBalances.getAccount(accountNumber));
+        }
         final AccountEntity accountEntity = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException(
                         String.format("Счет с номером %s не найден", accountNumber.value())));
@@ -130,23 +243,163 @@ public class AccountService {
         return AccountMapper.toAccountDto(account);
     }
 
+    /**
+     * Выполняет перевод через загрузку сущностей: счета читаются (с блокировкой строк
+     * или без неё, см. {@link #loadForTransfer(Collection)}), проверяются {@link TransferValidator},
+     * изменяются в доменной модели и записываются обратно.
+     *
+     * @param from   номер счёта отправителя
+     * @param to     номер счёта получателя
+     * @param amount сумма перевода
+     */
+    private void transferLoaded(AccountNumber from, AccountNumber to, Money amount) {
+        final Map<AccountNumber, AccountEntity> accounts = loadForTransfer(List.of(from, to));
+        final AccountEntity fromEntity = accounts.get(from);
+        final AccountEntity toEntity = accounts.get(to);
+
+        final Account accountFrom = AccountEntityMapper.toAccount(fromEntity);
+        final Account accountTo = AccountEntityMapper.toAccount(toEntity);
+
+        final CompactMoney compactAmount = validator.toCompact(amount);
+        validator.validateTransferTo(accountFrom, accountTo, compactAmount);
+        accountFrom.withdraw(compactAmount);
+        accountTo.deposit(compactAmount);
+
+        fromEntity.setMoney(accountFrom.getMoney());
+        toEntity.setMoney(accountTo.getMoney());
+        accountRepository.save(fromEntity);
+        accountRepository.save(toEntity);
+    }
+
+    /**
+     * Выполняет перевод двумя условными {@code UPDATE} без чтения сущностей.
+     * <p>
+     * Обновления выполняются в порядке возрастания номера счёта, так же как захватываются
+     * блокировки в {@link #lockAccounts(Collection)}, чтобы встречные переводы не приводили
+     * к взаимной блокировке. Если обновление не изменило строку, счёт читается и проверяется
+     * {@link TransferValidator}, который выбрасывает исключение с тем же кодом ошибки,
+     * что и при переводе с загрузкой сущностей. Исключение откатывает уже выполненное обновление.
+     * Сумма до обновлений проверяется так же, как в остальных режимах: сумма точнее минимальной единицы
+     * валюты или не больше нуля отклоняется с кодом {@code INVALID_AMOUNT}.
+     * </p>
+     *
+     * @param from   номер счёта отправителя
+     * @param to     номер счёта получателя
+     * @param amount сумма перевода
+     */
+    private void transferAtomically(AccountNumber from, AccountNumber to, Money amount) {
+        validator.checkAmountPositive(validator.toCompact(amount));
+        if (from.value().compareTo(to.value()) < 0) {
+            debit(from, amount, to);
+            credit(to, amount, from);
+        } else {
+            credit(to, amount, from);
+            debit(from, amount, to);
+        }
+    }
+
+    /**
+     * Списывает сумму со счёта; для «горячего» счёта шард выбирается по номеру счёта получателя.
+     */
+    private void debit(AccountNumber accountNumber, Money amount, AccountNumber counterparty) {
+        if (hotAccountBalances.isSharded(accountNumber)) {
+            hotAccountBalances.debit(accountNumber, amount, counterparty);
+            return;
+        }
+        debit(accountNumber, amount);
+    }
+
+    /**
+     * Зачисляет сумму на счёт; для «горячего» счёта шард выбирается по номеру счёта отправителя,
+     * поэтому зачисления от разных отправителей изменяют разные строки.
+     */
+    private void credit(AccountNumber accountNumber, Money amount, AccountNumber counterparty) {
+        if (hotAccountBalances.isSharded(accountNumber)) {
+            hotAccountBalances.credit(accountNumber, amount, counterparty);
+            return;
+        }
+        credit(accountNumber, amount);
+    }
+
+    private void debit(AccountNumber accountNumber, Money amount) {
+        if (accountRepository.debit(accountNumber, amount) == 0) {
+            validator.validateWithdrawalAllowed(getAccountByAccountNumber(accountNumber), amount);
+            throw new ConcurrencyFailureException(
+                    String.format("Списание со счёта %s не выполнено: счёт изменён параллельно", accountNumber.value()));
+        }
+    }
+
+    private void credit(AccountNumber accountNumber, Money amount) {
+        if (accountRepository.credit(accountNumber, amount) == 0) {
+            validator.validateDepositAllowed(getAccountByAccountNumber(accountNumber), amount);
+            throw new ConcurrencyFailureException(
+                    String.format("Зачисление на счёт %s не выполнено: счёт изменён параллельно", accountNumber.value()));
+        }
+    }
+
     private Account getAccountByAccountNumber(AccountNumber accountNumber) {
         return AccountEntityMapper.toAccount(accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException("Счёт не найден")));
     }
 
+    /**
+     * Загружает счета для перевода в соответствии с {@link #transferMode}.
+     *
+     * @param accountNumbers номера счетов, участвующих в переводе
+     * @return сущности счетов по их номерам
+     * @throws AccountNotFoundException если какой-либо из счетов не найден
+     */
+    private Map<AccountNumber, AccountEntity> loadForTransfer(Collection<AccountNumber> accountNumbers) {
+        if (transferMode == TransferMode.OPTIMISTIC) {
+            final Map<AccountNumber, AccountEntity> accounts = new HashMap<>();
+            for (AccountNumber accountNumber : accountNumbers) {
+                accounts.put(accountNumber, accountRepository.findByAccountNumber(accountNumber)
+                        .orElseThrow(() -> new AccountNotFoundException("Счёт не найден")));
+            }
+            return accounts;
+        }
+        return lockAccounts(accountNumbers);
+    }
+
+    /**
+     * Блокирует строки счетов в порядке возрастания номера счёта.
+     * <p>
+     * Единый для всех транзакций порядок захвата блокировок исключает
+     * взаимоблокировки между переводами, затрагивающими одни и те же счета.
+     * </p>
+     *
+     * @param accountNumbers номера счетов, которые необходимо заблокировать
+     * @return заблокированные сущности счетов по их номерам
+     * @throws AccountNotFoundException если какой-либо из счетов не найден
+     */
+    private Map<AccountNumber, AccountEntity> lockAccounts(Collection<AccountNumber> accountNumbers) {
+        final List<AccountNumber> ordered = accountNumbers.stream()
+                .distinct()
+                .sorted(Comparator.comparing(AccountNumber::value))
+                .toList();
+
+        final Map<AccountNumber, AccountEntity> locked = new HashMap<>();
+        for (AccountNumber accountNumber : ordered) {
+            locked.put(accountNumber, accountRepository.findByAccountNumberForUpdate(accountNumber)
+                    .orElseThrow(() -> new AccountNotFoundException("Счёт не найден")));
+        }
+        return locked;
+    }
+
     /**
      * Блокирует счет (Account) по его номеру.
      *
      * @param accountNumber номер аккаунта, который необходимо заблокировать
      * @throws AccountNotFoundException если аккаунт с указанным номером не найден
      */
+    @Transactional
     public void blockAccountByNumber(AccountNumber accountNumber) {
         final AccountEntity accountEntity = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException(accountNumber.toString()));
 
         final Account account = AccountEntityMapper.toAccount(accountEntity);
         account.blockAccount();
-        accountRepository.save(AccountEntityMapper.toAccountEntity(account));
+        accountEntity.setStatus(account.getStatus());
+        accountRepository.save(accountEntity);
     }
 }
@@ -0,0 +1,17 @@
+package ru.katacademy.bank_app.account.application.service;
+
+/**
+ * Поведение пакетного перевода при ошибке отдельной операции.
+ */
+public enum BatchFailureMode {
+    /**
+     * Ошибка любой операции откатывает весь пакет.
+     */
+    ALL_OR_NOTHING,
+
+    /**
+     * Ошибочные операции пропускаются, остальные выполняются;
+     * результат каждой операции возвращается отдельно.
+     */
+    PER_LEG
+}
@@ -0,0 +1,214 @@
+package ru.katacademy.bank_app.account.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.katacademy.bank_app.account.application.command.BatchTransferCommand;
+import ru.katacademy.bank_app.account.application.command.TransferLegCommand;
+import ru.katacademy.bank_app.account.application.dto.BatchTransferResultDto;
+import ru.katacademy.bank_app.account.application.dto.TransferLegResultDto;
+import ru.katacademy.bank_app.account.application.port.out.TransferEventOutbox;
+import ru.katacademy.bank_app.account.domain.entity.Account;
+import ru.katacademy.bank_app.account.domain.repository.AccountRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.mapper.AccountEntityMapper;
+import ru.katacademy.bank_app.notification.application.NotificationService;
+import ru.katacademy.bank_shared.event.TransferCompletedEvent;
+import ru.katacademy.bank_shared.exception.AccountNotFoundException;
+import ru.katacademy.bank_shared.exception.BusinessRuleViolationException;
+import ru.katacademy.bank_shared.exception.ValidationException;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.CompactMoney;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Сервис пакетных переводов.
+ * <p>
+ * Выполняет множество переводов в одной транзакции: блокирует все участвующие счета
+ * одним запросом в порядке возрастания номера, проверяет каждую операцию
+ * {@link TransferValidator} на текущих (с учётом предыдущих операций пакета) балансах,
+ * записывает итоговые изменения балансов одним пакетом JDBC-обновлений
+ * и записывает все события {@link TransferCompletedEvent} в outbox одним пакетом.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class BatchTransferService {
+
+    /** Код ошибки операции, если счёт не найден */
+    static final String ACCOUNT_NOT_FOUND = "ACCOUNT_NOT_FOUND";
+
+    /** Код ошибки операции с некорректными параметрами */
+    static final String INVALID_LEG = "INVALID_LEG";
+
+    private final AccountRepository accountRepository;
+    private final NotificationService notificationService;
+    private final TransferEventOutbox eventOutbox;
+    private final TransferValidator validator;
+
+    /**
+     * Выполняет пакетный перевод.
+     *
+     * @param cmd команда пакетного перевода (не должна быть null)
+     * @return результаты операций пакета
+     * @throws BusinessRuleViolationException в режиме {@link BatchFailureMode#ALL_OR_NOTHING},
+     *                                        если какая-либо операция нарушает бизнес-правила
+     * @throws AccountNotFoundException       в режиме {@link BatchFailureMode#ALL_OR_NOTHING},
+     *                                        если какой-либо счёт не найден
+     * @throws ValidationException            в режиме {@link BatchFailureMode#ALL_OR_NOTHING},
+     *                                        если параметры какой-либо операции некорректны
+     */
+    @Transactional
+    public BatchTransferResultDto transferBatch(BatchTransferCommand cmd) {
+        Objects.requireNonNull(cmd, "Команда пакетного перевода не может быть null");
+        Objects.requireNonNull(cmd.legs(), "Список операций не может быть null");
+        final BatchFailureMode failureMode = Objects.requireNonNullElse(cmd.failureMode(), BatchFailureMode.ALL_OR_NOTHING);
+
+        final Map<AccountNumber, Account> accounts = lockAccounts(cmd.legs());
+        final Map<AccountNumber, BigDecimal> initialBalances = accounts.values().stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, account -> account.getMoney().amount()));
+
+        final List<TransferLegResultDto> results = new ArrayList<>(cmd.legs().size());
+        final List<TransferCompletedEvent> events = new ArrayList<>();
+        final LocalDateTime completedAt = LocalDateTime.now();
+
+        for (int i = 0; i < cmd.legs().size(); i++) {
+            final TransferLegCommand leg = cmd.legs().get(i);
+            try {
+                applyLeg(leg, accounts);
+            } catch (BusinessRuleViolationException | AccountNotFoundException | IllegalArgumentException e) {
+                if (failureMode == BatchFailureMode.ALL_OR_NOTHING) {
+                    throw legFailure(i, e);
+                }
+                results.add(TransferLegResultDto.failed(i, errorCode(e), message(e)));
+                continue;
+            }
+            final TransferCompletedEvent event =
+                    new TransferCompletedEvent(UUID.randomUUID(), leg.from(), leg.to(), leg.amount(), completedAt);
+            events.add(event);
+            results.add(TransferLegResultDto.completed(i, event.eventId()));
+        }
+
+        accountRepository.addToBalances(balanceDeltas(accounts, initialBalances));
+        events.forEach(event -> notificationService.sendTransferNotification(
+                event.accountNumberFrom(), event.accountNumberTo(), event.money()));
+        eventOutbox.appendAll(events);
+
+        return new BatchTransferResultDto(events.size(), results.size() - events.size(), results);
+    }
+
+    /**
+     * Блокирует все счета пакета одним запросом в порядке возрастания номера счёта.
+     *
+     * @param legs операции пакета
+     * @return доменные модели заблокированных счетов по номерам
+     */
+    private Map<AccountNumber, Account> lockAccounts(List<TransferLegCommand> legs) {
+        final Set<AccountNumber> accountNumbers = new TreeSet<>((a, b) -> a.value().compareTo(b.value()));
+        for (TransferLegCommand leg : legs) {
+            if (leg != null && leg.from() != null && leg.to() != null) {
+                accountNumbers.add(leg.from());
+                accountNumbers.add(leg.to());
+            }
+        }
+        if (accountNumbers.isEmpty()) {
+            return new HashMap<>();
+        }
+        return accountRepository.findAllByAccountNumberForUpdate(accountNumbers).stream()
+                .map(AccountEntityMapper::toAccount)
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity(),
+                        (first, second) -> first, LinkedHashMap::new));
+    }
+
+    /**
+     * Проверяет операцию на текущих балансах и применяет её к доменным моделям счетов.
+     *
+     * @param leg      операция
+     * @param accounts заблокированные счета пакета
+     */
+    private void applyLeg(TransferLegCommand leg, Map<AccountNumber, Account> accounts) {
+        if (leg != null && leg.invalidReason() != null) {
+            throw new IllegalArgumentException(leg.invalidReason());
+        }
+        if (leg == null || leg.from() == null || leg.to() == null || leg.amount() == null) {
+            throw new IllegalArgumentException("Не заданы счета или сумма перевода");
+        }
+        if (leg.from().equals(leg.to())) {
+            throw new IllegalArgumentException("Номера счетов списания и зачисления совпадают");
+        }
+        final Account from = findLocked(accounts, leg.from());
+        final Account to = findLocked(accounts, leg.to());
+
+        final CompactMoney amount = validator.toCompact(leg.amount());
+        validator.validateTransferTo(from, to, amount);
+        from.withdraw(amount);
+        to.deposit(amount);
+    }
+
+    private Account findLocked(Map<AccountNumber, Account> accounts, AccountNumber accountNumber) {
+        final Account account = accounts.get(accountNumber);
+        if (account == null) {
+            throw new AccountNotFoundException(String.format("Счет с номером %s не найден", accountNumber.value()));
+        }
+        return account;
+    }
+
+    /**
+     * Вычисляет итоговое изменение баланса по каждому счёту, изменённому пакетом.
+     *
+     * @param accounts        счета после применения операций
+     * @param initialBalances балансы счетов до применения операций
+     * @return ненулевые изменения балансов по номерам счетов в порядке блокировки
+     */
+    private Map<AccountNumber, BigDecimal> balanceDeltas(Map<AccountNumber, Account> accounts,
+                                                         Map<AccountNumber, BigDecimal> initialBalances) {
+        final Map<AccountNumber, BigDecimal> deltas = new LinkedHashMap<>();
+        for (Account account : accounts.values()) {
+            final BigDecimal delta = account.getMoney().amount().subtract(initialBalances.get(account.getAccountNumber()));
+            if (delta.signum() != 0) {
+                deltas.put(account.getAccountNumber(), delta);
+            }
+        }
+        return deltas;
+    }
+
+    private RuntimeException legFailure(int index, RuntimeException e) {
+        final String prefix = String.format("Операция #%d: ", index);
+        if (e instanceof BusinessRuleViolationException violation) {
+            return new BusinessRuleViolationException(violation.getErrorCode(), prefix + violation.getDetailedMessage());
+        }
+        if (e instanceof AccountNotFoundException) {
+            return new AccountNotFoundException(prefix + e.getMessage());
+        }
+        return new ValidationException(List.of(prefix + e.getMessage()));
+    }
+
+    private String errorCode(RuntimeException e) {
+        if (e instanceof BusinessRuleViolationException violation) {
+            return violation.getErrorCode().name();
+        }
+        if (e instanceof AccountNotFoundException) {
+            return ACCOUNT_NOT_FOUND;
+        }
+        return INVALID_LEG;
+    }
+
+    private String message(RuntimeException e) {
+        if (e instanceof BusinessRuleViolationException violation) {
+            return violation.getDetailedMessage();
+        }
+        return e.getMessage();
+    }
+}
@@ -0,0 +1,213 @@
+package ru.katacademy.bank_app.account.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.katacademy.bank_app.account.domain.entity.Account;
+import ru.katacademy.bank_app.account.domain.repository.AccountBalanceShardRepository;
+import ru.katacademy.bank_app.account.domain.repository.AccountRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountBalanceShardEntity;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_shared.exception.AccountNotFoundException;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Сервис балансов «горячих» счетов, разделённых на шарды.
+ * <p>
+ * Счета из {@code account.sharding.hot-accounts} хранят баланс в строке счета и
+ * в {@code account.sharding.shard-count} строках {@link AccountBalanceShardEntity}.
+ * Зачисление изменяет один шард, выбранный по ключу маршрутизации, списание —
+ * шард, выбранный по ключу, затем остальные шарды и строку счета. Если средств не хватает
+ * ни в одной строке, строка счета и все шарды блокируются и сумма списывается из нескольких строк.
+ * Баланс счета — сумма строки счета и всех шардов.
+ * </p>
+ * <p>
+ * Шарды создаются при запуске приложения, при создании счета из списка и, если их ещё нет,
+ * при первом зачислении на счет.
+ * </p>
+ */
+@Service
+public class HotAccountBalanceService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceShardRepository shardRepository;
+    private final TransferValidator validator;
+    private final Set<AccountNumber> hotAccounts;
+    private final int shardCount;
+
+    public HotAccountBalanceService(AccountRepository accountRepository,
+                                    AccountBalanceShardRepository shardRepository,
+                                    TransferValidator validator,
+                                    @Value("${account.sharding.hot-accounts:}") List<String> hotAccounts,
+                                    @Value("${account.sharding.shard-count:8}") int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Количество шардов должно быть больше нуля");
+        }
+        this.accountRepository = accountRepository;
+        this.shardRepository = shardRepository;
+        this.validator = validator;
+        this.hotAccounts = hotAccounts.stream()
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(AccountNumber::new)
+                .collect(Collectors.toUnmodifiableSet());
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * @param accountNumber номер счета
+     * @return {@code true}, если баланс счета разделён на шарды
+     */
+    public boolean isSharded(AccountNumber accountNumber) {
+        return hotAccounts.contains(accountNumber);
+    }
+
+    /**
+     * @return номера «горячих» счетов из конфигурации
+     */
+    public Set<AccountNumber> getHotAccounts() {
+        return hotAccounts;
+    }
+
+    /**
+     * Создаёт недостающие шарды счета с нулевым балансом в валюте счета.
+     * Строка счета блокируется, поэтому параллельные вызовы не создают шарды дважды.
+     *
+     * @param accountNumber номер счета
+     * @return количество созданных шардов
+     * @throws AccountNotFoundException если счет не найден
+     */
+    @Transactional
+    public int enableSharding(AccountNumber accountNumber) {
+        final AccountEntity account = accountRepository.findByAccountNumberForUpdate(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(
+                        String.format("Счет с номером %s не найден", accountNumber.value())));
+        final Set<Integer> existing = shardRepository.findByAccountNumber(accountNumber).stream()
+                .map(AccountBalanceShardEntity::getShardIndex)
+                .collect(Collectors.toSet());
+        final Money zero = new Money(BigDecimal.ZERO, account.getMoney().currency());
+        final List<AccountBalanceShardEntity> missing = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            if (!existing.contains(i)) {
+                missing.add(new AccountBalanceShardEntity(accountNumber, i, zero));
+            }
+        }
+        shardRepository.saveAll(missing);
+        return missing.size();
+    }
+
+    /**
+     * Зачисляет сумму в шард, выбранный по ключу маршрутизации.
+     * Если шарды счета ещё не созданы, они создаются и зачисление повторяется.
+     *
+     * @param accountNumber номер счета
+     * @param amount        сумма зачисления
+     * @param routingKey    ключ маршрутизации, например номер счёта отправителя
+     * @throws ru.katacademy.bank_shared.exception.BusinessRuleViolationException если счет неактивен или валюты не совпадают
+     * @throws AccountNotFoundException                                           если счет не найден
+     * @throws IllegalStateException                                              если шард не удалось изменить
+     */
+    public void credit(AccountNumber accountNumber, Money amount, Object routingKey) {
+        final int shardIndex = shardIndex(routingKey);
+        if (shardRepository.credit(accountNumber, shardIndex, amount) == 1) {
+            return;
+        }
+        if (enableSharding(accountNumber) > 0 && shardRepository.credit(accountNumber, shardIndex, amount) == 1) {
+            return;
+        }
+        validator.validateDepositAllowed(getAccount(accountNumber), amount);
+        throw new IllegalStateException(String.format(
+                "Зачисление в шард %d счёта %s не выполнено: шард не найден", shardIndex, accountNumber.value()));
+    }
+
+    /**
+     * Списывает сумму из шарда, выбранного по ключу маршрутизации, затем из остальных шардов
+     * и строки счета, а при нехватке средств в каждой из них — из нескольких строк сразу.
+     *
+     * @param accountNumber номер счета
+     * @param amount        сумма списания
+     * @param routingKey    ключ маршрутизации
+     * @throws ru.katacademy.bank_shared.exception.BusinessRuleViolationException если счет неактивен,
+     *                                                                            валюты не совпадают или недостаточно средств
+     */
+    public void debit(AccountNumber accountNumber, Money amount, Object routingKey) {
+        final int preferred = shardIndex(routingKey);
+        for (int i = 0; i < shardCount; i++) {
+            if (shardRepository.debit(accountNumber, (preferred + i) % shardCount, amount) == 1) {
+                return;
+            }
+        }
+        if (accountRepository.debit(accountNumber, amount) == 1) {
+            return;
+        }
+        debitAcrossShards(accountNumber, amount, routingKey);
+    }
+
+    /**
+     * Возвращает счет с балансом, равным сумме строки счета и всех его шардов.
+     *
+     * @param accountNumber номер счета
+     * @return доменная модель счета
+     * @throws AccountNotFoundException если счет не найден
+     */
+    public Account getAccount(AccountNumber accountNumber) {
+        return toAccount(findAccount(accountNumber), shardRepository.findByAccountNumber(accountNumber));
+    }
+
+    /**
+     * Блокирует строку счета и все шарды (в том же порядке, что и при переводе: сначала счет,
+     * затем шарды по возрастанию индекса) и списывает сумму из нескольких строк:
+     * сначала из шардов, начиная с выбранного по ключу маршрутизации, остаток — из строки счета.
+     */
+    private void debitAcrossShards(AccountNumber accountNumber, Money amount, Object routingKey) {
+        final AccountEntity accountEntity = accountRepository.findByAccountNumberForUpdate(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("Счёт не найден"));
+        final List<AccountBalanceShardEntity> shards = shardRepository.findByAccountNumberForUpdate(accountNumber);
+        validator.validateWithdrawalAllowed(toAccount(accountEntity, shards), amount);
+
+        BigDecimal remaining = amount.amount();
+        final int preferred = shardIndex(routingKey);
+        for (int i = 0; i < shards.size() && remaining.signum() > 0; i++) {
+            final AccountBalanceShardEntity shard = shards.get((preferred + i) % shards.size());
+            final BigDecimal taken = remaining.min(shard.getMoney().amount());
+            shard.setMoney(new Money(shard.getMoney().amount().subtract(taken), amount.currency()));
+            remaining = remaining.subtract(taken);
+        }
+        accountEntity.setMoney(new Money(accountEntity.getMoney().amount().subtract(remaining), amount.currency()));
+        accountRepository.save(accountEntity);
+        shardRepository.saveAll(shards);
+    }
+
+    /**
+     * Собирает доменную модель счета с балансом, равным сумме строки счета и всех шардов.
+     */
+    private Account toAccount(AccountEntity accountEntity, List<AccountBalanceShardEntity> shards) {
+        Money total = accountEntity.getMoney();
+        for (AccountBalanceShardEntity shard : shards) {
+            total = total.add(shard.getMoney());
+        }
+        return Account.newAccount(accountEntity.getAccountNumber(), total, accountEntity.getStatus());
+    }
+
+    /**
+     * Выбирает шард по ключу маршрутизации: одинаковые ключи всегда попадают в один шард.
+     */
+    private int shardIndex(Object routingKey) {
+        final int hash = Objects.hashCode(routingKey);
+        return Math.floorMod(hash ^ (hash >>> 16), shardCount);
+    }
+
+    private AccountEntity findAccount(AccountNumber accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(
+                        String.format("Счет с номером %s не найден", accountNumber.value())));
+    }
+}
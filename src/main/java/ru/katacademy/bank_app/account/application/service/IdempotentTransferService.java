@@ -0,0 +1,107 @@
+package ru.katacademy.bank_app.account.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import ru.katacademy.bank_app.account.application.dto.TransferReceiptDto;
+import ru.katacademy.bank_app.account.application.mapper.TransferReceiptMapper;
+import ru.katacademy.bank_app.account.domain.repository.TransferIdempotencyRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.TransferIdempotencyEntity;
+import ru.katacademy.bank_shared.exception.IdempotencyKeyReusedException;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.util.Optional;
+
+/**
+ * Сервис идемпотентных переводов.
+ * <p>
+ * Повторный запрос с тем же ключом идемпотентности возвращает результат исходного перевода,
+ * не обращаясь к строкам счетов. Результат ищется сначала в ограниченном кэше в памяти,
+ * затем в таблице {@code transfer_idempotency}; только если ключ не найден, выполняется
+ * перевод через {@link AccountService#transfer(AccountNumber, AccountNumber, Money, String)}.
+ * Если параллельный запрос с тем же ключом успел зафиксировать перевод раньше,
+ * уникальный индекс отклоняет вставку и возвращается сохранённый им результат.
+ * </p>
+ * <p>
+ * Сервис намеренно не транзакционный: перевод выполняется в собственной транзакции
+ * {@link AccountService}, а повторное чтение после конфликта — вне её.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotentTransferService {
+
+    private final AccountService accountService;
+    private final TransferIdempotencyRepository idempotencyRepository;
+    private final Cache<String, TransferReceiptDto> transferIdempotencyCache;
+
+    /**
+     * Выполняет перевод не более одного раза для заданного ключа идемпотентности.
+     *
+     * @param idempotencyKey ключ идемпотентности, заданный клиентом (не длиннее 64 символов)
+     * @param from           номер счёта отправителя
+     * @param to             номер счёта получателя
+     * @param amount         сумма перевода
+     * @return результат перевода, выполненного по этому ключу
+     * @throws IllegalArgumentException      если ключ пустой или слишком длинный
+     * @throws IdempotencyKeyReusedException если ключ уже использован для перевода с другими параметрами
+     */
+    public TransferReceiptDto transfer(String idempotencyKey, AccountNumber from, AccountNumber to, Money amount) {
+        checkKey(idempotencyKey);
+
+        final TransferReceiptDto cached = transferIdempotencyCache.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            return checkSameTransfer(idempotencyKey, cached, from, to, amount);
+        }
+
+        final Optional<TransferReceiptDto> stored = findStored(idempotencyKey);
+        if (stored.isPresent()) {
+            return checkSameTransfer(idempotencyKey, stored.get(), from, to, amount);
+        }
+
+        try {
+            final TransferReceiptDto receipt = accountService.transfer(from, to, amount, idempotencyKey);
+            transferIdempotencyCache.put(idempotencyKey, receipt);
+            return receipt;
+        } catch (DataIntegrityViolationException e) {
+            final TransferReceiptDto concurrent = findStored(idempotencyKey).orElseThrow(() -> e);
+            return checkSameTransfer(idempotencyKey, concurrent, from, to, amount);
+        }
+    }
+
+    private Optional<TransferReceiptDto> findStored(String idempotencyKey) {
+        final Optional<TransferReceiptDto> stored = idempotencyRepository.findByIdempotencyKey(idempotencyKey)
+                .map(TransferReceiptMapper::toReceipt);
+        stored.ifPresent(receipt -> transferIdempotencyCache.put(idempotencyKey, receipt));
+        return stored;
+    }
+
+    private void checkKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            throw new IllegalArgumentException("Ключ идемпотентности не может быть пустым");
+        }
+        if (idempotencyKey.length() > TransferIdempotencyEntity.MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(String.format(
+                    "Ключ идемпотентности не может быть длиннее %d символов", TransferIdempotencyEntity.MAX_KEY_LENGTH));
+        }
+    }
+
+    /**
+     * Проверяет, что повторный запрос совпадает с исходным по счетам и сумме.
+     * Суммы сравниваются без учёта масштаба: {@code 100} и {@code 100.00} считаются равными.
+     */
+    private TransferReceiptDto checkSameTransfer(String idempotencyKey, TransferReceiptDto receipt,
+                                                 AccountNumber from, AccountNumber to, Money amount) {
+        final boolean same = receipt.from().equals(from)
+                && receipt.to().equals(to)
+                && amount != null
+                && receipt.amount().currency().equals(amount.currency())
+                && receipt.amount().amount().compareTo(amount.amount()) == 0;
+        if (!same) {
+            throw new IdempotencyKeyReusedException(idempotencyKey);
+        }
+        return receipt;
+    }
+}
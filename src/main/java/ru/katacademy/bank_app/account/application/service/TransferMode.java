@@ -0,0 +1,27 @@
+package ru.katacademy.bank_app.account.application.service;
+
+/**
+ * Способ обеспечения согласованности балансов при переводе.
+ *
+ * <p>Задаётся свойством {@code account.transfer.mode} и выбирается для всего развёртывания.</p>
+ */
+public enum TransferMode {
+    /**
+     * Строки счетов блокируются ({@code SELECT ... FOR UPDATE}) в порядке возрастания номера счёта.
+     * Конкурирующие переводы по одному счёту ждут друг друга.
+     */
+    PESSIMISTIC,
+
+    /**
+     * Счета читаются без блокировок, конфликт обнаруживается по колонке версии при фиксации
+     * и приводит к повтору перевода с задержкой. Переводы по разным счетам никогда не ждут друг друга.
+     */
+    OPTIMISTIC,
+
+    /**
+     * Списание и зачисление выполняются двумя условными {@code UPDATE} без чтения сущностей:
+     * проверки статуса, валюты и достаточности средств находятся в {@code WHERE}.
+     * Причина отказа определяется чтением счёта только если {@code UPDATE} не изменил ни одной строки.
+     */
+    ATOMIC
+}
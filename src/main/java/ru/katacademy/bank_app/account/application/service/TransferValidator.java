@@ -3,12 +3,22 @@ package ru.katacademy.bank_app.account.application.service;
 import org.springframework.stereotype.Service;
 import ru.katacademy.bank_app.account.domain.entity.Account;
 import ru.katacademy.bank_shared.exception.BusinessRuleViolationException;
+import ru.katacademy.bank_shared.valueobject.CompactMoney;
+import ru.katacademy.bank_shared.valueobject.CurrencyRegistry;
 import ru.katacademy.bank_shared.valueobject.Money;
 
 import java.math.BigDecimal;
 
 import static ru.katacademy.bank_shared.exception.BusinessErrorCode.*;
 
+/**
+ * Проверки бизнес-правил перевода, пополнения и списания.
+ * <p>
+ * Проверки выполняются над суммами в минимальных единицах валюты ({@link CompactMoney}):
+ * методы, принимающие {@link Money}, преобразуют сумму один раз и делегируют
+ * перегрузкам для {@link CompactMoney}, которые не создают {@link BigDecimal}.
+ * </p>
+ */
 @Service
 public class TransferValidator {
 
@@ -30,8 +40,20 @@ public class TransferValidator {
      * @param amount сумма для перевода
      */
     public void validateTransferTo(Account from, Account target, Money amount) {
-        canWithdraw(from, amount);
-        canTransferTo(target, amount);
+        validateTransferTo(from, target, toCompact(amount));
+    }
+
+    /**
+     * Проверяет возможность перевода суммы в минимальных единицах валюты,
+     * см. {@link #validateTransferTo(Account, Account, Money)}.
+     *
+     * @param from   аккаунт отправителя
+     * @param target аккаунт получателя
+     * @param amount сумма для перевода
+     */
+    public void validateTransferTo(Account from, Account target, CompactMoney amount) {
+        validateWithdrawalAllowed(from, amount);
+        validateDepositAllowed(target, amount);
     }
 
 
@@ -87,11 +109,24 @@ public class TransferValidator {
      * @throws BusinessRuleViolationException если результат будет отрицательным
      */
     public void validateWithdrawalAllowed(Account from, Money money) {
+        validateWithdrawalAllowed(from, toCompact(money));
+    }
+
+    /**
+     * Проверяет возможность снятия суммы в минимальных единицах валюты,
+     * см. {@link #validateWithdrawalAllowed(Account, Money)}.
+     *
+     * @param from  аккаунт отправителя
+     * @param money сумма для снятия
+     * @throws BusinessRuleViolationException если результат будет отрицательным
+     */
+    public void validateWithdrawalAllowed(Account from, CompactMoney money) {
         if (!from.isActive()) {
             throw new BusinessRuleViolationException(INACTIVE_ACCOUNT, "Невозможно снять средства: Аккаунт отправителя неактивен");
         }
-        checkCurrencyEquality(from.getMoney(), money);
-        if (from.getMoney().amount().compareTo(money.amount()) < 0) {
+        final CompactMoney balance = from.getBalance();
+        checkCurrencyEquality(balance, money);
+        if (balance.minorUnits() < money.minorUnits()) {
             throw new BusinessRuleViolationException(INSUFFICIENT_FUNDS, "Невозможно снять средства: Недостаточно средств");
         }
     }
@@ -111,12 +146,69 @@ public class TransferValidator {
      *                                        валюты не совпадают, сумма депозита меньше или ровна нулю
      */
     public void validateDepositAllowed(Account target, Money money) {
+        validateDepositAllowed(target, toCompact(money));
+    }
+
+    /**
+     * Проверяет возможность пополнения на сумму в минимальных единицах валюты,
+     * см. {@link #validateDepositAllowed(Account, Money)}.
+     *
+     * @param target аккаунт получателя
+     * @param money  сумма для пополнения
+     * @throws BusinessRuleViolationException если аккаунт получателя неактивен,
+     *                                        валюты не совпадают, сумма депозита меньше или ровна нулю
+     */
+    public void validateDepositAllowed(Account target, CompactMoney money) {
         if (!target.isActive()) {
             throw new BusinessRuleViolationException(INACTIVE_ACCOUNT, "Невозможно пополнить средства: Аккаунт получателя неактивен");
         }
-        checkCurrencyEquality(target.getMoney(), money);
+        checkCurrencyEquality(target.getBalance(), money);
+        checkAmountPositive(money);
+    }
+
+    /**
+     * Проверяет, что сумма операции больше нуля.
+     *
+     * @param money сумма операции
+     * @throws BusinessRuleViolationException если сумма меньше или равна нулю
+     */
+    public void checkAmountPositive(Money money) {
         if (money.amount().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new BusinessRuleViolationException(INVALID_AMOUNT, "Невозможно пополнить средства: Сумма для пополнения должна быть больше нуля");
+            throw new BusinessRuleViolationException(INVALID_AMOUNT, "Сумма операции должна быть больше нуля");
+        }
+    }
+
+    /**
+     * Проверяет, что сумма операции в минимальных единицах валюты больше нуля.
+     *
+     * @param money сумма операции
+     * @throws BusinessRuleViolationException если сумма меньше или равна нулю
+     */
+    public void checkAmountPositive(CompactMoney money) {
+        if (!money.isPositive()) {
+            throw new BusinessRuleViolationException(INVALID_AMOUNT, "Сумма операции должна быть больше нуля");
+        }
+    }
+
+    /**
+     * Преобразует сумму операции в минимальные единицы валюты.
+     *
+     * @param money сумма операции
+     * @return сумма в минимальных единицах валюты
+     * @throws BusinessRuleViolationException если сумма точнее минимальной единицы валюты
+     *                                        или валюта отсутствует в {@link CurrencyRegistry}
+     */
+    public CompactMoney toCompact(Money money) {
+        if (CurrencyRegistry.find(money.currency().code()).isEmpty()) {
+            throw new BusinessRuleViolationException(UNKNOWN_CURRENCY,
+                    "Нельзя выполнить операцию: неизвестный код валюты " + money.currency().code());
+        }
+        try {
+            return CompactMoney.of(money);
+        } catch (ArithmeticException e) {
+            throw new BusinessRuleViolationException(INVALID_AMOUNT, String.format(
+                    "Нельзя выполнить операцию: сумма %s точнее минимальной единицы валюты %s",
+                    money.amount().toPlainString(), money.currency().code()));
         }
     }
 
@@ -135,4 +227,20 @@ public class TransferValidator {
             );
         }
     }
+
+    /**
+     * Проверяет, совпадают ли валюты двух сумм в минимальных единицах валюты.
+     *
+     * @param from   сумма отправителя
+     * @param target сумма получателя
+     * @throws BusinessRuleViolationException если валюты не совпадают
+     */
+    public void checkCurrencyEquality(CompactMoney from, CompactMoney target) {
+        if (!from.sameCurrency(target)) {
+            throw new BusinessRuleViolationException(CURRENCY_MISMATCH,
+                    String.format("Нельзя выполнить операцию: валюты не совпадают (%s ≠ %s)",
+                            from.currency(), target.currency())
+            );
+        }
+    }
 }
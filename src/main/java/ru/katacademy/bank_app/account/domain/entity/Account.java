@@ -1,8 +1,10 @@
 package ru.katacademy.bank_app.account.domain.entity;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import ru.katacademy.bank_app.account.domain.enumtype.AccountStatus;
 import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.CompactMoney;
 import ru.katacademy.bank_shared.valueobject.Money;
 
 import java.math.BigDecimal;
@@ -16,7 +18,8 @@ import java.util.Objects;
  * </p>
  * <p>
  * Поля:
- * - money: баланс счета
+ * - balance: баланс счета в минимальных единицах валюты ({@link CompactMoney}),
+ *   поэтому пополнение, списание и проверки перевода не создают {@link BigDecimal}
  * - status: текущий статус счета. Определяет доступность счета для операций.
  * - currency: валюта счета.
  * - accountNumber: номер счета
@@ -27,12 +30,13 @@ import java.util.Objects;
  */
 @Getter
 public final class Account {
-    private Money money;
+    @Getter(AccessLevel.NONE)
+    private CompactMoney balance;
     private AccountStatus status;
     private final AccountNumber accountNumber;
 
     private Account(AccountNumber accountNumber, Money money, AccountStatus status) {
-        this.money = money;
+        this.balance = CompactMoney.of(money);
         this.accountNumber = accountNumber;
         this.status = status;
     }
@@ -57,6 +61,24 @@ public final class Account {
         return new Account(accountNumber, money, status);
     }
 
+    /**
+     * Возвращает баланс счёта.
+     *
+     * @return баланс счёта
+     */
+    public Money getMoney() {
+        return balance.toMoney();
+    }
+
+    /**
+     * Возвращает баланс счёта в минимальных единицах валюты.
+     *
+     * @return баланс счёта
+     */
+    public CompactMoney getBalance() {
+        return balance;
+    }
+
     /**
      * Проверяет, является ли счет активным.
      *
@@ -95,7 +117,18 @@ public final class Account {
      * @param money объект предоставляющий сумму валюты и вид валюты
      */
     public void deposit(Money money) {
-        this.money = this.money.add(money);
+        deposit(CompactMoney.of(money));
+    }
+
+    /**
+     * Пополняет баланс на сумму в минимальных единицах валюты.
+     *
+     * @param amount сумма пополнения
+     * @throws IllegalArgumentException если валюты не совпадают
+     * @throws ArithmeticException      при переполнении баланса
+     */
+    public void deposit(CompactMoney amount) {
+        this.balance = this.balance.add(amount);
     }
 
     /**
@@ -104,7 +137,17 @@ public final class Account {
      * @param amount сумма денег, которую клиент хочет снять со счета.
      */
     public void withdraw(Money amount) {
-        this.money = this.money.subtract(amount);
+        withdraw(CompactMoney.of(amount));
+    }
+
+    /**
+     * Уменьшает баланс счета на сумму в минимальных единицах валюты.
+     *
+     * @param amount сумма списания
+     * @throws IllegalArgumentException если валюты не совпадают или средств недостаточно
+     */
+    public void withdraw(CompactMoney amount) {
+        this.balance = this.balance.subtract(amount);
     }
 
     /**
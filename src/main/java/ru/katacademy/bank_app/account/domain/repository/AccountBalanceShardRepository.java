@@ -0,0 +1,64 @@
+package ru.katacademy.bank_app.account.domain.repository;
+
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountBalanceShardEntity;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.util.List;
+
+/**
+ * Репозиторий шардов баланса «горячих» счетов.
+ */
+public interface AccountBalanceShardRepository {
+
+    /**
+     * Находит шарды счета.
+     *
+     * @param accountNumber номер счета
+     * @return шарды счета в порядке индексов (пустой список, если баланс счета не разделён)
+     */
+    List<AccountBalanceShardEntity> findByAccountNumber(AccountNumber accountNumber);
+
+    /**
+     * Находит шарды счета и блокирует их строки до конца текущей транзакции
+     * в порядке возрастания индекса шарда.
+     *
+     * @param accountNumber номер счета
+     * @return заблокированные шарды счета в порядке индексов
+     */
+    List<AccountBalanceShardEntity> findByAccountNumberForUpdate(AccountNumber accountNumber);
+
+    /**
+     * Зачисляет сумму в шард одним условным обновлением.
+     * <p>
+     * Строка изменяется, только если счет активен и валюта шарда совпадает с валютой суммы.
+     * </p>
+     *
+     * @param accountNumber номер счета
+     * @param shardIndex    индекс шарда
+     * @param amount        сумма зачисления
+     * @return количество изменённых строк: 1 — зачисление выполнено, 0 — условие не выполнено
+     */
+    int credit(AccountNumber accountNumber, int shardIndex, Money amount);
+
+    /**
+     * Списывает сумму из шарда одним условным обновлением.
+     * <p>
+     * Строка изменяется, только если счет активен, валюта шарда совпадает
+     * с валютой суммы и средств шарда достаточно для списания.
+     * </p>
+     *
+     * @param accountNumber номер счета
+     * @param shardIndex    индекс шарда
+     * @param amount        сумма списания
+     * @return количество изменённых строк: 1 — списание выполнено, 0 — условие не выполнено
+     */
+    int debit(AccountNumber accountNumber, int shardIndex, Money amount);
+
+    /**
+     * Сохраняет шарды.
+     *
+     * @param shards шарды для сохранения
+     */
+    void saveAll(List<AccountBalanceShardEntity> shards);
+}
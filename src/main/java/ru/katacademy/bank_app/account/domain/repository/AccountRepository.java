@@ -2,7 +2,12 @@ package ru.katacademy.bank_app.account.domain.repository;
 
 import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountEntity;
 import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Money;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,6 +23,77 @@ public interface AccountRepository {
      */
     Optional<AccountEntity> findByAccountNumber(AccountNumber accountNumber);
 
+    /**
+     * Находит аккаунт по номеру счета и блокирует его строку до конца
+     * текущей транзакции ({@code SELECT ... FOR UPDATE}).
+     * <p>
+     * Конкурирующие транзакции, запросившие блокировку той же строки,
+     * ожидают фиксации или отката текущей транзакции.
+     * </p>
+     *
+     * @param accountNumber номер счета аккаунта
+     * @return Optional с заблокированным аккаунтом, если он есть
+     */
+    Optional<AccountEntity> findByAccountNumberForUpdate(AccountNumber accountNumber);
+
+    /**
+     * Находит аккаунты по номерам счетов и блокирует их строки одним запросом
+     * ({@code SELECT ... ORDER BY account_number FOR UPDATE}).
+     * <p>
+     * Строки блокируются в порядке возрастания номера счёта — в том же порядке,
+     * что и при одиночном переводе, поэтому пакетные и одиночные переводы не блокируют друг друга взаимно.
+     * Отсутствующие номера в результат не попадают.
+     * </p>
+     *
+     * @param accountNumbers номера счетов
+     * @return заблокированные аккаунты, упорядоченные по номеру счёта
+     */
+    List<AccountEntity> findAllByAccountNumberForUpdate(Collection<AccountNumber> accountNumbers);
+
+    /**
+     * Изменяет балансы аккаунтов на заданные величины одним пакетом JDBC-обновлений.
+     * <p>
+     * Предназначен для строк, уже заблокированных в текущей транзакции:
+     * проверки статуса, валюты и остатка выполняются до вызова.
+     * </p>
+     *
+     * @param deltas изменение баланса по номеру счёта (отрицательное — списание)
+     */
+    void addToBalances(Map<AccountNumber, BigDecimal> deltas);
+
+    /**
+     * Списывает сумму с баланса аккаунта одним условным обновлением.
+     * <p>
+     * Строка изменяется, только если аккаунт активен, валюта баланса совпадает
+     * с валютой суммы и средств достаточно для списания.
+     * </p>
+     *
+     * @param accountNumber номер счета аккаунта
+     * @param amount        сумма списания
+     * @return количество изменённых строк: 1 — списание выполнено, 0 — условие не выполнено
+     */
+    int debit(AccountNumber accountNumber, Money amount);
+
+    /**
+     * Зачисляет сумму на баланс аккаунта одним условным обновлением.
+     * <p>
+     * Строка изменяется, только если аккаунт активен и валюта баланса совпадает с валютой суммы.
+     * </p>
+     *
+     * @param accountNumber номер счета аккаунта
+     * @param amount        сумма зачисления
+     * @return количество изменённых строк: 1 — зачисление выполнено, 0 — условие не выполнено
+     */
+    int credit(AccountNumber accountNumber, Money amount);
+
+    /**
+     * Находит наибольший номер счёта, начинающийся с заданных цифр.
+     *
+     * @param prefix первые цифры номера счёта
+     * @return наибольший номер или пустой Optional, если таких счетов нет
+     */
+    Optional<AccountNumber> findMaxAccountNumberWithPrefix(String prefix);
+
     /**
      * Сохраняет аккаунт в репозитории.
      * <p>
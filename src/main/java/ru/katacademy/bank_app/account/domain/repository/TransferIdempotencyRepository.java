@@ -0,0 +1,28 @@
+package ru.katacademy.bank_app.account.domain.repository;
+
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.TransferIdempotencyEntity;
+
+import java.util.Optional;
+
+/**
+ * Репозиторий записей об идемпотентных переводах.
+ */
+public interface TransferIdempotencyRepository {
+
+    /**
+     * Находит запись о переводе по ключу идемпотентности.
+     *
+     * @param idempotencyKey ключ идемпотентности
+     * @return Optional с найденной записью, если перевод с таким ключом выполнен
+     */
+    Optional<TransferIdempotencyEntity> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Сохраняет запись о переводе и сразу выполняет {@code INSERT}.
+     *
+     * @param entity запись о переводе
+     * @return сохранённая запись
+     * @throws org.springframework.dao.DataIntegrityViolationException если запись с таким ключом уже существует
+     */
+    TransferIdempotencyEntity save(TransferIdempotencyEntity entity);
+}
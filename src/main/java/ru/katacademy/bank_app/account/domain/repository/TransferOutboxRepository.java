@@ -0,0 +1,50 @@
+package ru.katacademy.bank_app.account.domain.repository;
+
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.TransferOutboxEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Репозиторий исходящего ящика (outbox) событий о переводах.
+ */
+public interface TransferOutboxRepository {
+
+    /**
+     * Сохраняет записи outbox.
+     *
+     * @param entities записи outbox
+     */
+    void saveAll(List<TransferOutboxEntity> entities);
+
+    /**
+     * Выбирает и блокирует до конца текущей транзакции пакет неопубликованных записей
+     * ({@code SELECT ... FOR UPDATE SKIP LOCKED}).
+     * <p>
+     * Записи, заблокированные другим экземпляром ретранслятора, пропускаются,
+     * поэтому несколько экземпляров разбирают outbox параллельно, не ожидая друг друга.
+     * </p>
+     *
+     * @param limit максимальный размер пакета
+     * @return заблокированные записи в порядке записи
+     */
+    List<TransferOutboxEntity> lockUnpublished(int limit);
+
+    /**
+     * Отмечает записи опубликованными.
+     *
+     * @param ids         идентификаторы записей
+     * @param publishedAt время публикации
+     */
+    void markPublished(Collection<Long> ids, LocalDateTime publishedAt);
+
+    /**
+     * Удаляет пакет записей, опубликованных раньше указанного момента.
+     *
+     * @param publishedBefore граница времени публикации
+     * @param limit           максимальный размер пакета
+     * @return количество удалённых записей
+     */
+    int deletePublishedBefore(LocalDateTime publishedBefore, int limit);
+}
@@ -0,0 +1,43 @@
+package ru.katacademy.bank_app.account.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.katacademy.bank_app.account.domain.repository.AccountRepository;
+import ru.katacademy.bank_shared.valueobject.AccountNumberGenerator;
+
+import java.time.Clock;
+
+/**
+ * Конфигурация генератора номеров счетов.
+ * <p>
+ * Номер узла ({@code account.number.node-id}) входит в каждый выданный номер счёта,
+ * поэтому у каждого экземпляра приложения он должен быть свой. Значения по умолчанию нет:
+ * два экземпляра с одинаковым номером выдавали бы одинаковые номера счетов, поэтому
+ * без номера узла или с номером вне диапазона {@code 0..999} приложение не запускается.
+ * </p>
+ * <p>
+ * Последовательность продолжается после последнего номера узла в БД, поэтому перезапуск
+ * в ту же секунду или с отстающими часами не повторяет уже выданные номера.
+ * </p>
+ */
+@Configuration
+public class AccountNumberGeneratorConfig {
+
+    @Bean
+    public AccountNumberGenerator accountNumberGenerator(
+            @Value("${account.number.node-id:#{null}}") Integer nodeId,
+            @Value("${account.number.block-size:" + AccountNumberGenerator.DEFAULT_BLOCK_SIZE + "}") int blockSize,
+            AccountRepository accountRepository) {
+        if (nodeId == null) {
+            throw new IllegalStateException("Не задан номер узла account.number.node-id (ACCOUNT_NUMBER_NODE_ID)");
+        }
+        if (nodeId < 0 || nodeId > AccountNumberGenerator.MAX_NODE_ID) {
+            throw new IllegalStateException("Номер узла account.number.node-id должен быть в диапазоне 0.."
+                    + AccountNumberGenerator.MAX_NODE_ID + ", задан " + nodeId);
+        }
+        final AccountNumberGenerator generator = new AccountNumberGenerator(nodeId, blockSize, Clock.systemUTC());
+        accountRepository.findMaxAccountNumberWithPrefix(generator.nodePrefix()).ifPresent(generator::continueAfter);
+        return generator;
+    }
+}
@@ -0,0 +1,33 @@
+package ru.katacademy.bank_app.account.infrastructure.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ru.katacademy.bank_app.account.application.service.HotAccountBalanceService;
+import ru.katacademy.bank_shared.exception.AccountNotFoundException;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+
+/**
+ * Создаёт шарды баланса для «горячих» счетов из {@code account.sharding.hot-accounts}
+ * при запуске приложения.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotAccountShardingInitializer {
+
+    private final HotAccountBalanceService hotAccountBalances;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createShards() {
+        for (AccountNumber accountNumber : hotAccountBalances.getHotAccounts()) {
+            try {
+                hotAccountBalances.enableSharding(accountNumber);
+            } catch (AccountNotFoundException e) {
+                log.warn("Горячий счет {} не найден, шарды баланса не созданы", accountNumber.value());
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package ru.katacademy.bank_app.account.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.katacademy.bank_app.account.application.dto.TransferReceiptDto;
+
+import java.time.Duration;
+
+/**
+ * Конфигурация кэша результатов идемпотентных переводов.
+ * <p>
+ * Кэш ограничен по числу записей ({@code transfer.idempotency.cache.max-size})
+ * и по времени жизни записи ({@code transfer.idempotency.cache.ttl}).
+ * Вытесненные из кэша ключи по-прежнему распознаются по таблице {@code transfer_idempotency}.
+ * Статистика кэша публикуется в метриках {@code cache.*} с тегом {@code cache=transfer-idempotency}.
+ * </p>
+ */
+@Configuration
+public class IdempotencyCacheConfig {
+
+    @Bean
+    public Cache<String, TransferReceiptDto> transferIdempotencyCache(
+            @Value("${transfer.idempotency.cache.max-size:100000}") long maxSize,
+            @Value("${transfer.idempotency.cache.ttl:PT24H}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        final Cache<String, TransferReceiptDto> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "transfer-idempotency");
+    }
+}
@@ -0,0 +1,13 @@
+package ru.katacademy.bank_app.account.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Включает выполнение фоновых задач {@link org.springframework.scheduling.annotation.Scheduled},
+ * в частности ретранслятора outbox событий о переводах.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
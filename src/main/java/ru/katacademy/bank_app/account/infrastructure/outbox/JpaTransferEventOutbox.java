@@ -0,0 +1,46 @@
+package ru.katacademy.bank_app.account.infrastructure.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.katacademy.bank_app.account.application.port.out.TransferEventOutbox;
+import ru.katacademy.bank_app.account.domain.repository.TransferOutboxRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.TransferOutboxEntity;
+import ru.katacademy.bank_shared.event.TransferCompletedEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Реализация outbox событий о переводах на основе таблицы {@code transfer_outbox}.
+ * <p>
+ * Запись допускается только внутри уже открытой транзакции
+ * ({@link Propagation#MANDATORY}), иначе событие не было бы атомарно с переводом.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaTransferEventOutbox implements TransferEventOutbox {
+
+    private final TransferOutboxRepository outboxRepository;
+    private final TransferEventJsonCodec codec;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(TransferCompletedEvent event) {
+        appendAll(List.of(event));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<TransferCompletedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        final LocalDateTime createdAt = LocalDateTime.now();
+        outboxRepository.saveAll(events.stream()
+                .map(event -> new TransferOutboxEntity(event.eventId(), codec.toJson(event), createdAt))
+                .toList());
+    }
+}
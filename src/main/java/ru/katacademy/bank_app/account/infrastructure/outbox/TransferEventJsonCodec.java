@@ -0,0 +1,33 @@
+package ru.katacademy.bank_app.account.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.katacademy.bank_shared.event.TransferCompletedEvent;
+
+/**
+ * Преобразует события о переводах в JSON для хранения в outbox и обратно.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransferEventJsonCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public String toJson(TransferCompletedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Не удалось сериализовать событие " + event.eventId(), e);
+        }
+    }
+
+    public TransferCompletedEvent fromJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, TransferCompletedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Не удалось прочитать событие из outbox", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ru.katacademy.bank_app.account.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.katacademy.bank_app.account.domain.repository.TransferOutboxRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Фоновое удаление опубликованных записей outbox событий о переводах.
+ * <p>
+ * Раз в {@code transfer.outbox.purge.interval-ms} миллисекунд удаляет записи, опубликованные
+ * раньше, чем {@code transfer.outbox.purge.retention} назад. Записи удаляются пакетами
+ * по {@code transfer.outbox.purge.batch-size} в отдельных транзакциях, чтобы не удерживать
+ * блокировки надолго; пакеты удаляются, пока очередной пакет заполнен целиком.
+ * Неопубликованные записи не удаляются.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "transfer.outbox.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class TransferOutboxPurger {
+
+    private final TransferOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter purgedCounter;
+    private final Duration retention;
+    private final int batchSize;
+    private final Clock clock;
+
+    @Autowired
+    public TransferOutboxPurger(TransferOutboxRepository outboxRepository,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${transfer.outbox.purge.retention:P7D}") Duration retention,
+                                @Value("${transfer.outbox.purge.batch-size:10000}") int batchSize) {
+        this(outboxRepository, transactionTemplate, meterRegistry, retention, batchSize, Clock.systemDefaultZone());
+    }
+
+    TransferOutboxPurger(TransferOutboxRepository outboxRepository, TransactionTemplate transactionTemplate,
+                         MeterRegistry meterRegistry, Duration retention, int batchSize, Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.purgedCounter = meterRegistry.counter("transfer.outbox.purged");
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Удаляет опубликованные записи старше срока хранения.
+     */
+    @Scheduled(fixedDelayString = "${transfer.outbox.purge.interval-ms:600000}")
+    public void purge() {
+        final LocalDateTime publishedBefore = LocalDateTime.now(clock).minus(retention);
+        try {
+            int deleted;
+            do {
+                deleted = purgeBatch(publishedBefore);
+            } while (deleted == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Не удалось удалить опубликованные записи outbox, повтор при следующем запуске: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Удаляет один пакет записей в отдельной транзакции.
+     *
+     * @return количество удалённых записей
+     */
+    int purgeBatch(LocalDateTime publishedBefore) {
+        final Integer deleted = transactionTemplate.execute(
+                status -> outboxRepository.deletePublishedBefore(publishedBefore, batchSize));
+        if (deleted == null) {
+            return 0;
+        }
+        purgedCounter.increment(deleted);
+        return deleted;
+    }
+}
@@ -0,0 +1,102 @@
+package ru.katacademy.bank_app.account.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.katacademy.bank_app.account.application.port.out.TransferEventPublisher;
+import ru.katacademy.bank_app.account.domain.repository.TransferOutboxRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.TransferOutboxEntity;
+import ru.katacademy.bank_shared.event.TransferCompletedEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Фоновый ретранслятор событий о переводах из outbox в брокер.
+ * <p>
+ * Раз в {@code transfer.outbox.relay.poll-interval-ms} миллисекунд выбирает пакеты
+ * неопубликованных записей ({@code FOR UPDATE SKIP LOCKED}), публикует каждый пакет
+ * через {@link TransferEventPublisher#publishAll(List)} и отмечает записи опубликованными
+ * в той же транзакции. Пакеты выбираются, пока очередной пакет заполнен целиком.
+ * </p>
+ * <p>
+ * Доставка — «хотя бы один раз»: если публикация пакета завершилась ошибкой или
+ * транзакция не зафиксировалась после публикации, записи будут опубликованы повторно.
+ * Потребители отбрасывают повторы по {@link TransferCompletedEvent#eventId()}.
+ * Благодаря {@code SKIP LOCKED} ретранслятор можно запускать в нескольких экземплярах.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "transfer.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class TransferOutboxRelay {
+
+    private final TransferOutboxRepository outboxRepository;
+    private final TransferEventPublisher eventPublisher;
+    private final TransferEventJsonCodec codec;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final int batchSize;
+
+    public TransferOutboxRelay(TransferOutboxRepository outboxRepository,
+                               TransferEventPublisher eventPublisher,
+                               TransferEventJsonCodec codec,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${transfer.outbox.relay.batch-size:500}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.codec = codec;
+        this.transactionTemplate = transactionTemplate;
+        this.publishedCounter = meterRegistry.counter("transfer.outbox.published");
+        this.failedCounter = meterRegistry.counter("transfer.outbox.publish.failures");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Публикует накопившиеся события пакетами до опустошения outbox.
+     */
+    @Scheduled(fixedDelayString = "${transfer.outbox.relay.poll-interval-ms:200}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("Не удалось опубликовать события из outbox, повтор при следующем опросе: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Публикует один пакет событий в отдельной транзакции.
+     *
+     * @return количество опубликованных событий
+     */
+    int relayBatch() {
+        final Integer published = transactionTemplate.execute(status -> {
+            final List<TransferOutboxEntity> batch = outboxRepository.lockUnpublished(batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            final List<TransferCompletedEvent> events = batch.stream()
+                    .map(entity -> codec.fromJson(entity.getPayload()))
+                    .toList();
+            eventPublisher.publishAll(events);
+            outboxRepository.markPublished(batch.stream().map(TransferOutboxEntity::getId).toList(), LocalDateTime.now());
+            return batch.size();
+        });
+        if (published == null) {
+            return 0;
+        }
+        publishedCounter.increment(published);
+        return published;
+    }
+}
@@ -0,0 +1,76 @@
+package ru.katacademy.bank_app.account.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import ru.katacademy.bank_shared.persistence.EmbeddedMoney;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+/**
+ * Шард баланса «горячего» счета.
+ * <p>
+ * Баланс разделённого счета — сумма баланса строки {@link AccountEntity} и балансов всех его шардов.
+ * Зачисления на такой счет изменяют одну строку шарда, поэтому параллельные
+ * зачисления в разные шарды не ожидают друг друга на строке счета.
+ * </p>
+ */
+@Getter
+@NoArgsConstructor(force = true)
+@Entity
+@Table(name = "account_balance_shard",
+        uniqueConstraints = @UniqueConstraint(name = "uk_account_balance_shard",
+                columnNames = {"account_number", "shard_index"}))
+public class AccountBalanceShardEntity {
+
+    /** Суррогатный идентификатор шарда */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Номер счета, которому принадлежит шард */
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "account_number", nullable = false, length = 20)
+    private AccountNumber accountNumber;
+
+    /** Индекс шарда от 0 до количества шардов - 1 */
+    @Column(name = "shard_index", nullable = false)
+    private int shardIndex;
+
+    /** Баланс шарда */
+    @Embedded
+    private EmbeddedMoney balance;
+
+    public AccountBalanceShardEntity(AccountNumber accountNumber, int shardIndex, Money money) {
+        this.accountNumber = accountNumber;
+        this.shardIndex = shardIndex;
+        this.balance = EmbeddedMoney.of(money);
+    }
+
+    /**
+     * Возвращает баланс шарда.
+     *
+     * @return баланс шарда
+     */
+    public Money getMoney() {
+        return balance.toMoney();
+    }
+
+    /**
+     * Устанавливает баланс шарда.
+     *
+     * @param money новый баланс шарда
+     */
+    public void setMoney(Money money) {
+        this.balance = EmbeddedMoney.of(money);
+    }
+}
@@ -1,28 +1,31 @@
 package ru.katacademy.bank_app.account.infrastructure.persistence.entity;
 
 import jakarta.persistence.Column;
-import jakarta.persistence.Convert;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import ru.katacademy.bank_app.account.domain.enumtype.AccountStatus;
-import ru.katacademy.bank_shared.conventor.MoneyConverter;
+import ru.katacademy.bank_shared.persistence.EmbeddedMoney;
 import ru.katacademy.bank_shared.valueobject.AccountNumber;
 import ru.katacademy.bank_shared.valueobject.Money;
 
 /**
  * Сущность банковского счета для работы с БД.
- * Хранит основные данные счета: номер, баланс и статус.
+ * Хранит основные данные счета: номер, баланс, статус и версию строки.
+ * <p>
+ * Баланс хранится в колонках {@code amount NUMERIC} и {@code currency CHAR(3)}
+ * (см. {@link EmbeddedMoney}), что позволяет изменять его SQL-выражением без загрузки сущности.
+ * </p>
  *
  * @author Sheffy
  */
 @Getter
-@AllArgsConstructor
 @NoArgsConstructor(force = true)
 @Entity
 public class AccountEntity {
@@ -33,15 +36,46 @@ public class AccountEntity {
     private AccountNumber accountNumber;
 
     /** Текущий баланс счета */
-    @Setter
-    @Column(nullable = false)
-    @Convert(converter = MoneyConverter.class)
-    private Money money;
+    @Embedded
+    private EmbeddedMoney balance;
 
     /** Текущий статус счета */
     @Setter
     @Column(nullable = false)
     private AccountStatus status;
-}
 
+    /** Версия строки для оптимистической блокировки, увеличивается при каждом обновлении */
+    @Version
+    private Long version;
 
+    /**
+     * Создает новую, ещё не сохранённую сущность счета.
+     *
+     * @param accountNumber номер счета
+     * @param money         баланс счета
+     * @param status        статус счета
+     */
+    public AccountEntity(AccountNumber accountNumber, Money money, AccountStatus status) {
+        this.accountNumber = accountNumber;
+        this.balance = EmbeddedMoney.of(money);
+        this.status = status;
+    }
+
+    /**
+     * Возвращает текущий баланс счета.
+     *
+     * @return баланс счета
+     */
+    public Money getMoney() {
+        return balance.toMoney();
+    }
+
+    /**
+     * Устанавливает баланс счета.
+     *
+     * @param money новый баланс счета
+     */
+    public void setMoney(Money money) {
+        this.balance = EmbeddedMoney.of(money);
+    }
+}
@@ -0,0 +1,90 @@
+package ru.katacademy.bank_app.account.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import ru.katacademy.bank_shared.persistence.EmbeddedMoney;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Запись о выполненном идемпотентном переводе.
+ * <p>
+ * Ключ идемпотентности уникален ({@code uk_transfer_idempotency_key}), поэтому повторный
+ * перевод с тем же ключом не может быть зафиксирован дважды. Идентификатор генерируется
+ * базой данных ({@link GenerationType#IDENTITY}), поэтому {@code INSERT} выполняется сразу
+ * при сохранении, а не при фиксации транзакции.
+ * </p>
+ */
+@Getter
+@NoArgsConstructor(force = true)
+@Entity
+@Table(name = "transfer_idempotency",
+        uniqueConstraints = @UniqueConstraint(name = "uk_transfer_idempotency_key", columnNames = "idempotency_key"))
+public class TransferIdempotencyEntity {
+
+    /** Максимальная длина ключа идемпотентности */
+    public static final int MAX_KEY_LENGTH = 64;
+
+    /** Суррогатный идентификатор записи */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Ключ идемпотентности, заданный клиентом */
+    @Column(name = "idempotency_key", nullable = false, length = MAX_KEY_LENGTH)
+    private String idempotencyKey;
+
+    /** Идентификатор события о переводе */
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    /** Номер счёта отправителя */
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "account_from", nullable = false, length = 20)
+    private AccountNumber accountFrom;
+
+    /** Номер счёта получателя */
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "account_to", nullable = false, length = 20)
+    private AccountNumber accountTo;
+
+    /** Сумма перевода */
+    @Embedded
+    private EmbeddedMoney amount;
+
+    /** Время выполнения перевода */
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    public TransferIdempotencyEntity(String idempotencyKey, UUID eventId, AccountNumber accountFrom,
+                                     AccountNumber accountTo, Money amount, LocalDateTime completedAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.eventId = eventId;
+        this.accountFrom = accountFrom;
+        this.accountTo = accountTo;
+        this.amount = EmbeddedMoney.of(amount);
+        this.completedAt = completedAt;
+    }
+
+    /**
+     * Возвращает сумму перевода.
+     *
+     * @return сумма перевода
+     */
+    public Money getMoney() {
+        return amount.toMoney();
+    }
+}
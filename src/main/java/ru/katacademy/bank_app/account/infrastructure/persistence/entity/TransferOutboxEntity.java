@@ -0,0 +1,73 @@
+package ru.katacademy.bank_app.account.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Запись исходящего ящика (outbox) событий о переводах.
+ * <p>
+ * Хранит событие в виде JSON до его публикации в брокер.
+ * Неопубликованные записи ({@code published_at IS NULL}) выбираются ретранслятором
+ * в порядке идентификатора по частичному индексу
+ * {@code idx_transfer_outbox_unpublished} (создаётся в {@code import.sql}: JPA не описывает частичные индексы).
+ * Опубликованные записи удаляются по истечении срока хранения по индексу {@code idx_transfer_outbox_published_at}.
+ * </p>
+ * <p>
+ * Идентификатор берётся из последовательности {@code transfer_outbox_id_seq} блоками по {@value #ID_ALLOCATION_SIZE}:
+ * Hibernate знает идентификаторы до {@code INSERT}, поэтому события пакетного перевода записываются
+ * одним JDBC-пакетом ({@code hibernate.jdbc.batch_size}), а не отдельной командой на каждое событие,
+ * как при {@code IDENTITY}. Каждый экземпляр приложения берёт свой блок, поэтому порядок идентификаторов
+ * совпадает с порядком записи только в пределах экземпляра; потребители не полагаются на общий порядок
+ * и отбрасывают повторы по {@code event_id}.
+ * </p>
+ */
+@Getter
+@NoArgsConstructor(force = true)
+@Entity
+@Table(name = "transfer_outbox",
+        indexes = @Index(name = "idx_transfer_outbox_published_at", columnList = "published_at"))
+public class TransferOutboxEntity {
+
+    /** Количество идентификаторов, резервируемых одним обращением к последовательности */
+    public static final int ID_ALLOCATION_SIZE = 100;
+
+    /** Суррогатный идентификатор записи, задаёт порядок публикации */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transfer_outbox_id_seq")
+    @SequenceGenerator(name = "transfer_outbox_id_seq", sequenceName = "transfer_outbox_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    /** Идентификатор события, по нему потребители отбрасывают повторы */
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    /** Событие в формате JSON */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /** Время записи события */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** Время публикации события, {@code null} — событие ещё не опубликовано */
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    public TransferOutboxEntity(UUID eventId, String payload, LocalDateTime createdAt) {
+        this.eventId = eventId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,46 @@
+package ru.katacademy.bank_app.account.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import ru.katacademy.bank_app.account.domain.enumtype.AccountStatus;
+import ru.katacademy.bank_app.account.domain.repository.AccountBalanceShardRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountBalanceShardEntity;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.util.List;
+
+/**
+ * Реализация репозитория шардов баланса на основе Spring Data JPA.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountBalanceShardRepositoryImpl implements AccountBalanceShardRepository {
+
+    private final JpaAccountBalanceShardRepository jpaRepository;
+
+    @Override
+    public List<AccountBalanceShardEntity> findByAccountNumber(AccountNumber accountNumber) {
+        return jpaRepository.findByAccountNumberOrderByShardIndex(accountNumber);
+    }
+
+    @Override
+    public List<AccountBalanceShardEntity> findByAccountNumberForUpdate(AccountNumber accountNumber) {
+        return jpaRepository.findForUpdate(accountNumber);
+    }
+
+    @Override
+    public int credit(AccountNumber accountNumber, int shardIndex, Money amount) {
+        return jpaRepository.credit(accountNumber, shardIndex, amount.amount(), amount.currency().code(), AccountStatus.ACTIVE);
+    }
+
+    @Override
+    public int debit(AccountNumber accountNumber, int shardIndex, Money amount) {
+        return jpaRepository.debit(accountNumber, shardIndex, amount.amount(), amount.currency().code(), AccountStatus.ACTIVE);
+    }
+
+    @Override
+    public void saveAll(List<AccountBalanceShardEntity> shards) {
+        jpaRepository.saveAll(shards);
+    }
+}
@@ -1,11 +1,19 @@
 package ru.katacademy.bank_app.account.infrastructure.repository;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import ru.katacademy.bank_app.account.domain.enumtype.AccountStatus;
 import ru.katacademy.bank_app.account.domain.repository.AccountRepository;
 import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountEntity;
 import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Money;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,17 +28,28 @@ import java.util.Optional;
 @Repository
 public class AccountRepositoryImpl implements AccountRepository {
 
+    private static final String ADD_TO_BALANCE_SQL =
+            "UPDATE account_entity SET amount = amount + ?, version = version + 1 WHERE account_number = ?";
+
+    private static final String MAX_ACCOUNT_NUMBER_SQL =
+            "SELECT max(account_number) FROM account_entity WHERE account_number BETWEEN ? AND ?";
+
     private final JpaAccountRepository jpaAccountRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public AccountRepositoryImpl(JpaAccountRepository jpaAccountRepository) {
+    public AccountRepositoryImpl(JpaAccountRepository jpaAccountRepository, JdbcTemplate jdbcTemplate) {
         this.jpaAccountRepository = jpaAccountRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
-    public static AccountRepositoryImpl create(JpaAccountRepository jpaAccountRepository) {
+    public static AccountRepositoryImpl create(JpaAccountRepository jpaAccountRepository, JdbcTemplate jdbcTemplate) {
         if (jpaAccountRepository == null) {
             throw new IllegalArgumentException("JpaAccountRepository не может быть null");
         }
-        return new AccountRepositoryImpl(jpaAccountRepository);
+        if (jdbcTemplate == null) {
+            throw new IllegalArgumentException("JdbcTemplate не может быть null");
+        }
+        return new AccountRepositoryImpl(jpaAccountRepository, jdbcTemplate);
     }
 
     /**
@@ -49,6 +68,84 @@ public class AccountRepositoryImpl implements AccountRepository {
         return jpaAccountRepository.findByAccountNumber(accountNumber.value());
     }
 
+    /**
+     * Находит счет по номеру с пессимистической блокировкой строки.
+     * <p>
+     * Блокировка удерживается до завершения транзакции, в которой вызван метод,
+     * поэтому вызывать его следует только внутри {@code @Transactional}-метода.
+     * </p>
+     *
+     * @param accountNumber номер счета (не должен быть null)
+     * @return {@link Optional} с заблокированным счетом или пустой {@link Optional}, если счет не найден
+     */
+    @Override
+    public Optional<AccountEntity> findByAccountNumberForUpdate(AccountNumber accountNumber) {
+        return jpaAccountRepository.findForUpdate(accountNumber);
+    }
+
+
+    /**
+     * Находит и блокирует счета одним запросом в порядке возрастания номера.
+     *
+     * @param accountNumbers номера счетов
+     * @return заблокированные счета, упорядоченные по номеру
+     */
+    @Override
+    public List<AccountEntity> findAllByAccountNumberForUpdate(Collection<AccountNumber> accountNumbers) {
+        return jpaAccountRepository.findAllForUpdate(accountNumbers);
+    }
+
+    /**
+     * Применяет изменения балансов через {@link JdbcTemplate#batchUpdate(String, List)}:
+     * все обновления отправляются в БД одним пакетом в рамках текущей транзакции.
+     *
+     * @param deltas изменение баланса по номеру счёта
+     */
+    @Override
+    public void addToBalances(Map<AccountNumber, BigDecimal> deltas) {
+        final List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((accountNumber, delta) -> args.add(new Object[]{delta, accountNumber.value()}));
+        jdbcTemplate.batchUpdate(ADD_TO_BALANCE_SQL, args);
+    }
+
+    /**
+     * Ищет наибольший номер в диапазоне номеров с заданным началом: условие по диапазону,
+     * в отличие от {@code LIKE}, выполняется по индексу первичного ключа при любой локали БД.
+     *
+     * @param prefix первые цифры номера счёта
+     * @return наибольший номер или пустой Optional, если таких счетов нет
+     */
+    @Override
+    public Optional<AccountNumber> findMaxAccountNumberWithPrefix(String prefix) {
+        final int rest = AccountNumber.LENGTH - prefix.length();
+        final String max = jdbcTemplate.queryForObject(MAX_ACCOUNT_NUMBER_SQL, String.class,
+                prefix + "0".repeat(rest), prefix + "9".repeat(rest));
+        return Optional.ofNullable(max).map(AccountNumber::new);
+    }
+
+    /**
+     * Списывает сумму со счета условным {@code UPDATE}, не загружая сущность.
+     *
+     * @param accountNumber номер счета
+     * @param amount        сумма списания
+     * @return количество изменённых строк
+     */
+    @Override
+    public int debit(AccountNumber accountNumber, Money amount) {
+        return jpaAccountRepository.debit(accountNumber, amount.amount(), amount.currency().code(), AccountStatus.ACTIVE);
+    }
+
+    /**
+     * Зачисляет сумму на счет условным {@code UPDATE}, не загружая сущность.
+     *
+     * @param accountNumber номер счета
+     * @param amount        сумма зачисления
+     * @return количество изменённых строк
+     */
+    @Override
+    public int credit(AccountNumber accountNumber, Money amount) {
+        return jpaAccountRepository.credit(accountNumber, amount.amount(), amount.currency().code(), AccountStatus.ACTIVE);
+    }
 
     /**
      * Сохраняет или обновляет банковский счет в репозитории.
@@ -0,0 +1,50 @@
+package ru.katacademy.bank_app.account.infrastructure.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.katacademy.bank_app.account.domain.enumtype.AccountStatus;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountBalanceShardEntity;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * JPA-репозиторий шардов баланса «горячих» счетов.
+ *
+ * @see JpaRepository
+ */
+public interface JpaAccountBalanceShardRepository extends JpaRepository<AccountBalanceShardEntity, Long> {
+
+    List<AccountBalanceShardEntity> findByAccountNumberOrderByShardIndex(AccountNumber accountNumber);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AccountBalanceShardEntity s WHERE s.accountNumber = :accountNumber ORDER BY s.shardIndex")
+    List<AccountBalanceShardEntity> findForUpdate(@Param("accountNumber") AccountNumber accountNumber);
+
+    @Modifying
+    @Query("UPDATE AccountBalanceShardEntity s SET s.balance.amount = s.balance.amount + :amount "
+            + "WHERE s.accountNumber = :accountNumber AND s.shardIndex = :shardIndex "
+            + "AND s.balance.currency = :currency "
+            + "AND EXISTS (SELECT a FROM AccountEntity a WHERE a.accountNumber = :accountNumber AND a.status = :status)")
+    int credit(@Param("accountNumber") AccountNumber accountNumber,
+               @Param("shardIndex") int shardIndex,
+               @Param("amount") BigDecimal amount,
+               @Param("currency") String currency,
+               @Param("status") AccountStatus status);
+
+    @Modifying
+    @Query("UPDATE AccountBalanceShardEntity s SET s.balance.amount = s.balance.amount - :amount "
+            + "WHERE s.accountNumber = :accountNumber AND s.shardIndex = :shardIndex "
+            + "AND s.balance.currency = :currency AND s.balance.amount >= :amount "
+            + "AND EXISTS (SELECT a FROM AccountEntity a WHERE a.accountNumber = :accountNumber AND a.status = :status)")
+    int debit(@Param("accountNumber") AccountNumber accountNumber,
+              @Param("shardIndex") int shardIndex,
+              @Param("amount") BigDecimal amount,
+              @Param("currency") String currency,
+              @Param("status") AccountStatus status);
+}
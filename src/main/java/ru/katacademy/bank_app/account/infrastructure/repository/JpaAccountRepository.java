@@ -1,9 +1,19 @@
 package ru.katacademy.bank_app.account.infrastructure.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.katacademy.bank_app.account.domain.entity.Account;
+import ru.katacademy.bank_app.account.domain.enumtype.AccountStatus;
 import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,4 +41,77 @@ public interface JpaAccountRepository extends JpaRepository<AccountEntity, Long>
      * @throws org.springframework.dao.DataAccessException при ошибках доступа к данным
      */
     Optional<AccountEntity> findByAccountNumber(String accountNumber);
-}
\ No newline at end of file
+
+    /**
+     * Находит счет по номеру и блокирует его строку на запись.
+     * <p>
+     * Генерирует запрос вида: {@code SELECT ... FROM account_entity WHERE account_number = ? FOR UPDATE}
+     * </p>
+     *
+     * @param accountNumber номер счета
+     * @return {@link Optional} с заблокированным счетом или {@link Optional#empty()}, если счет не существует
+     * @throws org.springframework.dao.PessimisticLockingFailureException если блокировку не удалось получить
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AccountEntity a WHERE a.accountNumber = :accountNumber")
+    Optional<AccountEntity> findForUpdate(@Param("accountNumber") AccountNumber accountNumber);
+
+    /**
+     * Находит счета по номерам и блокирует их строки на запись в порядке возрастания номера.
+     * <p>
+     * Генерирует запрос вида:
+     * {@code SELECT ... FROM account_entity WHERE account_number IN (...) ORDER BY account_number FOR UPDATE}
+     * </p>
+     *
+     * @param accountNumbers номера счетов
+     * @return заблокированные счета, упорядоченные по номеру
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AccountEntity a WHERE a.accountNumber IN :accountNumbers ORDER BY a.accountNumber")
+    List<AccountEntity> findAllForUpdate(@Param("accountNumbers") Collection<AccountNumber> accountNumbers);
+
+    /**
+     * Уменьшает баланс счета, если счет в заданном статусе, валюта совпадает и средств достаточно.
+     * <p>
+     * Генерирует запрос вида:
+     * {@code UPDATE account_entity SET amount = amount - ?, version = version + 1
+     * WHERE account_number = ? AND status = ? AND currency = ? AND amount >= ?}
+     * </p>
+     *
+     * @param accountNumber номер счета
+     * @param amount        сумма списания
+     * @param currency      код валюты суммы
+     * @param status        требуемый статус счета
+     * @return количество изменённых строк
+     */
+    @Modifying
+    @Query("UPDATE AccountEntity a SET a.balance.amount = a.balance.amount - :amount, a.version = a.version + 1 "
+            + "WHERE a.accountNumber = :accountNumber AND a.status = :status "
+            + "AND a.balance.currency = :currency AND a.balance.amount >= :amount")
+    int debit(@Param("accountNumber") AccountNumber accountNumber,
+              @Param("amount") BigDecimal amount,
+              @Param("currency") String currency,
+              @Param("status") AccountStatus status);
+
+    /**
+     * Увеличивает баланс счета, если счет в заданном статусе и валюта совпадает.
+     * <p>
+     * Генерирует запрос вида:
+     * {@code UPDATE account_entity SET amount = amount + ?, version = version + 1
+     * WHERE account_number = ? AND status = ? AND currency = ?}
+     * </p>
+     *
+     * @param accountNumber номер счета
+     * @param amount        сумма зачисления
+     * @param currency      код валюты суммы
+     * @param status        требуемый статус счета
+     * @return количество изменённых строк
+     */
+    @Modifying
+    @Query("UPDATE AccountEntity a SET a.balance.amount = a.balance.amount + :amount, a.version = a.version + 1 "
+            + "WHERE a.accountNumber = :accountNumber AND a.status = :status AND a.balance.currency = :currency")
+    int credit(@Param("accountNumber") AccountNumber accountNumber,
+               @Param("amount") BigDecimal amount,
+               @Param("currency") String currency,
+               @Param("status") AccountStatus status);
+}
@@ -0,0 +1,16 @@
+package ru.katacademy.bank_app.account.infrastructure.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.TransferIdempotencyEntity;
+
+import java.util.Optional;
+
+/**
+ * JPA-репозиторий записей об идемпотентных переводах.
+ *
+ * @see JpaRepository
+ */
+public interface JpaTransferIdempotencyRepository extends JpaRepository<TransferIdempotencyEntity, Long> {
+
+    Optional<TransferIdempotencyEntity> findByIdempotencyKey(String idempotencyKey);
+}
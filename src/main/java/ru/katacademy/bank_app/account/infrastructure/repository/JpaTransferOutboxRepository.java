@@ -0,0 +1,32 @@
+package ru.katacademy.bank_app.account.infrastructure.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.TransferOutboxEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA-репозиторий исходящего ящика (outbox) событий о переводах.
+ *
+ * @see JpaRepository
+ */
+public interface JpaTransferOutboxRepository extends JpaRepository<TransferOutboxEntity, Long> {
+
+    @Query(value = "SELECT * FROM transfer_outbox WHERE published_at IS NULL ORDER BY id LIMIT :limit "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<TransferOutboxEntity> lockUnpublished(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE TransferOutboxEntity o SET o.publishedAt = :publishedAt WHERE o.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM transfer_outbox WHERE id IN (SELECT id FROM transfer_outbox "
+            + "WHERE published_at < :publishedBefore LIMIT :limit)", nativeQuery = true)
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore, @Param("limit") int limit);
+}
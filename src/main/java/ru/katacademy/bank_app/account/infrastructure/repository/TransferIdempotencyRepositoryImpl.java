@@ -0,0 +1,28 @@
+package ru.katacademy.bank_app.account.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import ru.katacademy.bank_app.account.domain.repository.TransferIdempotencyRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.TransferIdempotencyEntity;
+
+import java.util.Optional;
+
+/**
+ * Реализация репозитория записей об идемпотентных переводах на основе Spring Data JPA.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransferIdempotencyRepositoryImpl implements TransferIdempotencyRepository {
+
+    private final JpaTransferIdempotencyRepository jpaRepository;
+
+    @Override
+    public Optional<TransferIdempotencyEntity> findByIdempotencyKey(String idempotencyKey) {
+        return jpaRepository.findByIdempotencyKey(idempotencyKey);
+    }
+
+    @Override
+    public TransferIdempotencyEntity save(TransferIdempotencyEntity entity) {
+        return jpaRepository.saveAndFlush(entity);
+    }
+}
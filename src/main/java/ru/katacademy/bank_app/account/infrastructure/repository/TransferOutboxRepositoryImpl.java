@@ -0,0 +1,42 @@
+package ru.katacademy.bank_app.account.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import ru.katacademy.bank_app.account.domain.repository.TransferOutboxRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.TransferOutboxEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Реализация репозитория outbox событий о переводах на основе Spring Data JPA.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransferOutboxRepositoryImpl implements TransferOutboxRepository {
+
+    private final JpaTransferOutboxRepository jpaRepository;
+
+    @Override
+    public void saveAll(List<TransferOutboxEntity> entities) {
+        jpaRepository.saveAll(entities);
+    }
+
+    @Override
+    public List<TransferOutboxEntity> lockUnpublished(int limit) {
+        return jpaRepository.lockUnpublished(limit);
+    }
+
+    @Override
+    public void markPublished(Collection<Long> ids, LocalDateTime publishedAt) {
+        if (!ids.isEmpty()) {
+            jpaRepository.markPublished(ids, publishedAt);
+        }
+    }
+
+    @Override
+    public int deletePublishedBefore(LocalDateTime publishedBefore, int limit) {
+        return jpaRepository.deletePublishedBefore(publishedBefore, limit);
+    }
+}
@@ -0,0 +1,110 @@
+package ru.katacademy.bank_app.account.presentation.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.katacademy.bank_app.account.application.command.BatchTransferCommand;
+import ru.katacademy.bank_app.account.application.command.TransferLegCommand;
+import ru.katacademy.bank_app.account.application.dto.BatchTransferResultDto;
+import ru.katacademy.bank_app.account.application.dto.TransferReceiptDto;
+import ru.katacademy.bank_app.account.application.service.BatchTransferService;
+import ru.katacademy.bank_app.account.application.service.IdempotentTransferService;
+import ru.katacademy.bank_app.account.presentation.dto.BatchTransferRequest;
+import ru.katacademy.bank_app.account.presentation.dto.TransferLegRequest;
+import ru.katacademy.bank_app.account.presentation.dto.TransferRequest;
+import ru.katacademy.bank_shared.exception.BusinessErrorCode;
+import ru.katacademy.bank_shared.exception.BusinessRuleViolationException;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.CurrencyRegistry;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/transfers")
+@RequiredArgsConstructor
+@Tag(name = "Transfer controller", description = "API для переводов между счетами")
+public class TransferController {
+
+    private final BatchTransferService batchTransferService;
+    private final IdempotentTransferService idempotentTransferService;
+
+    @Operation(
+            summary = "Перевод между счетами",
+            description = "Выполняет перевод не более одного раза для ключа из заголовка Idempotency-Key. "
+                    + "Повторный запрос с тем же ключом возвращает результат исходного перевода"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Перевод выполнен (или был выполнен ранее по этому ключу)"),
+            @ApiResponse(responseCode = "404", description = "Счет не найден"),
+            @ApiResponse(responseCode = "409", description = "Ключ уже использован для перевода с другими параметрами"),
+            @ApiResponse(responseCode = "422", description = "Перевод нарушает бизнес-правила или валюта неизвестна")
+    })
+    @PostMapping
+    public ResponseEntity<TransferReceiptDto> transfer(@RequestHeader("Idempotency-Key") String idempotencyKey,
+                                                       @RequestBody TransferRequest request) {
+        return ResponseEntity.ok(idempotentTransferService.transfer(
+                idempotencyKey,
+                new AccountNumber(request.from()),
+                new AccountNumber(request.to()),
+                new Money(request.amount(), currency(request.currency()))
+        ));
+    }
+
+    @Operation(
+            summary = "Пакетный перевод",
+            description = "Выполняет список переводов в одной транзакции. В режиме ALL_OR_NOTHING ошибка любой "
+                    + "операции откатывает весь пакет, в режиме PER_LEG ошибочные операции, в том числе с "
+                    + "некорректными номерами счетов, суммой или валютой, пропускаются"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Пакет обработан, результаты операций в теле ответа"),
+            @ApiResponse(responseCode = "400", description = "Пакет пустой, больше " + BatchTransferRequest.MAX_LEGS
+                    + " операций или содержит некорректную операцию (ALL_OR_NOTHING)"),
+            @ApiResponse(responseCode = "404", description = "Счет не найден (ALL_OR_NOTHING)"),
+            @ApiResponse(responseCode = "422", description = "Операция нарушает бизнес-правила (ALL_OR_NOTHING)")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTransferResultDto> transferBatch(@Valid @RequestBody BatchTransferRequest request) {
+        final List<TransferLegCommand> legs = request.legs().stream()
+                .map(this::toCommand)
+                .toList();
+        return ResponseEntity.ok(batchTransferService.transferBatch(new BatchTransferCommand(legs, request.failureMode())));
+    }
+
+    /**
+     * Разбирает операцию пакета; ошибка разбора не прерывает пакет, а становится ошибкой этой операции.
+     */
+    private TransferLegCommand toCommand(TransferLegRequest leg) {
+        if (leg == null) {
+            return TransferLegCommand.invalid("Операция не задана");
+        }
+        try {
+            return new TransferLegCommand(
+                    new AccountNumber(leg.from()),
+                    new AccountNumber(leg.to()),
+                    new Money(leg.amount(), currency(leg.currency()))
+            );
+        } catch (IllegalArgumentException | BusinessRuleViolationException e) {
+            return TransferLegCommand.invalid(e.getMessage());
+        }
+    }
+
+    /**
+     * Находит валюту по коду из запроса; неизвестный код — нарушение бизнес-правила, а не ошибка сервера.
+     */
+    private static Currency currency(String code) {
+        return CurrencyRegistry.find(code).orElseThrow(() -> new BusinessRuleViolationException(
+                BusinessErrorCode.UNKNOWN_CURRENCY, "Неизвестный код валюты: " + code));
+    }
+}
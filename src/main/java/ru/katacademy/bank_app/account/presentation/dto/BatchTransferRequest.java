@@ -0,0 +1,35 @@
+package ru.katacademy.bank_app.account.presentation.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import ru.katacademy.bank_app.account.application.service.BatchFailureMode;
+
+import java.util.List;
+
+/**
+ * Тело HTTP-запроса пакетного перевода.
+ * <p>
+ * Пустой или слишком большой пакет отклоняется целиком с ответом 400.
+ * </p>
+ * <p>
+ * Размер пакета ограничен {@value #MAX_LEGS} операциями: все счета пакета (до двух на операцию)
+ * блокируются в одной транзакции до её завершения, и одиночные переводы с этими счетами всё это время ждут.
+ * Разбить пакет на части с отдельными транзакциями нельзя, не нарушив
+ * {@link BatchFailureMode#ALL_OR_NOTHING}: откат одной части не отменил бы уже зафиксированные.
+ * Больший объём клиент отправляет несколькими пакетами.
+ * </p>
+ *
+ * @param legs        операции пакета в порядке выполнения
+ * @param failureMode поведение при ошибке отдельной операции,
+ *                    по умолчанию {@link BatchFailureMode#ALL_OR_NOTHING}
+ */
+public record BatchTransferRequest(
+        @NotEmpty(message = "Список операций не может быть пустым")
+        @Size(max = BatchTransferRequest.MAX_LEGS, message = "Пакет не может содержать больше " + BatchTransferRequest.MAX_LEGS + " операций")
+        List<TransferLegRequest> legs,
+        BatchFailureMode failureMode
+) {
+
+    /** Максимальное количество операций в пакете */
+    public static final int MAX_LEGS = 1000;
+}
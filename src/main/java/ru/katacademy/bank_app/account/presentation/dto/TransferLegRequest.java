@@ -0,0 +1,19 @@
+package ru.katacademy.bank_app.account.presentation.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Операция пакетного перевода в теле HTTP-запроса.
+ *
+ * @param from     номер счёта отправителя (20 цифр)
+ * @param to       номер счёта получателя (20 цифр)
+ * @param amount   сумма перевода
+ * @param currency ISO 4217 код валюты суммы
+ */
+public record TransferLegRequest(
+        String from,
+        String to,
+        BigDecimal amount,
+        String currency
+) {
+}
@@ -1,6 +1,7 @@
 package ru.katacademy.bank_app.notification.application;
 
 import ru.katacademy.bank_app.account.domain.entity.Account;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
 import ru.katacademy.bank_shared.valueobject.Money;
 
 /**
@@ -17,4 +18,14 @@ public interface NotificationService {
      *
      */
     void sendTransferNotification(Account fromAccount, Account toAccount, Money amount);
-}
\ No newline at end of file
+
+    /**
+     * Отправляет уведомление о переводе средств по номерам счетов,
+     * когда сами счета при переводе не загружались.
+     *
+     * @param from   номер счёта отправителя
+     * @param to     номер счёта получателя
+     * @param amount сумма перевода
+     */
+    void sendTransferNotification(AccountNumber from, AccountNumber to, Money amount);
+}
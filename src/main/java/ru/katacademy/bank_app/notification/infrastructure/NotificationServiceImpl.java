@@ -4,6 +4,7 @@ import org.springframework.stereotype.Service;
 import ru.katacademy.bank_app.account.domain.entity.Account;
 import ru.katacademy.bank_app.notification.application.NotificationService;
 import ru.katacademy.bank_app.notification.template.TransferNotificationTemplate;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
 import ru.katacademy.bank_shared.valueobject.Money;
 
 import java.util.logging.Logger;
@@ -42,4 +43,17 @@ public class NotificationServiceImpl implements NotificationService {
         // Логируем уведомление
         logger.info(message);
     }
+
+    /**
+     * Отправляет уведомление о переводе средств по номерам счетов.
+     * Уведомление выводится в лог с помощью Logger.
+     *
+     * @param from   номер счёта, с которого производится перевод.
+     * @param to     номер счёта, на который переводятся средства.
+     * @param amount сумма перевода.
+     */
+    @Override
+    public void sendTransferNotification(AccountNumber from, AccountNumber to, Money amount) {
+        logger.info(TransferNotificationTemplate.format(from, to, amount));
+    }
 }
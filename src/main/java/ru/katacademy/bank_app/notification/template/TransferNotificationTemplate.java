@@ -1,6 +1,7 @@
 package ru.katacademy.bank_app.notification.template;
 
 import ru.katacademy.bank_app.account.domain.entity.Account;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
 import ru.katacademy.bank_shared.valueobject.Money;
 
 /**
@@ -23,9 +24,21 @@ public class TransferNotificationTemplate {
      * @return строка с текстом уведомления
      */
     public static String format(Account from, Account to, Money amount) {
+        return format(from.getAccountNumber(), to.getAccountNumber(), amount);
+    }
+
+    /**
+     * Форматирует уведомление о переводе по номерам счетов.
+     *
+     * @param from   номер счёта отправителя
+     * @param to     номер счёта получателя
+     * @param amount сумма перевода
+     * @return строка с текстом уведомления
+     */
+    public static String format(AccountNumber from, AccountNumber to, Money amount) {
         return String.format("Перевод со счёта %s на счёт %s в количестве %s",
-                from.getAccountNumber().value(),
-                to.getAccountNumber().value(),
+                from.value(),
+                to.value(),
                 amount.toString()
         );
     }
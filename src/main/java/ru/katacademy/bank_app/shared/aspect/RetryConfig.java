@@ -0,0 +1,18 @@
+package ru.katacademy.bank_app.shared.aspect;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.katacademy.bank_shared.aspect.ErrorHandlingAspect;
+
+@Configuration
+public class RetryConfig {
+
+    /**
+     * Явно регистрируем ErrorHandlingAspect, чтобы методы с
+     * {@link ru.katacademy.bank_shared.aspect.RetryableOperation} повторялись в bank-app.
+     */
+    @Bean
+    public ErrorHandlingAspect errorHandlingAspect() {
+        return new ErrorHandlingAspect();
+    }
+}
@@ -0,0 +1,4 @@
+-- Выполняется Hibernate после создания схемы (ddl-auto: create-drop).
+-- Частичный индекс неопубликованных записей outbox: ретранслятор выбирает их в порядке id,
+-- а индекс не содержит опубликованных записей, сколько бы их ни накопилось до удаления.
+CREATE INDEX IF NOT EXISTS idx_transfer_outbox_unpublished ON transfer_outbox (id) WHERE published_at IS NULL;
@@ -0,0 +1,194 @@
+package ru.katacademy.bank_app.account.application.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.katacademy.bank_app.account.domain.enumtype.AccountStatus;
+import ru.katacademy.bank_app.account.domain.repository.AccountRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_shared.exception.BusinessErrorCode;
+import ru.katacademy.bank_shared.exception.BusinessRuleViolationException;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Нагрузочный тест параллельных переводов в {@link AccountService} на PostgreSQL.
+ * <p>
+ * Сервис поднимается в контексте Spring вместе с JPA-репозиториями, а БД запускается
+ * в контейнере Testcontainers, поэтому проверяются настоящие {@code SELECT ... FOR UPDATE}
+ * ({@code @Lock(PESSIMISTIC_WRITE)}), условные {@code UPDATE}, проверка {@code @Version}
+ * и границы транзакций {@code @Transactional} вместе с повтором {@code @RetryableOperation}.
+ * Без Docker тест пропускается.
+ * </p>
+ * <p>
+ * Поля:
+ * - accountService: тестируемый сервис (прокси с транзакцией и повтором).
+ * - accountRepository: репозиторий счетов для подготовки данных и проверки балансов.
+ * - accountNumbers: номера созданных в тесте счетов.
+ * - currency: валюта, используемая во всех тестах.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "account.number.node-id=0",
+        "transfer.outbox.relay.enabled=false",
+        "transfer.outbox.purge.enabled=false",
+        "spring.jpa.show-sql=false",
+        "spring.datasource.hikari.maximum-pool-size=" + AccountServiceConcurrencyTest.THREADS
+})
+@Testcontainers(disabledWithoutDocker = true)
+class AccountServiceConcurrencyTest {
+
+    static final int THREADS = 16;
+    private static final int ACCOUNTS = 10;
+    private static final int TRANSFERS = 2_000;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private final Currency currency = new Currency("USD", "Доллар США", 2);
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private List<AccountNumber> accountNumbers;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    /**
+     * Создаёт счета с одинаковым начальным балансом; номера счетов у каждого запуска свои.
+     */
+    @BeforeEach
+    void setUp() {
+        final long base = ThreadLocalRandom.current().nextLong(1_000_000_000L) * ACCOUNTS;
+        accountNumbers = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            final AccountNumber accountNumber = new AccountNumber(String.format("%020d", base + i));
+            accountRepository.save(new AccountEntity(
+                    accountNumber, new Money(INITIAL_BALANCE, currency), AccountStatus.ACTIVE));
+            accountNumbers.add(accountNumber);
+        }
+    }
+
+    @AfterEach
+    void resetTransferMode() {
+        setTransferMode(TransferMode.PESSIMISTIC);
+    }
+
+    /**
+     * Тысячи параллельных переводов между небольшим числом счетов (в том числе встречных)
+     * не должны терять обновления и не должны приводить к взаимоблокировкам:
+     * суммарный баланс всех счетов после теста равен суммарному балансу до теста.
+     * В режиме {@link TransferMode#OPTIMISTIC} перевод, конфликтовавший при каждой попытке,
+     * завершается {@link ConcurrencyFailureException} и откатывается; в остальных режимах конфликтов быть не должно.
+     */
+    @ParameterizedTest
+    @EnumSource(TransferMode.class)
+    void parallelTransfersShouldConserveTotalBalance(TransferMode mode) throws InterruptedException {
+        setTransferMode(mode);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+        final AtomicInteger conflicts = new AtomicInteger();
+        final List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < TRANSFERS; i++) {
+            executor.submit(() -> {
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                final int fromIndex = random.nextInt(ACCOUNTS);
+                final int toIndex = (fromIndex + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                final Money amount = new Money(BigDecimal.valueOf(random.nextInt(1, 5_000), 2), currency);
+                try {
+                    start.await();
+                    accountService.transfer(accountNumbers.get(fromIndex), accountNumbers.get(toIndex), amount);
+                    completed.incrementAndGet();
+                } catch (BusinessRuleViolationException e) {
+                    rejected.incrementAndGet();
+                } catch (ConcurrencyFailureException e) {
+                    conflicts.incrementAndGet();
+                    if (mode != TransferMode.OPTIMISTIC) {
+                        unexpected.add(e);
+                    }
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES), "Переводы не завершились за отведённое время");
+
+        assertTrue(unexpected.isEmpty(), () -> "Неожиданные ошибки: " + unexpected);
+        assertEquals(TRANSFERS, completed.get() + rejected.get() + conflicts.get());
+        assertEquals(0, INITIAL_BALANCE.multiply(BigDecimal.valueOf(ACCOUNTS)).compareTo(totalBalance()),
+                "Суммарный баланс счетов должен сохраняться");
+    }
+
+    /**
+     * Сумма точнее минимальной единицы валюты отклоняется с кодом {@code INVALID_AMOUNT} во всех режимах,
+     * балансы счетов не изменяются.
+     */
+    @ParameterizedTest
+    @EnumSource(TransferMode.class)
+    void transferShouldRejectAmountFinerThanCurrencyUnit(TransferMode mode) {
+        setTransferMode(mode);
+        final Money amount = new Money(new BigDecimal("0.001"), currency);
+
+        final BusinessRuleViolationException e = assertThrows(BusinessRuleViolationException.class,
+                () -> accountService.transfer(accountNumbers.get(0), accountNumbers.get(1), amount));
+
+        assertEquals(BusinessErrorCode.INVALID_AMOUNT, e.getErrorCode());
+        assertEquals(0, INITIAL_BALANCE.multiply(BigDecimal.valueOf(ACCOUNTS)).compareTo(totalBalance()));
+    }
+
+    /**
+     * Режим задаётся в самом сервисе, а не в транзакционном прокси.
+     */
+    private void setTransferMode(TransferMode mode) {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(accountService), "transferMode", mode);
+    }
+
+    private BigDecimal totalBalance() {
+        return accountNumbers.stream()
+                .map(accountNumber -> accountRepository.findByAccountNumber(accountNumber).orElseThrow())
+                .map(entity -> entity.getMoney().amount())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
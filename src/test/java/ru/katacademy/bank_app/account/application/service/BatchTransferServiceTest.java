@@ -0,0 +1,160 @@
+package ru.katacademy.bank_app.account.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.katacademy.bank_app.account.application.command.BatchTransferCommand;
+import ru.katacademy.bank_app.account.application.command.TransferLegCommand;
+import ru.katacademy.bank_app.account.application.dto.BatchTransferResultDto;
+import ru.katacademy.bank_app.account.application.port.out.TransferEventOutbox;
+import ru.katacademy.bank_app.account.domain.enumtype.AccountStatus;
+import ru.katacademy.bank_app.account.domain.repository.AccountRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_app.notification.application.NotificationService;
+import ru.katacademy.bank_shared.event.TransferCompletedEvent;
+import ru.katacademy.bank_shared.exception.BusinessErrorCode;
+import ru.katacademy.bank_shared.exception.BusinessRuleViolationException;
+import ru.katacademy.bank_shared.exception.ValidationException;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты для {@link BatchTransferService}: применение операций на текущих балансах,
+ * расчёт итоговых изменений балансов и оба режима обработки ошибок.
+ * <p>
+ * Счета: A = 100.00, B = 50.00, C = 0.00 (USD).
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+class BatchTransferServiceTest {
+
+    private final Currency usd = new Currency("USD", "Доллар США", 2);
+    private final AccountNumber a = new AccountNumber("00000000000000000001");
+    private final AccountNumber b = new AccountNumber("00000000000000000002");
+    private final AccountNumber c = new AccountNumber("00000000000000000003");
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private TransferEventOutbox eventOutbox;
+
+    private BatchTransferService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BatchTransferService(accountRepository, notificationService, eventOutbox, new TransferValidator());
+        when(accountRepository.findAllByAccountNumberForUpdate(any())).thenReturn(List.of(
+                new AccountEntity(a, money("100.00"), AccountStatus.ACTIVE),
+                new AccountEntity(b, money("50.00"), AccountStatus.ACTIVE),
+                new AccountEntity(c, money("0.00"), AccountStatus.ACTIVE)));
+    }
+
+    /**
+     * В режиме PER_LEG операция без средств пропускается, а последующие операции
+     * видят балансы с учётом предыдущих; в БД записываются только итоговые изменения.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void perLegShouldSkipFailedLegAndWriteNetDeltas() {
+        final BatchTransferResultDto result = service.transferBatch(new BatchTransferCommand(List.of(
+                new TransferLegCommand(a, b, money("80.00")),
+                new TransferLegCommand(a, c, money("30.00")),
+                new TransferLegCommand(b, c, money("130.00"))
+        ), BatchFailureMode.PER_LEG));
+
+        assertEquals(2, result.completed());
+        assertEquals(1, result.failed());
+        assertTrue(result.legs().get(0).completed());
+        assertFalse(result.legs().get(1).completed());
+        assertEquals(BusinessErrorCode.INSUFFICIENT_FUNDS.name(), result.legs().get(1).errorCode());
+
+        final ArgumentCaptor<Map<AccountNumber, BigDecimal>> deltas = ArgumentCaptor.forClass(Map.class);
+        verify(accountRepository).addToBalances(deltas.capture());
+        assertEquals(0, new BigDecimal("-80.00").compareTo(deltas.getValue().get(a)));
+        assertEquals(0, new BigDecimal("-50.00").compareTo(deltas.getValue().get(b)));
+        assertEquals(0, new BigDecimal("130.00").compareTo(deltas.getValue().get(c)));
+
+        final ArgumentCaptor<List<TransferCompletedEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventOutbox).appendAll(events.capture());
+        assertEquals(2, events.getValue().size());
+    }
+
+    /**
+     * В режиме ALL_OR_NOTHING первая ошибочная операция прерывает пакет:
+     * балансы не записываются, события не публикуются.
+     */
+    @Test
+    void allOrNothingShouldFailWholeBatch() {
+        final BatchTransferCommand cmd = new BatchTransferCommand(List.of(
+                new TransferLegCommand(a, b, money("80.00")),
+                new TransferLegCommand(a, c, money("30.00"))
+        ), BatchFailureMode.ALL_OR_NOTHING);
+
+        final BusinessRuleViolationException ex = assertThrows(BusinessRuleViolationException.class,
+                () -> service.transferBatch(cmd));
+
+        assertEquals(BusinessErrorCode.INSUFFICIENT_FUNDS, ex.getErrorCode());
+        assertTrue(ex.getDetailedMessage().startsWith("Операция #1"));
+        verify(accountRepository, never()).addToBalances(anyMap());
+        verify(eventOutbox, never()).appendAll(any());
+    }
+
+    /**
+     * Операция, которую не удалось разобрать, в режиме PER_LEG завершается ошибкой INVALID_LEG,
+     * а остальные операции пакета выполняются.
+     */
+    @Test
+    void perLegShouldReportInvalidLegAsFailed() {
+        final BatchTransferResultDto result = service.transferBatch(new BatchTransferCommand(List.of(
+                TransferLegCommand.invalid("Некорректный номер счёта"),
+                new TransferLegCommand(a, b, money("10.00"))
+        ), BatchFailureMode.PER_LEG));
+
+        assertEquals(1, result.completed());
+        assertEquals(1, result.failed());
+        assertEquals(BatchTransferService.INVALID_LEG, result.legs().get(0).errorCode());
+        assertTrue(result.legs().get(1).completed());
+    }
+
+    /**
+     * В режиме ALL_OR_NOTHING операция, которую не удалось разобрать, отклоняет пакет ошибкой валидации.
+     */
+    @Test
+    void allOrNothingShouldRejectInvalidLegAsValidationError() {
+        final BatchTransferCommand cmd = new BatchTransferCommand(List.of(
+                new TransferLegCommand(a, b, money("10.00")),
+                TransferLegCommand.invalid("Некорректный номер счёта")
+        ), BatchFailureMode.ALL_OR_NOTHING);
+
+        final ValidationException ex = assertThrows(ValidationException.class, () -> service.transferBatch(cmd));
+
+        assertEquals(List.of("Операция #1: Некорректный номер счёта"), ex.getErrors());
+        verify(accountRepository, never()).addToBalances(anyMap());
+    }
+
+    private Money money(String amount) {
+        return new Money(new BigDecimal(amount), usd);
+    }
+}
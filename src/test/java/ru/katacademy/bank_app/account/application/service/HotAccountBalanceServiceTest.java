@@ -0,0 +1,156 @@
+package ru.katacademy.bank_app.account.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.katacademy.bank_app.account.domain.enumtype.AccountStatus;
+import ru.katacademy.bank_app.account.domain.repository.AccountBalanceShardRepository;
+import ru.katacademy.bank_app.account.domain.repository.AccountRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountBalanceShardEntity;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.AccountEntity;
+import ru.katacademy.bank_shared.exception.BusinessErrorCode;
+import ru.katacademy.bank_shared.exception.BusinessRuleViolationException;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты для {@link HotAccountBalanceService}: создание шардов при первом зачислении,
+ * ошибки зачисления и списание из нескольких строк.
+ */
+@ExtendWith(MockitoExtension.class)
+class HotAccountBalanceServiceTest {
+
+    private static final int SHARD_COUNT = 3;
+
+    private final Currency usd = new Currency("USD", "Доллар США", 2);
+    private final AccountNumber hot = new AccountNumber("00000000000000000001");
+    private final AccountNumber sender = new AccountNumber("00000000000000000002");
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountBalanceShardRepository shardRepository;
+
+    private HotAccountBalanceService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new HotAccountBalanceService(accountRepository, shardRepository, new TransferValidator(),
+                List.of(hot.value()), SHARD_COUNT);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void creditShouldCreateMissingShardsAndRetry() {
+        when(shardRepository.credit(eq(hot), anyInt(), any())).thenReturn(0, 1);
+        when(accountRepository.findByAccountNumberForUpdate(hot))
+                .thenReturn(Optional.of(new AccountEntity(hot, money("0.00"), AccountStatus.ACTIVE)));
+        when(shardRepository.findByAccountNumber(hot)).thenReturn(List.of());
+
+        service.credit(hot, money("10.00"), sender);
+
+        final ArgumentCaptor<List<AccountBalanceShardEntity>> created = ArgumentCaptor.forClass(List.class);
+        verify(shardRepository).saveAll(created.capture());
+        assertEquals(SHARD_COUNT, created.getValue().size());
+        verify(shardRepository, times(2)).credit(eq(hot), anyInt(), any());
+    }
+
+    @Test
+    void creditShouldFailWithBusinessError_WhenAccountInactive() {
+        final AccountEntity blocked = new AccountEntity(hot, money("0.00"), AccountStatus.BLOCKED);
+        when(shardRepository.credit(eq(hot), anyInt(), any())).thenReturn(0);
+        when(accountRepository.findByAccountNumberForUpdate(hot)).thenReturn(Optional.of(blocked));
+        when(accountRepository.findByAccountNumber(hot)).thenReturn(Optional.of(blocked));
+        when(shardRepository.findByAccountNumber(hot)).thenReturn(existingShards("0.00", "0.00", "0.00"));
+
+        final BusinessRuleViolationException e = assertThrows(BusinessRuleViolationException.class,
+                () -> service.credit(hot, money("10.00"), sender));
+
+        assertEquals(BusinessErrorCode.INACTIVE_ACCOUNT, e.getErrorCode());
+        verify(shardRepository, times(1)).credit(eq(hot), anyInt(), any());
+    }
+
+    @Test
+    void creditShouldFailWithClearError_WhenShardNotChangedAfterCreation() {
+        final AccountEntity account = new AccountEntity(hot, money("0.00"), AccountStatus.ACTIVE);
+        when(shardRepository.credit(eq(hot), anyInt(), any())).thenReturn(0);
+        when(accountRepository.findByAccountNumberForUpdate(hot)).thenReturn(Optional.of(account));
+        when(accountRepository.findByAccountNumber(hot)).thenReturn(Optional.of(account));
+        when(shardRepository.findByAccountNumber(hot)).thenReturn(existingShards("0.00", "0.00", "0.00"));
+
+        final IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> service.credit(hot, money("10.00"), sender));
+
+        assertTrue(e.getMessage().contains(hot.value()));
+        verify(shardRepository, never()).saveAll(any());
+    }
+
+    /**
+     * Ни в одной строке нет 70.00: сумма списывается из шардов (30.00 + 0.00 + 50.00),
+     * строка счета (10.00) не изменяется.
+     */
+    @Test
+    void debitShouldSplitAmountAcrossShards_WhenNoRowHasEnough() {
+        final AccountEntity account = new AccountEntity(hot, money("10.00"), AccountStatus.ACTIVE);
+        final List<AccountBalanceShardEntity> shards = existingShards("30.00", "0.00", "50.00");
+        when(shardRepository.debit(eq(hot), anyInt(), any())).thenReturn(0);
+        when(accountRepository.debit(eq(hot), any())).thenReturn(0);
+        when(accountRepository.findByAccountNumberForUpdate(hot)).thenReturn(Optional.of(account));
+        when(shardRepository.findByAccountNumberForUpdate(hot)).thenReturn(shards);
+
+        service.debit(hot, money("70.00"), sender);
+
+        final BigDecimal shardTotal = shards.stream()
+                .map(shard -> shard.getMoney().amount())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, new BigDecimal("10.00").compareTo(shardTotal));
+        assertTrue(shards.stream().allMatch(shard -> shard.getMoney().amount().signum() >= 0));
+        assertEquals(0, new BigDecimal("10.00").compareTo(account.getMoney().amount()));
+        verify(accountRepository).save(account);
+        verify(shardRepository).saveAll(shards);
+    }
+
+    @Test
+    void debitShouldRejectAmountAboveTotalBalance() {
+        final AccountEntity account = new AccountEntity(hot, money("10.00"), AccountStatus.ACTIVE);
+        when(shardRepository.debit(eq(hot), anyInt(), any())).thenReturn(0);
+        when(accountRepository.debit(eq(hot), any())).thenReturn(0);
+        when(accountRepository.findByAccountNumberForUpdate(hot)).thenReturn(Optional.of(account));
+        when(shardRepository.findByAccountNumberForUpdate(hot)).thenReturn(existingShards("30.00", "0.00", "50.00"));
+
+        assertThrows(BusinessRuleViolationException.class, () -> service.debit(hot, money("90.01"), sender));
+        verify(accountRepository, never()).save(any());
+    }
+
+    private List<AccountBalanceShardEntity> existingShards(String... balances) {
+        final AccountBalanceShardEntity[] shards = new AccountBalanceShardEntity[balances.length];
+        for (int i = 0; i < balances.length; i++) {
+            shards[i] = new AccountBalanceShardEntity(hot, i, money(balances[i]));
+        }
+        return List.of(shards);
+    }
+
+    private Money money(String amount) {
+        return new Money(new BigDecimal(amount), usd);
+    }
+}
@@ -0,0 +1,122 @@
+package ru.katacademy.bank_app.account.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import ru.katacademy.bank_app.account.application.dto.TransferReceiptDto;
+import ru.katacademy.bank_app.account.domain.repository.TransferIdempotencyRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.TransferIdempotencyEntity;
+import ru.katacademy.bank_shared.exception.IdempotencyKeyReusedException;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты для {@link IdempotentTransferService}: повтор по ключу из кэша и из таблицы,
+ * конфликт параллельных запросов и повторное использование ключа с другими параметрами.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotentTransferServiceTest {
+
+    private static final String KEY = "client-request-1";
+
+    private final Currency usd = new Currency("USD", "Доллар США", 2);
+    private final AccountNumber a = new AccountNumber("00000000000000000001");
+    private final AccountNumber b = new AccountNumber("00000000000000000002");
+    private final Money amount = new Money(new BigDecimal("10.00"), usd);
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private TransferIdempotencyRepository idempotencyRepository;
+
+    private IdempotentTransferService service;
+
+    @BeforeEach
+    void setUp() {
+        final Cache<String, TransferReceiptDto> cache = Caffeine.newBuilder().maximumSize(10).build();
+        service = new IdempotentTransferService(accountService, idempotencyRepository, cache);
+    }
+
+    /**
+     * Повторный запрос с тем же ключом возвращает результат из кэша
+     * и не обращается ни к переводу, ни к таблице.
+     */
+    @Test
+    void repeatedKeyShouldReturnCachedReceiptWithoutTransfer() {
+        final TransferReceiptDto receipt = receipt(amount);
+        when(idempotencyRepository.findByIdempotencyKey(KEY)).thenReturn(Optional.empty());
+        when(accountService.transfer(a, b, amount, KEY)).thenReturn(receipt);
+
+        assertSame(receipt, service.transfer(KEY, a, b, amount));
+        assertSame(receipt, service.transfer(KEY, a, b, new Money(new BigDecimal("10"), usd)));
+
+        verify(accountService, times(1)).transfer(a, b, amount, KEY);
+        verify(idempotencyRepository, times(1)).findByIdempotencyKey(KEY);
+    }
+
+    /**
+     * Ключ, вытесненный из кэша, распознаётся по сохранённой записи.
+     */
+    @Test
+    void storedKeyShouldReturnStoredReceiptWithoutTransfer() {
+        final UUID eventId = UUID.randomUUID();
+        when(idempotencyRepository.findByIdempotencyKey(KEY)).thenReturn(Optional.of(
+                new TransferIdempotencyEntity(KEY, eventId, a, b, amount, LocalDateTime.now())));
+
+        assertEquals(eventId, service.transfer(KEY, a, b, amount).transferId());
+        verify(accountService, never()).transfer(any(), any(), any(), any());
+    }
+
+    /**
+     * Если параллельный запрос с тем же ключом зафиксировал перевод раньше,
+     * возвращается его результат.
+     */
+    @Test
+    void concurrentDuplicateShouldReturnWinnerReceipt() {
+        final UUID eventId = UUID.randomUUID();
+        when(idempotencyRepository.findByIdempotencyKey(KEY)).thenReturn(
+                Optional.empty(),
+                Optional.of(new TransferIdempotencyEntity(KEY, eventId, a, b, amount, LocalDateTime.now())));
+        when(accountService.transfer(a, b, amount, KEY)).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertEquals(eventId, service.transfer(KEY, a, b, amount).transferId());
+    }
+
+    /**
+     * Ключ, уже использованный для перевода другой суммы, отклоняется.
+     */
+    @Test
+    void reusedKeyWithDifferentAmountShouldBeRejected() {
+        when(idempotencyRepository.findByIdempotencyKey(KEY)).thenReturn(Optional.of(
+                new TransferIdempotencyEntity(KEY, UUID.randomUUID(), a, b, amount, LocalDateTime.now())));
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> service.transfer(KEY, a, b, new Money(new BigDecimal("11.00"), usd)));
+        verify(accountService, never()).transfer(any(), any(), any(), any());
+    }
+
+    private TransferReceiptDto receipt(Money money) {
+        return new TransferReceiptDto(UUID.randomUUID(), a, b, money, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,69 @@
+package ru.katacademy.bank_app.account.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+import ru.katacademy.bank_app.account.domain.repository.AccountRepository;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.AccountNumberGenerator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты для {@link AccountNumberGeneratorConfig}: без корректного номера узла генератор не создаётся,
+ * а созданный генератор продолжает после последнего номера узла в БД.
+ */
+class AccountNumberGeneratorConfigTest {
+
+    private final AccountNumberGeneratorConfig config = new AccountNumberGeneratorConfig();
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+
+    @Test
+    void accountNumberGenerator_ShouldFail_WhenNodeIdMissing() {
+        assertThrows(IllegalStateException.class,
+                () -> config.accountNumberGenerator(null, AccountNumberGenerator.DEFAULT_BLOCK_SIZE, accountRepository));
+    }
+
+    @Test
+    void accountNumberGenerator_ShouldFail_WhenNodeIdOutOfRange() {
+        assertThrows(IllegalStateException.class,
+                () -> config.accountNumberGenerator(-1, AccountNumberGenerator.DEFAULT_BLOCK_SIZE, accountRepository));
+        assertThrows(IllegalStateException.class,
+                () -> config.accountNumberGenerator(AccountNumberGenerator.MAX_NODE_ID + 1,
+                        AccountNumberGenerator.DEFAULT_BLOCK_SIZE, accountRepository));
+    }
+
+    @Test
+    void accountNumberGenerator_ShouldPrefixNumbersWithNodeId() {
+        when(accountRepository.findMaxAccountNumberWithPrefix("042")).thenReturn(Optional.empty());
+
+        final AccountNumberGenerator generator =
+                config.accountNumberGenerator(42, AccountNumberGenerator.DEFAULT_BLOCK_SIZE, accountRepository);
+
+        assertEquals("042", generator.next().value().substring(0, 3));
+    }
+
+    /**
+     * Последний номер узла в БД выдан «в долг» далеко впереди текущего времени:
+     * новые номера идут после него, а не с текущей секунды.
+     */
+    @Test
+    void accountNumberGenerator_ShouldContinueAfterLastNumberOfNode() {
+        final Clock future = Clock.fixed(Instant.now().plus(Duration.ofDays(1)), ZoneOffset.UTC);
+        final AccountNumber ahead = new AccountNumberGenerator(42, 1, future).next();
+        when(accountRepository.findMaxAccountNumberWithPrefix("042")).thenReturn(Optional.of(ahead));
+
+        final AccountNumber next =
+                config.accountNumberGenerator(42, AccountNumberGenerator.DEFAULT_BLOCK_SIZE, accountRepository).next();
+
+        assertTrue(next.value().compareTo(ahead.value()) > 0);
+    }
+}
@@ -0,0 +1,72 @@
+package ru.katacademy.bank_app.account.infrastructure.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.katacademy.bank_app.account.domain.repository.TransferOutboxRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты для {@link TransferOutboxPurger}: удаление опубликованных записей старше срока хранения пакетами.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransferOutboxPurgerTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final Instant NOW = Instant.parse("2025-06-08T12:00:00Z");
+
+    @Mock
+    private TransferOutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransferOutboxPurger purger;
+
+    @BeforeEach
+    void setUp() {
+        purger = new TransferOutboxPurger(outboxRepository, new TransactionTemplate(transactionManager),
+                new SimpleMeterRegistry(), Duration.ofDays(7), BATCH_SIZE, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    /**
+     * Пакеты удаляются, пока очередной пакет заполнен, с границей «сейчас минус срок хранения».
+     */
+    @Test
+    void purgeShouldDeleteBatchesOlderThanRetention() {
+        final LocalDateTime publishedBefore = LocalDateTime.of(2025, 6, 1, 12, 0);
+        when(outboxRepository.deletePublishedBefore(publishedBefore, BATCH_SIZE)).thenReturn(BATCH_SIZE, 1);
+
+        purger.purge();
+
+        verify(outboxRepository, times(2)).deletePublishedBefore(publishedBefore, BATCH_SIZE);
+    }
+
+    /**
+     * Ошибка БД не прерывает планировщик: удаление повторится при следующем запуске.
+     */
+    @Test
+    void purgeShouldSwallowFailure() {
+        when(outboxRepository.deletePublishedBefore(any(), anyInt())).thenThrow(new IllegalStateException("db unavailable"));
+
+        purger.purge();
+
+        verify(outboxRepository).deletePublishedBefore(any(), anyInt());
+    }
+}
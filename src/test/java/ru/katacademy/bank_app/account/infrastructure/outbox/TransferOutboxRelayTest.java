@@ -0,0 +1,122 @@
+package ru.katacademy.bank_app.account.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.katacademy.bank_app.account.application.port.out.TransferEventPublisher;
+import ru.katacademy.bank_app.account.domain.repository.TransferOutboxRepository;
+import ru.katacademy.bank_app.account.infrastructure.persistence.entity.TransferOutboxEntity;
+import ru.katacademy.bank_shared.event.TransferCompletedEvent;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+import ru.katacademy.bank_shared.valueobject.Currency;
+import ru.katacademy.bank_shared.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты для {@link TransferOutboxRelay}: публикация пакетов событий из outbox
+ * и сохранение неопубликованных записей при ошибке брокера.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransferOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private final TransferEventJsonCodec codec =
+            new TransferEventJsonCodec(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Mock
+    private TransferOutboxRepository outboxRepository;
+
+    @Mock
+    private TransferEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransferOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new TransferOutboxRelay(outboxRepository, eventPublisher, codec,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry(), BATCH_SIZE);
+    }
+
+    /**
+     * Событие, записанное в outbox, читается без потерь.
+     */
+    @Test
+    void codecShouldRoundTripEvent() {
+        final TransferCompletedEvent event = event();
+
+        assertEquals(event, codec.fromJson(codec.toJson(event)));
+    }
+
+    /**
+     * Пакеты выбираются, пока очередной пакет заполнен, и каждый опубликованный пакет
+     * отмечается опубликованным.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void relayShouldPublishBatchesUntilOutboxIsDrained() {
+        when(outboxRepository.lockUnpublished(BATCH_SIZE)).thenReturn(
+                List.of(outboxRow(1L), outboxRow(2L)),
+                List.of(outboxRow(3L)));
+
+        relay.relay();
+
+        verify(eventPublisher, times(2)).publishAll(any(List.class));
+        verify(outboxRepository).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(outboxRepository).markPublished(eq(List.of(3L)), any(LocalDateTime.class));
+    }
+
+    /**
+     * Если брокер недоступен, записи не отмечаются опубликованными и будут опубликованы при следующем опросе.
+     */
+    @Test
+    void failedPublishShouldLeaveRowsUnpublished() {
+        when(outboxRepository.lockUnpublished(anyInt())).thenReturn(List.of(outboxRow(1L)));
+        doThrow(new IllegalStateException("broker unavailable")).when(eventPublisher).publishAll(any());
+
+        relay.relay();
+
+        verify(outboxRepository, never()).markPublished(any(), any());
+    }
+
+    private TransferOutboxEntity outboxRow(long id) {
+        final TransferCompletedEvent event = event();
+        final TransferOutboxEntity entity = new TransferOutboxEntity(event.eventId(), codec.toJson(event), LocalDateTime.now());
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+
+    private TransferCompletedEvent event() {
+        return new TransferCompletedEvent(
+                UUID.randomUUID(),
+                new AccountNumber("00000000000000000001"),
+                new AccountNumber("00000000000000000002"),
+                new Money(new BigDecimal("10.00"), new Currency("USD", "Доллар США", 2)),
+                LocalDateTime.of(2025, 1, 1, 12, 0));
+    }
+}
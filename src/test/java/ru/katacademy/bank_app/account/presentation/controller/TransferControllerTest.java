@@ -0,0 +1,115 @@
+package ru.katacademy.bank_app.account.presentation.controller;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import ru.katacademy.bank_app.account.application.command.BatchTransferCommand;
+import ru.katacademy.bank_app.account.application.command.TransferLegCommand;
+import ru.katacademy.bank_app.account.application.dto.BatchTransferResultDto;
+import ru.katacademy.bank_app.account.application.service.BatchFailureMode;
+import ru.katacademy.bank_app.account.application.service.BatchTransferService;
+import ru.katacademy.bank_app.account.application.service.IdempotentTransferService;
+import ru.katacademy.bank_app.account.presentation.dto.BatchTransferRequest;
+import ru.katacademy.bank_shared.exception.GlobalExceptionHandler;
+import ru.katacademy.bank_shared.valueobject.AccountNumber;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Тесты для {@link TransferController}: проверка тела пакетного перевода
+ * и разбор операций пакета без прерывания на некорректной операции, отклонение неизвестной валюты.
+ */
+@WebMvcTest(TransferController.class)
+@Import(GlobalExceptionHandler.class)
+class TransferControllerTest {
+
+    private static final String LEG = """
+            {"from": "%s", "to": "00000000000000000002", "amount": 10.00, "currency": "USD"}""";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BatchTransferService batchTransferService;
+
+    @MockBean
+    private IdempotentTransferService idempotentTransferService;
+
+    @Test
+    void transferBatch_ShouldReturnBadRequest_WhenLegsMissing() throws Exception {
+        postBatch("{}").andExpect(status().isBadRequest());
+
+        verify(batchTransferService, never()).transferBatch(any());
+    }
+
+    @Test
+    void transferBatch_ShouldReturnBadRequest_WhenLegsEmpty() throws Exception {
+        postBatch("{\"legs\": []}").andExpect(status().isBadRequest());
+
+        verify(batchTransferService, never()).transferBatch(any());
+    }
+
+    @Test
+    void transferBatch_ShouldReturnBadRequest_WhenBatchTooLarge() throws Exception {
+        final String leg = LEG.formatted("00000000000000000001");
+        final String legs = String.join(",", Collections.nCopies(BatchTransferRequest.MAX_LEGS + 1, leg));
+
+        postBatch("{\"legs\": [" + legs + "]}").andExpect(status().isBadRequest());
+
+        verify(batchTransferService, never()).transferBatch(any());
+    }
+
+    @Test
+    void transferBatch_ShouldPassUnparsableLegAsInvalid_WhenPerLeg() throws Exception {
+        when(batchTransferService.transferBatch(any())).thenReturn(new BatchTransferResultDto(1, 1, List.of()));
+
+        postBatch("{\"failureMode\": \"PER_LEG\", \"legs\": [" + LEG.formatted("not-a-number") + ","
+                + LEG.formatted("00000000000000000001") + "]}")
+                .andExpect(status().isOk());
+
+        final ArgumentCaptor<BatchTransferCommand> captor = ArgumentCaptor.forClass(BatchTransferCommand.class);
+        verify(batchTransferService).transferBatch(captor.capture());
+        final List<TransferLegCommand> legs = captor.getValue().legs();
+        assertEquals(BatchFailureMode.PER_LEG, captor.getValue().failureMode());
+        assertNotNull(legs.get(0).invalidReason());
+        assertNull(legs.get(1).invalidReason());
+        assertEquals(new AccountNumber("00000000000000000001"), legs.get(1).from());
+    }
+
+    @Test
+    void transfer_ShouldReturnUnprocessableEntity_WhenCurrencyUnknown() throws Exception {
+        mockMvc.perform(post("/api/transfers")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"from": "00000000000000000001", "to": "00000000000000000002", "amount": 10.00, "currency": "XBT"}"""))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("UNKNOWN_CURRENCY"));
+
+        verify(idempotentTransferService, never()).transfer(any(), any(), any(), any());
+    }
+
+    private ResultActions postBatch(String body) throws Exception {
+        return mockMvc.perform(post("/api/transfers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+}